@@ -1,5 +1,6 @@
 package sumcoda.boardbuddy.builder;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import sumcoda.boardbuddy.dto.common.ApiResponse;
@@ -24,6 +25,17 @@ public class ResponseBuilder {
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    private static <T> ResponseEntity<ApiResponse<Map<String, T>>> buildCacheableResponseWithPairKeyData(Status status, String key, T data, String message, HttpStatus httpStatus, CacheControl cacheControl) {
+        ApiResponse<Map<String, T>> response = ApiResponse.<Map<String, T>>builder()
+                .status(status.getValue())
+                .data(Map.of(key, data))
+                .message(message)
+                .build();
+        return ResponseEntity.status(httpStatus)
+                .cacheControl(cacheControl)
+                .body(response);
+    }
+
     private static <T> ResponseEntity<ApiResponse<T>> buildResponseWithMultiplePairKeyData(Status status, T data, String message, HttpStatus httpStatus) {
         ApiResponse<T> response = ApiResponse.<T>builder()
                 .status(status.getValue())
@@ -46,6 +58,10 @@ public class ResponseBuilder {
         return buildResponseWithPairKeyData(STATUS_SUCCESS, key, data, message, httpStatus);
     }
 
+    public static <T> ResponseEntity<ApiResponse<Map<String, T>>> buildCacheableSuccessResponseWithPairKeyData(String key, T data, String message, HttpStatus httpStatus, CacheControl cacheControl) {
+        return buildCacheableResponseWithPairKeyData(STATUS_SUCCESS, key, data, message, httpStatus, cacheControl);
+    }
+
     public static <T> ResponseEntity<ApiResponse<T>> buildSuccessResponseWithMultiplePairKeyData(T data, String message, HttpStatus httpStatus) {
         return buildResponseWithMultiplePairKeyData(STATUS_SUCCESS, data, message, httpStatus);
     }
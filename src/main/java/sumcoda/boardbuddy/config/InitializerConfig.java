@@ -6,7 +6,9 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import sumcoda.boardbuddy.service.BadgeImageService;
+import sumcoda.boardbuddy.service.ChatRedisService;
 import sumcoda.boardbuddy.service.MemberService;
+import sumcoda.boardbuddy.service.RankingRedisService;
 
 import java.time.YearMonth;
 import java.util.TimeZone;
@@ -20,11 +22,18 @@ public class InitializerConfig {
 
     private final BadgeImageService badgeImageService;
 
+    private final ChatRedisService chatRedisService;
+
+    private final RankingRedisService rankingRedisService;
+
     @Bean
     public ApplicationRunner initializer() {
         return args -> {
             memberService.createAdminAccount();
             memberService.createInitTestAccounts();
+            memberService.rebuildDistrictSubscriberIndex();
+            chatRedisService.clear();
+            rankingRedisService.clear();
             badgeImageService.assignBadgesToInitTestMembers(YearMonth.now().minusMonths(1));
         };
     }
@@ -1,7 +1,10 @@
 package sumcoda.boardbuddy.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -29,6 +32,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                         "/api/oauth2/**",
                         "/api/login/oauth2/code/**",
                         "/api/rankings",
+                        "/api/rankings/live",
                         "/api/auth/locations/search",
                         "/api/ws-stomp/**"
 //                        "/api/notifications/subscribe"
@@ -36,6 +40,20 @@ public class WebMvcConfig implements WebMvcConfigurer {
         WebMvcConfigurer.super.addInterceptors(registry);
     }
 
+    /**
+     * 월간 랭킹 집계 시에만 바뀌는 조회 응답에 강한 ETag 추가
+     * 응답 본문이 같으면 If-None-Match 요청에 304 로 응답
+     **/
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        ShallowEtagHeaderFilter shallowEtagHeaderFilter = new ShallowEtagHeaderFilter();
+        shallowEtagHeaderFilter.setWriteWeakETag(false);
+
+        FilterRegistrationBean<ShallowEtagHeaderFilter> filterRegistrationBean = new FilterRegistrationBean<>(shallowEtagHeaderFilter);
+        filterRegistrationBean.addUrlPatterns("/api/rankings", "/api/badges/*");
+        return filterRegistrationBean;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
 
@@ -1,15 +1,63 @@
 package sumcoda.boardbuddy.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+import sumcoda.boardbuddy.interceptor.StompAuthenticationInterceptor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    // 세션별 전송 대기 버퍼 최대 크기 (byte), 느린 클라이언트가 이 크기를 넘으면 연결 종료
+    @Value("${spring.chat.websocket.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    // 세션별 한 번의 전송에 허용하는 최대 시간 (ms), 넘으면 연결 종료
+    @Value("${spring.chat.websocket.send-time-limit:10000}")
+    private int sendTimeLimit;
+
+    // 클라이언트가 보내는 메세지 최대 크기 (byte)
+    @Value("${spring.chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${spring.chat.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${spring.chat.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${spring.chat.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${spring.chat.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${spring.chat.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${spring.chat.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
     /**
      * 메시지 브로커 설정
      *
@@ -29,8 +77,90 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
      **/
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+      // 핸드셰이크 시 HTTP 세션 속성(로그인 정보)을 WebSocket 세션 속성으로 복사
       registry.addEndpoint("/api/ws-stomp/connection")
-              .setAllowedOriginPatterns("*");
+              .setAllowedOriginPatterns("*")
+              .addInterceptors(new HttpSessionHandshakeInterceptor());
 //              .withSockJS();
     }
+
+    /**
+     * 클라이언트로부터 들어오는 STOMP 프레임에 인증 인터셉터 등록
+     *
+     * @param registration 클라이언트 inbound 채널 설정
+     **/
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+      registration.interceptors(stompAuthenticationInterceptor);
+
+      // 큐 용량을 제한하여 처리량을 넘는 요청이 메모리에 무한히 쌓이지 않도록 함
+      // 큐가 가득 차면 버리지 않고 프레임을 읽은 스레드에서 처리하여, 해당 연결의 읽기를 늦추는 방식으로 유입량을 조절
+      registration.taskExecutor(callerRunsTaskExecutor("clientInboundChannel-"))
+              .corePoolSize(inboundCorePoolSize)
+              .maxPoolSize(inboundMaxPoolSize)
+              .queueCapacity(inboundQueueCapacity);
+    }
+
+    /**
+     * 클라이언트로 나가는 STOMP 프레임 전송 스레드 풀 설정
+     *
+     * @param registration 클라이언트 outbound 채널 설정
+     **/
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+      // 큐가 가득 차면 버리지 않고 전송을 요청한 스레드에서 직접 전송 (느린 클라이언트는 세션별 전송 제한으로 연결 종료)
+      registration.taskExecutor(callerRunsTaskExecutor("clientOutboundChannel-"))
+              .corePoolSize(outboundCorePoolSize)
+              .maxPoolSize(outboundMaxPoolSize)
+              .queueCapacity(outboundQueueCapacity);
+    }
+
+    // 큐가 가득 찼을 때 작업을 거부(AbortPolicy)하지 않고 호출한 스레드에서 실행하는 스레드 풀
+    // 풀 크기, 큐 용량은 채널 설정에서 지정
+    private ThreadPoolTaskExecutor callerRunsTaskExecutor(String threadNamePrefix) {
+      ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+      executor.setThreadNamePrefix(threadNamePrefix);
+      executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+      return executor;
+    }
+
+    /**
+     * 세션별 전송 버퍼와 전송 시간 제한 설정
+     * 제한을 넘는 느린 클라이언트는 연결이 종료되며, 재연결 후 놓친 메세지 조회로 따라잡음
+     *
+     * @param registration WebSocket 전송 설정
+     **/
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+      registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+              .setSendTimeLimit(sendTimeLimit)
+              .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    /**
+     * 채널 스레드 풀의 대기 작업 수 메트릭 등록
+     *
+     * @param clientInboundChannelExecutor 클라이언트 inbound 채널 스레드 풀
+     * @param clientOutboundChannelExecutor 클라이언트 outbound 채널 스레드 풀
+     **/
+    @Bean
+    public MeterBinder websocketChannelMetrics(@Qualifier("clientInboundChannelExecutor") TaskExecutor clientInboundChannelExecutor,
+                                               @Qualifier("clientOutboundChannelExecutor") TaskExecutor clientOutboundChannelExecutor) {
+      return meterRegistry -> {
+        registerQueueDepthGauge(meterRegistry, "inbound", clientInboundChannelExecutor);
+        registerQueueDepthGauge(meterRegistry, "outbound", clientOutboundChannelExecutor);
+      };
+    }
+
+    // 스레드 풀 대기 큐의 작업 수 게이지 등록
+    private static void registerQueueDepthGauge(MeterRegistry meterRegistry, String channel, TaskExecutor taskExecutor) {
+      if (!(taskExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor)) {
+        return;
+      }
+
+      Gauge.builder("chat.websocket.channel.queue.depth", threadPoolTaskExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+              .description("STOMP 채널 스레드 풀에서 대기 중인 작업 수")
+              .tag("channel", channel)
+              .register(meterRegistry);
+    }
 }
@@ -2,6 +2,7 @@ package sumcoda.boardbuddy.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +12,11 @@ import sumcoda.boardbuddy.dto.BadgeImageResponse;
 import sumcoda.boardbuddy.dto.common.ApiResponse;
 import sumcoda.boardbuddy.service.BadgeImageService;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
-import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithPairKeyData;
+import static sumcoda.boardbuddy.builder.ResponseBuilder.buildCacheableSuccessResponseWithPairKeyData;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,6 +25,9 @@ public class BadgeImageController {
 
     private final BadgeImageService badgeImageService;
 
+    // 로그인 사용자만 조회할 수 있으므로 공유 캐시(nginx)에는 저장하지 않고 브라우저에서만 캐시
+    private static final CacheControl BADGES_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePrivate();
+
     /**
      * 뱃지 조회 요청
      *
@@ -35,6 +40,6 @@ public class BadgeImageController {
 
         List<BadgeImageResponse.BadgeImageInfosDTO> badgeImageListDTOs = badgeImageService.getBadges(nickname);
 
-        return buildSuccessResponseWithPairKeyData("badges", badgeImageListDTOs,"뱃지가 조회되었습니다.", HttpStatus.OK);
+        return buildCacheableSuccessResponseWithPairKeyData("badges", badgeImageListDTOs,"뱃지가 조회되었습니다.", HttpStatus.OK, BADGES_CACHE_CONTROL);
     }
 }
@@ -6,19 +6,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
 import sumcoda.boardbuddy.dto.ChatMessageRequest;
 import sumcoda.boardbuddy.dto.ChatMessageResponse;
 import sumcoda.boardbuddy.dto.common.ApiResponse;
+import sumcoda.boardbuddy.interceptor.StompAuthenticationInterceptor;
 import sumcoda.boardbuddy.service.ChatMessageService;
 
-import java.util.List;
 import java.util.Map;
 
-import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithPairKeyData;
+import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithMultiplePairKeyData;
 
 @Controller
 @RequiredArgsConstructor
@@ -31,30 +33,58 @@ public class ChatMessageController {
      *
      * @param chatRoomId 채팅방 Id
      * @param publishDTO 발행할 메세지 내용 DTO
-//     * @param username 메시지를 발행하는 사용자 이름
+     * @param headerAccessor STOMP 연결 시 저장된 사용자 정보를 담은 세션 속성 접근자
      **/
     @MessageMapping("/{chatRoomId}")
     public void publishMessage(
             @DestinationVariable Long chatRoomId,
-            @Payload ChatMessageRequest.PublishDTO publishDTO) {
+            @Payload ChatMessageRequest.PublishDTO publishDTO,
+            SimpMessageHeaderAccessor headerAccessor) {
 
-        chatMessageService.publishMessage(chatRoomId, publishDTO);
+        Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+
+        Long memberId = (Long) sessionAttributes.get(StompAuthenticationInterceptor.MEMBER_ID_ATTRIBUTE);
+
+        chatMessageService.publishMessage(chatRoomId, memberId, publishDTO);
     }
 
     /**
      * 채팅방 메세지 내역 조회
+     * 최신 메세지부터 한 페이지씩 조회하며, 이전 메세지는 응답의 nextCursor 로 다시 요청
      *
      * @param chatRoomId 채팅방 Id
      * @param username 요청을 보낸 사용자 아이디
+     * @param cursor 이전 페이지의 가장 오래된 메세지 순번 (첫 페이지는 생략)
      * @return 채팅방 메세지 내역
      */
     @GetMapping("/api/chat/rooms/{chatRoomId}/messages")
-    public ResponseEntity<ApiResponse<Map<String, List<ChatMessageResponse.ChatMessageInfoDTO>>>> getChatMessages(
+    public ResponseEntity<ApiResponse<ChatMessageResponse.ChatMessageListDTO>> getChatMessages(
+            @PathVariable Long chatRoomId,
+            @RequestAttribute String username,
+            @RequestParam(required = false) Long cursor) {
+
+        ChatMessageResponse.ChatMessageListDTO chatMessageListDTO = chatMessageService.findMessagesAfterMemberJoinedByChatRoomIdAndUsername(chatRoomId, username, cursor);
+
+        return buildSuccessResponseWithMultiplePairKeyData(chatMessageListDTO, "채팅 메세지들의 정보를 성공적으로 조회했습니다.", HttpStatus.OK);
+    }
+
+    /**
+     * 재연결 시 놓친 채팅방 메세지 조회
+     * 클라이언트는 수신한 메세지의 순번이 연속되지 않으면 (끊김 감지) 마지막으로 수신한 순번으로 요청
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param username 요청을 보낸 사용자 아이디
+     * @param since 마지막으로 수신한 메세지 순번
+     * @return 놓친 채팅방 메세지 목록
+     */
+    @GetMapping("/api/chat/rooms/{chatRoomId}/messages/replay")
+    public ResponseEntity<ApiResponse<ChatMessageResponse.ChatMessageReplayDTO>> replayChatMessages(
             @PathVariable Long chatRoomId,
-            @RequestAttribute String username) {
+            @RequestAttribute String username,
+            @RequestParam Long since) {
 
-        List<ChatMessageResponse.ChatMessageInfoDTO> chatMessages = chatMessageService.findMessagesAfterMemberJoinedByChatRoomIdAndUsername(chatRoomId, username);
+        ChatMessageResponse.ChatMessageReplayDTO chatMessageReplayDTO = chatMessageService.replayMessagesSince(chatRoomId, username, since);
 
-        return buildSuccessResponseWithPairKeyData("chatMessages", chatMessages, "채팅 메세지들의 정보를 성공적으로 조회했습니다.", HttpStatus.OK);
+        return buildSuccessResponseWithMultiplePairKeyData(chatMessageReplayDTO, "놓친 채팅 메세지들의 정보를 성공적으로 조회했습니다.", HttpStatus.OK);
     }
 }
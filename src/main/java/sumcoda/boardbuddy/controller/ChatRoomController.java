@@ -5,7 +5,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import sumcoda.boardbuddy.dto.ChatRoomResponse;
 import sumcoda.boardbuddy.dto.GatherArticleResponse;
@@ -17,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithPairKeyData;
+import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithoutData;
 
 @RestController
 @RequiredArgsConstructor
@@ -55,4 +58,21 @@ public class ChatRoomController {
 
         return buildSuccessResponseWithPairKeyData("chatRoomDetailsList", chatRoomDetailsList, "참여중인 채팅방 목록을 성공적으로 조회했습니다.", HttpStatus.OK);
     }
+
+    /**
+     * 채팅방 메세지 읽음 처리
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param username 요청을 보낸 사용자 아이디
+     * @param seq 마지막으로 읽은 메세지 순번
+     * @return 읽음 처리 성공 시 약속된 SuccessResponse 반환
+     */
+    @PutMapping("/api/chat/rooms/{chatRoomId}/read")
+    public ResponseEntity<ApiResponse<Void>> readChatMessages(@PathVariable Long chatRoomId,
+                                                              @RequestAttribute String username,
+                                                              @RequestParam Long seq) {
+        chatRoomService.readChatMessages(chatRoomId, username, seq);
+
+        return buildSuccessResponseWithoutData("채팅 메세지를 읽음 처리했습니다.", HttpStatus.OK);
+    }
 }
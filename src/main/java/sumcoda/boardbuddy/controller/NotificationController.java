@@ -7,17 +7,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import sumcoda.boardbuddy.dto.NotificationResponse;
 import sumcoda.boardbuddy.dto.common.ApiResponse;
 import sumcoda.boardbuddy.service.NotificationService;
 
-import java.util.List;
-import java.util.Map;
-
-import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithPairKeyData;
+import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithMultiplePairKeyData;
+import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithoutData;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,16 +29,18 @@ public class NotificationController {
 
     /**
      * SSE Emitter 구독 요청
-     * <p>
-     * //     * @param nickname 알람 구독 요청 사용자 닉네임
+     *
+     * @param username 알람 구독 요청 사용자 아이디
+     * @param lastEventId 재연결 시 브라우저가 전달하는 마지막 수신 이벤트 Id
      **/
     @GetMapping(value = "/api/notifications/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public ResponseEntity<SseEmitter> subscribe(
-            @RequestAttribute String username
+            @RequestAttribute String username,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     ) {
 
-        log.info("User {} subscribed for notifications", "test");
-        SseEmitter sseEmitter = notificationService.subscribe(username);
+        log.info("User {} subscribed for notifications", username);
+        SseEmitter sseEmitter = notificationService.subscribe(username, lastEventId);
 
         HttpHeaders headers = new HttpHeaders();
         headers.add("Cache-Control", "no-cache");
@@ -50,15 +53,49 @@ public class NotificationController {
      * 알림 목록 조회 요청
      *
      * @param username 알림 목록 조회 사용자 아이디
+     * @param cursor 이전 페이지의 마지막 알림 Id (첫 페이지는 생략)
      * @return 알림 목록 조회 성공 시 약속된 SuccessResponse 반환
      **/
     @GetMapping(value = "/api/notifications")
-    public ResponseEntity<ApiResponse<Map<String, List<NotificationResponse.NotificationDTO>>>> getNotifications(
+    public ResponseEntity<ApiResponse<NotificationResponse.NotificationListDTO>> getNotifications(
+            @RequestAttribute String username,
+            @RequestParam(required = false) Long cursor
+    ) {
+
+        NotificationResponse.NotificationListDTO notificationListDTO = notificationService.getNotifications(username, cursor);
+
+        return buildSuccessResponseWithMultiplePairKeyData(notificationListDTO, "알림이 조회되었습니다.", HttpStatus.OK);
+    }
+
+    /**
+     * 읽지 않은 알림 개수 조회 요청
+     *
+     * @param username 사용자 아이디
+     * @return 읽지 않은 알림 개수 조회 성공 시 약속된 SuccessResponse 반환
+     **/
+    @GetMapping(value = "/api/notifications/unread-count")
+    public ResponseEntity<ApiResponse<NotificationResponse.UnreadCountDTO>> getUnreadCount(
+            @RequestAttribute String username
+    ) {
+
+        NotificationResponse.UnreadCountDTO unreadCountDTO = notificationService.getUnreadCount(username);
+
+        return buildSuccessResponseWithMultiplePairKeyData(unreadCountDTO, "읽지 않은 알림 개수가 조회되었습니다.", HttpStatus.OK);
+    }
+
+    /**
+     * 알림 읽음 처리 요청
+     *
+     * @param username 사용자 아이디
+     * @return 읽음 처리 성공 시 약속된 SuccessResponse 반환
+     **/
+    @PutMapping(value = "/api/notifications/read")
+    public ResponseEntity<ApiResponse<Void>> readNotifications(
             @RequestAttribute String username
     ) {
 
-        List<NotificationResponse.NotificationDTO> notificationDTOs = notificationService.getNotifications(username);
+        notificationService.readNotifications(username);
 
-        return buildSuccessResponseWithPairKeyData("notifications", notificationDTOs, "알림이 조회되었습니다.", HttpStatus.OK);
+        return buildSuccessResponseWithoutData("알림을 읽음 처리했습니다.", HttpStatus.OK);
     }
 }
@@ -2,17 +2,22 @@ package sumcoda.boardbuddy.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import sumcoda.boardbuddy.dto.MemberResponse;
 import sumcoda.boardbuddy.dto.common.ApiResponse;
 import sumcoda.boardbuddy.service.RankingService;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
+import static sumcoda.boardbuddy.builder.ResponseBuilder.buildCacheableSuccessResponseWithPairKeyData;
 import static sumcoda.boardbuddy.builder.ResponseBuilder.buildSuccessResponseWithPairKeyData;
 
 @RestController
@@ -21,6 +26,9 @@ public class RankingController {
 
     private final RankingService rankingService;
 
+    // 랭킹은 월간 집계 시에만 바뀌므로 브라우저, nginx 에서 캐시하고 이후에는 ETag 로 다시 검증
+    private static final CacheControl RANKINGS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
     /**
      * 랭킹 조회 요청 캐치
      *
@@ -29,6 +37,32 @@ public class RankingController {
     @GetMapping("/api/rankings")
     public ResponseEntity<ApiResponse<Map<String, List<MemberResponse.RankingsDTO>>>> getTop3Rankings() {
         List<MemberResponse.RankingsDTO> rankingsDTO = rankingService.getTop3Rankings();
-        return buildSuccessResponseWithPairKeyData("rankings", rankingsDTO,"랭킹 조회에 성공했습니다.", HttpStatus.OK);
+        return buildCacheableSuccessResponseWithPairKeyData("rankings", rankingsDTO,"랭킹 조회에 성공했습니다.", HttpStatus.OK, RANKINGS_CACHE_CONTROL);
+    }
+
+    /**
+     * 실시간 랭킹 조회 요청 캐치
+     *
+     * @param limit 조회할 회원 수 (최대 100)
+     * @return 이번 달 점수가 높은 순으로 조회하여 약속된 SuccessResponse 반환
+     */
+    @GetMapping("/api/rankings/live")
+    public ResponseEntity<ApiResponse<Map<String, List<MemberResponse.LiveRankingDTO>>>> getLiveRankings(
+            @RequestParam(defaultValue = "10") Integer limit) {
+        List<MemberResponse.LiveRankingDTO> liveRankingDTOs = rankingService.getLiveRankings(limit);
+        return buildSuccessResponseWithPairKeyData("rankings", liveRankingDTOs, "실시간 랭킹 조회에 성공했습니다.", HttpStatus.OK);
+    }
+
+    /**
+     * 내 실시간 랭킹 조회 요청 캐치
+     *
+     * @param username 로그인 사용자 아이디
+     * @return 이번 달 내 순위와 점수를 조회하여 약속된 SuccessResponse 반환
+     */
+    @GetMapping("/api/rankings/live/me")
+    public ResponseEntity<ApiResponse<Map<String, MemberResponse.MyLiveRankingDTO>>> getMyLiveRanking(
+            @RequestAttribute String username) {
+        MemberResponse.MyLiveRankingDTO myLiveRankingDTO = rankingService.getMyLiveRanking(username);
+        return buildSuccessResponseWithPairKeyData("ranking", myLiveRankingDTO, "내 실시간 랭킹 조회에 성공했습니다.", HttpStatus.OK);
     }
 }
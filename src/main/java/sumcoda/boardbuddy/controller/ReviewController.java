@@ -60,4 +60,24 @@ public class ReviewController {
 
         return buildSuccessResponseWithoutData("후기가 전송되었습니다.", HttpStatus.OK);
     }
+
+    /**
+     * 리뷰 한 번에 보내기 요청 캐치
+     *
+     * @param gatherArticleId 모집글 Id
+     * @param sendAllDTO 리뷰를 받는 유저 닉네임과 리뷰 타입 목록을 담은 dto
+     * @param username 로그인 사용자 아이디
+     * @return 리뷰 보내기가 성공했다면 약속된 SuccessResponse 반환
+     **/
+    @PostMapping("/api/reviews/{gatherArticleId}/batch")
+    public ResponseEntity<ApiResponse<Void>> sendReviews (
+            @PathVariable Long gatherArticleId,
+            @RequestBody ReviewRequest.SendAllDTO sendAllDTO,
+            @RequestAttribute String username) {
+        log.info("send Reviews is working");
+
+        reviewService.sendReviews(gatherArticleId, sendAllDTO, username);
+
+        return buildSuccessResponseWithoutData("후기가 전송되었습니다.", HttpStatus.OK);
+    }
 }
@@ -12,12 +12,9 @@ public class ChatMessageRequest {
     public static class PublishDTO {
         private String content;
 
-        private String nickname;
-
         @Builder
-        public PublishDTO(String content, String nickname) {
+        public PublishDTO(String content) {
             this.content = content;
-            this.nickname = nickname;
         }
     }
 }
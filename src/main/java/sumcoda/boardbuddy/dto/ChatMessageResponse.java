@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import sumcoda.boardbuddy.enumerate.MessageType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ChatMessageResponse {
 
@@ -14,6 +15,8 @@ public class ChatMessageResponse {
     @NoArgsConstructor
     public static class ChatMessageInfoDTO {
 
+        private Long seq;
+
         private String content;
 
         private String nickname;
@@ -28,7 +31,8 @@ public class ChatMessageResponse {
         private LocalDateTime sentAt;
 
         @Builder
-        public ChatMessageInfoDTO(String content, String nickname, String profileImageS3SavedURL, Integer rank, MessageType messageType, LocalDateTime sentAt) {
+        public ChatMessageInfoDTO(Long seq, String content, String nickname, String profileImageS3SavedURL, Integer rank, MessageType messageType, LocalDateTime sentAt) {
+            this.seq = seq;
             this.content = content;
             this.nickname = nickname;
             this.profileImageS3SavedURL = profileImageS3SavedURL;
@@ -38,21 +42,161 @@ public class ChatMessageResponse {
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    public static class ChatMessageListDTO {
+
+        // 오래된 순으로 정렬된 메세지 목록
+        private List<ChatMessageInfoDTO> chatMessages;
+
+        // 다음 페이지 조회 시 사용할 커서 (이 페이지에서 가장 오래된 메세지 순번)
+        private Long nextCursor;
+
+        // 마지막 페이지 여부
+        private Boolean last;
+
+        @Builder
+        public ChatMessageListDTO(List<ChatMessageInfoDTO> chatMessages, Long nextCursor, Boolean last) {
+            this.chatMessages = chatMessages;
+            this.nextCursor = nextCursor;
+            this.last = last;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class ChatMessageReplayDTO {
+
+        // 놓친 메세지 목록 (오래된 순)
+        private List<ChatMessageInfoDTO> chatMessages;
+
+        // 놓친 메세지를 모두 보냈는지 여부 (false 이면 마지막 메세지 순번으로 다시 요청)
+        private Boolean last;
+
+        @Builder
+        public ChatMessageReplayDTO(List<ChatMessageInfoDTO> chatMessages, Boolean last) {
+            this.chatMessages = chatMessages;
+            this.last = last;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class RecentMessageDTO {
+
+        // 입장 시각 이후의 메세지만 재전송할 수 있도록 전송 시각을 초 단위 이하까지 보관
+        private LocalDateTime createdAt;
+
+        private ChatMessageInfoDTO chatMessage;
+
+        @Builder
+        public RecentMessageDTO(LocalDateTime createdAt, ChatMessageInfoDTO chatMessage) {
+            this.createdAt = createdAt;
+            this.chatMessage = chatMessage;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class ArchiveMessageDTO {
+
+        // 보관 후 테이블에서 삭제할 메세지를 순번이 아닌 Id 로 지정하기 위해 함께 기록
+        private Long id;
+
+        private Long seq;
+
+        private String content;
+
+        // 보관 시점의 발신자 정보
+        private String nickname;
+
+        private String profileImageS3SavedURL;
+
+        private Integer rank;
+
+        private MessageType messageType;
+
+        private LocalDateTime createdAt;
+
+        @Builder
+        public ArchiveMessageDTO(Long id, Long seq, String content, String nickname, String profileImageS3SavedURL, Integer rank, MessageType messageType, LocalDateTime createdAt) {
+            this.id = id;
+            this.seq = seq;
+            this.content = content;
+            this.nickname = nickname;
+            this.profileImageS3SavedURL = profileImageS3SavedURL;
+            this.rank = rank;
+            this.messageType = messageType;
+            this.createdAt = createdAt;
+        }
+    }
+
     @Getter
     @NoArgsConstructor
     public static class EnterOrExitMessageInfoDTO {
 
+        private Long seq;
+
         private String content;
 
         private MessageType messageType;
 
         @Builder
-        public EnterOrExitMessageInfoDTO(String content, MessageType messageType) {
+        public EnterOrExitMessageInfoDTO(Long seq, String content, MessageType messageType) {
+            this.seq = seq;
             this.content = content;
             this.messageType = messageType;
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    public static class BufferedMessageDTO {
+
+        private Long chatRoomId;
+
+        private Long seq;
+
+        private String content;
+
+        private MessageType messageType;
+
+        private Long memberId;
+
+        private LocalDateTime sentAt;
+
+        @Builder
+        public BufferedMessageDTO(Long chatRoomId, Long seq, String content, MessageType messageType, Long memberId, LocalDateTime sentAt) {
+            this.chatRoomId = chatRoomId;
+            this.seq = seq;
+            this.content = content;
+            this.messageType = messageType;
+            this.memberId = memberId;
+            this.sentAt = sentAt;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class SenderDTO {
+
+        private Long id;
+
+        private String nickname;
+
+        private Integer rank;
+
+        private String profileImageS3SavedURL;
+
+        @Builder
+        public SenderDTO(Long id, String nickname, Integer rank, String profileImageS3SavedURL) {
+            this.id = id;
+            this.nickname = nickname;
+            this.rank = rank;
+            this.profileImageS3SavedURL = profileImageS3SavedURL;
+        }
+    }
+
     @Getter
     @NoArgsConstructor
     public static class LatestChatMessageInfoDTO {
@@ -28,11 +28,15 @@ public class ChatRoomResponse {
 
         private ChatMessageResponse.LatestChatMessageInfoDTO latestChatMessageInfo;
 
+        // 읽지 않은 메세지 수
+        private Long unreadCount;
+
         @Builder
-        public ChatRoomDetailsDTO(Long chatRoomId, GatherArticleResponse.SimpleInfoDTO gatherArticleSimpleInfo, ChatMessageResponse.LatestChatMessageInfoDTO latestChatMessageInfo) {
+        public ChatRoomDetailsDTO(Long chatRoomId, GatherArticleResponse.SimpleInfoDTO gatherArticleSimpleInfo, ChatMessageResponse.LatestChatMessageInfoDTO latestChatMessageInfo, Long unreadCount) {
             this.chatRoomId = chatRoomId;
             this.gatherArticleSimpleInfo = gatherArticleSimpleInfo;
             this.latestChatMessageInfo = latestChatMessageInfo;
+            this.unreadCount = unreadCount;
         }
     }
 
@@ -1,5 +1,6 @@
 package sumcoda.boardbuddy.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
@@ -60,9 +61,58 @@ public class MemberResponse {
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    public static class RankingMemberDTO {
+        private Long id;
+        private String nickname;
+        private String profileImageS3SavedURL;
+
+        @Builder
+        public RankingMemberDTO(Long id, String nickname, String profileImageS3SavedURL) {
+            this.id = id;
+            this.nickname = nickname;
+            this.profileImageS3SavedURL = profileImageS3SavedURL;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class LiveRankingDTO {
+        private Integer rank;
+        private String nickname;
+        private String profileImageS3SavedURL;
+        private Double rankScore;
+
+        @Builder
+        public LiveRankingDTO(Integer rank, String nickname, String profileImageS3SavedURL, Double rankScore) {
+            this.rank = rank;
+            this.nickname = nickname;
+            this.profileImageS3SavedURL = profileImageS3SavedURL;
+            this.rankScore = rankScore;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class MyLiveRankingDTO {
+        private Long rank;
+        private Double rankScore;
+
+        @Builder
+        public MyLiveRankingDTO(Long rank, Double rankScore) {
+            this.rank = rank;
+            this.rankScore = rankScore;
+        }
+    }
+
     @Getter
     @NoArgsConstructor
     public static class ProfileInfosDTO {
+        // 반영되지 않은 통계 변화량 조회용 (응답에는 포함하지 않음)
+        @JsonIgnore
+        private Long id;
+
         private String profileImageS3SavedURL;
 
         private String description;
@@ -82,7 +132,8 @@ public class MemberResponse {
         private Integer totalBadCount;
 
         @Builder(toBuilder = true)
-        public ProfileInfosDTO(String profileImageS3SavedURL, String description, Integer rank, Double buddyScore, List<BadgeImageResponse.BadgeImageInfosDTO> badges, Integer joinCount, Integer totalExcellentCount, Integer totalGoodCount, Integer totalBadCount) {
+        public ProfileInfosDTO(Long id, String profileImageS3SavedURL, String description, Integer rank, Double buddyScore, List<BadgeImageResponse.BadgeImageInfosDTO> badges, Integer joinCount, Integer totalExcellentCount, Integer totalGoodCount, Integer totalBadCount) {
+            this.id = id;
             this.profileImageS3SavedURL = profileImageS3SavedURL;
             this.description = description;
             this.rank = rank;
@@ -113,6 +164,42 @@ public class MemberResponse {
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    public static class NotificationReceiverDTO {
+
+        private Long id;
+        private String username;
+        private String nickname;
+
+        @Builder
+        public NotificationReceiverDTO(Long id, String username, String nickname) {
+            this.id = id;
+            this.username = username;
+            this.nickname = nickname;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class IdWithLocationDTO {
+
+        private Long id;
+        private String sido;
+        private String sgg;
+        private String emd;
+        private Integer radius;
+
+        @Builder
+        public IdWithLocationDTO(Long id, String sido, String sgg, String emd, Integer radius) {
+            this.id = id;
+            this.sido = sido;
+            this.sgg = sgg;
+            this.emd = emd;
+            this.radius = radius;
+        }
+    }
+
     @Getter
     @NoArgsConstructor
     public static class UsernameDTO {
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sumcoda.boardbuddy.enumerate.EventName;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class NotificationResponse {
 
@@ -13,6 +15,9 @@ public class NotificationResponse {
     @NoArgsConstructor
     public static class NotificationDTO {
 
+        // 알림 Id (다음 페이지 조회 시 커서로 사용)
+        private Long id;
+
         // 알림 메세지
         private String message;
 
@@ -20,10 +25,124 @@ public class NotificationResponse {
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
         private LocalDateTime createdAt;
 
-        @Builder
-        public NotificationDTO(String message, LocalDateTime createdAt) {
+        // 읽음 여부
+        private Boolean isRead;
+
+        @Builder(toBuilder = true)
+        public NotificationDTO(Long id, String message, LocalDateTime createdAt, Boolean isRead) {
+            this.id = id;
             this.message = message;
             this.createdAt = createdAt;
+            this.isRead = isRead;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class NotificationListDTO {
+
+        private List<NotificationDTO> notifications;
+
+        // 마지막 페이지 여부
+        private Boolean last;
+
+        @Builder
+        public NotificationListDTO(List<NotificationDTO> notifications, Boolean last) {
+            this.notifications = notifications;
+            this.last = last;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class UnreadCountDTO {
+
+        // 읽지 않은 알림 개수
+        private Long unreadCount;
+
+        @Builder
+        public UnreadCountDTO(Long unreadCount) {
+            this.unreadCount = unreadCount;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class ReadMarkerDTO {
+
+        // 사용자 Id
+        private Long memberId;
+
+        // 마지막으로 읽은 알림 Id
+        private Long lastReadNotificationId;
+
+        @Builder
+        public ReadMarkerDTO(Long memberId, Long lastReadNotificationId) {
+            this.memberId = memberId;
+            this.lastReadNotificationId = lastReadNotificationId;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class CoalesceTargetDTO {
+
+        // 묶을 대상 알림 Id
+        private Long id;
+
+        // 지금까지 묶인 이벤트 수
+        private Integer coalescedCount;
+
+        @Builder
+        public CoalesceTargetDTO(Long id, Integer coalescedCount) {
+            this.id = id;
+            this.coalescedCount = coalescedCount;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class SseEventDTO {
+
+        // 이벤트 Id (단조 증가, Last-Event-ID 재전송 기준)
+        private Long id;
+
+        // 알림 이벤트 이름
+        private String eventName;
+
+        // 알림 메세지
+        private String message;
+
+        @Builder
+        public SseEventDTO(Long id, String eventName, String message) {
+            this.id = id;
+            this.eventName = eventName;
+            this.message = message;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class SseMessageDTO {
+
+        // 발행한 서버에서 발급한 이벤트 Id
+        private Long id;
+
+        // 알림을 받는 유저의 아이디
+        private String username;
+
+        // 알림 이벤트 이름
+        private EventName eventName;
+
+        // 알림 메세지
+        private String message;
+
+        @Builder
+        public SseMessageDTO(Long id, String username, EventName eventName, String message) {
+            this.id = id;
+            this.username = username;
+            this.eventName = eventName;
+            this.message = message;
         }
     }
 }
@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sumcoda.boardbuddy.enumerate.ReviewType;
 
+import java.util.List;
+
 public class ReviewRequest {
 
     @Getter
@@ -22,4 +24,17 @@ public class ReviewRequest {
             this.review = review;
         }
     }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class SendAllDTO {
+
+        // 리뷰를 받는 유저 닉네임과 리뷰 타입 목록
+        private List<SendDTO> reviews;
+
+        @Builder
+        public SendAllDTO(List<SendDTO> reviews) {
+            this.reviews = reviews;
+        }
+    }
 }
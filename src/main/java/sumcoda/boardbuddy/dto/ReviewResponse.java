@@ -3,6 +3,7 @@ package sumcoda.boardbuddy.dto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
 
 public class ReviewResponse {
 
@@ -26,4 +27,25 @@ public class ReviewResponse {
             this.hasReviewed = hasReviewed;
         }
     }
+
+    @Getter
+    @NoArgsConstructor
+    public static class ParticipantDTO {
+
+        private Long id;
+
+        private String username;
+
+        private String nickname;
+
+        private MemberGatherArticleRole memberGatherArticleRole;
+
+        @Builder
+        public ParticipantDTO(Long id, String username, String nickname, MemberGatherArticleRole memberGatherArticleRole) {
+            this.id = id;
+            this.username = username;
+            this.nickname = nickname;
+            this.memberGatherArticleRole = memberGatherArticleRole;
+        }
+    }
 }
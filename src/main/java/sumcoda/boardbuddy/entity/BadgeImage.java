@@ -5,10 +5,12 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sumcoda.boardbuddy.enumerate.BadgeTier;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_badge_image_member_id_badge_year_month", columnNames = {"member_id", "badge_year_month"}))
 public class BadgeImage {
 
     @Id
@@ -27,6 +29,11 @@ public class BadgeImage {
     @Column(nullable = false)
     private String badgeYearMonth;
 
+    // 뱃지 등급
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BadgeTier badgeTier;
+
     // 연관관계 주인
     // 양방향 연관관계
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,19 +41,21 @@ public class BadgeImage {
     private Member member;
 
     @Builder
-    public BadgeImage(String originalFilename, String badgeImageS3SavedURL, String badgeYearMonth, Member member) {
+    public BadgeImage(String originalFilename, String badgeImageS3SavedURL, String badgeYearMonth, BadgeTier badgeTier, Member member) {
         this.originalFilename = originalFilename;
         this.badgeImageS3SavedURL = badgeImageS3SavedURL;
         this.badgeYearMonth = badgeYearMonth;
+        this.badgeTier = badgeTier;
         this.assignMember(member);
     }
 
     // 직접 빌더 패턴의 생성자를 활용하지 않고 해당 메서드를 활용하여 엔티티 생성
-    public static BadgeImage buildBadgeImage(String originalFilename, String badgeImageS3SavedURL, String badgeYearMonth, Member member) {
+    public static BadgeImage buildBadgeImage(String originalFilename, String badgeImageS3SavedURL, String badgeYearMonth, BadgeTier badgeTier, Member member) {
         return BadgeImage.builder()
                 .originalFilename(originalFilename)
                 .badgeImageS3SavedURL(badgeImageS3SavedURL)
                 .badgeYearMonth(badgeYearMonth)
+                .badgeTier(badgeTier)
                 .member(member)
                 .build();
     }
@@ -10,12 +10,19 @@ import sumcoda.boardbuddy.enumerate.MessageType;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+// 버퍼에서 같은 메세지가 다시 저장되더라도 중복되지 않도록 채팅방별 순번에 유니크 제약조건 설정
+// 메세지 내역 페이지 조회는 유니크 인덱스를, 입장 시각 이후 범위 조회는 (chat_room_id, created_at) 인덱스를 사용
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_chat_message_chat_room_id_seq", columnNames = {"chat_room_id", "seq"}),
+        indexes = @Index(name = "idx_chat_message_chat_room_id_created_at", columnList = "chat_room_id, created_at"))
 public class ChatMessage extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 채팅방별로 단조 증가하는 메세지 순번
+    private Long seq;
+
     @Column(nullable = false)
     private String content;
 
@@ -26,13 +33,13 @@ public class ChatMessage extends BaseTimeEntity {
     // 연관관계 주인
     // 단방향 연관관계
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id")
+    @JoinColumn(name = "member_id", foreignKey = @ForeignKey(name = "fk_chat_message_member"))
     private Member member;
 
     // 연관관계 주인
     // 양방향 연관관계
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_room_id")
+    @JoinColumn(name = "chat_room_id", foreignKey = @ForeignKey(name = "fk_chat_message_chat_room"))
     private ChatRoom chatRoom;
 
     @Builder
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +25,15 @@ public class ChatRoom {
     @JoinColumn(name = "gather_article_id")
     private GatherArticle gatherArticle;
 
+    // 채팅방 목록 조회 시 메세지 테이블을 조회하지 않도록 마지막 메세지 정보를 비정규화하여 보관
+    // 메세지가 DB 에 저장될 때 ChatMessageJdbcRepository 에서 함께 갱신
+    @Column(nullable = false)
+    private Long lastMessageSeq = 0L;
+
+    private String lastMessageContent;
+
+    private LocalDateTime lastMessageAt;
+
     // 양방향 연관관계
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "chatRoom", cascade = CascadeType.REMOVE)
     private List<ChatMessage> chatMessages = new ArrayList<>();
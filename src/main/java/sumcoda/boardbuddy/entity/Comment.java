@@ -12,6 +12,8 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+// 월간 랭킹 집계 시 회원 Id 범위별로 기간 내 댓글 수 조회용 인덱스
+@Table(indexes = @Index(name = "idx_comment_member_id_created_at", columnList = "member_id, created_at"))
 public class Comment extends BaseTimeEntity {
 
     @Id
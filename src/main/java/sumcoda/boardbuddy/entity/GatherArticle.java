@@ -13,6 +13,8 @@ import java.util.List;
 
 @Getter
 @Entity
+// 월간 랭킹 집계 시 기간 내 작성된 모집글 조회용 인덱스
+@Table(indexes = @Index(name = "idx_gather_article_created_at", columnList = "created_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GatherArticle extends BaseTimeEntity {
 
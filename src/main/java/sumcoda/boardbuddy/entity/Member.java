@@ -70,56 +70,6 @@ public class Member {
     @Column(nullable = false)
     private Integer radius;
 
-    // 사용자의 버디지수
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Double buddyScore;
-
-    // 프로필에서 보여주기 위한 참여 횟수
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer joinCount;
-
-    // 랭킹 점수 환산을 위한 최고예요 횟수 (매월 1일마다 초기화될 예정)
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer monthlyExcellentCount;
-
-    // 프로필에서 보여주기 위한 최고예요 횟수
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer totalExcellentCount;
-
-    // 랭킹 점수 환산을 위한 좋아요 횟수 (매월 1일마다 초기화될 예정)
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer monthlyGoodCount;
-
-    // 프로필에서 보여주기 위한 좋아요 횟수
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer totalGoodCount;
-
-    // 랭킹 점수 환산을 위한 별로예요 횟수 (매월 1일마다 초기화될 예정)
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer monthlyBadCount;
-
-    // 프로필에서 보여주기 위한 별로예요 횟수
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer totalBadCount;
-
-    // 랭킹 점수 환산을 위한 노쇼 횟수 (매월 1일마다 초기화될 예정)
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer monthlyNoShowCount;
-
-    // 랭킹 점수 환산을 위한 리뷰 보내기 횟수 (매월 1일마다 초기화될 예정)
-    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
-    @Column(nullable = false)
-    private Integer monthlySendReviewCount;
-
     // 자기소개
     // 일반 로그인, 소셜 로그인 마이페이지 설정 필요
     private String description;
@@ -128,8 +78,10 @@ public class Member {
     // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
     private Integer rank;
 
-    // 랭킹 산정을 위한 점수
-    private Double rankScore;
+    // 마지막으로 읽은 알림 Id (이 값보다 큰 Id 의 알림은 읽지 않은 알림)
+    // 일반 로그인, 소셜 로그인 별도 설정 필요 없음
+    @Column(nullable = false)
+    private Long lastReadNotificationId = 0L;
 
     // ex) REGULAR, SOCIAL
     @Column(nullable = false)
@@ -172,7 +124,7 @@ public class Member {
     private List<Review> receiveReviews = new ArrayList<>();
 
     @Builder
-    public Member(String username, String password, String nickname, String email, String phoneNumber, String sido, String sgg, String emd, Integer radius, Double buddyScore, Integer joinCount, Integer monthlyExcellentCount, Integer totalExcellentCount, Integer monthlyGoodCount, Integer totalGoodCount, Integer monthlyBadCount, Integer totalBadCount, Integer monthlyNoShowCount, Integer monthlySendReviewCount, String description, Integer rank, Double rankScore, MemberType memberType, Role role, ProfileImage profileImage) {
+    public Member(String username, String password, String nickname, String email, String phoneNumber, String sido, String sgg, String emd, Integer radius, String description, Integer rank, MemberType memberType, Role role, ProfileImage profileImage) {
         this.username = username;
         this.password = password;
         this.nickname = nickname;
@@ -182,26 +134,15 @@ public class Member {
         this.sgg = sgg;
         this.emd = emd;
         this.radius = radius;
-        this.buddyScore = buddyScore;
-        this.joinCount = joinCount;
-        this.monthlyExcellentCount = monthlyExcellentCount;
-        this.totalExcellentCount = totalExcellentCount;
-        this.monthlyGoodCount = monthlyGoodCount;
-        this.totalGoodCount = totalGoodCount;
-        this.monthlyBadCount = monthlyBadCount;
-        this.totalBadCount = totalBadCount;
-        this.monthlyNoShowCount = monthlyNoShowCount;
-        this.monthlySendReviewCount = monthlySendReviewCount;
         this.description = description;
         this.rank = rank;
-        this.rankScore = rankScore;
         this.memberType = memberType;
         this.role = role;
         this.assignProfileImage(profileImage);
     }
 
     // 직접 빌더 패턴의 생성자를 활용하지 말고 해당 메서드를 활용하여 엔티티 생성
-    public static Member buildMember(String username, String password, String nickname, String email, String phoneNumber, String sido, String sgg, String emd, Integer radius, Double buddyScore, Integer joinCount, Integer monthlyExcellentCount, Integer totalExcellentCount, Integer monthlyGoodCount, Integer totalGoodCount, Integer monthlyBadCount, Integer totalBadCount, Integer monthlyNoShowCount, Integer monthlySendReviewCount, String description, Integer rank, Double rankScore, MemberType memberType, Role role, ProfileImage profileImage) {
+    public static Member buildMember(String username, String password, String nickname, String email, String phoneNumber, String sido, String sgg, String emd, Integer radius, String description, Integer rank, MemberType memberType, Role role, ProfileImage profileImage) {
         return Member.builder()
                 .username(username)
                 .password(password)
@@ -212,19 +153,8 @@ public class Member {
                 .sgg(sgg)
                 .emd(emd)
                 .radius(radius)
-                .buddyScore(buddyScore)
-                .joinCount(joinCount)
-                .monthlyExcellentCount(monthlyExcellentCount)
-                .totalExcellentCount(totalExcellentCount)
-                .monthlyGoodCount(monthlyGoodCount)
-                .totalGoodCount(totalGoodCount)
-                .monthlyBadCount(monthlyBadCount)
-                .totalBadCount(totalBadCount)
-                .monthlyNoShowCount(monthlyNoShowCount)
-                .monthlySendReviewCount(monthlySendReviewCount)
                 .description(description)
                 .rank(rank)
-                .rankScore(rankScore)
                 .memberType(memberType)
                 .role(role)
                 .profileImage(profileImage)
@@ -341,30 +271,4 @@ public class Member {
     public void assignRadius(Integer radius) {
         this.radius = radius;
     }
-
-    // 각 리뷰 카운트 수정 메서드
-    public void assignReviewCount(Integer monthlyExcellentCount, Integer totalExcellentCount, Integer monthlyGoodCount, Integer totalGoodCount, Integer monthlyBadCount, Integer totalBadCount, Integer monthlyNoShowCount) {
-        this.monthlyExcellentCount = monthlyExcellentCount;
-        this.totalExcellentCount = totalExcellentCount;
-        this.monthlyGoodCount = monthlyGoodCount;
-        this.totalGoodCount = totalGoodCount;
-        this.monthlyBadCount = monthlyBadCount;
-        this.totalBadCount = totalBadCount;
-        this.monthlyNoShowCount = monthlyNoShowCount;
-    }
-
-    // 리뷰 보낸 횟수 수정 메서드
-    public void assignSendReviewCount(Integer monthlySendReviewCount) {
-        this.monthlySendReviewCount = monthlySendReviewCount;
-    }
-
-    // 버디 지수 수정 메서드
-    public void assignBuddyScore(Double buddyScore) {
-        this.buddyScore = buddyScore;
-    }
-
-    // 참가 횟수 수정 메서드
-    public void assignJoinCount(Integer joinCount) {
-        this.joinCount = joinCount;
-    }
 }
@@ -27,6 +27,10 @@ public class MemberChatRoom {
     @Column(nullable = false)
     private MemberChatRoomRole memberChatRoomRole; // 역할 추가 (관리자, 일반 사용자 등)
 
+    // 사용자가 마지막으로 읽은 메세지 순번 (채팅방의 마지막 메세지 순번과의 차이가 읽지 않은 메세지 수)
+    @Column(nullable = false)
+    private Long lastReadSeq = 0L;
+
     // 양방향 연관관계
     // 연관관계 주인
     @ManyToOne
@@ -45,6 +49,8 @@ public class MemberChatRoom {
         this.memberChatRoomRole = memberChatRoomRole;
         this.assignMember(member);
         this.assignChatRoom(chatRoom);
+        // 입장 이전의 메세지는 읽지 않은 메세지로 세지 않음
+        this.lastReadSeq = chatRoom.getLastMessageSeq();
     }
 
     // 직접 빌더 패턴의 생성자를 활용하지 말고 해당 메서드를 활용하여 엔티티 생성
@@ -57,6 +63,16 @@ public class MemberChatRoom {
                 .build();
     }
 
+    // 마지막으로 읽은 메세지 순번 갱신 (이미 더 뒤의 메세지를 읽었다면 유지)
+    // 아직 발급되지 않은 순번을 읽었다고 저장하면 이후 메세지가 읽지 않은 메세지로 집계되지 않으므로 채팅방의 마지막 순번까지만 저장
+    public void assignLastReadSeq(Long lastReadSeq, Long lastMessageSeq) {
+        long readSeq = Math.min(lastReadSeq, lastMessageSeq);
+
+        if (readSeq > this.lastReadSeq) {
+            this.lastReadSeq = readSeq;
+        }
+    }
+
     // MemberChatRoom N <-> 1 Member
     // 양방향 연관관계 편의 메서드
     public void assignMember(Member member) {
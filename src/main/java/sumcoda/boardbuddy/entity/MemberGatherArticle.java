@@ -115,9 +115,4 @@ public class MemberGatherArticle {
         this.memberGatherArticleRole = memberGatherArticleRole;
     }
 
-    // 각 참가자에 대한 노쇼예요 횟수 업데이트
-    public void assignReceiveNoShowCount(Integer receiveNoShowCount) {
-        this.receiveNoShowCount = receiveNoShowCount;
-    }
-
 }
@@ -0,0 +1,109 @@
+package sumcoda.boardbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 통계 (버디 지수, 참가 횟수, 리뷰 카운트, 랭킹 점수)
+ * 자주 바뀌는 값만 분리하여 카운트 증가가 회원 정보 행 전체를 다시 쓰거나 프로필 수정과 경합하지 않도록 함
+ *
+ * 카운트 증가는 MemberStatsService 에서 모아 두었다가 주기적으로 한 번에 반영하므로 엔티티 값을 직접 수정하지 않음
+ **/
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStats {
+
+    // 회원 Id 를 그대로 기본키로 사용
+    @Id
+    private Long memberId;
+
+    // 연관관계 주인
+    // 단방향 연관관계
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    // 사용자의 버디지수
+    @Column(nullable = false)
+    private Double buddyScore;
+
+    // 프로필에서 보여주기 위한 참여 횟수
+    @Column(nullable = false)
+    private Integer joinCount;
+
+    // 랭킹 점수 환산을 위한 최고예요 횟수 (매월 1일마다 초기화)
+    @Column(nullable = false)
+    private Integer monthlyExcellentCount;
+
+    // 프로필에서 보여주기 위한 최고예요 횟수
+    @Column(nullable = false)
+    private Integer totalExcellentCount;
+
+    // 랭킹 점수 환산을 위한 좋아요 횟수 (매월 1일마다 초기화)
+    @Column(nullable = false)
+    private Integer monthlyGoodCount;
+
+    // 프로필에서 보여주기 위한 좋아요 횟수
+    @Column(nullable = false)
+    private Integer totalGoodCount;
+
+    // 랭킹 점수 환산을 위한 별로예요 횟수 (매월 1일마다 초기화)
+    @Column(nullable = false)
+    private Integer monthlyBadCount;
+
+    // 프로필에서 보여주기 위한 별로예요 횟수
+    @Column(nullable = false)
+    private Integer totalBadCount;
+
+    // 랭킹 점수 환산을 위한 노쇼 횟수 (매월 1일마다 초기화)
+    @Column(nullable = false)
+    private Integer monthlyNoShowCount;
+
+    // 랭킹 점수 환산을 위한 리뷰 보내기 횟수 (매월 1일마다 초기화)
+    @Column(nullable = false)
+    private Integer monthlySendReviewCount;
+
+    // 랭킹 산정을 위한 점수
+    @Column(nullable = false)
+    private Double rankScore;
+
+    @Builder
+    public MemberStats(Member member, Double buddyScore, Integer joinCount, Integer monthlyExcellentCount, Integer totalExcellentCount, Integer monthlyGoodCount, Integer totalGoodCount, Integer monthlyBadCount, Integer totalBadCount, Integer monthlyNoShowCount, Integer monthlySendReviewCount, Double rankScore) {
+        this.member = member;
+        this.buddyScore = buddyScore;
+        this.joinCount = joinCount;
+        this.monthlyExcellentCount = monthlyExcellentCount;
+        this.totalExcellentCount = totalExcellentCount;
+        this.monthlyGoodCount = monthlyGoodCount;
+        this.totalGoodCount = totalGoodCount;
+        this.monthlyBadCount = monthlyBadCount;
+        this.totalBadCount = totalBadCount;
+        this.monthlyNoShowCount = monthlyNoShowCount;
+        this.monthlySendReviewCount = monthlySendReviewCount;
+        this.rankScore = rankScore;
+    }
+
+    // 직접 빌더 패턴의 생성자를 활용하지 말고 해당 메서드를 활용하여 엔티티 생성
+    // 이번 달 카운트와 랭킹 점수는 0에서 시작
+    public static MemberStats buildMemberStats(Member member, Double buddyScore, Integer joinCount, Integer totalExcellentCount, Integer totalGoodCount, Integer totalBadCount) {
+        return MemberStats.builder()
+                .member(member)
+                .buddyScore(buddyScore)
+                .joinCount(joinCount)
+                .monthlyExcellentCount(0)
+                .totalExcellentCount(totalExcellentCount)
+                .monthlyGoodCount(0)
+                .totalGoodCount(totalGoodCount)
+                .monthlyBadCount(0)
+                .totalBadCount(totalBadCount)
+                .monthlyNoShowCount(0)
+                .monthlySendReviewCount(0)
+                .rankScore(0.0)
+                .build();
+    }
+}
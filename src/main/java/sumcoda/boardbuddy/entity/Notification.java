@@ -5,11 +5,18 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sumcoda.boardbuddy.enumerate.EventName;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@Table(indexes = {
+        // 알림 묶음 대상 조회용 인덱스
+        @Index(name = "idx_notification_coalesce", columnList = "member_id, gather_article_id, event_name, created_at"),
+        // 보관 기간이 지난 알림 정리용 인덱스
+        @Index(name = "idx_notification_created_at", columnList = "created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
 
@@ -21,28 +28,47 @@ public class Notification {
     @Column(nullable = false)
     private String message;
 
-    // 알림이 생성된 시점
+    // 알림이 생성된 시점 (묶인 알림도 처음 생성된 시점을 유지하며, 이후 이벤트를 묶는 기간도 이 시점부터 계산)
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 알림이 발생한 모집글 Id
+    // 월별 파티션 테이블은 외래키를 지원하지 않으므로 연관관계 없이 Id 만 저장
+    private Long gatherArticleId;
+
+    // 알림 이벤트 이름
+    @Enumerated(EnumType.STRING)
+    private EventName eventName;
+
+    // 하나의 알림으로 묶인 이벤트 수
+    @Column(nullable = false)
+    private Integer coalescedCount;
+
     // 연관관계 주인
     // 단방향 연관관계
+    // 파티션 전환 시 외래키를 제거할 수 있도록 제약조건 이름 지정
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id")
+    @JoinColumn(name = "member_id", foreignKey = @ForeignKey(name = "fk_notification_member"))
     private Member member;
 
     @Builder
-    public Notification(String message, LocalDateTime createdAt, Member member) {
+    public Notification(String message, LocalDateTime createdAt, Long gatherArticleId, EventName eventName, Integer coalescedCount, Member member) {
         this.message = message;
         this.createdAt = createdAt;
+        this.gatherArticleId = gatherArticleId;
+        this.eventName = eventName;
+        this.coalescedCount = coalescedCount;
         this.assignMember(member);
     }
 
     // 직접 빌더 패턴의 생성자를 활용하지 말고 해당 메서드를 활용하여 엔티티 생성
-    public static Notification buildNotification(String message, LocalDateTime createdAt, Member member) {
+    public static Notification buildNotification(String message, LocalDateTime createdAt, Long gatherArticleId, EventName eventName, Member member) {
         return Notification.builder()
                 .message(message)
                 .createdAt(createdAt)
+                .gatherArticleId(gatherArticleId)
+                .eventName(eventName)
+                .coalescedCount(1)
                 .member(member)
                 .build();
     }
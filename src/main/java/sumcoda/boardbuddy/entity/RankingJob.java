@@ -0,0 +1,64 @@
+package sumcoda.boardbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sumcoda.boardbuddy.enumerate.RankingJobStatus;
+
+/**
+ * 월간 랭킹 집계 작업 진행 상태
+ * 회원 Id 범위별로 완료된 점수 계산은 RankingJobChunk 에 기록되어 중단된 작업을 이어서 실행할 수 있음
+ **/
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_ranking_job_ranking_year_month", columnNames = "ranking_year_month"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RankingJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 집계 대상 연월 예: "202407"
+    @Column(nullable = false)
+    private String rankingYearMonth;
+
+    // 작업 진행 상태
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RankingJobStatus rankingJobStatus;
+
+    // 지난 달 실시간 랭킹 점수 사용 여부 (false 이면 DB 집계 쿼리로 점수 계산)
+    @Column(nullable = false)
+    private Boolean useLiveRanking;
+
+    // 작업 시작 시점의 가장 큰 회원 Id (이어서 실행해도 같은 범위로 나누기 위해 저장)
+    @Column(nullable = false)
+    private Long maxMemberId;
+
+    // 한 번에 점수를 계산할 회원 Id 범위 크기
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Builder
+    public RankingJob(String rankingYearMonth, RankingJobStatus rankingJobStatus, Boolean useLiveRanking, Long maxMemberId, Integer chunkSize) {
+        this.rankingYearMonth = rankingYearMonth;
+        this.rankingJobStatus = rankingJobStatus;
+        this.useLiveRanking = useLiveRanking;
+        this.maxMemberId = maxMemberId;
+        this.chunkSize = chunkSize;
+    }
+
+    // 직접 빌더 패턴의 생성자를 활용하지 말고 해당 메서드를 활용하여 엔티티 생성
+    public static RankingJob buildRankingJob(String rankingYearMonth, RankingJobStatus rankingJobStatus, Boolean useLiveRanking, Long maxMemberId, Integer chunkSize) {
+        return RankingJob.builder()
+                .rankingYearMonth(rankingYearMonth)
+                .rankingJobStatus(rankingJobStatus)
+                .useLiveRanking(useLiveRanking)
+                .maxMemberId(maxMemberId)
+                .chunkSize(chunkSize)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package sumcoda.boardbuddy.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월간 랭킹 집계 작업에서 점수 계산이 완료된 회원 Id 범위
+ * 점수 업데이트와 같은 트랜잭션에서 기록됨
+ **/
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_ranking_job_chunk_ranking_job_id_start_member_id", columnNames = {"ranking_job_id", "start_member_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RankingJobChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 범위의 시작 회원 Id
+    @Column(nullable = false)
+    private Long startMemberId;
+
+    // 연관관계 주인
+    // 단방향 연관관계
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ranking_job_id")
+    private RankingJob rankingJob;
+}
@@ -5,11 +5,18 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sumcoda.boardbuddy.enumerate.ReviewType;
 
 @Getter
 @Entity
+// 월간 랭킹 집계 시 회원 Id 범위별로 기간 내 받은 리뷰, 보낸 리뷰 조회용 인덱스
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_gather_article_id_reviewer_id_reviewee_id", columnNames = {"gather_article_id", "reviewer_id", "reviewee_id"}),
+        indexes = {
+                @Index(name = "idx_review_reviewee_id_created_at", columnList = "reviewee_id, created_at"),
+                @Index(name = "idx_review_reviewer_id_created_at", columnList = "reviewer_id, created_at")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Review {
+public class Review extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +25,11 @@ public class Review {
     // 리뷰 전송 여부
     private Boolean hasReviewed;
 
+    // 리뷰 타입 (월간 랭킹 집계 시 받은 리뷰 점수 계산에 사용)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReviewType reviewType;
+
     // 연관관계 주인
     // 양방향 연관관계
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,19 +49,21 @@ public class Review {
     private GatherArticle gatherArticle;
 
     @Builder
-    public Review(Member reviewer, Member reviewee, Boolean hasReviewed, GatherArticle gatherArticle) {
+    public Review(Member reviewer, Member reviewee, Boolean hasReviewed, ReviewType reviewType, GatherArticle gatherArticle) {
         this.reviewer = reviewer;
         this.reviewee = reviewee;
         this.hasReviewed = hasReviewed;
+        this.reviewType = reviewType;
         this.gatherArticle = gatherArticle;
     }
 
     // 직접 빌더 패턴의 생성자를 활용하지 말고 해당 메서드를 활용하여 엔티티 생성
-    public static Review buildReview(Member reviewer, Member reviewee, GatherArticle gatherArticle, Boolean hasReviewed) {
+    public static Review buildReview(Member reviewer, Member reviewee, GatherArticle gatherArticle, ReviewType reviewType, Boolean hasReviewed) {
         return Review.builder()
                 .reviewer(reviewer)
                 .reviewee(reviewee)
                 .gatherArticle(gatherArticle)
+                .reviewType(reviewType)
                 .hasReviewed(hasReviewed)
                 .build();
     }
@@ -0,0 +1,45 @@
+package sumcoda.boardbuddy.enumerate;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum BadgeTier {
+
+    // 1 ~ 3위 (기존 월간 TOP3 뱃지 이미지 사용)
+    TOP3("top3", 3, "_badge.png"),
+    // 4 ~ 10위
+    TOP10("top10", 10, "_top10_badge.png"),
+    // 11 ~ 100위
+    TOP100("top100", 100, "_top100_badge.png");
+
+    private final String value;
+
+    // 해당 등급을 받을 수 있는 가장 낮은 순위
+    private final int maxRank;
+
+    // 뱃지 이미지 파일 이름 접미사 예: "202407" + "_badge.png"
+    private final String badgeImageSuffix;
+
+    /**
+     * 순위에 해당하는 뱃지 등급 조회
+     *
+     * @param rank 순위 (1부터 시작)
+     * @return 뱃지 등급, 뱃지를 받을 수 없는 순위이면 빈 Optional
+     **/
+    public static Optional<BadgeTier> fromRank(int rank) {
+        if (rank < 1) {
+            return Optional.empty();
+        }
+
+        for (BadgeTier badgeTier : values()) {
+            if (rank <= badgeTier.maxRank) {
+                return Optional.of(badgeTier);
+            }
+        }
+        return Optional.empty();
+    }
+}
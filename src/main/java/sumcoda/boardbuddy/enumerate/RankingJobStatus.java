@@ -0,0 +1,20 @@
+package sumcoda.boardbuddy.enumerate;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RankingJobStatus {
+
+    // 회원 Id 범위별 점수 계산 중
+    SCORING("scoring"),
+    // 점수 계산 완료, 랭킹, 뱃지 부여 전
+    SCORED("scored"),
+    // 랭킹, 뱃지 부여 완료
+    RANKED("ranked"),
+    // 작업 완료
+    COMPLETED("completed");
+
+    private final String value;
+}
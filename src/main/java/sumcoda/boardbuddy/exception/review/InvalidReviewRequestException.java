@@ -0,0 +1,7 @@
+package sumcoda.boardbuddy.exception.review;
+
+public class InvalidReviewRequestException extends RuntimeException {
+    public InvalidReviewRequestException(String message) {
+        super(message);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import sumcoda.boardbuddy.dto.common.ApiResponse;
+import sumcoda.boardbuddy.exception.review.InvalidReviewRequestException;
 import sumcoda.boardbuddy.exception.review.ReviewAlreadyExistsException;
 
 import static sumcoda.boardbuddy.builder.ResponseBuilder.buildFailureResponse;
@@ -16,4 +17,9 @@ public class ReviewExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleReviewAlreadyExistsException(ReviewAlreadyExistsException e) {
         return buildFailureResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidReviewRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidReviewRequestException(InvalidReviewRequestException e) {
+        return buildFailureResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
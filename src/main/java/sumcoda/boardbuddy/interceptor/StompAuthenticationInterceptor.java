@@ -0,0 +1,127 @@
+package sumcoda.boardbuddy.interceptor;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.exception.ChatRoomAccessDeniedException;
+import sumcoda.boardbuddy.exception.auth.AuthenticationMissingException;
+import sumcoda.boardbuddy.service.ChatRoomService;
+import sumcoda.boardbuddy.util.AuthUtil;
+
+import java.util.Map;
+
+/**
+ * STOMP 연결 시 HTTP 세션의 로그인 정보로 사용자를 인증하고, 사용자 정보를 STOMP 세션 속성에 저장
+ * 이후 프레임마다 사용자를 다시 조회하지 않고 세션 속성을 사용
+ **/
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    // STOMP 세션 속성 이름
+    public static final String MEMBER_ID_ATTRIBUTE = "memberId";
+
+    // 채팅방 구독 경로 접두사 (접두사 + 채팅방 Id)
+    private static final String CHAT_ROOM_DESTINATION_PREFIX = "/api/ws-stomp/reception/";
+
+    private final AuthUtil authUtil;
+
+    private final ChatRoomService chatRoomService;
+
+    @Override
+    public Message<?> preSend(@NotNull Message<?> message, @NotNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+
+        if (command == StompCommand.CONNECT) {
+            connect(accessor);
+        } else if (command == StompCommand.SUBSCRIBE) {
+            subscribe(accessor);
+        } else if (command == StompCommand.SEND) {
+            getMemberId(accessor.getSessionAttributes());
+        }
+
+        return message;
+    }
+
+    // 핸드셰이크 시 복사된 HTTP 세션의 보안 컨텍스트로 사용자를 인증하고, 사용자 Id 를 한 번만 조회하여 저장
+    // 닉네임은 연결 중에 바뀔 수 있으므로 저장하지 않고, 메세지 발행 시 사용자 Id 로 발신자 정보를 조회
+    private void connect(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+
+        if (sessionAttributes == null) {
+            throw new AuthenticationMissingException("유효하지 않은 사용자의 요청입니다.(STOMP 연결)");
+        }
+
+        SecurityContext securityContext = (SecurityContext) sessionAttributes.get(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+
+        if (securityContext == null || securityContext.getAuthentication() == null) {
+            throw new AuthenticationMissingException("유효하지 않은 사용자의 요청입니다.(STOMP 연결)");
+        }
+
+        Authentication authentication = securityContext.getAuthentication();
+
+        String username = authUtil.getUserNameByLoginType(authentication);
+
+        ChatMessageResponse.SenderDTO chatMemberDTO = chatRoomService.getChatMemberByUsername(username);
+
+        sessionAttributes.put(MEMBER_ID_ATTRIBUTE, chatMemberDTO.getId());
+
+        accessor.setUser(authentication);
+    }
+
+    // 참여 중인 채팅방만 구독할 수 있도록 확인
+    // 연결 이후 입장하거나 퇴장한 채팅방이 있을 수 있으므로 구독할 때마다 참여자 캐시로 확인 (입장, 퇴장 시 캐시 무효화)
+    private void subscribe(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+
+        if (destination == null || !destination.startsWith(CHAT_ROOM_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+
+        Long memberId = getMemberId(sessionAttributes);
+
+        Long chatRoomId = parseChatRoomId(destination);
+
+        if (!chatRoomService.isChatRoomMember(chatRoomId, memberId)) {
+            throw new ChatRoomAccessDeniedException("해당 채팅방에 입장하지 않은 사용자입니다.");
+        }
+    }
+
+    // CONNECT 시 저장된 사용자 Id 조회
+    private Long getMemberId(Map<String, Object> sessionAttributes) {
+        Object memberId = sessionAttributes == null ? null : sessionAttributes.get(MEMBER_ID_ATTRIBUTE);
+
+        if (memberId == null) {
+            throw new AuthenticationMissingException("유효하지 않은 사용자의 요청입니다.(STOMP 인증 정보 없음)");
+        }
+
+        return (Long) memberId;
+    }
+
+    // 구독 경로에서 채팅방 Id 추출
+    private Long parseChatRoomId(String destination) {
+        try {
+            return Long.parseLong(destination.substring(CHAT_ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new ChatRoomAccessDeniedException("존재하지 않는 채팅방입니다.");
+        }
+    }
+}
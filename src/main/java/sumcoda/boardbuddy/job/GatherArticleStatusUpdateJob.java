@@ -10,6 +10,7 @@ import sumcoda.boardbuddy.entity.MemberGatherArticle;
 import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
 import sumcoda.boardbuddy.exception.gatherArticle.job.GatherArticleScheduleExecuteException;
 import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
+import sumcoda.boardbuddy.service.MemberStatsService;
 import sumcoda.boardbuddy.service.NotificationService;
 
 @RequiredArgsConstructor
@@ -21,6 +22,8 @@ public class GatherArticleStatusUpdateJob implements Job{
 
     private final NotificationService notificationService;
 
+    private final MemberStatsService memberStatsService;
+
     // 지정된 시간에 실행되는 메서드
     @Override
     @Transactional
@@ -41,7 +44,7 @@ public class GatherArticleStatusUpdateJob implements Job{
         // 해당 모집글의 모든 참가자들의 참가 횟수 1 증가
         gatherArticle.getMemberGatherArticles().stream()
                 .map(MemberGatherArticle::getMember)
-                .forEach(member -> member.assignJoinCount(member.getJoinCount() + 1));
+                .forEach(member -> memberStatsService.addJoinCount(member.getId(), 1));
 
         // 리뷰 요청 알림 보내기
         notificationService.notifyReviewRequest(gatherArticleId);
@@ -0,0 +1,39 @@
+package sumcoda.boardbuddy.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.enumerate.BadgeTier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class BadgeImageJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 회원별 뱃지 한 번에 저장
+     * 같은 연월의 뱃지가 이미 있는 회원은 (회원, 발급 연월) 유니크 제약에 걸리므로 건너뜀
+     *
+     * @param memberBadgeTiers 회원 Id 별 뱃지 등급
+     * @param badgeImageNames 뱃지 등급별 이미지 파일 이름
+     * @param badgeImageURLs 뱃지 등급별 이미지 URL
+     * @param badgeYearMonth 뱃지 발급 연월 예: 2024.07
+     **/
+    @Transactional
+    public void saveBadgeImages(Map<Long, BadgeTier> memberBadgeTiers, Map<BadgeTier, String> badgeImageNames, Map<BadgeTier, String> badgeImageURLs, String badgeYearMonth) {
+        String sql = "INSERT IGNORE INTO badge_image (original_filename, badge_images3savedurl, badge_year_month, badge_tier, member_id) VALUES (?, ?, ?, ?, ?)";
+
+        List<Object[]> batchArgs = new ArrayList<>(memberBadgeTiers.size());
+        memberBadgeTiers.forEach((memberId, badgeTier) -> batchArgs.add(new Object[]{
+                badgeImageNames.get(badgeTier), badgeImageURLs.get(badgeTier), badgeYearMonth, badgeTier.name(), memberId
+        }));
+
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+}
@@ -0,0 +1,170 @@
+package sumcoda.boardbuddy.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 월별 파티션 사용 시 chat_message 에는 (chat_room_id, seq) 유니크 키를 둘 수 없으므로 순번 발급 테이블로 중복을 막음
+    @Value("${spring.chat.partition.enabled:false}")
+    private boolean partitioningEnabled;
+
+    // 채팅방 메세지 순번 발급 기록 (파티션을 나누지 않으므로 (chat_room_id, seq) 기본키로 중복 순번을 막음)
+    private static final String INSERT_SEQ_SQL = "INSERT INTO chat_message_seq (chat_room_id, seq) VALUES (?, ?)";
+
+    // 채팅방의 마지막 메세지 정보 갱신 (순번이 더 큰 경우에만 갱신하므로 순서가 뒤바뀌거나 다시 저장되어도 유지됨)
+    private static final String UPDATE_LAST_MESSAGE_SQL = "UPDATE chat_room SET last_message_seq = ?, last_message_content = ?, last_message_at = ? WHERE id = ? AND last_message_seq < ?";
+
+    @Transactional
+    public int insertChatMessage(ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO) {
+        // 엔티티를 조회하지 않고 Id 만으로 저장 (JPA 로 저장하면 연관관계 편의 메서드가 채팅방의 메세지 목록을 불러옴)
+        if (partitioningEnabled) {
+            // 순번이 이미 사용되었으면 DuplicateKeyException 이 발생하여 메세지도 저장되지 않음
+            jdbcTemplate.update(INSERT_SEQ_SQL, bufferedMessageDTO.getChatRoomId(), bufferedMessageDTO.getSeq());
+        }
+
+        String sql = "INSERT INTO chat_message (chat_room_id, seq, content, message_type, member_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        int insertedCount = jdbcTemplate.update(sql,
+                bufferedMessageDTO.getChatRoomId(),
+                bufferedMessageDTO.getSeq(),
+                bufferedMessageDTO.getContent(),
+                bufferedMessageDTO.getMessageType().name(),
+                bufferedMessageDTO.getMemberId(),
+                bufferedMessageDTO.getSentAt(),
+                bufferedMessageDTO.getSentAt());
+
+        jdbcTemplate.update(UPDATE_LAST_MESSAGE_SQL,
+                bufferedMessageDTO.getSeq(),
+                bufferedMessageDTO.getContent(),
+                bufferedMessageDTO.getSentAt(),
+                bufferedMessageDTO.getChatRoomId(),
+                bufferedMessageDTO.getSeq());
+
+        return insertedCount;
+    }
+
+    @Transactional
+    public int deleteChatMessagesByIds(Long chatRoomId, List<Long> ids, LocalDateTime createdBefore) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // 보관 파일에 기록된 메세지만 Id 로 삭제 (같은 순번으로 다시 저장된 메세지가 있어도 삭제하지 않음)
+        // 보관 대상은 모두 createdBefore 이전 메세지이므로 월별 파티션 사용 시 이후 파티션은 조회하지 않음
+        String sql = "DELETE FROM chat_message WHERE chat_room_id = ? AND created_at < ? AND id IN (" +
+                String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(chatRoomId);
+        args.add(createdBefore);
+        args.addAll(ids);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    public long findLastMessageSeq(Long chatRoomId) {
+        // 보관되어 테이블에서 삭제된 메세지의 순번도 포함된 채팅방의 마지막 메세지 순번
+        String sql = "SELECT last_message_seq FROM chat_room WHERE id = ?";
+        return jdbcTemplate.queryForList(sql, Long.class, chatRoomId).stream()
+                .findFirst()
+                .orElse(0L);
+    }
+
+    /**
+     * 같은 채팅방, 순번으로 같은 발신자의 같은 내용 메세지가 이미 저장되어 있는지 확인
+     * 버퍼에서 다시 읽은 메세지가 이미 저장된 경우와, 순번이 겹친 다른 메세지를 구분하기 위해 사용
+     *
+     * @param bufferedMessageDTO 저장하려던 메세지
+     * @return 같은 메세지가 이미 저장되어 있으면 true
+     **/
+    public boolean existsSameChatMessage(ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO) {
+        String sql = "SELECT COUNT(*) FROM chat_message WHERE chat_room_id = ? AND seq = ? AND member_id = ? AND content = ?";
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class,
+                bufferedMessageDTO.getChatRoomId(),
+                bufferedMessageDTO.getSeq(),
+                bufferedMessageDTO.getMemberId(),
+                bufferedMessageDTO.getContent());
+        return count != null && count > 0;
+    }
+
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        String sql = "SELECT MIN(created_at) FROM chat_message";
+        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, LocalDateTime.class));
+    }
+
+    public void preparePartitioning() {
+        // 파티션 테이블은 외래키를 지원하지 않고, 모든 유니크 키에 파티션 컬럼이 포함되어야 함
+        // 유니크 키에 created_at 이 추가되면 발신 시각이 다른 같은 순번의 메세지를 막을 수 없으므로
+        // 파티션을 나누지 않는 순번 발급 테이블을 만들고, 메세지 저장 시 같은 트랜잭션에서 순번을 먼저 기록함
+        // 이미 저장된 메세지의 순번으로 다시 만들어 chat_message 와 어긋난 이전 기록이 남지 않도록 함
+        jdbcTemplate.execute("DROP TABLE IF EXISTS chat_message_seq");
+        jdbcTemplate.execute("CREATE TABLE chat_message_seq (chat_room_id BIGINT NOT NULL, seq BIGINT NOT NULL, PRIMARY KEY (chat_room_id, seq))");
+        jdbcTemplate.execute("INSERT INTO chat_message_seq (chat_room_id, seq) SELECT chat_room_id, seq FROM chat_message");
+
+        jdbcTemplate.execute("ALTER TABLE chat_message DROP FOREIGN KEY fk_chat_message_member");
+        jdbcTemplate.execute("ALTER TABLE chat_message DROP FOREIGN KEY fk_chat_message_chat_room");
+        jdbcTemplate.execute("ALTER TABLE chat_message DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+        jdbcTemplate.execute("ALTER TABLE chat_message DROP INDEX uk_chat_message_chat_room_id_seq, " +
+                "ADD UNIQUE KEY uk_chat_message_chat_room_id_seq (chat_room_id, seq, created_at)");
+    }
+
+    /**
+     * 버퍼에 쌓인 메세지를 한 번의 batch insert 로 저장
+     * 순번 중복, 외래키, 길이 초과 등 제약조건 위반이 하나라도 있으면 예외가 발생하고 배치 전체가 롤백됨
+     * (위반된 메세지는 ChatMessageBufferService 에서 한 건씩 다시 저장하며 확인)
+     *
+     * @param bufferedMessageDTOs 저장할 메세지 목록
+     **/
+    @Transactional
+    public void batchInsertChatMessages(List<ChatMessageResponse.BufferedMessageDTO> bufferedMessageDTOs) {
+        if (partitioningEnabled) {
+            jdbcTemplate.batchUpdate(INSERT_SEQ_SQL, bufferedMessageDTOs, bufferedMessageDTOs.size(), (ps, bufferedMessageDTO) -> {
+                ps.setLong(1, bufferedMessageDTO.getChatRoomId());
+                ps.setLong(2, bufferedMessageDTO.getSeq());
+            });
+        }
+
+        String sql = "INSERT INTO chat_message (chat_room_id, seq, content, message_type, member_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, bufferedMessageDTOs, bufferedMessageDTOs.size(), (ps, bufferedMessageDTO) -> {
+            ps.setLong(1, bufferedMessageDTO.getChatRoomId());
+            ps.setLong(2, bufferedMessageDTO.getSeq());
+            ps.setString(3, bufferedMessageDTO.getContent());
+            ps.setString(4, bufferedMessageDTO.getMessageType().name());
+            ps.setLong(5, bufferedMessageDTO.getMemberId());
+            ps.setObject(6, bufferedMessageDTO.getSentAt());
+            ps.setObject(7, bufferedMessageDTO.getSentAt());
+        });
+
+        // 채팅방마다 배치 안에서 순번이 가장 큰 메세지로 한 번만 갱신
+        List<ChatMessageResponse.BufferedMessageDTO> lastMessageDTOs = bufferedMessageDTOs.stream()
+                .collect(Collectors.toMap(ChatMessageResponse.BufferedMessageDTO::getChatRoomId, Function.identity(),
+                        BinaryOperator.maxBy(Comparator.comparing(ChatMessageResponse.BufferedMessageDTO::getSeq))))
+                .values().stream()
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastMessageDTOs, lastMessageDTOs.size(), (ps, lastMessageDTO) -> {
+            ps.setLong(1, lastMessageDTO.getSeq());
+            ps.setString(2, lastMessageDTO.getContent());
+            ps.setObject(3, lastMessageDTO.getSentAt());
+            ps.setLong(4, lastMessageDTO.getChatRoomId());
+            ps.setLong(5, lastMessageDTO.getSeq());
+        });
+    }
+}
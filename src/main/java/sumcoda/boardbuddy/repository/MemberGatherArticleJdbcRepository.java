@@ -0,0 +1,78 @@
+package sumcoda.boardbuddy.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberGatherArticleJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public int incrementReceiveNoShowCount(Long gatherArticleId, Long memberId) {
+        // 행 잠금은 트랜잭션이 끝날 때까지 유지되므로, 이어지는 기준 확인도 다른 리뷰와 섞이지 않음
+        String sql = "UPDATE member_gather_article SET receive_no_show_count = receive_no_show_count + 1 WHERE gather_article_id = ? AND member_id = ?";
+        return jdbcTemplate.update(sql, gatherArticleId, memberId);
+    }
+
+    /**
+     * 받은 노쇼예요 횟수가 기준 이상이면 초기화
+     *
+     * @param gatherArticleId 모집글 Id
+     * @param memberId 리뷰를 받은 유저 Id
+     * @param threshold 기준 횟수
+     * @return 초기화했으면 true
+     **/
+    @Transactional
+    public boolean resetReceiveNoShowCountIfReached(Long gatherArticleId, Long memberId, int threshold) {
+        String sql = "UPDATE member_gather_article SET receive_no_show_count = -1 WHERE gather_article_id = ? AND member_id = ? AND receive_no_show_count >= ?";
+        return jdbcTemplate.update(sql, gatherArticleId, memberId, threshold) == 1;
+    }
+
+    /**
+     * 여러 유저의 받은 노쇼예요 횟수를 증가시키고, 기준 이상이 된 유저는 초기화
+     * 증가시킨 행은 트랜잭션이 끝날 때까지 잠기므로 기준 확인과 초기화 사이에 다른 리뷰가 끼어들지 않음
+     *
+     * @param gatherArticleId 모집글 Id
+     * @param memberIds 노쇼예요를 받은 유저 Id 목록
+     * @param threshold 기준 횟수
+     * @return 기준 이상이 되어 초기화된 유저 Id 목록
+     **/
+    @Transactional
+    public List<Long> incrementReceiveNoShowCounts(Long gatherArticleId, List<Long> memberIds, int threshold) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        String inClause = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+
+        List<Object> args = new ArrayList<>(memberIds.size() + 1);
+        args.add(gatherArticleId);
+        args.addAll(memberIds);
+
+        jdbcTemplate.update("UPDATE member_gather_article SET receive_no_show_count = receive_no_show_count + 1 " +
+                "WHERE gather_article_id = ? AND member_id IN (" + inClause + ")", args.toArray());
+
+        List<Object> thresholdArgs = new ArrayList<>(args);
+        thresholdArgs.add(threshold);
+        List<Long> reachedMemberIds = jdbcTemplate.queryForList("SELECT member_id FROM member_gather_article " +
+                "WHERE gather_article_id = ? AND member_id IN (" + inClause + ") AND receive_no_show_count >= ?", Long.class, thresholdArgs.toArray());
+
+        if (!reachedMemberIds.isEmpty()) {
+            List<Object> resetArgs = new ArrayList<>(reachedMemberIds.size() + 1);
+            resetArgs.add(gatherArticleId);
+            resetArgs.addAll(reachedMemberIds);
+            jdbcTemplate.update("UPDATE member_gather_article SET receive_no_show_count = -1 " +
+                    "WHERE gather_article_id = ? AND member_id IN (" + String.join(", ", Collections.nCopies(reachedMemberIds.size(), "?")) + ")", resetArgs.toArray());
+        }
+
+        return reachedMemberIds;
+    }
+}
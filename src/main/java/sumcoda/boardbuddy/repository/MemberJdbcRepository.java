@@ -2,23 +2,182 @@ package sumcoda.boardbuddy.repository;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class MemberJdbcRepository {
 
+    // 집계 결과를 한 번에 메모리에 올리지 않고 나누어 읽기 위한 fetch size
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    // 이번 달 후기 카운트, 보낸 리뷰 카운트 중 하나라도 있는 회원 조건
+    private static final String MONTHLY_COUNT_NOT_ZERO_CONDITION = "monthly_excellent_count <> 0 OR monthly_good_count <> 0 " +
+            "OR monthly_bad_count <> 0 OR monthly_no_show_count <> 0 OR monthly_send_review_count <> 0";
+
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 회원별 통계 변화량 (리뷰 카운트는 이번 달, 누적 카운트에 같이 더해짐)
+     **/
+    public record MemberStatsDelta(long memberId, long excellentCount, long goodCount, long badCount, long noShowCount, long sendReviewCount, long joinCount, double buddyScore) {
+    }
+
+    /**
+     * 회원별 점수를 하나씩 전달받는 콜백
+     **/
+    @FunctionalInterface
+    public interface MemberScoreHandler {
+        void handle(long memberId, double score);
+    }
+
+    /**
+     * 회원 Id 범위 안에서 기간 내 받은 리뷰로 계산한 회원별 점수 조회
+     * 서버마다 버퍼에 모아 두는 월간 카운트 대신 리뷰 행의 저장 시각으로 집계하므로, 반영되지 않은 카운트가 있어도 지난 달 점수가 달라지지 않음
+     *
+     * @param fromMemberId 시작 회원 Id (포함)
+     * @param toMemberId 종료 회원 Id (포함)
+     * @param excellentScore 최고예요 점수
+     * @param goodScore 좋아요 점수
+     * @param badScore 별로예요 점수
+     * @param noShowScore 노쇼예요 점수
+     * @param start 집계 시작 시각
+     * @param end 집계 종료 시각
+     * @param handler 회원별 점수를 전달받는 콜백
+     **/
+    public void streamReceivedReviewScores(long fromMemberId, long toMemberId, double excellentScore, double goodScore, double badScore, double noShowScore,
+                                           LocalDateTime start, LocalDateTime end, MemberScoreHandler handler) {
+        String sql = "SELECT reviewee_id, SUM(CASE review_type WHEN 'EXCELLENT' THEN ? WHEN 'GOOD' THEN ? WHEN 'BAD' THEN ? WHEN 'NOSHOW' THEN ? ELSE 0 END) AS score " +
+                "FROM review " +
+                "WHERE reviewee_id BETWEEN ? AND ? AND created_at BETWEEN ? AND ? " +
+                "GROUP BY reviewee_id";
+        streamMemberScores(sql, handler, excellentScore, goodScore, badScore, noShowScore, fromMemberId, toMemberId, start, end);
+    }
+
+    /**
+     * 회원 Id 범위 안에서 기간 내 보낸 리뷰 수로 계산한 회원별 점수 조회
+     *
+     * @param fromMemberId 시작 회원 Id (포함)
+     * @param toMemberId 종료 회원 Id (포함)
+     * @param score 리뷰 하나당 점수
+     * @param start 집계 시작 시각
+     * @param end 집계 종료 시각
+     * @param handler 회원별 점수를 전달받는 콜백
+     **/
+    public void streamSentReviewScores(long fromMemberId, long toMemberId, double score, LocalDateTime start, LocalDateTime end, MemberScoreHandler handler) {
+        String sql = "SELECT reviewer_id, COUNT(*) * ? AS score " +
+                "FROM review " +
+                "WHERE reviewer_id BETWEEN ? AND ? AND created_at BETWEEN ? AND ? " +
+                "GROUP BY reviewer_id";
+        streamMemberScores(sql, handler, score, fromMemberId, toMemberId, start, end);
+    }
+
+    /**
+     * 회원 Id 범위 안에서 기간 내 작성한 모집글 수로 계산한 회원별 점수 조회
+     *
+     * @param fromMemberId 시작 회원 Id (포함)
+     * @param toMemberId 종료 회원 Id (포함)
+     * @param score 모집글 하나당 점수
+     * @param start 집계 시작 시각
+     * @param end 집계 종료 시각
+     * @param handler 회원별 점수를 전달받는 콜백
+     **/
+    public void streamGatherArticleScores(long fromMemberId, long toMemberId, double score, LocalDateTime start, LocalDateTime end, MemberScoreHandler handler) {
+        String sql = "SELECT mga.member_id, COUNT(*) * ? AS score " +
+                "FROM member_gather_article mga " +
+                "JOIN gather_article ga ON ga.id = mga.gather_article_id " +
+                "WHERE mga.member_id BETWEEN ? AND ? AND mga.member_gather_article_role = 'AUTHOR' " +
+                "AND ga.created_at BETWEEN ? AND ? " +
+                "GROUP BY mga.member_id";
+        streamMemberScores(sql, handler, score, fromMemberId, toMemberId, start, end);
+    }
+
+    /**
+     * 회원 Id 범위 안에서 기간 내 작성한 댓글 수로 계산한 회원별 점수 조회
+     *
+     * @param fromMemberId 시작 회원 Id (포함)
+     * @param toMemberId 종료 회원 Id (포함)
+     * @param score 댓글 하나당 점수
+     * @param start 집계 시작 시각
+     * @param end 집계 종료 시각
+     * @param handler 회원별 점수를 전달받는 콜백
+     **/
+    public void streamCommentScores(long fromMemberId, long toMemberId, double score, LocalDateTime start, LocalDateTime end, MemberScoreHandler handler) {
+        String sql = "SELECT member_id, COUNT(*) * ? AS score " +
+                "FROM comment " +
+                "WHERE member_id BETWEEN ? AND ? AND created_at BETWEEN ? AND ? " +
+                "GROUP BY member_id";
+        streamMemberScores(sql, handler, score, fromMemberId, toMemberId, start, end);
+    }
+
+    /**
+     * 점수가 0보다 큰 회원의 랭킹 점수 조회
+     *
+     * @param handler 회원별 점수를 전달받는 콜백
+     **/
+    public void streamPositiveRankScores(MemberScoreHandler handler) {
+        String sql = "SELECT member_id, rank_score FROM member_stats WHERE rank_score > 0";
+        streamMemberScores(sql, handler);
+    }
+
+    public long findMaxMemberId() {
+        String sql = "SELECT COALESCE(MAX(id), 0) FROM member";
+        Long maxMemberId = jdbcTemplate.queryForObject(sql, Long.class);
+        return maxMemberId == null ? 0L : maxMemberId;
+    }
+
+    // 결과를 forward-only 커서로 fetch size 만큼씩 읽으며 한 행씩 콜백에 전달
+    private void streamMemberScores(String sql, MemberScoreHandler handler, Object... args) {
+        PreparedStatementCreator preparedStatementCreator = connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        };
+        RowCallbackHandler rowCallbackHandler = rs -> handler.handle(rs.getLong(1), rs.getDouble(2));
+        jdbcTemplate.query(preparedStatementCreator, rowCallbackHandler);
+    }
+
     @Transactional
-    public void updateMemberRankScores(Map<Long, Double> memberRankScores) {
-        String sql = "UPDATE member SET rank_score = ? WHERE id = ?";
-        jdbcTemplate.batchUpdate(sql, memberRankScores.entrySet(), memberRankScores.size(), (ps, entry) -> {
-          ps.setDouble(1, entry.getValue());
-          ps.setLong(2, entry.getKey());
+    public void resetMemberRankScores(long fromMemberId, long toMemberId) {
+        // 이번 달 점수가 없는 회원도 지난 점수가 남지 않도록 변경이 필요한 행만 0으로 초기화
+        String sql = "UPDATE member_stats SET rank_score = 0 WHERE member_id BETWEEN ? AND ? AND rank_score <> 0";
+        jdbcTemplate.update(sql, fromMemberId, toMemberId);
+    }
+
+    @Transactional
+    public void clearMemberRanks() {
+        String sql = "UPDATE member SET rank = NULL WHERE rank IS NOT NULL";
+        jdbcTemplate.update(sql);
+    }
+
+    @Transactional
+    public void updateMemberRankScores(long[] memberIds, double[] rankScores) {
+        String sql = "UPDATE member_stats SET rank_score = ? WHERE member_id = ?";
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setDouble(1, rankScores[i]);
+                ps.setLong(2, memberIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return memberIds.length;
+            }
         });
     }
 
@@ -35,9 +194,49 @@ public class MemberJdbcRepository {
         });
     }
 
+    @Transactional
+    public void updateLastReadNotificationId(Long memberId, Long lastReadNotificationId) {
+        // 동시에 읽음 처리 요청이 와도 읽음 위치가 뒤로 가지 않도록 GREATEST 사용
+        String sql = "UPDATE member SET last_read_notification_id = GREATEST(last_read_notification_id, ?) WHERE id = ?";
+        jdbcTemplate.update(sql, lastReadNotificationId, memberId);
+    }
+
+    /**
+     * 회원별 통계 변화량을 batch 로 한 번에 반영
+     * 각 행은 DB 값에 더하는 UPDATE 이므로 여러 서버에서 동시에 반영해도 누락되지 않음
+     *
+     * @param memberStatsDeltas 회원별 통계 변화량
+     **/
+    @Transactional
+    public void addMemberStatsDeltas(List<MemberStatsDelta> memberStatsDeltas) {
+        String sql = "UPDATE member_stats SET " +
+                "monthly_excellent_count = monthly_excellent_count + ?, total_excellent_count = total_excellent_count + ?, " +
+                "monthly_good_count = monthly_good_count + ?, total_good_count = total_good_count + ?, " +
+                "monthly_bad_count = monthly_bad_count + ?, total_bad_count = total_bad_count + ?, " +
+                "monthly_no_show_count = monthly_no_show_count + ?, " +
+                "monthly_send_review_count = monthly_send_review_count + ?, " +
+                "join_count = join_count + ?, " +
+                "buddy_score = buddy_score + ? " +
+                "WHERE member_id = ?";
+        jdbcTemplate.batchUpdate(sql, memberStatsDeltas, memberStatsDeltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.excellentCount());
+            ps.setLong(2, delta.excellentCount());
+            ps.setLong(3, delta.goodCount());
+            ps.setLong(4, delta.goodCount());
+            ps.setLong(5, delta.badCount());
+            ps.setLong(6, delta.badCount());
+            ps.setLong(7, delta.noShowCount());
+            ps.setLong(8, delta.sendReviewCount());
+            ps.setLong(9, delta.joinCount());
+            ps.setDouble(10, delta.buddyScore());
+            ps.setLong(11, delta.memberId());
+        });
+    }
+
     @Transactional
     public void resetMonthlyCounts() {
-        String sql = "UPDATE member SET monthly_excellent_count = 0, monthly_good_count = 0, monthly_bad_count = 0, monthly_no_show_count = 0, monthly_send_review_count = 0";
+        String sql = "UPDATE member_stats SET monthly_excellent_count = 0, monthly_good_count = 0, monthly_bad_count = 0, monthly_no_show_count = 0, monthly_send_review_count = 0 " +
+                "WHERE " + MONTHLY_COUNT_NOT_ZERO_CONDITION;
         jdbcTemplate.update(sql);
     }
 }
@@ -0,0 +1,85 @@
+package sumcoda.boardbuddy.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.enumerate.EventName;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public int updateCoalescedNotification(Long id, String message, Integer expectedCoalescedCount) {
+        // 동시에 같은 알림을 묶는 경우 한 요청만 반영되도록 기존 묶음 수를 조건으로 사용
+        // created_at 은 처음 알림 시각으로 유지하여 묶음 시간이 계속 늘어나지 않도록 함 (파티션 사용 시 행이 다른 파티션으로 옮겨지지도 않음)
+        String sql = "UPDATE notification SET message = ?, coalesced_count = coalesced_count + 1 WHERE id = ? AND coalesced_count = ?";
+        return jdbcTemplate.update(sql, message, id, expectedCoalescedCount);
+    }
+
+    /**
+     * 여러 유저의 알림을 한 번에 저장
+     *
+     * @param gatherArticleId 알림이 발생한 모집글 Id
+     * @param eventName 알림 이벤트 이름
+     * @param createdAt 알림 생성 시각
+     * @param memberMessages 알림을 받는 유저 Id 별 알림 메세지
+     * @return 저장된 알림 Id (memberMessages 의 순회 순서와 같음)
+     **/
+    @Transactional
+    public List<Long> batchInsertNotifications(Long gatherArticleId, EventName eventName, LocalDateTime createdAt, Map<Long, String> memberMessages) {
+        String sql = "INSERT INTO notification (message, created_at, gather_article_id, event_name, coalesced_count, member_id) VALUES (?, ?, ?, ?, 1, ?)";
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(memberMessages.entrySet());
+
+        // 읽지 않은 알림으로 추가할 수 있도록 생성된 Id 를 함께 반환받음
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(sql, new String[]{"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, String> entry = entries.get(i);
+                ps.setString(1, entry.getValue());
+                ps.setTimestamp(2, Timestamp.valueOf(createdAt));
+                ps.setLong(3, gatherArticleId);
+                ps.setString(4, eventName.name());
+                ps.setLong(5, entry.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        }, keyHolder);
+
+        // 드라이버마다 생성된 키의 컬럼 이름이 다르므로 (MariaDB 는 insert_id) 첫 번째 값을 사용
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    @Transactional
+    public int deleteNotificationsCreatedBefore(LocalDateTime createdBefore, int chunkSize) {
+        // 한 번에 대량으로 삭제하면 잠금과 undo 로그가 커지므로 chunkSize 만큼씩 나누어 삭제
+        String sql = "DELETE FROM notification WHERE created_at < ? LIMIT ?";
+        return jdbcTemplate.update(sql, createdBefore, chunkSize);
+    }
+
+    public void preparePartitioning() {
+        // 파티션 테이블은 외래키를 지원하지 않고, 모든 유니크 키에 파티션 컬럼이 포함되어야 함
+        jdbcTemplate.execute("ALTER TABLE notification DROP FOREIGN KEY fk_notification_member");
+        jdbcTemplate.execute("ALTER TABLE notification DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+    }
+}
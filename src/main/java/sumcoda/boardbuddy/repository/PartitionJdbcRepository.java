@@ -0,0 +1,88 @@
+package sumcoda.boardbuddy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 월별 RANGE 파티션 관리용 Repository
+ * 파티션 이름은 p + 연월 (예: p202410), 마지막 파티션은 pmax (MAXVALUE)
+ * 테이블, 컬럼 이름은 호출하는 쪽의 상수만 전달해야 함
+ **/
+@Repository
+@RequiredArgsConstructor
+public class PartitionJdbcRepository {
+
+    private static final String MAX_PARTITION_NAME = "pmax";
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMATTER = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<String> findPartitionNames(String tableName) {
+        String sql = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION";
+        return jdbcTemplate.queryForList(sql, String.class, tableName);
+    }
+
+    public List<YearMonth> findPartitionMonths(String tableName) {
+        return findPartitionNames(tableName).stream()
+                .map(PartitionJdbcRepository::toYearMonth)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    public void partitionByMonth(String tableName, String columnName, List<YearMonth> months) {
+        String sql = "ALTER TABLE " + tableName + " PARTITION BY RANGE (TO_DAYS(" + columnName + ")) (" +
+                buildPartitionDefinitions(months) + ")";
+        jdbcTemplate.execute(sql);
+    }
+
+    public void addMonthlyPartitions(String tableName, List<YearMonth> months) {
+        // pmax 를 나누어 새 월 파티션을 추가 (pmax 는 비어 있으므로 데이터 이동이 거의 없음)
+        String sql = "ALTER TABLE " + tableName + " REORGANIZE PARTITION " + MAX_PARTITION_NAME + " INTO (" +
+                buildPartitionDefinitions(months) + ")";
+        jdbcTemplate.execute(sql);
+    }
+
+    public void dropMonthlyPartitions(String tableName, List<YearMonth> months) {
+        // 대량 DELETE 대신 파티션을 통째로 제거
+        String sql = "ALTER TABLE " + tableName + " DROP PARTITION " + months.stream()
+                .map(month -> month.format(PARTITION_NAME_FORMATTER))
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute(sql);
+    }
+
+    public boolean isMonthlyPartitionEmpty(String tableName, YearMonth month) {
+        // 파티션을 직접 지정하여 해당 파티션만 확인
+        String sql = "SELECT 1 FROM " + tableName + " PARTITION (" + month.format(PARTITION_NAME_FORMATTER) + ") LIMIT 1";
+        return jdbcTemplate.queryForList(sql, Integer.class).isEmpty();
+    }
+
+    // 월 파티션은 다음 달 1일 미만의 행을 보관하고, 마지막에 MAXVALUE 파티션을 둠
+    private String buildPartitionDefinitions(List<YearMonth> months) {
+        StringBuilder definitions = new StringBuilder();
+        for (YearMonth month : months) {
+            definitions.append("PARTITION ").append(month.format(PARTITION_NAME_FORMATTER))
+                    .append(" VALUES LESS THAN (TO_DAYS('").append(month.plusMonths(1).atDay(1)).append("')), ");
+        }
+        return definitions.append("PARTITION ").append(MAX_PARTITION_NAME).append(" VALUES LESS THAN MAXVALUE").toString();
+    }
+
+    // 파티션 이름을 연월로 변환 (pmax 등 월 파티션이 아니면 빈 Optional)
+    private static Optional<YearMonth> toYearMonth(String partitionName) {
+        try {
+            return Optional.of(YearMonth.parse(partitionName, PARTITION_NAME_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
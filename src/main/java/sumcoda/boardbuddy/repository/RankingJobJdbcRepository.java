@@ -0,0 +1,63 @@
+package sumcoda.boardbuddy.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.enumerate.RankingJobStatus;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RankingJobJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업 상태를 다음 단계로 변경
+     * 여러 서버에서 동시에 실행되어도 한 서버만 변경에 성공하며, 실패한 서버는 해당 단계를 건너뜀
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     * @param from 현재 상태
+     * @param to 변경할 상태
+     * @return 변경 성공 여부
+     **/
+    @Transactional
+    public boolean updateStatus(Long rankingJobId, RankingJobStatus from, RankingJobStatus to) {
+        String sql = "UPDATE ranking_job SET ranking_job_status = ?, updated_at = NOW() WHERE id = ? AND ranking_job_status = ?";
+        return jdbcTemplate.update(sql, to.name(), rankingJobId, from.name()) == 1;
+    }
+
+    /**
+     * 작업이 점수 계산 중인지 확인하고, 트랜잭션이 끝날 때까지 다음 단계로 넘어가지 않도록 공유 잠금
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     * @return 점수 계산 중이면 true
+     **/
+    @Transactional
+    public boolean lockScoringJob(Long rankingJobId) {
+        String sql = "SELECT COUNT(*) FROM ranking_job WHERE id = ? AND ranking_job_status = ? LOCK IN SHARE MODE";
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, rankingJobId, RankingJobStatus.SCORING.name());
+        return count != null && count > 0;
+    }
+
+    @Transactional
+    public void saveChunk(Long rankingJobId, long startMemberId) {
+        // 같은 범위를 다시 계산한 경우 중복 기록하지 않음
+        String sql = "INSERT IGNORE INTO ranking_job_chunk (ranking_job_id, start_member_id) VALUES (?, ?)";
+        jdbcTemplate.update(sql, rankingJobId, startMemberId);
+    }
+
+    public List<Long> findChunkStartMemberIds(Long rankingJobId) {
+        String sql = "SELECT start_member_id FROM ranking_job_chunk WHERE ranking_job_id = ?";
+        return jdbcTemplate.queryForList(sql, Long.class, rankingJobId);
+    }
+
+    @Transactional
+    public void restartScoringWithoutLiveRanking(Long rankingJobId) {
+        // 실시간 랭킹으로 계산한 범위와 DB 집계로 계산한 범위가 섞이지 않도록 처음부터 다시 계산
+        jdbcTemplate.update("DELETE FROM ranking_job_chunk WHERE ranking_job_id = ?", rankingJobId);
+        jdbcTemplate.update("UPDATE ranking_job SET use_live_ranking = FALSE, updated_at = NOW() WHERE id = ?", rankingJobId);
+    }
+}
@@ -0,0 +1,51 @@
+package sumcoda.boardbuddy.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.enumerate.ReviewType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 해당 모집글에서 리뷰를 보낸 유저가 이미 리뷰를 보낸 유저 Id 조회
+     *
+     * @param gatherArticleId 모집글 Id
+     * @param reviewerId 리뷰를 보내는 유저 Id
+     * @return 이미 리뷰를 받은 유저 Id 목록
+     **/
+    public List<Long> findRevieweeIds(Long gatherArticleId, Long reviewerId) {
+        String sql = "SELECT reviewee_id FROM review WHERE gather_article_id = ? AND reviewer_id = ?";
+        return jdbcTemplate.queryForList(sql, Long.class, gatherArticleId, reviewerId);
+    }
+
+    /**
+     * 리뷰 한 번에 저장
+     * 월간 랭킹 집계 시 기간 내 리뷰를 조회할 수 있도록 리뷰 타입과 저장 시각을 함께 저장
+     *
+     * @param gatherArticleId 모집글 Id
+     * @param reviewerId 리뷰를 보내는 유저 Id
+     * @param revieweeReviewTypes 리뷰를 받는 유저 Id 별 리뷰 타입
+     **/
+    @Transactional
+    public void saveReviews(Long gatherArticleId, Long reviewerId, Map<Long, ReviewType> revieweeReviewTypes) {
+        String sql = "INSERT INTO review (has_reviewed, review_type, reviewer_id, reviewee_id, gather_article_id, created_at, updated_at) " +
+                "VALUES (TRUE, ?, ?, ?, ?, NOW(), NOW())";
+        List<Map.Entry<Long, ReviewType>> entries = new ArrayList<>(revieweeReviewTypes.entrySet());
+        jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getValue().name());
+            ps.setLong(2, reviewerId);
+            ps.setLong(3, entry.getKey());
+            ps.setLong(4, gatherArticleId);
+        });
+    }
+}
@@ -0,0 +1,336 @@
+package sumcoda.boardbuddy.repository.chatArchive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.MessageType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 채팅방별 보관 메세지 세그먼트 파일 저장소
+ *
+ * 세그먼트 파일 (room-{채팅방 Id}.seg) : 순번 순으로 묶은 메세지 블록을 압축하여 뒤에 이어 붙이기만 함
+ * 인덱스 파일 (room-{채팅방 Id}.idx) : 블록마다 (첫 순번, 마지막 순번, 파일 내 위치, 길이) 고정 크기 항목 하나를 기록하는 희소 인덱스
+ *
+ * 블록을 세그먼트 파일에 기록하고 동기화한 뒤 인덱스 항목을 기록하므로,
+ * 중간에 종료되더라도 인덱스에 기록된 블록만 조회되고 세그먼트 파일 끝의 불완전한 블록은 무시됨
+ * 조회 시에는 인덱스와 필요한 블록만 메모리 매핑하여 읽음
+ **/
+@Repository
+public class ChatSegmentRepository {
+
+    // 인덱스 항목 크기 (첫 순번 8 + 마지막 순번 8 + 위치 8 + 길이 4)
+    private static final int INDEX_ENTRY_SIZE = 28;
+
+    // 세그먼트 파일을 저장할 디렉터리 (여러 서버에서 조회하므로 공유 스토리지 경로로 설정)
+    @Value("${spring.chat.archive.directory:./chat-archive}")
+    private String directory;
+
+    /**
+     * 채팅방에서 마지막으로 보관된 메세지 순번 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 마지막으로 보관된 메세지 순번, 보관된 메세지가 없으면 0
+     **/
+    public long findLastArchivedSeq(Long chatRoomId) throws IOException {
+        Path indexPath = getIndexPath(chatRoomId);
+
+        if (!Files.exists(indexPath)) {
+            return 0L;
+        }
+
+        try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            long entryCount = indexChannel.size() / INDEX_ENTRY_SIZE;
+
+            if (entryCount == 0) {
+                return 0L;
+            }
+
+            ByteBuffer lastSeqBuffer = ByteBuffer.allocate(Long.BYTES);
+            indexChannel.read(lastSeqBuffer, (entryCount - 1) * INDEX_ENTRY_SIZE + Long.BYTES);
+            return lastSeqBuffer.flip().getLong();
+        }
+    }
+
+    /**
+     * 마지막으로 기록된 블록의 메세지 조회
+     * 블록을 기록한 뒤 테이블에서 삭제하기 전에 종료된 경우, 삭제할 메세지 Id 를 확인하기 위해 사용
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 순번 순으로 정렬된 마지막 블록의 메세지 목록, 보관된 메세지가 없으면 빈 목록
+     **/
+    public List<ChatMessageResponse.ArchiveMessageDTO> findLastBlockMessages(Long chatRoomId) throws IOException {
+        Path indexPath = getIndexPath(chatRoomId);
+
+        if (!Files.exists(indexPath)) {
+            return List.of();
+        }
+
+        try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ);
+             FileChannel segmentChannel = FileChannel.open(getSegmentPath(chatRoomId), StandardOpenOption.READ)) {
+            long entryCount = indexChannel.size() / INDEX_ENTRY_SIZE;
+
+            if (entryCount == 0) {
+                return List.of();
+            }
+
+            ByteBuffer indexEntry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            indexChannel.read(indexEntry, (entryCount - 1) * INDEX_ENTRY_SIZE);
+            indexEntry.flip();
+
+            long blockOffset = indexEntry.getLong(Long.BYTES * 2);
+            int blockLength = indexEntry.getInt(Long.BYTES * 3);
+
+            return deserialize(decompress(segmentChannel.map(FileChannel.MapMode.READ_ONLY, blockOffset, blockLength)));
+        }
+    }
+
+    /**
+     * 메세지 블록을 압축하여 세그먼트 파일에 추가하고 인덱스 항목 기록
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param archiveMessageDTOs 순번 순으로 정렬된 보관할 메세지 목록
+     **/
+    public void appendBlock(Long chatRoomId, List<ChatMessageResponse.ArchiveMessageDTO> archiveMessageDTOs) throws IOException {
+        Files.createDirectories(Path.of(directory));
+
+        byte[] block = compress(serialize(archiveMessageDTOs));
+
+        long offset;
+        try (FileChannel segmentChannel = FileChannel.open(getSegmentPath(chatRoomId),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // 이전에 인덱스를 기록하지 못한 불완전한 블록이 있더라도 그 뒤에 기록
+            offset = segmentChannel.size();
+
+            ByteBuffer blockBuffer = ByteBuffer.wrap(block);
+            while (blockBuffer.hasRemaining()) {
+                segmentChannel.write(blockBuffer, offset + blockBuffer.position());
+            }
+            segmentChannel.force(true);
+        }
+
+        ByteBuffer indexEntry = ByteBuffer.allocate(INDEX_ENTRY_SIZE)
+                .putLong(archiveMessageDTOs.get(0).getSeq())
+                .putLong(archiveMessageDTOs.get(archiveMessageDTOs.size() - 1).getSeq())
+                .putLong(offset)
+                .putInt(block.length)
+                .flip();
+
+        try (FileChannel indexChannel = FileChannel.open(getIndexPath(chatRoomId),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // 불완전하게 기록된 항목이 있다면 덮어씀
+            long indexOffset = indexChannel.size() / INDEX_ENTRY_SIZE * INDEX_ENTRY_SIZE;
+
+            while (indexEntry.hasRemaining()) {
+                indexChannel.write(indexEntry, indexOffset + indexEntry.position());
+            }
+            indexChannel.truncate(indexOffset + INDEX_ENTRY_SIZE);
+            indexChannel.force(true);
+        }
+    }
+
+    /**
+     * 특정 순번 이전의 보관된 메세지를 최신순으로 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param cursor 이 순번보다 이전의 메세지를 조회 (null 이면 마지막 메세지부터)
+     * @param createdAfter 이 시각 이후의 메세지만 조회
+     * @param limit 조회할 최대 개수
+     * @return 최신순으로 정렬된 보관된 메세지 목록
+     **/
+    public List<ChatMessageResponse.ArchiveMessageDTO> findMessagesBefore(Long chatRoomId, Long cursor, LocalDateTime createdAfter, int limit) throws IOException {
+        Path indexPath = getIndexPath(chatRoomId);
+
+        if (limit <= 0 || !Files.exists(indexPath)) {
+            return List.of();
+        }
+
+        long beforeSeq = cursor == null ? Long.MAX_VALUE : cursor;
+
+        List<ChatMessageResponse.ArchiveMessageDTO> archiveMessageDTOs = new ArrayList<>(limit);
+
+        try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ);
+             FileChannel segmentChannel = FileChannel.open(getSegmentPath(chatRoomId), StandardOpenOption.READ)) {
+
+            int entryCount = (int) (indexChannel.size() / INDEX_ENTRY_SIZE);
+            MappedByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, (long) entryCount * INDEX_ENTRY_SIZE);
+
+            // 첫 순번이 beforeSeq 보다 작은 마지막 블록부터 이전 블록 순으로 읽음
+            for (int entry = findLastBlockBefore(index, entryCount, beforeSeq); entry >= 0; entry--) {
+                int entryOffset = entry * INDEX_ENTRY_SIZE;
+                long blockOffset = index.getLong(entryOffset + Long.BYTES * 2);
+                int blockLength = index.getInt(entryOffset + Long.BYTES * 3);
+
+                MappedByteBuffer block = segmentChannel.map(FileChannel.MapMode.READ_ONLY, blockOffset, blockLength);
+                List<ChatMessageResponse.ArchiveMessageDTO> blockMessages = deserialize(decompress(block));
+
+                for (int i = blockMessages.size() - 1; i >= 0; i--) {
+                    ChatMessageResponse.ArchiveMessageDTO message = blockMessages.get(i);
+
+                    if (message.getSeq() >= beforeSeq) {
+                        continue;
+                    }
+                    // 순번 순으로 저장되어 있으므로 입장 시각 이전의 메세지가 나오면 그 이전 메세지도 모두 제외
+                    if (!message.getCreatedAt().isAfter(createdAfter)) {
+                        return archiveMessageDTOs;
+                    }
+
+                    archiveMessageDTOs.add(message);
+                    if (archiveMessageDTOs.size() == limit) {
+                        return archiveMessageDTOs;
+                    }
+                }
+            }
+        }
+
+        return archiveMessageDTOs;
+    }
+
+    // 첫 순번이 seq 보다 작은 마지막 인덱스 항목을 이진 탐색 (없으면 -1)
+    private int findLastBlockBefore(MappedByteBuffer index, int entryCount, long seq) {
+        int low = 0;
+        int high = entryCount - 1;
+        int found = -1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (index.getLong(mid * INDEX_ENTRY_SIZE) < seq) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return found;
+    }
+
+    private byte[] serialize(List<ChatMessageResponse.ArchiveMessageDTO> archiveMessageDTOs) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(byteArrayOutputStream)) {
+            out.writeInt(archiveMessageDTOs.size());
+
+            for (ChatMessageResponse.ArchiveMessageDTO message : archiveMessageDTOs) {
+                out.writeLong(message.getId());
+                out.writeLong(message.getSeq());
+                out.writeUTF(message.getCreatedAt().toString());
+                out.writeUTF(message.getMessageType().name());
+                out.writeUTF(message.getContent());
+                writeNullableUTF(out, message.getNickname());
+                writeNullableUTF(out, message.getProfileImageS3SavedURL());
+                out.writeBoolean(message.getRank() != null);
+                out.writeInt(message.getRank() == null ? 0 : message.getRank());
+            }
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private List<ChatMessageResponse.ArchiveMessageDTO> deserialize(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int count = in.readInt();
+            List<ChatMessageResponse.ArchiveMessageDTO> archiveMessageDTOs = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                long seq = in.readLong();
+                LocalDateTime createdAt = LocalDateTime.parse(in.readUTF());
+                MessageType messageType = MessageType.valueOf(in.readUTF());
+                String content = in.readUTF();
+                String nickname = readNullableUTF(in);
+                String profileImageS3SavedURL = readNullableUTF(in);
+                boolean hasRank = in.readBoolean();
+                int rank = in.readInt();
+
+                archiveMessageDTOs.add(ChatMessageResponse.ArchiveMessageDTO.builder()
+                        .id(id)
+                        .seq(seq)
+                        .createdAt(createdAt)
+                        .messageType(messageType)
+                        .content(content)
+                        .nickname(nickname)
+                        .profileImageS3SavedURL(profileImageS3SavedURL)
+                        .rank(hasRank ? rank : null)
+                        .build());
+            }
+
+            return archiveMessageDTOs;
+        }
+    }
+
+    private void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private byte[] compress(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(ByteBuffer block) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(block);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(block.remaining() * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int inflatedLength = inflater.inflate(buffer);
+                if (inflatedLength == 0 && inflater.needsInput()) {
+                    throw new IOException("Truncated chat segment block");
+                }
+                out.write(buffer, 0, inflatedLength);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted chat segment block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Path getSegmentPath(Long chatRoomId) {
+        return Path.of(directory, "room-" + chatRoomId + ".seg");
+    }
+
+    private Path getIndexPath(Long chatRoomId) {
+        return Path.of(directory, "room-" + chatRoomId + ".idx");
+    }
+}
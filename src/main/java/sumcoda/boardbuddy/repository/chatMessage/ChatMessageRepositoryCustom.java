@@ -2,15 +2,22 @@ package sumcoda.boardbuddy.repository.chatMessage;
 
 import sumcoda.boardbuddy.dto.ChatMessageResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ChatMessageRepositoryCustom {
 
-    List<ChatMessageResponse.ChatMessageInfoDTO> findMessagesAfterMemberJoinedByChatRoomIdAndUsername(Long chatRoomId, String username);
+    List<ChatMessageResponse.ChatMessageInfoDTO> findMessagesAfterMemberJoinedByChatRoomIdAndUsernameAndCursor(Long chatRoomId, String username, Long cursor, int limit);
+
+    List<ChatMessageResponse.ChatMessageInfoDTO> findMessagesByChatRoomIdAndSeqAfter(Long chatRoomId, LocalDateTime joinedAt, Long seq, int limit);
 
     Optional<ChatMessageResponse.ChatMessageInfoDTO> findTalkMessageById(Long chatMessageId);
 
     Optional<ChatMessageResponse.EnterOrExitMessageInfoDTO> findEnterOrExitMessageById(Long chatMessageId);
 
+    Long findMaxSeqByChatRoomId(Long chatRoomId);
+
+    List<ChatMessageResponse.ArchiveMessageDTO> findArchiveMessagesByChatRoomId(Long chatRoomId, Long seq, LocalDateTime createdBefore, int limit);
+
 }
@@ -11,7 +11,6 @@ import java.util.List;
 import java.util.Optional;
 
 import static sumcoda.boardbuddy.entity.QChatMessage.chatMessage;
-import static sumcoda.boardbuddy.entity.QChatRoom.chatRoom;
 import static sumcoda.boardbuddy.entity.QMember.member;
 import static sumcoda.boardbuddy.entity.QMemberChatRoom.*;
 import static sumcoda.boardbuddy.entity.QProfileImage.*;
@@ -22,14 +21,17 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
     private final JPAQueryFactory jpaQueryFactory;
 
     /**
-     * 사용자가 채팅방에 입장한 이후의 메시지 조회
+     * 사용자가 채팅방에 입장한 이후의 메시지를 커서 기반으로 한 페이지 조회
+     * (chat_room_id, seq) 유니크 인덱스를 역순으로 읽으므로 채팅방의 전체 메세지 수와 관계없이 limit 만큼만 조회
      *
      * @param chatRoomId 채팅방 Id
      * @param username 사용자 아이디
-     * @return 사용자가 입장한 이후의 채팅방 메시지 목록
+     * @param cursor 이전 페이지의 가장 오래된 메세지 순번 (첫 페이지는 null)
+     * @param limit 조회할 최대 개수
+     * @return 최신순으로 정렬된 채팅방 메시지 목록
      **/
     @Override
-    public List<ChatMessageResponse.ChatMessageInfoDTO> findMessagesAfterMemberJoinedByChatRoomIdAndUsername(Long chatRoomId, String username) {
+    public List<ChatMessageResponse.ChatMessageInfoDTO> findMessagesAfterMemberJoinedByChatRoomIdAndUsernameAndCursor(Long chatRoomId, String username, Long cursor, int limit) {
 
         LocalDateTime joinedAt = jpaQueryFactory.select(memberChatRoom.joinedAt)
                 .from(memberChatRoom)
@@ -40,6 +42,7 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
         isJoinedAtExists(joinedAt);
 
         return jpaQueryFactory.select(Projections.fields(ChatMessageResponse.ChatMessageInfoDTO.class,
+                        chatMessage.seq,
                         chatMessage.content,
                         member.nickname,
                         profileImage.profileImageS3SavedURL,
@@ -49,9 +52,41 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
                 .from(chatMessage)
                 .leftJoin(chatMessage.member, member)
                 .leftJoin(member.profileImage, profileImage)
-                .leftJoin(chatMessage.chatRoom, chatRoom)
-                .where(chatRoom.id.eq(chatRoomId).and(chatMessage.createdAt.after(joinedAt)))
-                .orderBy(chatMessage.createdAt.asc())
+                .where(chatMessage.chatRoom.id.eq(chatRoomId),
+                        chatMessage.createdAt.after(joinedAt),
+                        cursor == null ? null : chatMessage.seq.lt(cursor))
+                .orderBy(chatMessage.seq.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 특정 순번 이후의 메세지를 오래된 순으로 조회 (재연결 시 놓친 메세지 재전송용)
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param joinedAt 사용자가 채팅방에 입장한 시각
+     * @param seq 클라이언트가 마지막으로 수신한 메세지 순번
+     * @param limit 조회할 최대 개수
+     * @return 오래된 순으로 정렬된 채팅방 메시지 목록
+     **/
+    @Override
+    public List<ChatMessageResponse.ChatMessageInfoDTO> findMessagesByChatRoomIdAndSeqAfter(Long chatRoomId, LocalDateTime joinedAt, Long seq, int limit) {
+        return jpaQueryFactory.select(Projections.fields(ChatMessageResponse.ChatMessageInfoDTO.class,
+                        chatMessage.seq,
+                        chatMessage.content,
+                        member.nickname,
+                        profileImage.profileImageS3SavedURL,
+                        member.rank,
+                        chatMessage.messageType,
+                        chatMessage.createdAt.as("sentAt")))
+                .from(chatMessage)
+                .leftJoin(chatMessage.member, member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(chatMessage.chatRoom.id.eq(chatRoomId),
+                        chatMessage.createdAt.after(joinedAt),
+                        chatMessage.seq.gt(seq))
+                .orderBy(chatMessage.seq.asc())
+                .limit(limit)
                 .fetch();
     }
 
@@ -70,6 +105,7 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
     @Override
     public Optional<ChatMessageResponse.ChatMessageInfoDTO> findTalkMessageById(Long chatMessageId) {
         return Optional.ofNullable(jpaQueryFactory.select(Projections.fields(ChatMessageResponse.ChatMessageInfoDTO.class,
+                        chatMessage.seq,
                         chatMessage.content,
                         member.nickname,
                         profileImage.profileImageS3SavedURL,
@@ -92,10 +128,58 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
     @Override
     public Optional<ChatMessageResponse.EnterOrExitMessageInfoDTO> findEnterOrExitMessageById(Long chatMessageId) {
         return Optional.ofNullable(jpaQueryFactory.select(Projections.fields(ChatMessageResponse.EnterOrExitMessageInfoDTO.class,
+                        chatMessage.seq,
                         chatMessage.content,
                         chatMessage.messageType))
                 .from(chatMessage)
                 .where(chatMessage.id.eq(chatMessageId))
                 .fetchOne());
     }
+
+    /**
+     * 채팅방의 마지막 메세지 순번 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 마지막 메세지 순번, 메세지가 없으면 0
+     **/
+    @Override
+    public Long findMaxSeqByChatRoomId(Long chatRoomId) {
+        Long maxSeq = jpaQueryFactory.select(chatMessage.seq.max())
+                .from(chatMessage)
+                .where(chatMessage.chatRoom.id.eq(chatRoomId))
+                .fetchOne();
+
+        return maxSeq == null ? 0L : maxSeq;
+    }
+
+    /**
+     * 보관 파일로 옮길 메세지를 순번 순으로 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param seq 이미 보관된 마지막 메세지 순번
+     * @param createdBefore 보관 기준 시점
+     * @param limit 조회할 최대 개수
+     * @return 오래된 순으로 정렬된 보관할 메세지 목록
+     **/
+    @Override
+    public List<ChatMessageResponse.ArchiveMessageDTO> findArchiveMessagesByChatRoomId(Long chatRoomId, Long seq, LocalDateTime createdBefore, int limit) {
+        return jpaQueryFactory.select(Projections.fields(ChatMessageResponse.ArchiveMessageDTO.class,
+                        chatMessage.id,
+                        chatMessage.seq,
+                        chatMessage.content,
+                        member.nickname,
+                        profileImage.profileImageS3SavedURL,
+                        member.rank,
+                        chatMessage.messageType,
+                        chatMessage.createdAt))
+                .from(chatMessage)
+                .leftJoin(chatMessage.member, member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(chatMessage.chatRoom.id.eq(chatRoomId),
+                        chatMessage.seq.gt(seq),
+                        chatMessage.createdAt.before(createdBefore))
+                .orderBy(chatMessage.seq.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
@@ -2,6 +2,7 @@ package sumcoda.boardbuddy.repository.chatRoom;
 
 import org.springframework.stereotype.Repository;
 import sumcoda.boardbuddy.dto.ChatRoomResponse;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +13,6 @@ public interface ChatRoomRepositoryCustom {
     Optional<ChatRoomResponse.ValidateDTO> findValidateDTOByGatherArticleId(Long gatherArticleId);
 
     List<ChatRoomResponse.ChatRoomDetailsDTO> findChatRoomDetailsListByUsername(String username);
+
+    List<Long> findChatRoomIdsByGatherArticleStatus(GatherArticleStatus gatherArticleStatus);
 }
@@ -1,19 +1,18 @@
 package sumcoda.boardbuddy.repository.chatRoom;
 
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.ChatMessageResponse;
 import sumcoda.boardbuddy.dto.ChatRoomResponse;
 import sumcoda.boardbuddy.dto.GatherArticleResponse;
-import sumcoda.boardbuddy.entity.QChatMessage;
-import sumcoda.boardbuddy.entity.QChatRoom;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
 
 import java.util.List;
 import java.util.Optional;
 
-import static sumcoda.boardbuddy.entity.QChatMessage.chatMessage;
 import static sumcoda.boardbuddy.entity.QChatRoom.*;
 import static sumcoda.boardbuddy.entity.QGatherArticle.gatherArticle;
 import static sumcoda.boardbuddy.entity.QMember.member;
@@ -43,14 +42,15 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 
     /**
      * 특정 사용자 아이디 사용자가 속한 채팅방 상세 정보 목록 조회
+     * 채팅방에 비정규화된 마지막 메세지 정보를 사용하므로 메세지 테이블을 조회하지 않음
      *
      * @param username 사용자 아이디
-     * @return 사용자가 속한 채팅방의 상세 정보 목록
+     * @return 사용자가 속한 채팅방의 상세 정보 목록 (최근 메세지 순, 메세지가 없는 채팅방은 마지막)
      **/
     @Override
     public List<ChatRoomResponse.ChatRoomDetailsDTO> findChatRoomDetailsListByUsername(String username) {
-        QChatMessage subQueryChatMessage = new QChatMessage("subQueryChatMessage");
-        QChatRoom subQueryChatRoom = new QChatRoom("subQueryChatRoom");
+        NumberExpression<Long> unreadCount = chatRoom.lastMessageSeq.subtract(memberChatRoom.lastReadSeq);
+
         return jpaQueryFactory
                 .select(Projections.fields(ChatRoomResponse.ChatRoomDetailsDTO.class,
                         chatRoom.id.as("chatRoomId"),
@@ -61,25 +61,35 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
                                 gatherArticle.currentParticipants
                         ).as("gatherArticleSimpleInfo"),
                         Projections.fields(ChatMessageResponse.LatestChatMessageInfoDTO.class,
-                                chatMessage.content,
-                                chatMessage.createdAt.as("sentAt")
-                        ).as("latestChatMessageInfo")
+                                chatRoom.lastMessageContent.as("content"),
+                                chatRoom.lastMessageAt.as("sentAt")
+                        ).as("latestChatMessageInfo"),
+                        // 읽음 처리 요청이 아직 저장되지 않은 메세지보다 앞설 수 있으므로 음수는 0 으로 처리
+                        new CaseBuilder()
+                                .when(unreadCount.gt(0L)).then(unreadCount)
+                                .otherwise(0L).as("unreadCount")
                 ))
                 .from(memberChatRoom)
                 .join(memberChatRoom.member, member)
                 .join(memberChatRoom.chatRoom, chatRoom)
-                .leftJoin(chatRoom.chatMessages, chatMessage)
                 .join(chatRoom.gatherArticle, gatherArticle)
-                .where(member.username.eq(username)
-                        .and(chatMessage.createdAt.in(
-                                JPAExpressions
-                                        .select(subQueryChatMessage.createdAt.max())
-                                        .from(subQueryChatMessage)
-                                        .leftJoin(subQueryChatMessage.chatRoom, subQueryChatRoom)
-                                        .where(subQueryChatRoom.id.eq(chatRoom.id))
-                        ))
-                )
-                .orderBy(chatMessage.createdAt.desc())
+                .where(member.username.eq(username))
+                .orderBy(chatRoom.lastMessageAt.desc().nullsLast())
+                .fetch();
+    }
+
+    /**
+     * 특정 상태의 모집글과 연관된 채팅방 Id 목록 조회
+     *
+     * @param gatherArticleStatus 모집글 상태
+     * @return 채팅방 Id 목록
+     **/
+    @Override
+    public List<Long> findChatRoomIdsByGatherArticleStatus(GatherArticleStatus gatherArticleStatus) {
+        return jpaQueryFactory.select(chatRoom.id)
+                .from(chatRoom)
+                .join(chatRoom.gatherArticle, gatherArticle)
+                .where(gatherArticle.gatherArticleStatus.eq(gatherArticleStatus))
                 .fetch();
     }
 }
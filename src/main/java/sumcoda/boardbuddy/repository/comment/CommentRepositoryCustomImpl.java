@@ -5,9 +5,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.CommentResponse;
 import sumcoda.boardbuddy.entity.Comment;
-import sumcoda.boardbuddy.entity.Member;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -20,16 +18,6 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
-    // 지난 달에 쓴 댓글 갯수 세기
-    @Override
-    public long countCommentsByMember(Member member, LocalDateTime startOfLastMonth, LocalDateTime endOfLastMonth) {
-        return jpaQueryFactory.select(comment.count())
-                .from(comment)
-                .where(comment.member.eq(member)
-                        .and(comment.createdAt.between(startOfLastMonth, endOfLastMonth)))
-                .fetchOne();
-    }
-
     @Override
     public List<CommentResponse.InfoDTO> findCommentDTOsByGatherArticleId(Long gatherArticleId) {
 
@@ -3,10 +3,8 @@ package sumcoda.boardbuddy.repository.gatherArticle;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import sumcoda.boardbuddy.dto.GatherArticleResponse;
-import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +15,6 @@ public interface GatherArticleRepositoryCustom {
 
     Boolean isMemberAuthorOfGatherArticle(Long gatherArticleId, String username);
 
-    long countGatherArticlesByMember(Member member, LocalDateTime startOfLastMonth, LocalDateTime endOfLastMonth);
-
     Optional<GatherArticleResponse.IdDTO> findIdDTOById(Long gatherArticleId);
 
     Slice<GatherArticleResponse.ReadSliceDTO> findReadSliceDTOByLocationAndStatusAndSort(
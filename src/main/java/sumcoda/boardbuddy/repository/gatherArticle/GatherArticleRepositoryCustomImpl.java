@@ -16,11 +16,9 @@ import sumcoda.boardbuddy.dto.GatherArticleResponse;
 import sumcoda.boardbuddy.entity.QMember;
 import sumcoda.boardbuddy.entity.QMemberGatherArticle;
 import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
-import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
 import sumcoda.boardbuddy.enumerate.ParticipationApplicationStatus;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -103,17 +101,6 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
                 .fetchOne() != null;
     }
 
-    // 지난 달에 쓴 모집글 갯수 세기
-    @Override
-    public long countGatherArticlesByMember(Member member, LocalDateTime startOfLastMonth, LocalDateTime endOfLastMonth) {
-        return jpaQueryFactory.select(memberGatherArticle.count())
-                .from(memberGatherArticle)
-                .where(memberGatherArticle.member.eq(member)
-                        .and(memberGatherArticle.memberGatherArticleRole.eq(MemberGatherArticleRole.AUTHOR))
-                        .and(memberGatherArticle.gatherArticle.createdAt.between(startOfLastMonth, endOfLastMonth)))
-                .fetchOne();
-    }
-
     @Override
     public Optional<GatherArticleResponse.IdDTO> findIdDTOById(Long gatherArticleId) {
         return Optional.ofNullable(jpaQueryFactory
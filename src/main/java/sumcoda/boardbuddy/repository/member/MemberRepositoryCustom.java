@@ -2,8 +2,10 @@ package sumcoda.boardbuddy.repository.member;
 
 import sumcoda.boardbuddy.dto.AuthResponse;
 import sumcoda.boardbuddy.dto.MemberResponse;
-import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.dto.NotificationResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +17,9 @@ public interface MemberRepositoryCustom {
 
     List<MemberResponse.RankingsDTO> findTop3RankingMembers();
 
-    List<Member> findAllOrderedByRankScore();
+    List<MemberResponse.RankingMemberDTO> findRankingMemberDTOsByIds(Collection<Long> memberIds);
+
+    List<Long> findExistingMemberIdsByIds(Collection<Long> memberIds);
 
     Optional<MemberResponse.ProfileInfosDTO> findMemberProfileByNickname(String nickname);
 
@@ -29,7 +33,16 @@ public interface MemberRepositoryCustom {
 
     Optional<MemberResponse.NicknameDTO> findNicknameDTOByUsername(String username);
 
-    List<String> findUsernamesWithGatherArticleInRange(String username, String sido, String sgg, String emd);
+    List<MemberResponse.NotificationReceiverDTO> findNotificationReceiverDTOsWithGatherArticleInRange(String username, String sido, String sgg, String emd);
+
+    List<MemberResponse.NotificationReceiverDTO> findNotificationReceiverDTOsByIds(Collection<Long> ids);
+
+    List<MemberResponse.IdWithLocationDTO> findAllIdWithLocationDTOs();
+
+    Optional<NotificationResponse.ReadMarkerDTO> findReadMarkerDTOByUsername(String username);
+
+    Optional<ChatMessageResponse.SenderDTO> findSenderDTOById(Long id);
 
+    Optional<ChatMessageResponse.SenderDTO> findSenderDTOByUsername(String username);
 
 }
@@ -7,13 +7,16 @@ import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.AuthResponse;
 import sumcoda.boardbuddy.dto.BadgeImageResponse;
 import sumcoda.boardbuddy.dto.MemberResponse;
-import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.dto.NotificationResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import static sumcoda.boardbuddy.entity.QBadgeImage.badgeImage;
 import static sumcoda.boardbuddy.entity.QMember.*;
+import static sumcoda.boardbuddy.entity.QMemberStats.memberStats;
 import static sumcoda.boardbuddy.entity.QNearPublicDistrict.*;
 import static sumcoda.boardbuddy.entity.QProfileImage.*;
 import static sumcoda.boardbuddy.entity.QPublicDistrict.*;
@@ -69,11 +72,26 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
                 .fetch();
     }
 
-    // 점수로 정렬
     @Override
-    public List<Member> findAllOrderedByRankScore() {
-        return jpaQueryFactory.selectFrom(member)
-                .orderBy(member.rankScore.desc())
+    public List<MemberResponse.RankingMemberDTO> findRankingMemberDTOsByIds(Collection<Long> memberIds) {
+        return jpaQueryFactory
+                .select(Projections.fields(MemberResponse.RankingMemberDTO.class,
+                        member.id,
+                        member.nickname,
+                        profileImage.profileImageS3SavedURL
+                ))
+                .from(member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(member.id.in(memberIds))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findExistingMemberIdsByIds(Collection<Long> memberIds) {
+        return jpaQueryFactory
+                .select(member.id)
+                .from(member)
+                .where(member.id.in(memberIds))
                 .fetch();
     }
 
@@ -92,15 +110,17 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
 
         return Optional.ofNullable(jpaQueryFactory
                         .select(Projections.fields(MemberResponse.ProfileInfosDTO.class,
+                                member.id,
                                 profileImage.profileImageS3SavedURL,
                                 member.description,
                                 member.rank,
-                                member.buddyScore,
-                                member.joinCount,
-                                member.totalExcellentCount,
-                                member.totalGoodCount,
-                                member.totalBadCount))
+                                memberStats.buddyScore,
+                                memberStats.joinCount,
+                                memberStats.totalExcellentCount,
+                                memberStats.totalGoodCount,
+                                memberStats.totalBadCount))
                         .from(member)
+                        .join(memberStats).on(memberStats.memberId.eq(member.id))
                         .leftJoin(member.profileImage, profileImage)
                         .where(member.nickname.eq(nickname))
                         .fetchOne())
@@ -162,9 +182,12 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
     }
 
     @Override
-    public List<String> findUsernamesWithGatherArticleInRange(String username, String sido, String sgg, String emd) {
+    public List<MemberResponse.NotificationReceiverDTO> findNotificationReceiverDTOsWithGatherArticleInRange(String username, String sido, String sgg, String emd) {
         return jpaQueryFactory
-                .select(member.username)
+                .select(Projections.fields(MemberResponse.NotificationReceiverDTO.class,
+                        member.id,
+                        member.username,
+                        member.nickname))
                 .from(member)
                 .where(
                         member.username.ne(username)
@@ -185,4 +208,82 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<MemberResponse.NotificationReceiverDTO> findNotificationReceiverDTOsByIds(Collection<Long> ids) {
+        return jpaQueryFactory
+                .select(Projections.fields(MemberResponse.NotificationReceiverDTO.class,
+                        member.id,
+                        member.username,
+                        member.nickname))
+                .from(member)
+                .where(member.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public List<MemberResponse.IdWithLocationDTO> findAllIdWithLocationDTOs() {
+        return jpaQueryFactory
+                .select(Projections.fields(MemberResponse.IdWithLocationDTO.class,
+                        member.id,
+                        member.sido,
+                        member.sgg,
+                        member.emd,
+                        member.radius))
+                .from(member)
+                .where(member.sido.isNotNull()
+                        .and(member.sgg.isNotNull())
+                        .and(member.emd.isNotNull()))
+                .fetch();
+    }
+
+    @Override
+    public Optional<NotificationResponse.ReadMarkerDTO> findReadMarkerDTOByUsername(String username) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.fields(NotificationResponse.ReadMarkerDTO.class,
+                        member.id.as("memberId"),
+                        member.lastReadNotificationId))
+                .from(member)
+                .where(member.username.eq(username))
+                .fetchOne());
+    }
+
+    /**
+     * 사용자 Id 로 채팅 메세지 발신자 정보 조회
+     *
+     * @param id 사용자 Id
+     * @return 사용자 Id, 닉네임, 랭킹, 프로필 이미지 URL
+     **/
+    @Override
+    public Optional<ChatMessageResponse.SenderDTO> findSenderDTOById(Long id) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.fields(ChatMessageResponse.SenderDTO.class,
+                        member.id,
+                        member.nickname,
+                        member.rank,
+                        profileImage.profileImageS3SavedURL))
+                .from(member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(member.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 아이디로 채팅 메세지 발신자 정보 조회
+     *
+     * @param username 사용자 아이디
+     * @return 사용자 Id, 닉네임, 랭킹, 프로필 이미지 URL
+     **/
+    @Override
+    public Optional<ChatMessageResponse.SenderDTO> findSenderDTOByUsername(String username) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.fields(ChatMessageResponse.SenderDTO.class,
+                        member.id,
+                        member.nickname,
+                        member.rank,
+                        profileImage.profileImageS3SavedURL))
+                .from(member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(member.username.eq(username))
+                .fetchOne());
+    }
 }
@@ -4,10 +4,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import sumcoda.boardbuddy.entity.MemberChatRoom;
 
+import java.util.Optional;
+
 @Repository
 public interface MemberChatRoomRepository extends JpaRepository<MemberChatRoom, Long>, MemberChatRoomRepositoryCustom {
 
     Boolean existsByChatRoomIdAndMemberUsername(Long chatRoomId, String username);
 
     Boolean existsByChatRoomIdAndMemberNickname(Long chatRoomId, String nickname);
+
+    Optional<MemberChatRoom> findByChatRoomIdAndMemberUsername(Long chatRoomId, String username);
 }
@@ -2,6 +2,8 @@ package sumcoda.boardbuddy.repository.memberChatRoom;
 
 import sumcoda.boardbuddy.dto.MemberChatRoomResponse;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberChatRoomRepositoryCustom {
@@ -9,4 +11,8 @@ public interface MemberChatRoomRepositoryCustom {
     Boolean existsByGatherArticleIdAndUsername(Long gatherArticleId, String username);
 
     Optional<MemberChatRoomResponse.ValidateDTO> findByGatherArticleIdAndUsername(Long gatherArticleId, String username);
+
+    List<Long> findMemberIdsByChatRoomId(Long chatRoomId);
+
+    Optional<LocalDateTime> findJoinedAtByChatRoomIdAndUsername(Long chatRoomId, String username);
 }
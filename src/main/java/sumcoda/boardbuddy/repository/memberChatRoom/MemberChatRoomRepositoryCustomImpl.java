@@ -5,6 +5,8 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.MemberChatRoomResponse;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static sumcoda.boardbuddy.entity.QChatRoom.chatRoom;
@@ -60,4 +62,36 @@ public class MemberChatRoomRepositoryCustomImpl implements MemberChatRoomReposit
                         .and(member.username.eq(username)))
                 .fetchOne());
     }
+
+    /**
+     * 특정 채팅방에 참여 중인 사용자 Id 목록 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 사용자 Id 목록
+     **/
+    @Override
+    public List<Long> findMemberIdsByChatRoomId(Long chatRoomId) {
+        return jpaQueryFactory
+                .select(memberChatRoom.member.id)
+                .from(memberChatRoom)
+                .where(memberChatRoom.chatRoom.id.eq(chatRoomId))
+                .fetch();
+    }
+
+    /**
+     * 특정 사용자가 채팅방에 입장한 시각 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param username 사용자 아이디
+     * @return 입장 시각, 참여 중이 아니면 빈 Optional
+     **/
+    @Override
+    public Optional<LocalDateTime> findJoinedAtByChatRoomIdAndUsername(Long chatRoomId, String username) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(memberChatRoom.joinedAt)
+                .from(memberChatRoom)
+                .where(memberChatRoom.chatRoom.id.eq(chatRoomId)
+                        .and(memberChatRoom.member.username.eq(username)))
+                .fetchOne());
+    }
 }
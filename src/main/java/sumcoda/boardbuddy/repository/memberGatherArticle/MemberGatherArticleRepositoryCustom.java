@@ -17,4 +17,6 @@ public interface MemberGatherArticleRepositoryCustom {
   List<MemberResponse.UsernameDTO> findParticipantsByGatherArticleId(Long gatherArticleId);
 
   List<ReviewResponse.UserDTO> findParticipantsExcludingUsername(Long gatherArticleId, String username);
+
+  List<ReviewResponse.ParticipantDTO> findReviewParticipantsByGatherArticleId(Long gatherArticleId);
 }
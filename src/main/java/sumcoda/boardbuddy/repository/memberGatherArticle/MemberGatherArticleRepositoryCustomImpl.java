@@ -100,4 +100,20 @@ public class MemberGatherArticleRepositoryCustomImpl implements MemberGatherArti
                       .and(member.username.ne(username)))
               .fetch();
   }
+
+  // 리뷰를 주고받을 수 있는 모집글 관련 유저 목록 (리뷰 한 번에 보내기 시 검증용)
+  @Override
+  public List<ReviewResponse.ParticipantDTO> findReviewParticipantsByGatherArticleId(Long gatherArticleId) {
+      return jpaQueryFactory
+              .select(Projections.fields(ReviewResponse.ParticipantDTO.class,
+                      member.id,
+                      member.username,
+                      member.nickname,
+                      memberGatherArticle.memberGatherArticleRole
+              ))
+              .from(memberGatherArticle)
+              .join(memberGatherArticle.member, member)
+              .where(memberGatherArticle.gatherArticle.id.eq(gatherArticleId))
+              .fetch();
+  }
 }
@@ -0,0 +1,9 @@
+package sumcoda.boardbuddy.repository.memberStats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.entity.MemberStats;
+
+@Repository
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+}
@@ -1,10 +1,19 @@
 package sumcoda.boardbuddy.repository.notification;
 
 import sumcoda.boardbuddy.dto.NotificationResponse;
+import sumcoda.boardbuddy.enumerate.EventName;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepositoryCustom {
 
-    List< NotificationResponse.NotificationDTO> findNotificationByMemberUsername(String username);
+    List<NotificationResponse.NotificationDTO> findNotificationDTOsByMemberIdAndCursor(Long memberId, Long cursor, int limit);
+
+    List<Long> findIdsByMemberIdAndIdGreaterThan(Long memberId, Long notificationId);
+
+    Optional<Long> findLatestNotificationIdByMemberId(Long memberId);
+
+    Optional<NotificationResponse.CoalesceTargetDTO> findCoalesceTargetDTO(Long memberId, Long gatherArticleId, EventName eventName, LocalDateTime createdAfter, Long lastReadNotificationId);
 }
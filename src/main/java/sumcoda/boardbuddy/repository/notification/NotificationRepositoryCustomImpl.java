@@ -4,10 +4,12 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.NotificationResponse;
+import sumcoda.boardbuddy.enumerate.EventName;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-import static sumcoda.boardbuddy.entity.QMember.member;
 import static sumcoda.boardbuddy.entity.QNotification.notification;
 
 @RequiredArgsConstructor
@@ -16,20 +18,82 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
     private final JPAQueryFactory jpaQueryFactory;
 
     /**
-     * 유저의 알림 내역을 최신순으로 조회
+     * 유저의 알림 내역을 커서 이전부터 최신순으로 조회
+     * member_id 인덱스를 타고 id 역순으로 읽으므로 전체 알림 수와 관계없이 limit 만큼만 조회
      *
-     * @param username 사용자 아이디
+     * @param memberId 사용자 Id
+     * @param cursor 이전 페이지의 마지막 알림 Id (첫 페이지는 null)
+     * @param limit 조회할 최대 개수
      * @return 최신순으로 정렬된 알림 내역
      **/
     @Override
-    public List< NotificationResponse.NotificationDTO> findNotificationByMemberUsername(String username) {
+    public List<NotificationResponse.NotificationDTO> findNotificationDTOsByMemberIdAndCursor(Long memberId, Long cursor, int limit) {
         return jpaQueryFactory.select(Projections.fields(NotificationResponse.NotificationDTO.class,
+                        notification.id,
                         notification.message,
                         notification.createdAt))
                 .from(notification)
-                .join(notification.member, member)
-                .where(member.username.eq(username))
+                .where(notification.member.id.eq(memberId),
+                        cursor == null ? null : notification.id.lt(cursor))
                 .orderBy(notification.id.desc())
+                .limit(limit)
                 .fetch();
     }
+
+    /**
+     * 유저의 알림 중 주어진 Id 보다 큰 알림 Id 목록을 조회
+     *
+     * @param memberId 사용자 Id
+     * @param notificationId 기준 알림 Id
+     * @return 알림 Id 목록
+     **/
+    @Override
+    public List<Long> findIdsByMemberIdAndIdGreaterThan(Long memberId, Long notificationId) {
+        return jpaQueryFactory.select(notification.id)
+                .from(notification)
+                .where(notification.member.id.eq(memberId)
+                        .and(notification.id.gt(notificationId)))
+                .fetch();
+    }
+
+    /**
+     * 유저의 가장 최근 알림 Id 를 조회
+     *
+     * @param memberId 사용자 Id
+     * @return 가장 최근 알림 Id
+     **/
+    @Override
+    public Optional<Long> findLatestNotificationIdByMemberId(Long memberId) {
+        return Optional.ofNullable(jpaQueryFactory.select(notification.id.max())
+                .from(notification)
+                .where(notification.member.id.eq(memberId))
+                .fetchOne());
+    }
+
+    /**
+     * 같은 모집글, 같은 이벤트로 묶을 수 있는 유저의 가장 최근 알림을 조회
+     * 아직 읽지 않았고 묶음 시간 안에 생성된 알림만 대상
+     *
+     * @param memberId 사용자 Id
+     * @param gatherArticleId 모집글 Id
+     * @param eventName 알림 이벤트 이름
+     * @param createdAfter 묶음 시간 시작 시점
+     * @param lastReadNotificationId 사용자가 마지막으로 읽은 알림 Id
+     * @return 묶을 대상 알림 정보
+     **/
+    @Override
+    public Optional<NotificationResponse.CoalesceTargetDTO> findCoalesceTargetDTO(Long memberId, Long gatherArticleId, EventName eventName, LocalDateTime createdAfter, Long lastReadNotificationId) {
+        return Optional.ofNullable(jpaQueryFactory.select(Projections.fields(NotificationResponse.CoalesceTargetDTO.class,
+                        notification.id,
+                        notification.coalescedCount))
+                .from(notification)
+                .where(notification.member.id.eq(memberId),
+                        notification.gatherArticleId.eq(gatherArticleId),
+                        notification.eventName.eq(eventName),
+                        notification.createdAt.after(createdAfter),
+                        notification.id.gt(lastReadNotificationId))
+                .orderBy(notification.id.desc())
+                .limit(1)
+                .fetchOne());
+    }
 }
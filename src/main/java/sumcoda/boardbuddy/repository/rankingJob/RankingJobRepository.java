@@ -0,0 +1,13 @@
+package sumcoda.boardbuddy.repository.rankingJob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import sumcoda.boardbuddy.entity.RankingJob;
+
+import java.util.Optional;
+
+@Repository
+public interface RankingJobRepository extends JpaRepository<RankingJob, Long> {
+
+    Optional<RankingJob> findByRankingYearMonth(String rankingYearMonth);
+}
@@ -0,0 +1,58 @@
+package sumcoda.boardbuddy.repository.sseEmitter;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전송 대기 큐를 가진 SSE Emitter
+ * 비즈니스 스레드는 큐에 이벤트를 넣기만 하고, 실제 전송은 전용 executor 에서 emitter 별로 순서대로 수행
+ **/
+public class QueuedSseEmitter extends SseEmitter {
+
+    // 전송 대기 중인 이벤트 큐 (용량을 넘으면 느린 클라이언트로 판단)
+    private final BlockingQueue<SseEventBuilder> queue;
+
+    // 현재 executor 에서 큐를 비우는 작업이 실행 중인지 여부
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public QueuedSseEmitter(Long timeout, int queueCapacity) {
+        super(timeout);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // 큐에 이벤트 추가, 큐가 가득 차면 false 반환
+    public boolean offer(SseEventBuilder event) {
+        return queue.offer(event);
+    }
+
+    public SseEventBuilder poll() {
+        return queue.poll();
+    }
+
+    public boolean isQueueEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    // 큐를 비우는 작업을 시작할 수 있으면 true 반환 (emitter 당 하나의 작업만 실행)
+    public boolean tryStartDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    public void stopDraining() {
+        draining.set(false);
+    }
+
+    // 전송하지 못한 이벤트 정리
+    public int clearQueue() {
+        int size = queue.size();
+        queue.clear();
+        return size;
+    }
+}
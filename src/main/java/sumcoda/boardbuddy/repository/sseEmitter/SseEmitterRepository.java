@@ -1,14 +1,27 @@
 package sumcoda.boardbuddy.repository.sseEmitter;
 
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sumcoda.boardbuddy.dto.NotificationResponse;
+
+import java.util.List;
+import java.util.Map;
 
 @Repository
 public interface SseEmitterRepository {
 
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    QueuedSseEmitter save(String username, String emitterId, QueuedSseEmitter sseEmitter);
+
+    Map<String, QueuedSseEmitter> findAllEmittersByUsername(String username);
+
+    Map<String, Map<String, QueuedSseEmitter>> findAllEmitters();
+
+    long countAllEmitters();
+
+    NotificationResponse.SseEventDTO saveEventCache(String username, String eventName, String message);
+
+    List<NotificationResponse.SseEventDTO> findAllEventCachesAfter(String username, Long lastEventId);
 
-    void saveEventCache(String eventCacheId, Object event);
+    void deleteEmitterById(String username, String emitterId);
 
-    void deleteEmitterById(String emitterId);
+    int deleteIdleEventCaches(long idleMillis);
 }
@@ -1,33 +1,156 @@
 package sumcoda.boardbuddy.repository.sseEmitter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sumcoda.boardbuddy.dto.NotificationResponse;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class SseEmitterRepositoryImpl implements SseEmitterRepository {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // 사용자 아이디별 연결 정보 (key : username, value : 해당 사용자의 emitter 들과 최근 이벤트 버퍼)
+    private final Map<String, SseConnection> connections = new ConcurrentHashMap<>();
 
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+    // 이벤트 Id 시퀀스
+    // 버퍼가 정리되거나 서버가 재시작되어도 Id 가 줄어들지 않도록 현재 시각으로 초기화
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis());
+
+    // 사용자별로 보관할 최근 이벤트 개수
+    @Value("${spring.sse.event-cache-size:50}")
+    private int eventCacheSize;
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public QueuedSseEmitter save(String username, String emitterId, QueuedSseEmitter sseEmitter) {
+        // 유휴 연결 정리와 경합하지 않도록 등록을 원자적으로 수행
+        connections.compute(username, (key, connection) -> {
+            SseConnection target = connection == null ? new SseConnection() : connection;
+            target.emitters.put(emitterId, sseEmitter);
+            target.touch();
+            return target;
+        });
         return sseEmitter;
     }
 
     @Override
-    public void saveEventCache(String eventCacheId, Object event) {
-        eventCache.put(eventCacheId, event);
+    public Map<String, QueuedSseEmitter> findAllEmittersByUsername(String username) {
+        SseConnection connection = connections.get(username);
+
+        if (connection == null) {
+            return Map.of();
+        }
+
+        return Map.copyOf(connection.emitters);
+    }
+
+    @Override
+    public Map<String, Map<String, QueuedSseEmitter>> findAllEmitters() {
+        return connections.entrySet().stream()
+                .filter(entry -> !entry.getValue().emitters.isEmpty())
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Map.copyOf(entry.getValue().emitters)));
+    }
+
+    @Override
+    public long countAllEmitters() {
+        return connections.values().stream()
+                .mapToLong(connection -> connection.emitters.size())
+                .sum();
+    }
+
+    @Override
+    public NotificationResponse.SseEventDTO saveEventCache(String username, String eventName, String message) {
+        NotificationResponse.SseEventDTO[] savedEvent = new NotificationResponse.SseEventDTO[1];
+
+        // 유휴 연결 정리와 경합하지 않도록 저장을 원자적으로 수행 (정리 중인 버퍼에 저장되어 유실되지 않음)
+        // 이벤트를 저장하면 그 시점부터 다시 idle-timeout 동안 보관
+        connections.compute(username, (key, connection) -> {
+            SseConnection target = connection == null ? new SseConnection() : connection;
+
+            synchronized (target) {
+                NotificationResponse.SseEventDTO event = NotificationResponse.SseEventDTO.builder()
+                        .id(eventSequence.incrementAndGet())
+                        .eventName(eventName)
+                        .message(message)
+                        .build();
+
+                // 버퍼가 가득 차면 가장 오래된 이벤트부터 제거하여 메모리 사용량을 일정하게 유지
+                if (target.events.size() >= eventCacheSize) {
+                    target.events.pollFirst();
+                }
+                target.events.addLast(event);
+
+                savedEvent[0] = event;
+            }
+
+            target.touch();
+            return target;
+        });
+
+        return savedEvent[0];
+    }
+
+    @Override
+    public List<NotificationResponse.SseEventDTO> findAllEventCachesAfter(String username, Long lastEventId) {
+        SseConnection connection = connections.get(username);
+
+        if (connection == null) {
+            return List.of();
+        }
+
+        synchronized (connection) {
+            return connection.events.stream()
+                    .filter(event -> event.getId() > lastEventId)
+                    .toList();
+        }
+    }
+
+    @Override
+    public void deleteEmitterById(String username, String emitterId) {
+        SseConnection connection = connections.get(username);
+
+        if (connection != null) {
+            connection.emitters.remove(emitterId);
+            connection.touch();
+        }
     }
 
     @Override
-    public void deleteEmitterById(String emitterId) {
-        emitters.remove(emitterId);
+    public int deleteIdleEventCaches(long idleMillis) {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        int deletedCount = 0;
+
+        // 연결된 emitter 가 없고 일정 시간 동안 재연결하지 않은 사용자의 이벤트 버퍼 제거
+        for (String username : connections.keySet()) {
+            SseConnection removed = connections.computeIfPresent(username, (key, connection) ->
+                    connection.emitters.isEmpty() && connection.lastActiveAt < threshold ? null : connection);
+
+            if (removed == null) {
+                deletedCount++;
+            }
+        }
+
+        return deletedCount;
+    }
+
+    // 한 사용자의 모든 기기(탭) 연결과 재전송용 이벤트 버퍼를 함께 관리하기 위한 클래스
+    private static class SseConnection {
+
+        private final Map<String, QueuedSseEmitter> emitters = new ConcurrentHashMap<>();
+
+        private final Deque<NotificationResponse.SseEventDTO> events = new ArrayDeque<>();
+
+        private volatile long lastActiveAt = System.currentTimeMillis();
+
+        private void touch() {
+            this.lastActiveAt = System.currentTimeMillis();
+        }
     }
 }
@@ -1,15 +1,16 @@
 package sumcoda.boardbuddy.service;
 
+import com.amazonaws.services.s3.AmazonS3Client;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import sumcoda.boardbuddy.config.AwsS3Config;
 import sumcoda.boardbuddy.dto.BadgeImageResponse;
-import sumcoda.boardbuddy.entity.BadgeImage;
+import sumcoda.boardbuddy.enumerate.BadgeTier;
 import sumcoda.boardbuddy.exception.member.MemberNotFoundException;
 import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
+import sumcoda.boardbuddy.repository.BadgeImageJdbcRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
 import sumcoda.boardbuddy.repository.badgeImage.BadgeImageRepository;
 import sumcoda.boardbuddy.util.FileStorageUtil;
@@ -17,7 +18,13 @@ import sumcoda.boardbuddy.util.FileStorageUtil;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,10 +37,19 @@ public class BadgeImageService {
 
     private final MemberRepository memberRepository;
 
-    private static final String BADGE_IMAGE_SUFFIX = "_badge.png";
+    private final BadgeImageJdbcRepository badgeImageJdbcRepository;
 
-    // AWS S3 활용을 위해 필요한 설정 클래스
-    private final AwsS3Config awsS3Config;
+    private final RankingRedisService rankingRedisService;
+
+    private static final DateTimeFormatter BADGE_IMAGE_YEAR_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final DateTimeFormatter BADGE_YEAR_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM");
+
+    // AWS S3 클라이언트 (빈으로 등록된 클라이언트 재사용)
+    private final AmazonS3Client amazonS3Client;
+
+    // 뱃지 이미지 파일 이름별 S3 URL
+    private final Map<String, String> badgeImageURLCache = new ConcurrentHashMap<>();
 
     // S3에 등록된 버킷 이름
     @Value("${spring.cloud.aws.s3.bucket-name}")
@@ -50,6 +66,12 @@ public class BadgeImageService {
             throw new MemberRetrievalException("뱃지 조회 요청을 처리할 수 없습니다. 관리자에게 문의하세요.");
         }
 
+        // 뱃지는 월간 랭킹 집계 시에만 부여되므로 캐시를 먼저 조회
+        Optional<List<BadgeImageResponse.BadgeImageInfosDTO>> cachedBadgeImageInfosDTOs = rankingRedisService.findBadges(nickname);
+        if (cachedBadgeImageInfosDTOs.isPresent()) {
+            return cachedBadgeImageInfosDTOs.get();
+        }
+
         if (Boolean.FALSE.equals(memberRepository.existsByNickname(nickname))) {
             throw new MemberNotFoundException("해당 유저를 찾을 수 없습니다.");
         }
@@ -61,7 +83,9 @@ public class BadgeImageService {
 //                .collect(Collectors.toList());
 
         // S3 환경에서 이용할 코드 주석
-        return badgeImageRepository.findBadgeImagesByNickname(nickname);
+        List<BadgeImageResponse.BadgeImageInfosDTO> badgeImageInfosDTOs = badgeImageRepository.findBadgeImagesByNickname(nickname);
+        rankingRedisService.saveBadges(nickname, badgeImageInfosDTOs);
+        return badgeImageInfosDTOs;
     }
 
     /**
@@ -79,89 +103,90 @@ public class BadgeImageService {
 
     /**
      * 뱃지 URL 부여 메서드
+     * 순위에 따라 1 ~ 3위는 TOP3, 4 ~ 10위는 TOP10, 11 ~ 100위는 TOP100 뱃지 부여
      *
-     * @param top3MemberIds
-     * @param lastMonth
+     * @param rankedMemberIds 점수가 높은 순으로 정렬된 상위 회원 Id 목록 (index + 1 이 순위)
+     * @param lastMonth 뱃지 발급 연월
      */
     @Transactional
-    public void assignBadgesToTopMembersByIds(List<Long> top3MemberIds, YearMonth lastMonth) {
-        // 받을 뱃지의 년, 월 문자열 구하기 예: "202407"
-        String lastMonthStr = lastMonth.format(DateTimeFormatter.ofPattern("yyyyMM"));
-
-        // 뱃지 이미지 파일 이름 예: "202407_badge.png"
-        String badgeImageName = lastMonthStr + BADGE_IMAGE_SUFFIX;
-
-        // DB에 저장할 뱃지 발급 연월 정보 예: 2024.07
-        String badgeYearMonth = lastMonth.format(DateTimeFormatter.ofPattern("yyyy.MM"));
-
-        // 로컬 환경용 코드
-        // 임시로 로컬에 저장된 뱃지 이미지 경로로 만듦.
-//        String badgeImageURL = FileStorageUtil.getLocalStoreDir(badgeImageName);
-//
-//        // TOP3에 뱃지 이미지 부여, 저장
-//        top3MemberIds.stream()
-//                .map(memberId -> memberRepository.findById(memberId)
-//                        .orElseThrow(() -> new MemberNotFoundException("해당 유저를 찾을 수 없습니다.")))
-//                .map(member -> BadgeImage.buildBadgeImage(badgeImageName, badgeImageURL, badgeYearMonth, member))
-//                .forEach(badgeImageRepository::save);
+    public void assignBadgesToTopMembersByIds(List<Long> rankedMemberIds, YearMonth lastMonth) {
+        // 순위에 해당하는 등급으로 뱃지 부여
+        Map<Long, BadgeTier> memberBadgeTiers = new LinkedHashMap<>();
+        for (int i = 0; i < rankedMemberIds.size(); i++) {
+            int rank = i + 1;
+            Long memberId = rankedMemberIds.get(i);
+            BadgeTier.fromRank(rank).ifPresent(badgeTier -> memberBadgeTiers.put(memberId, badgeTier));
+        }
 
-        // S3 환경에서 이용할 코드 주석
-        // 클라이언트가 해당 이미지를 요청할 수 있는 URL
-        String awsS3URL = awsS3Config.amazonS3Client().getUrl(bucketName, badgeImageName).toString();
-
-        // TOP3에 뱃지 이미지 부여, 저장
-        top3MemberIds.stream()
-                .map(memberId -> memberRepository.findById(memberId)
-                        .orElseThrow(() -> new MemberNotFoundException("해당 유저를 찾을 수 없습니다.")))
-                .map(member -> BadgeImage.buildBadgeImage(badgeImageName, awsS3URL, badgeYearMonth, member))
-                .forEach(badgeImageRepository::save);
+        assignBadges(memberBadgeTiers, lastMonth);
     }
 
     /**
      * 초기 멤버 뱃지 URL 부여 메서드
      *
-     * @param top3MemberIds
-     * @param lastMonth
+     * @param lastMonth 뱃지 발급 연월
      */
     @Transactional
     public void assignBadgesToInitTestMembers(YearMonth lastMonth) {
 
         List<Long> initMemberIds = Arrays.asList(2L, 3L, 4L);
 
-        // 받을 뱃지의 년, 월 문자열 구하기 예: "202407"
-        String lastMonthStr = lastMonth.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        Map<Long, BadgeTier> memberBadgeTiers = new LinkedHashMap<>();
+        initMemberIds.forEach(memberId -> memberBadgeTiers.put(memberId, BadgeTier.TOP3));
 
-        // 뱃지 이미지 파일 이름 예: "202407_badge.png"
-        String badgeImageName = lastMonthStr + BADGE_IMAGE_SUFFIX;
+        assignBadges(memberBadgeTiers, lastMonth);
+    }
+
+    /**
+     * 여러 회원에게 등급별 뱃지 한 번에 부여
+     * 회원 존재 여부를 한 번의 쿼리로 확인하고, 뱃지는 한 번의 JDBC batch 로 저장
+     * 이미 같은 연월의 뱃지를 받은 회원은 건너뛰므로 중단된 랭킹 집계를 다시 실행해도 중복 부여되지 않음
+     *
+     * @param memberBadgeTiers 회원 Id 별 뱃지 등급
+     * @param lastMonth 뱃지 발급 연월
+     **/
+    @Transactional
+    public void assignBadges(Map<Long, BadgeTier> memberBadgeTiers, YearMonth lastMonth) {
+        if (memberBadgeTiers.isEmpty()) {
+            return;
+        }
+
+        List<Long> existingMemberIds = memberRepository.findExistingMemberIdsByIds(memberBadgeTiers.keySet());
+        if (existingMemberIds.size() != memberBadgeTiers.size()) {
+            throw new MemberNotFoundException("해당 유저를 찾을 수 없습니다.");
+        }
+
+        // 받을 뱃지의 년, 월 문자열 구하기 예: "202407"
+        String lastMonthStr = lastMonth.format(BADGE_IMAGE_YEAR_MONTH_FORMATTER);
 
         // DB에 저장할 뱃지 발급 연월 정보 예: 2024.07
-        String badgeYearMonth = lastMonth.format(DateTimeFormatter.ofPattern("yyyy.MM"));
+        String badgeYearMonth = lastMonth.format(BADGE_YEAR_MONTH_FORMATTER);
 
-        // 로컬 환경용 코드
-        // 임시로 로컬에 저장된 뱃지 이미지 경로로 만듦.
-//        String badgeImageURL = FileStorageUtil.getLocalStoreDir(badgeImageName);
-//
-//        // TOP3에 뱃지 이미지 부여, 저장
-//        top3MemberIds.stream()
-//                .map(memberId -> memberRepository.findById(memberId)
-//                        .orElseThrow(() -> new MemberNotFoundException("해당 유저를 찾을 수 없습니다.")))
-//                .map(member -> BadgeImage.buildBadgeImage(badgeImageName, badgeImageURL, badgeYearMonth, member))
-//                .forEach(badgeImageRepository::save);
+        // 등급별 뱃지 이미지 파일 이름 예: "202407_badge.png", 클라이언트가 해당 이미지를 요청할 수 있는 URL
+        Map<BadgeTier, String> badgeImageNames = new EnumMap<>(BadgeTier.class);
+        Map<BadgeTier, String> badgeImageURLs = new EnumMap<>(BadgeTier.class);
+        for (BadgeTier badgeTier : EnumSet.copyOf(memberBadgeTiers.values())) {
+            String badgeImageName = lastMonthStr + badgeTier.getBadgeImageSuffix();
+            badgeImageNames.put(badgeTier, badgeImageName);
 
-        // S3 환경에서 이용할 코드 주석
-        // 클라이언트가 해당 이미지를 요청할 수 있는 URL
-        String awsS3URL = awsS3Config.amazonS3Client().getUrl(bucketName, badgeImageName).toString();
+            // 로컬 환경용 코드
+            // 임시로 로컬에 저장된 뱃지 이미지 경로로 만듦.
+//            badgeImageURLs.put(badgeTier, FileStorageUtil.getLocalStoreDir(badgeImageName));
 
-        // 뱃지 경로 로그 확인
-        log.info(awsS3URL);
+            // S3 환경에서 이용할 코드 주석
+            badgeImageURLs.put(badgeTier, getBadgeImageURL(badgeImageName));
+        }
 
-        // 초기 멤버에게 뱃지 이미지 부여, 저장
-        initMemberIds.stream()
-                .map(memberId -> memberRepository.findById(memberId)
-                        .orElseThrow(() -> new MemberNotFoundException("해당 유저를 찾을 수 없습니다.")))
-                .map(member -> BadgeImage.buildBadgeImage(badgeImageName, awsS3URL, badgeYearMonth, member))
-                .forEach(badgeImageRepository::save);
+        badgeImageJdbcRepository.saveBadgeImages(memberBadgeTiers, badgeImageNames, badgeImageURLs, badgeYearMonth);
 
+        // 뱃지 캐시 무효화
+        // clearBadges 가 트랜잭션 안에서는 삭제를 커밋 이후로 미루므로, 커밋 전에 이전 뱃지 목록이 다시 캐싱되어 남지 않음
+        rankingRedisService.clearBadges();
+    }
 
+    // 같은 뱃지 이미지의 URL 은 한 번만 만들어 재사용
+    private String getBadgeImageURL(String badgeImageName) {
+        return badgeImageURLCache.computeIfAbsent(badgeImageName,
+                name -> amazonS3Client.getUrl(bucketName, name).toString());
     }
 }
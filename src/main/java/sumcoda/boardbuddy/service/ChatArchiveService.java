@@ -0,0 +1,182 @@
+package sumcoda.boardbuddy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.exception.ChatMessageRetrievalException;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+import sumcoda.boardbuddy.repository.chatArchive.ChatSegmentRepository;
+import sumcoda.boardbuddy.repository.chatMessage.ChatMessageRepository;
+import sumcoda.boardbuddy.repository.chatRoom.ChatRoomRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 완료된 모집글 채팅방의 오래된 메세지를 압축 세그먼트 파일로 옮기는 보관 서비스
+ * 보관된 메세지는 chat_message 테이블에서 삭제되고, 메세지 내역 조회 시 테이블의 메세지 이전 페이지로 이어서 조회됨
+ *
+ * 세그먼트에 블록을 기록한 뒤 테이블에서 삭제하므로, 중간에 종료되면 다음 실행 시 마지막 블록의 메세지를 먼저 삭제한 후 이어서 보관
+ * 삭제는 세그먼트에 기록된 메세지 Id 로만 하므로 기록되지 않은 메세지는 순번이 겹치더라도 삭제되지 않음
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveService {
+
+    // 여러 서버 중 한 서버만 보관 작업을 실행하도록 하는 잠금 키
+    private static final String ARCHIVE_LOCK_KEY = "CHAT_ARCHIVE_LOCK";
+
+    // 잠금 만료 시간 (작업 중에는 주기적으로 연장하므로 작업 시간보다 짧아도 됨)
+    private static final Duration ARCHIVE_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private final ChatSegmentRepository chatSegmentRepository;
+
+    private final JobLockRedisService jobLockRedisService;
+
+    // 보관 사용 여부 (세그먼트 디렉터리는 모든 서버가 접근할 수 있는 공유 스토리지여야 함)
+    @Value("${spring.chat.archive.enabled:false}")
+    private boolean enabled;
+
+    // 이 기간보다 오래된 메세지를 보관 (일)
+    @Value("${spring.chat.archive.retention-days:30}")
+    private long retentionDays;
+
+    // 세그먼트 블록 하나에 담을 메세지 수 (블록 단위로 압축하고 조회)
+    @Value("${spring.chat.archive.block-size:256}")
+    private int blockSize;
+
+    /**
+     * 메세지 내역 조회 시 보관된 메세지를 이어서 조회할지 여부
+     *
+     * @return 보관 사용 여부
+     **/
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 완료된 모집글 채팅방의 오래된 메세지 보관 - 매일 04시 30분 스케줄링
+     **/
+    @Scheduled(cron = "${spring.chat.archive.cron:0 30 4 * * ?}")
+    public void archiveCompletedChatRooms() {
+        if (!enabled) {
+            return;
+        }
+
+        jobLockRedisService.runWithLock(ARCHIVE_LOCK_KEY, ARCHIVE_LOCK_TTL, () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            long totalArchivedCount = 0;
+
+            for (Long chatRoomId : chatRoomRepository.findChatRoomIdsByGatherArticleStatus(GatherArticleStatus.COMPLETED)) {
+                try {
+                    totalArchivedCount += archiveChatRoom(chatRoomId, cutoff);
+                } catch (IOException | DataAccessException e) {
+                    // 한 채팅방의 실패가 다른 채팅방의 보관을 막지 않도록 함
+                    log.error("[ChatArchiveService archiveChatRoom() error]: chatRoomId={}, {}", chatRoomId, e.getMessage());
+                }
+            }
+
+            log.info("Chat messages archived: {} (created before {})", totalArchivedCount, cutoff);
+        });
+    }
+
+    /**
+     * 채팅방에서 마지막으로 보관된 메세지 순번 조회
+     * 메세지 순번을 다시 발급할 때 보관되어 테이블에서 삭제된 순번을 재사용하지 않도록 사용
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 마지막으로 보관된 메세지 순번, 보관을 사용하지 않거나 조회하지 못하면 0
+     **/
+    public long findLastArchivedSeq(Long chatRoomId) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        try {
+            return chatSegmentRepository.findLastArchivedSeq(chatRoomId);
+        } catch (IOException e) {
+            // 채팅방의 마지막 메세지 순번에도 보관된 순번이 포함되어 있으므로 메세지 발행은 막지 않음
+            log.error("[ChatArchiveService findLastArchivedSeq() error]: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 보관된 메세지 중 특정 순번 이전의 메세지를 최신순으로 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param joinedAt 사용자가 채팅방에 입장한 시각
+     * @param cursor 이 순번보다 이전의 메세지를 조회 (null 이면 마지막으로 보관된 메세지부터)
+     * @param limit 조회할 최대 개수
+     * @return 최신순으로 정렬된 보관된 메세지 목록
+     **/
+    public List<ChatMessageResponse.ChatMessageInfoDTO> findArchivedMessages(Long chatRoomId, LocalDateTime joinedAt, Long cursor, int limit) {
+        try {
+            return chatSegmentRepository.findMessagesBefore(chatRoomId, cursor, joinedAt, limit).stream()
+                    .map(message -> ChatMessageResponse.ChatMessageInfoDTO.builder()
+                            .seq(message.getSeq())
+                            .content(message.getContent())
+                            .nickname(message.getNickname())
+                            .profileImageS3SavedURL(message.getProfileImageS3SavedURL())
+                            .rank(message.getRank())
+                            .messageType(message.getMessageType())
+                            .sentAt(message.getMessageType() == MessageType.TALK ? message.getCreatedAt() : null)
+                            .build())
+                    .toList();
+        } catch (IOException e) {
+            log.error("[ChatArchiveService findArchivedMessages() error]: {}", e.getMessage());
+            throw new ChatMessageRetrievalException("서버 문제로 메시지를 조회하지 못하였습니다. 관리자에게 문의하세요");
+        }
+    }
+
+    // 채팅방의 보관 기준 시점 이전 메세지를 블록 단위로 세그먼트에 기록하고 테이블에서 삭제
+    private long archiveChatRoom(Long chatRoomId, LocalDateTime cutoff) throws IOException {
+        long archivedCount = 0;
+        long lastArchivedSeq = chatSegmentRepository.findLastArchivedSeq(chatRoomId);
+
+        // 이전 실행에서 기록 후 삭제하지 못한 메세지 정리 (블록마다 기록 후 바로 삭제하므로 마지막 블록만 남아 있을 수 있음)
+        deleteArchivedMessages(chatRoomId, chatSegmentRepository.findLastBlockMessages(chatRoomId), cutoff);
+
+        List<ChatMessageResponse.ArchiveMessageDTO> archiveMessageDTOs;
+        do {
+            archiveMessageDTOs = chatMessageRepository.findArchiveMessagesByChatRoomId(chatRoomId, lastArchivedSeq, cutoff, blockSize);
+
+            if (archiveMessageDTOs.isEmpty()) {
+                break;
+            }
+
+            chatSegmentRepository.appendBlock(chatRoomId, archiveMessageDTOs);
+
+            lastArchivedSeq = archiveMessageDTOs.get(archiveMessageDTOs.size() - 1).getSeq();
+            deleteArchivedMessages(chatRoomId, archiveMessageDTOs, cutoff);
+
+            archivedCount += archiveMessageDTOs.size();
+        } while (archiveMessageDTOs.size() == blockSize);
+
+        return archivedCount;
+    }
+
+    // 세그먼트에 기록된 메세지만 테이블에서 삭제 (한 블록 크기씩 삭제)
+    private void deleteArchivedMessages(Long chatRoomId, List<ChatMessageResponse.ArchiveMessageDTO> archivedMessageDTOs, LocalDateTime cutoff) {
+        List<Long> archivedMessageIds = archivedMessageDTOs.stream()
+                .map(ChatMessageResponse.ArchiveMessageDTO::getId)
+                .toList();
+
+        chatMessageJdbcRepository.deleteChatMessagesByIds(chatRoomId, archivedMessageIds, cutoff);
+    }
+}
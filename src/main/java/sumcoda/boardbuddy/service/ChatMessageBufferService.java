@@ -0,0 +1,303 @@
+package sumcoda.boardbuddy.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅 메세지 write-behind 버퍼 서비스
+ * 메세지는 Redis Stream 에 추가된 직후 전송되고, 주기적으로 묶어서 chat_message 테이블에 저장됨
+ *
+ * 내구성 : 전송된 메세지는 Redis Stream 에 기록된 상태이므로 Redis 의 영속성 설정(AOF appendfsync everysec 권장)만큼 보장
+ *          AOF 를 사용하지 않는 Redis 가 재시작되면 아직 저장되지 않은 메세지(최대 flush-interval 분량)는 유실될 수 있음
+ * 장애 복구 : 소비자 그룹으로 읽으므로 저장 전에 서버가 종료되면 메세지가 pending 상태로 남고,
+ *            pending-timeout 이 지나면 살아있는 서버가 가져와 다시 저장함
+ *            이미 저장된 메세지를 다시 저장하는 경우는 (chat_room_id, seq) 유니크 제약조건 위반으로 확인하여 건너뜀
+ * 저장 실패 : 순번이 겹친 다른 메세지, 삭제된 채팅방/사용자의 메세지, 길이 초과 등 제약조건을 위반한 메세지는
+ *            버리지 않고 오류 로그를 남긴 뒤 dead letter Stream 으로 옮김 (배치의 나머지 메세지는 정상 저장)
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageBufferService {
+
+    // 저장 대기 중인 채팅 메세지 Stream 키
+    private static final String STREAM_KEY = "CHAT_MESSAGE_BUFFER";
+
+    // 제약조건 위반으로 저장하지 못한 채팅 메세지 Stream 키 (운영자가 확인 후 처리)
+    private static final String DEAD_LETTER_STREAM_KEY = "CHAT_MESSAGE_DEAD_LETTER";
+
+    // 모든 서버가 같은 소비자 그룹으로 읽어 메세지가 한 번씩만 저장되도록 함
+    private static final String CONSUMER_GROUP = "chat-message-flusher";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    // 이 서버의 소비자 이름
+    private final String consumerName = UUID.randomUUID().toString();
+
+    // write-behind 사용 여부 (false 이면 메세지 발행 시 바로 저장)
+    @Value("${spring.chat.write-behind.enabled:false}")
+    private boolean enabled;
+
+    // 한 번에 저장할 최대 메세지 수
+    @Value("${spring.chat.write-behind.batch-size:500}")
+    private int batchSize;
+
+    // 이 시간 동안 저장되지 않은 pending 메세지는 다른 서버가 가져와 저장
+    @Value("${spring.chat.write-behind.pending-timeout:30000}")
+    private long pendingTimeout;
+
+    // 생성자 주입 이후 호출
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+        } catch (Exception e) {
+            // 다른 서버나 이전 실행에서 이미 생성한 경우
+            log.info("Chat message consumer group already exists: {}", e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장할 메세지를 버퍼에 추가
+     *
+     * @param bufferedMessageDTO 저장할 메세지
+     * @return 버퍼에 추가되었으면 true, write-behind 를 사용하지 않거나 레디스 장애 발생 시 false
+     */
+    public boolean append(ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO) {
+        if (!enabled) {
+            return false;
+        }
+
+        try {
+            stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(toFields(bufferedMessageDTO)));
+            return true;
+        } catch (Exception e) {
+            log.error("[ChatMessageBufferService append() error]: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 메세지를 batch-size 만큼씩 묶어서 저장
+     */
+    @Scheduled(fixedDelayString = "${spring.chat.write-behind.flush-interval:50}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                records = readNewRecords();
+
+                if (records == null || records.isEmpty()) {
+                    return;
+                }
+
+                persist(records);
+            } while (records.size() == batchSize);
+        } catch (Exception e) {
+            // 저장하지 못한 메세지는 pending 상태로 남아 복구 시 다시 저장됨
+            log.error("[ChatMessageBufferService flush() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방에서 버퍼에 추가되었지만 아직 저장되지 않은 메세지의 최대 순번 조회
+     * 레디스 재시작, 애플리케이션 시작 시 순번 키가 삭제된 경우 버퍼에 남은 메세지의 순번을 다시 발급하지 않도록 사용
+     * 저장 전 메세지(읽지 않은 메세지, pending 메세지)는 저장 후 삭제되기 전까지 Stream 에 남아 있으므로 Stream 전체를 확인
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 버퍼에 남은 메세지의 최대 순번, 없거나 write-behind 를 사용하지 않거나 레디스 장애 발생 시 0
+     */
+    public long findLastBufferedSeq(Long chatRoomId) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        try {
+            String chatRoomIdField = String.valueOf(chatRoomId);
+            long lastSeq = 0L;
+            Range<String> range = Range.unbounded();
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                // 시작 Id 를 포함하여 조회되므로 이전 페이지의 마지막 레코드를 한 건 더 읽음
+                records = stringRedisTemplate.opsForStream()
+                        .range(STREAM_KEY, range, Limit.limit().count(batchSize + 1));
+
+                if (records == null || records.isEmpty()) {
+                    break;
+                }
+
+                for (MapRecord<String, Object, Object> record : records) {
+                    if (chatRoomIdField.equals(record.getValue().get("chatRoomId"))) {
+                        lastSeq = Math.max(lastSeq, Long.parseLong((String) record.getValue().get("seq")));
+                    }
+                }
+
+                range = Range.rightUnbounded(Range.Bound.inclusive(records.get(records.size() - 1).getId().getValue()));
+            } while (records.size() == batchSize + 1);
+
+            return lastSeq;
+        } catch (Exception e) {
+            log.error("[ChatMessageBufferService findLastBufferedSeq() error]: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 종료된 서버가 저장하지 못하고 남긴 pending 메세지를 가져와 저장
+     */
+    @Scheduled(fixedDelayString = "${spring.chat.write-behind.pending-timeout:30000}")
+    public void recoverPendingMessages() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            PendingMessages pendingMessages = stringRedisTemplate.opsForStream()
+                    .pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize);
+
+            RecordId[] recordIds = pendingMessages.stream()
+                    .filter(pendingMessage -> pendingMessage.getElapsedTimeSinceLastDelivery().toMillis() >= pendingTimeout)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+
+            if (recordIds.length == 0) {
+                return;
+            }
+
+            List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                    .claim(STREAM_KEY, CONSUMER_GROUP, consumerName, Duration.ofMillis(pendingTimeout), recordIds);
+
+            if (!records.isEmpty()) {
+                persist(records);
+                log.info("Recovered pending chat messages: {}", records.size());
+            }
+        } catch (Exception e) {
+            log.error("[ChatMessageBufferService recoverPendingMessages() error]: {}", e.getMessage());
+        }
+    }
+
+    // 소비자 그룹에서 이 서버에 아직 전달되지 않은 메세지를 batch-size 만큼 읽음
+    // StreamOffset 가변 인자의 제네릭 배열 생성 경고 (읽는 Stream 이 하나뿐이고 배열을 외부에 노출하지 않으므로 안전)
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> readNewRecords() {
+        return stringRedisTemplate.opsForStream().read(
+                Consumer.from(CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+    }
+
+    // 한 번의 batch insert 로 저장한 후 버퍼에서 제거
+    // 제약조건을 위반한 메세지가 있으면 한 건씩 다시 저장하여 위반된 메세지만 따로 처리
+    // DB 장애로 저장에 실패하면 예외가 전파되어 ack 하지 않으므로 메세지가 pending 상태로 남음
+    private void persist(List<MapRecord<String, Object, Object>> records) {
+        List<ChatMessageResponse.BufferedMessageDTO> bufferedMessageDTOs = records.stream()
+                .map(record -> toBufferedMessageDTO(record.getValue()))
+                .toList();
+
+        try {
+            chatMessageJdbcRepository.batchInsertChatMessages(bufferedMessageDTOs);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Chat message batch violated a constraint, retrying one by one: {}", e.getMessage());
+            bufferedMessageDTOs.forEach(this::persistOne);
+        }
+
+        RecordId[] recordIds = records.stream()
+                .map(MapRecord::getId)
+                .toArray(RecordId[]::new);
+
+        stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordIds);
+        stringRedisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+    }
+
+    // 메세지 한 건 저장 (이미 저장된 같은 메세지는 건너뛰고, 그 외 제약조건 위반은 dead letter 로 옮김)
+    private void persistOne(ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO) {
+        try {
+            chatMessageJdbcRepository.insertChatMessage(bufferedMessageDTO);
+        } catch (DuplicateKeyException e) {
+            if (chatMessageJdbcRepository.existsSameChatMessage(bufferedMessageDTO)) {
+                // 저장 후 ack 하기 전에 종료되어 다시 읽은 메세지
+                return;
+            }
+            deadLetter(bufferedMessageDTO, "duplicate seq: " + e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            deadLetter(bufferedMessageDTO, e.getMessage());
+        }
+    }
+
+    // 저장하지 못한 메세지를 오류 로그와 함께 dead letter Stream 에 추가
+    // 레디스 장애로 추가하지 못하면 예외가 전파되어 원래 메세지가 pending 상태로 남음
+    private void deadLetter(ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO, String reason) {
+        log.error("[ChatMessageBufferService persist() error]: chatRoomId={}, seq={}, {}",
+                bufferedMessageDTO.getChatRoomId(), bufferedMessageDTO.getSeq(), reason);
+
+        Map<String, String> fields = toFields(bufferedMessageDTO);
+        fields.put("reason", String.valueOf(reason));
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_STREAM_KEY).ofMap(fields));
+    }
+
+    // 메세지 DTO 를 Stream 레코드 필드로 변환
+    private Map<String, String> toFields(ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("chatRoomId", String.valueOf(bufferedMessageDTO.getChatRoomId()));
+        fields.put("seq", String.valueOf(bufferedMessageDTO.getSeq()));
+        fields.put("content", bufferedMessageDTO.getContent());
+        fields.put("messageType", bufferedMessageDTO.getMessageType().name());
+        fields.put("memberId", String.valueOf(bufferedMessageDTO.getMemberId()));
+        fields.put("sentAt", bufferedMessageDTO.getSentAt().toString());
+        return fields;
+    }
+
+    // Stream 레코드를 메세지 DTO 로 변환
+    private ChatMessageResponse.BufferedMessageDTO toBufferedMessageDTO(Map<Object, Object> fields) {
+        return ChatMessageResponse.BufferedMessageDTO.builder()
+                .chatRoomId(Long.valueOf((String) fields.get("chatRoomId")))
+                .seq(Long.valueOf((String) fields.get("seq")))
+                .content((String) fields.get("content"))
+                .messageType(MessageType.valueOf((String) fields.get("messageType")))
+                .memberId(Long.valueOf((String) fields.get("memberId")))
+                .sentAt(LocalDateTime.parse((String) fields.get("sentAt")))
+                .build();
+    }
+}
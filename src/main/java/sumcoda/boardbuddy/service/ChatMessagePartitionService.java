@@ -0,0 +1,144 @@
+package sumcoda.boardbuddy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+import sumcoda.boardbuddy.repository.PartitionJdbcRepository;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 메세지 테이블 월별 파티션 관리 서비스
+ * 다음 달 파티션을 미리 만들어 두고, 보관 작업으로 모든 메세지가 옮겨져 비어 있는 지난 달 파티션을 제거
+ * 아직 진행 중인 채팅방의 메세지가 남아 있는 파티션은 제거하지 않음
+ * 전환 후에는 (chat_room_id, seq) 중복을 파티션을 나누지 않는 chat_message_seq 테이블의 기본키로 막음
+ * 테이블 전환, 파티션 추가, 제거는 여러 서버 중 잠금을 획득한 한 서버에서만 실행
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessagePartitionService {
+
+    private static final String TABLE_NAME = "chat_message";
+
+    private static final String PARTITION_COLUMN_NAME = "created_at";
+
+    // 여러 서버 중 한 서버만 파티션을 변경하도록 하는 잠금 키
+    private static final String PARTITION_LOCK_KEY = "CHAT_PARTITION_LOCK";
+
+    // 잠금 만료 시간 (테이블 전환이 오래 걸려도 작업 중에는 주기적으로 연장)
+    private static final Duration PARTITION_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private final PartitionJdbcRepository partitionJdbcRepository;
+
+    private final JobLockRedisService jobLockRedisService;
+
+    // 월별 파티션 사용 여부 (MariaDB 파티션 테이블은 외래키를 지원하지 않으므로 전환 시 member, chat_room 외래키 제거)
+    @Value("${spring.chat.partition.enabled:false}")
+    private boolean partitioningEnabled;
+
+    // 미리 만들어 둘 다음 달 파티션 수
+    @Value("${spring.chat.partition.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    /**
+     * 애플리케이션 시작 시 채팅 메세지 테이블을 월별 파티션 테이블로 전환
+     **/
+    @EventListener(ApplicationReadyEvent.class)
+    public void initPartitions() {
+        if (!partitioningEnabled) {
+            return;
+        }
+
+        jobLockRedisService.runWithLock(PARTITION_LOCK_KEY, PARTITION_LOCK_TTL, () -> {
+            try {
+                if (partitionJdbcRepository.findPartitionNames(TABLE_NAME).isEmpty()) {
+                    partitionTable();
+                }
+            } catch (DataAccessException e) {
+                log.error("[ChatMessagePartitionService initPartitions() error]: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 채팅 메세지 파티션 관리 - 매일 05시 스케줄링 (보관 작업 이후)
+     **/
+    @Scheduled(cron = "${spring.chat.partition.cron:0 0 5 * * ?}")
+    public void maintainPartitions() {
+        if (!partitioningEnabled) {
+            return;
+        }
+
+        jobLockRedisService.runWithLock(PARTITION_LOCK_KEY, PARTITION_LOCK_TTL, () -> {
+            try {
+                List<YearMonth> partitionMonths = partitionJdbcRepository.findPartitionMonths(TABLE_NAME);
+
+                if (partitionMonths.isEmpty()) {
+                    partitionTable();
+                } else {
+                    updatePartitions(partitionMonths);
+                }
+            } catch (DataAccessException e) {
+                // 실패한 변경은 다음 실행에서 다시 시도
+                log.error("[ChatMessagePartitionService maintainPartitions() error]: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 채팅 메세지 테이블을 월별 파티션 테이블로 전환
+    private void partitionTable() {
+        // 가장 오래된 메세지의 달부터 미리 만들어 둘 달까지 파티션 생성
+        YearMonth firstMonth = chatMessageJdbcRepository.findOldestCreatedAt()
+                .map(YearMonth::from)
+                .orElseGet(YearMonth::now);
+        YearMonth lastMonth = YearMonth.now().plusMonths(partitionsAhead);
+
+        chatMessageJdbcRepository.preparePartitioning();
+        partitionJdbcRepository.partitionByMonth(TABLE_NAME, PARTITION_COLUMN_NAME, getMonthsBetween(firstMonth, lastMonth));
+
+        log.info("Chat message table partitioned by month: {} ~ {}", firstMonth, lastMonth);
+    }
+
+    // 미리 만들어 둘 달까지 파티션을 추가하고, 보관 작업으로 비어 있는 지난 파티션 제거
+    private void updatePartitions(List<YearMonth> partitionMonths) {
+        YearMonth lastPartitionMonth = partitionMonths.get(partitionMonths.size() - 1);
+        YearMonth lastMonth = YearMonth.now().plusMonths(partitionsAhead);
+
+        if (lastPartitionMonth.isBefore(lastMonth)) {
+            partitionJdbcRepository.addMonthlyPartitions(TABLE_NAME, getMonthsBetween(lastPartitionMonth.plusMonths(1), lastMonth));
+        }
+
+        // 이번 달 이전의 파티션 중 보관 작업으로 비어 있는 파티션만 제거
+        YearMonth currentMonth = YearMonth.now();
+        List<YearMonth> emptyMonths = partitionMonths.stream()
+                .filter(month -> month.isBefore(currentMonth))
+                .filter(month -> partitionJdbcRepository.isMonthlyPartitionEmpty(TABLE_NAME, month))
+                .toList();
+
+        if (!emptyMonths.isEmpty()) {
+            partitionJdbcRepository.dropMonthlyPartitions(TABLE_NAME, emptyMonths);
+            log.info("Empty chat message partitions dropped: {}", emptyMonths);
+        }
+    }
+
+    // 시작 달부터 마지막 달까지의 목록
+    private List<YearMonth> getMonthsBetween(YearMonth firstMonth, YearMonth lastMonth) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+}
@@ -1,26 +1,31 @@
 package sumcoda.boardbuddy.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.util.Pair;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sumcoda.boardbuddy.dto.ChatMessageRequest;
 import sumcoda.boardbuddy.dto.ChatMessageResponse;
-import sumcoda.boardbuddy.entity.ChatMessage;
 import sumcoda.boardbuddy.entity.ChatRoom;
 import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.enumerate.MessageType;
 import sumcoda.boardbuddy.exception.*;
 import sumcoda.boardbuddy.exception.member.MemberNotFoundException;
 import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
 import sumcoda.boardbuddy.repository.chatMessage.ChatMessageRepository;
 import sumcoda.boardbuddy.repository.chatRoom.ChatRoomRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
 import sumcoda.boardbuddy.repository.memberChatRoom.MemberChatRoomRepository;
 import sumcoda.boardbuddy.util.ChatMessageUtil;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +33,12 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ChatMessageService {
 
+    // 채팅 메세지 내역 한 페이지 크기
+    private static final int PAGE_SIZE = 50;
+
+    // 재연결 시 한 번에 재전송할 최대 메세지 수
+    private static final int REPLAY_LIMIT = 200;
+
     private final ChatMessageRepository chatMessageRepository;
 
     private final ChatRoomRepository chatRoomRepository;
@@ -36,43 +47,55 @@ public class ChatMessageService {
 
     private final MemberChatRoomRepository memberChatRoomRepository;
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRelayService chatRelayService;
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private final ChatRedisService chatRedisService;
+
+    private final ChatRoomService chatRoomService;
+
+    private final ChatMessageBufferService chatMessageBufferService;
+
+    private final ChatArchiveService chatArchiveService;
 
     /**
      * 메세지 발행 및 채팅방에 메세지 전송
      *
      * @param chatRoomId 채팅방 Id
-     * @param publishDTO 발행 및 전송할 메시지 내용, 메시지 발행 및 전송 사용자 닉네임
+     * @param memberId STOMP 연결 시 인증된 사용자 Id
+     * @param publishDTO 발행 및 전송할 메시지 내용
      **/
     @Transactional
-    public void publishMessage(Long chatRoomId, ChatMessageRequest.PublishDTO publishDTO) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new ChatRoomNotFoundException("해당 채팅방이 존재하지 않습니다."));
+    public void publishMessage(Long chatRoomId, Long memberId, ChatMessageRequest.PublishDTO publishDTO) {
+        // 발신자 정보와 채팅방 참여 여부는 캐시에서 조회하므로 캐시가 있으면 DB 조회 없이 저장만 수행
+        ChatMessageResponse.SenderDTO senderDTO = getSender(memberId);
 
-        String nickname = publishDTO.getNickname();
-
-        Member member = memberRepository.findByNickname(nickname)
-                .orElseThrow(() -> new MemberNotFoundException("해당 사용자를 찾을 수 없습니다."));
-
-        Boolean isMemberChatRoomExists = memberChatRoomRepository.existsByChatRoomIdAndMemberNickname(chatRoomId, nickname);
-        if (!isMemberChatRoomExists) {
+        // 퇴장 시 무효화되는 참여자 캐시로 확인하여 연결 이후 퇴장한 채팅방에는 발행하지 못하도록 함
+        if (!chatRoomService.isChatRoomMember(chatRoomId, memberId)) {
             throw new MemberChatRoomRetrievalException("서버 문제로 해당 채팅방의 사용자 정보를 찾을 수 없습니다. 관리자에게 문의하세요.");
         }
 
         String content = publishDTO.getContent();
 
-        ChatMessage chatMessage = ChatMessage.buildChatMessage(content, MessageType.TALK, member, chatRoom);
+        LocalDateTime sentAt = LocalDateTime.now();
 
-        Long chatMessageId = chatMessageRepository.save(chatMessage).getId();
+        Long seq = saveChatMessage(chatRoomId, memberId, content, MessageType.TALK, sentAt);
 
-        if (chatMessageId == null) {
-            throw new ChatMessageSaveException("서버 문제로 메세지를 저장할 수 없습니다. 관리자에게 문의하세요.");
-        }
+        // 저장한 메세지를 다시 조회하지 않고 이미 가진 정보로 응답 생성
+        ChatMessageResponse.ChatMessageInfoDTO responseChatMessage = ChatMessageResponse.ChatMessageInfoDTO.builder()
+                .seq(seq)
+                .content(content)
+                .nickname(senderDTO.getNickname())
+                .profileImageS3SavedURL(senderDTO.getProfileImageS3SavedURL())
+                .rank(senderDTO.getRank())
+                .messageType(MessageType.TALK)
+                .sentAt(sentAt)
+                .build();
 
-        ChatMessageResponse.ChatMessageInfoDTO responseChatMessage = chatMessageRepository.findTalkMessageById(chatMessageId)
-                .orElseThrow(() -> new ChatMessageRetrievalException("서버 문제로 해당 메세지를 찾을 수 없습니다. 관리자에게 문의하세요."));
+        saveRecentMessage(chatRoomId, responseChatMessage, sentAt);
 
-        messagingTemplate.convertAndSend("/api/ws-stomp/reception/" + chatRoomId, responseChatMessage);
+        chatRelayService.broadcast(chatRoomId, responseChatMessage);
     }
 
     /**
@@ -101,29 +124,35 @@ public class ChatMessageService {
 
         String content = ChatMessageUtil.buildChatMessageContent(nickname, messageType);
 
-        ChatMessage chatMessage = ChatMessage.buildChatMessage(content, messageType, member, chatRoom);
+        LocalDateTime sentAt = LocalDateTime.now();
 
-        Long chatMessageId = chatMessageRepository.save(chatMessage).getId();
+        Long seq = saveChatMessage(chatRoom.getId(), member.getId(), content, messageType, sentAt);
 
-        if (chatMessageId == null) {
-            throw new ChatMessageSaveException("서버 문제로 메세지를 저장할 수 없습니다. 관리자에게 문의하세요.");
-        }
+        ChatMessageResponse.EnterOrExitMessageInfoDTO responseChatMessage = ChatMessageResponse.EnterOrExitMessageInfoDTO.builder()
+                .seq(seq)
+                .content(content)
+                .messageType(messageType)
+                .build();
 
-        ChatMessageResponse.EnterOrExitMessageInfoDTO responseChatMessage = chatMessageRepository.findEnterOrExitMessageById(chatMessageId)
-                .orElseThrow(() -> new ChatMessageRetrievalException("서버 문제로 해당 메세지를 찾을 수 없습니다. 관리자에게 문의하세요."));
+        saveRecentMessage(chatRoomId, ChatMessageResponse.ChatMessageInfoDTO.builder()
+                .seq(seq)
+                .content(content)
+                .messageType(messageType)
+                .build(), sentAt);
 
         // 채팅방 구독자들에게 메시지 전송
-        messagingTemplate.convertAndSend("/api/ws-stomp/reception/" + chatRoomId, responseChatMessage);
+        chatRelayService.broadcast(chatRoomId, responseChatMessage);
     }
 
     /**
-     * 사용자가 채팅방에 입장한 이후의 메세지 조회
+     * 사용자가 채팅방에 입장한 이후의 메세지를 최신 메세지부터 한 페이지씩 조회
      *
      * @param chatRoomId 채팅방 Id
      * @param username 사용자 아이디
-     * @return 사용자가 입장한 이후의 채팅방 메시지 목록
+     * @param cursor 이전 페이지의 가장 오래된 메세지 순번 (첫 페이지는 null)
+     * @return 오래된 순으로 정렬된 채팅방 메시지 한 페이지
      **/
-    public List<ChatMessageResponse.ChatMessageInfoDTO> findMessagesAfterMemberJoinedByChatRoomIdAndUsername(Long chatRoomId, String username) {
+    public ChatMessageResponse.ChatMessageListDTO findMessagesAfterMemberJoinedByChatRoomIdAndUsername(Long chatRoomId, String username, Long cursor) {
 
         boolean isChatRoomExists = chatRoomRepository.existsById(chatRoomId);
 
@@ -136,29 +165,210 @@ public class ChatMessageService {
             throw new ChatRoomAccessDeniedException("해당 채팅방에 입장하지 않은 사용자입니다.");
         }
 
-        // 채팅방 메시지 조회 로직
-        List<ChatMessageResponse.ChatMessageInfoDTO> messages = chatMessageRepository.findMessagesAfterMemberJoinedByChatRoomIdAndUsername(chatRoomId, username);
+        // 다음 페이지 존재 여부를 확인하기 위해 한 개 더 조회
+        // 버퍼에서 아직 저장되지 않은 메세지가 있을 수 있으므로 빈 페이지도 정상 응답으로 처리
+        List<ChatMessageResponse.ChatMessageInfoDTO> messages = new ArrayList<>(chatMessageRepository.findMessagesAfterMemberJoinedByChatRoomIdAndUsernameAndCursor(
+                chatRoomId, username, cursor, PAGE_SIZE + 1));
 
-        if (messages.isEmpty()) {
-            throw new ChatMessageRetrievalException("서버 문제로 메시지를 조회하지 못하였습니다. 관리자에게 문의하세요");
+        // 테이블에 남은 메세지로 페이지를 채우지 못하면 보관 파일로 옮겨진 이전 메세지로 이어서 채움
+        if (messages.size() <= PAGE_SIZE && chatArchiveService.isEnabled()) {
+            LocalDateTime joinedAt = memberChatRoomRepository.findJoinedAtByChatRoomIdAndUsername(chatRoomId, username)
+                    .orElseThrow(() -> new ChatRoomAccessDeniedException("해당 채팅방에 입장하지 않은 사용자입니다."));
+
+            Long archiveCursor = messages.isEmpty() ? cursor : messages.get(messages.size() - 1).getSeq();
+
+            messages.addAll(chatArchiveService.findArchivedMessages(chatRoomId, joinedAt, archiveCursor, PAGE_SIZE + 1 - messages.size()));
         }
 
-        return messages.stream()
-                .map(message -> {
-                    ChatMessageResponse.ChatMessageInfoDTO.ChatMessageInfoDTOBuilder builder =
-                            ChatMessageResponse.ChatMessageInfoDTO.builder()
-                            .content(message.getContent())
-                            .messageType(message.getMessageType());
-
-                    if (message.getMessageType() == MessageType.TALK) {
-                        builder.nickname(message.getNickname())
-                                .profileImageS3SavedURL(message.getProfileImageS3SavedURL())
-                                .rank(message.getRank())
-                                .sentAt(message.getSentAt());
-                    }
-
-                    return builder.build();
-                })
+        boolean last = messages.size() <= PAGE_SIZE;
+
+        List<ChatMessageResponse.ChatMessageInfoDTO> pageMessages = messages.stream()
+                .limit(PAGE_SIZE)
+                .map(this::toChatMessageInfoDTO)
                 .collect(Collectors.toList());
+
+        // 최신순으로 조회했으므로 화면에 표시할 순서(오래된 순)로 뒤집음
+        Collections.reverse(pageMessages);
+
+        return ChatMessageResponse.ChatMessageListDTO.builder()
+                .chatMessages(pageMessages)
+                .nextCursor(pageMessages.isEmpty() ? null : pageMessages.get(0).getSeq())
+                .last(last)
+                .build();
+    }
+
+    /**
+     * 재연결한 클라이언트가 마지막으로 수신한 메세지 이후에 놓친 메세지 조회
+     * 최근 메세지 버퍼에서 우선 조회하고, 버퍼가 놓친 구간을 처음부터 빠짐없이 담고 있지 않으면 (용량 초과, 만료, 레디스 장애, 저장 실패) DB 에서 보충
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param username 사용자 아이디
+     * @param since 클라이언트가 마지막으로 수신한 메세지 순번
+     * @return 오래된 순으로 정렬된 놓친 메세지 목록
+     **/
+    public ChatMessageResponse.ChatMessageReplayDTO replayMessagesSince(Long chatRoomId, String username, Long since) {
+
+        LocalDateTime joinedAt = memberChatRoomRepository.findJoinedAtByChatRoomIdAndUsername(chatRoomId, username)
+                .orElseThrow(() -> new ChatRoomAccessDeniedException("해당 채팅방에 입장하지 않은 사용자입니다."));
+
+        List<ChatMessageResponse.RecentMessageDTO> recentMessageDTOs = chatRedisService.findRecentMessagesAfter(chatRoomId, since);
+
+        // 버퍼와 DB 에서 함께 조회한 메세지를 순번으로 정렬하고 중복 제거
+        TreeMap<Long, ChatMessageResponse.ChatMessageInfoDTO> replayMessages = new TreeMap<>();
+
+        // 입장 이전의 메세지는 재전송하지 않음
+        recentMessageDTOs.stream()
+                .filter(recentMessageDTO -> recentMessageDTO.getCreatedAt().isAfter(joinedAt))
+                .forEach(recentMessageDTO -> replayMessages.put(recentMessageDTO.getChatMessage().getSeq(), recentMessageDTO.getChatMessage()));
+
+        if (!isContiguousAfter(since, recentMessageDTOs)) {
+            chatMessageRepository.findMessagesByChatRoomIdAndSeqAfter(chatRoomId, joinedAt, since, REPLAY_LIMIT + 1)
+                    .forEach(message -> replayMessages.putIfAbsent(message.getSeq(), toChatMessageInfoDTO(message)));
+        }
+
+        return ChatMessageResponse.ChatMessageReplayDTO.builder()
+                .chatMessages(replayMessages.values().stream().limit(REPLAY_LIMIT).toList())
+                .last(replayMessages.size() <= REPLAY_LIMIT)
+                .build();
+    }
+
+    /**
+     * 최근 메세지 버퍼가 놓친 구간을 처음부터 빠진 순번 없이 담고 있는지 확인
+     * 다른 서버에서 최근 메세지 저장에 실패한 경우 중간 순번이 빠질 수 있음
+     *
+     * @param since 클라이언트가 마지막으로 수신한 메세지 순번
+     * @param recentMessageDTOs 순번 순으로 정렬된 최근 메세지 목록
+     * @return 첫 메세지가 since 바로 다음 순번이고 이후 순번이 모두 이어지면 true
+     **/
+    private boolean isContiguousAfter(Long since, List<ChatMessageResponse.RecentMessageDTO> recentMessageDTOs) {
+        if (recentMessageDTOs.isEmpty()) {
+            return false;
+        }
+
+        long expectedSeq = since + 1;
+        for (ChatMessageResponse.RecentMessageDTO recentMessageDTO : recentMessageDTOs) {
+            if (recentMessageDTO.getChatMessage().getSeq() != expectedSeq) {
+                return false;
+            }
+            expectedSeq++;
+        }
+
+        return true;
+    }
+
+    /**
+     * 채팅방 순번을 발급하여 메세지 저장
+     * write-behind 를 사용하면 버퍼에 추가만 하고 바로 반환하며, 버퍼에 추가하지 못하면 바로 저장
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param memberId 메세지 발신자 Id
+     * @param content 메세지 내용
+     * @param messageType 메세지 유형
+     * @param sentAt 메세지 발신 시각
+     * @return 발급된 채팅방 메세지 순번
+     **/
+    private Long saveChatMessage(Long chatRoomId, Long memberId, String content, MessageType messageType, LocalDateTime sentAt) {
+        Optional<Long> seq = nextSequence(chatRoomId);
+
+        ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO = ChatMessageResponse.BufferedMessageDTO.builder()
+                .chatRoomId(chatRoomId)
+                .seq(seq.orElseGet(() -> findLastSeq(chatRoomId) + 1))
+                .content(content)
+                .messageType(messageType)
+                .memberId(memberId)
+                .sentAt(sentAt)
+                .build();
+
+        // 순번은 레디스에서 발급되므로 레디스 장애 시에는 버퍼도 사용하지 않고 바로 저장
+        if (seq.isPresent() && chatMessageBufferService.append(bufferedMessageDTO)) {
+            return bufferedMessageDTO.getSeq();
+        }
+
+        try {
+            if (chatMessageJdbcRepository.insertChatMessage(bufferedMessageDTO) != 1) {
+                throw new ChatMessageSaveException("서버 문제로 메세지를 저장할 수 없습니다. 관리자에게 문의하세요.");
+            }
+        } catch (DuplicateKeyException e) {
+            // 레디스 장애 중 DB 기준으로 발급한 순번이 동시에 발행된 메세지와 겹친 경우
+            throw new ChatMessageSaveException("메세지를 저장하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        return bufferedMessageDTO.getSeq();
+    }
+
+    /**
+     * 채팅방의 다음 메세지 순번 발급
+     * 순번 키가 없으면 (레디스 초기화 등) 이미 발급된 마지막 순번으로 초기화한 후 발급
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 다음 순번, 레디스 장애 발생 시 빈 Optional
+     **/
+    private Optional<Long> nextSequence(Long chatRoomId) {
+        Optional<Long> seq = chatRedisService.incrementSequence(chatRoomId);
+
+        if (seq.isPresent() && seq.get() == -1L) {
+            chatRedisService.initSequence(chatRoomId, findLastSeq(chatRoomId));
+            seq = chatRedisService.incrementSequence(chatRoomId);
+        }
+
+        return seq.filter(value -> value > 0);
+    }
+
+    /**
+     * 채팅방에서 이미 발급된 마지막 메세지 순번
+     * 보관되어 테이블에서 삭제된 메세지, 버퍼에 남아 아직 저장되지 않은 메세지의 순번을 다시 발급하지 않도록
+     * 테이블의 최대 순번, 마지막으로 보관된 순번, 채팅방의 마지막 메세지 순번, 버퍼에 남은 메세지의 최대 순번 중 가장 큰 값을 사용
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 마지막 메세지 순번
+     **/
+    private long findLastSeq(Long chatRoomId) {
+        long lastSavedSeq = Math.max(chatMessageRepository.findMaxSeqByChatRoomId(chatRoomId),
+                Math.max(chatArchiveService.findLastArchivedSeq(chatRoomId), chatMessageJdbcRepository.findLastMessageSeq(chatRoomId)));
+
+        return Math.max(lastSavedSeq, chatMessageBufferService.findLastBufferedSeq(chatRoomId));
+    }
+
+    // 재연결 시 재전송할 수 있도록 전송한 메세지를 채팅방의 최근 메세지로 저장
+    private void saveRecentMessage(Long chatRoomId, ChatMessageResponse.ChatMessageInfoDTO chatMessageInfoDTO, LocalDateTime sentAt) {
+        chatRedisService.saveRecentMessage(chatRoomId, ChatMessageResponse.RecentMessageDTO.builder()
+                .createdAt(sentAt)
+                .chatMessage(chatMessageInfoDTO)
+                .build());
+    }
+
+    // 대화 메세지만 발신자 정보와 발신 시각을 포함하도록 변환
+    private ChatMessageResponse.ChatMessageInfoDTO toChatMessageInfoDTO(ChatMessageResponse.ChatMessageInfoDTO message) {
+        ChatMessageResponse.ChatMessageInfoDTO.ChatMessageInfoDTOBuilder builder =
+                ChatMessageResponse.ChatMessageInfoDTO.builder()
+                        .seq(message.getSeq())
+                        .content(message.getContent())
+                        .messageType(message.getMessageType());
+
+        if (message.getMessageType() == MessageType.TALK) {
+            builder.nickname(message.getNickname())
+                    .profileImageS3SavedURL(message.getProfileImageS3SavedURL())
+                    .rank(message.getRank())
+                    .sentAt(message.getSentAt());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 사용자 Id 로 발신자 정보 조회 (캐시가 없으면 DB 에서 조회하여 캐싱)
+     *
+     * @param memberId 사용자 Id
+     * @return 발신자 정보
+     **/
+    private ChatMessageResponse.SenderDTO getSender(Long memberId) {
+        return chatRedisService.findSender(memberId)
+                .orElseGet(() -> {
+                    ChatMessageResponse.SenderDTO senderDTO = memberRepository.findSenderDTOById(memberId)
+                            .orElseThrow(() -> new MemberNotFoundException("해당 사용자를 찾을 수 없습니다."));
+
+                    chatRedisService.saveSender(senderDTO);
+                    return senderDTO;
+                });
     }
 }
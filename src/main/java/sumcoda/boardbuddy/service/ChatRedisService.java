@@ -0,0 +1,396 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 채팅 메세지 발행 시 DB 조회를 하지 않도록 채팅방 참여자와 발신자 정보를 캐싱하는 서비스
+ * 입장, 퇴장, 프로필 수정, 랭킹 갱신 시 무효화
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRedisService {
+
+    // 채팅방 참여자 집합 키 접두사 (key : 접두사 + 채팅방 Id, value : 참여 중인 사용자 Id 집합)
+    private static final String CHAT_ROOM_MEMBERS_KEY_PREFIX = "CHAT_ROOM_MEMBERS:";
+
+    // 채팅방 참여자 변경 버전 키 접두사 (key : 접두사 + 채팅방 Id, value : 입장, 퇴장이 커밋될 때마다 증가하는 버전)
+    private static final String CHAT_ROOM_MEMBERS_VERSION_KEY_PREFIX = "CHAT_ROOM_MEMBERS_VERSION:";
+
+    // DB 조회 전에 읽은 버전이 그대로일 때만 참여자 집합 저장
+    // 조회 도중 입장, 퇴장이 커밋되어 버전이 바뀌었으면 조회 결과가 오래된 것이므로 저장하지 않음
+    private static final RedisScript<Long> SAVE_MEMBERS_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    // 참여자 집합을 삭제하고 버전을 증가시켜 진행 중인 조회 결과가 저장되지 않도록 함
+    private static final RedisScript<Long> EVICT_MEMBERS_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+                    "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+
+    // 발신자 정보 키 접두사 (key : 접두사 + 닉네임, value : 사용자 Id, 랭킹, 프로필 이미지 URL 해시)
+    private static final String CHAT_SENDER_KEY_PREFIX = "CHAT_SENDER:";
+
+    // 채팅방별 메세지 순번 키 접두사 (key : 접두사 + 채팅방 Id, value : 마지막으로 발급한 순번)
+    private static final String CHAT_ROOM_SEQ_KEY_PREFIX = "CHAT_ROOM_SEQ:";
+
+    // 키가 있을 때만 증가시키는 스크립트
+    // 키가 없는 상태에서 INCR 하면 1 부터 다시 시작하여 저장된 메세지의 순번과 겹치므로, 키가 없으면 DB 의 마지막 순번으로 초기화한 후 증가
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) else return -1 end",
+            Long.class);
+
+    // 채팅방별 최근 메세지 키 접두사 (key : 접두사 + 채팅방 Id, member : 메세지 JSON, score : 메세지 순번)
+    private static final String CHAT_ROOM_RECENT_KEY_PREFIX = "CHAT_ROOM_RECENT:";
+
+    // 채팅방별로 보관할 최근 메세지 수
+    private static final int RECENT_MESSAGE_CAPACITY = 200;
+
+    // 대화가 없는 채팅방의 최근 메세지가 계속 남지 않도록 설정하는 만료 시간
+    private static final Duration RECENT_MESSAGE_TTL = Duration.ofDays(1);
+
+    // 무효화가 누락되더라도 오래된 정보가 계속 남지 않도록 만료 시간 설정
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자가 채팅방에 참여 중인지 확인
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param memberId 사용자 Id
+     * @return 참여 여부, 캐시가 없거나 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<Boolean> isChatRoomMember(Long chatRoomId, Long memberId) {
+        try {
+            String key = CHAT_ROOM_MEMBERS_KEY_PREFIX + chatRoomId;
+
+            // 참여자가 없는 채팅방은 캐싱하지 않으므로 키가 없으면 캐시 미스
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                return Optional.empty();
+            }
+
+            return Optional.ofNullable(stringRedisTemplate.opsForSet().isMember(key, memberId.toString()));
+        } catch (Exception e) {
+            log.error("[ChatRedisService isChatRoomMember() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 채팅방 참여자 변경 버전 조회 (참여자 목록을 DB 에서 조회하기 전에 호출)
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 참여자 변경 버전, 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<String> findChatRoomMembersVersion(Long chatRoomId) {
+        try {
+            return Optional.of(Optional.ofNullable(stringRedisTemplate.opsForValue().get(CHAT_ROOM_MEMBERS_VERSION_KEY_PREFIX + chatRoomId))
+                    .orElse("0"));
+        } catch (Exception e) {
+            log.error("[ChatRedisService findChatRoomMembersVersion() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 채팅방 참여자 집합 저장
+     * 조회 전에 읽은 버전 이후 입장, 퇴장이 커밋되었으면 저장하지 않음
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param version 참여자 목록을 조회하기 전에 읽은 참여자 변경 버전
+     * @param memberIds 참여 중인 사용자 Id 목록
+     */
+    public void saveChatRoomMembers(Long chatRoomId, String version, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(version);
+            args.add(String.valueOf(CACHE_TTL.toMillis()));
+            memberIds.forEach(memberId -> args.add(String.valueOf(memberId)));
+
+            stringRedisTemplate.execute(SAVE_MEMBERS_IF_VERSION_SCRIPT,
+                    List.of(CHAT_ROOM_MEMBERS_KEY_PREFIX + chatRoomId, CHAT_ROOM_MEMBERS_VERSION_KEY_PREFIX + chatRoomId),
+                    args.toArray());
+        } catch (Exception e) {
+            log.error("[ChatRedisService saveChatRoomMembers() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방 참여자 집합 무효화 (입장, 퇴장 시)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 삭제하고 버전을 증가시켜, 커밋 전에 조회한 참여자 정보가 다시 캐싱되지 않도록 함
+     *
+     * @param chatRoomId 채팅방 Id
+     */
+    public void evictChatRoomMembers(Long chatRoomId) {
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(EVICT_MEMBERS_SCRIPT,
+                        List.of(CHAT_ROOM_MEMBERS_KEY_PREFIX + chatRoomId, CHAT_ROOM_MEMBERS_VERSION_KEY_PREFIX + chatRoomId),
+                        String.valueOf(CACHE_TTL.toMillis()));
+            } catch (Exception e) {
+                log.error("[ChatRedisService evictChatRoomMembers() error]: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 사용자 Id 로 발신자 정보 조회
+     *
+     * @param memberId 사용자 Id
+     * @return 발신자 정보, 캐시가 없거나 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<ChatMessageResponse.SenderDTO> findSender(Long memberId) {
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(CHAT_SENDER_KEY_PREFIX + memberId);
+
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Object rank = entries.get("rank");
+
+            return Optional.of(ChatMessageResponse.SenderDTO.builder()
+                    .id(memberId)
+                    .nickname((String) entries.get("nickname"))
+                    .rank(rank == null ? null : Integer.valueOf((String) rank))
+                    .profileImageS3SavedURL((String) entries.get("profileImageS3SavedURL"))
+                    .build());
+        } catch (Exception e) {
+            log.error("[ChatRedisService findSender() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 발신자 정보 저장
+     *
+     * @param senderDTO 발신자 정보
+     */
+    public void saveSender(ChatMessageResponse.SenderDTO senderDTO) {
+        try {
+            String key = CHAT_SENDER_KEY_PREFIX + senderDTO.getId();
+
+            // 해시에는 null 을 저장할 수 없으므로 값이 있는 필드만 저장
+            Map<String, String> fields = new HashMap<>();
+            fields.put("nickname", senderDTO.getNickname());
+            if (senderDTO.getRank() != null) {
+                fields.put("rank", String.valueOf(senderDTO.getRank()));
+            }
+            if (senderDTO.getProfileImageS3SavedURL() != null) {
+                fields.put("profileImageS3SavedURL", senderDTO.getProfileImageS3SavedURL());
+            }
+
+            stringRedisTemplate.opsForHash().putAll(key, fields);
+            stringRedisTemplate.expire(key, CACHE_TTL);
+        } catch (Exception e) {
+            log.error("[ChatRedisService saveSender() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 발신자 정보 무효화 (프로필 수정, 회원 탈퇴 시)
+     *
+     * @param memberId 사용자 Id
+     */
+    public void evictSender(Long memberId) {
+        deleteAfterCommit(CHAT_SENDER_KEY_PREFIX + memberId);
+    }
+
+    /**
+     * 모든 발신자 정보 무효화 (랭킹 갱신 시)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 삭제하여 커밋 전의 랭킹이 다시 캐싱되지 않도록 함
+     */
+    public void clearSenders() {
+        runAfterCommit(this::deleteSenders);
+    }
+
+    // 모든 발신자 정보 키 삭제
+    private void deleteSenders() {
+        try {
+            Set<String> senderKeys = stringRedisTemplate.keys(CHAT_SENDER_KEY_PREFIX + "*");
+
+            if (senderKeys != null && !senderKeys.isEmpty()) {
+                stringRedisTemplate.delete(senderKeys);
+            }
+        } catch (Exception e) {
+            log.error("[ChatRedisService deleteSenders() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방의 다음 메세지 순번 발급
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 다음 순번, 순번 키가 없으면 -1, 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<Long> incrementSequence(Long chatRoomId) {
+        try {
+            return Optional.ofNullable(stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(CHAT_ROOM_SEQ_KEY_PREFIX + chatRoomId)));
+        } catch (Exception e) {
+            log.error("[ChatRedisService incrementSequence() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 채팅방에서 마지막으로 발급된 메세지 순번 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 마지막으로 발급된 순번, 순번 키가 없거나 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<Long> findSequence(Long chatRoomId) {
+        try {
+            return Optional.ofNullable(stringRedisTemplate.opsForValue().get(CHAT_ROOM_SEQ_KEY_PREFIX + chatRoomId))
+                    .map(Long::valueOf);
+        } catch (Exception e) {
+            log.error("[ChatRedisService findSequence() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 채팅방의 메세지 순번 초기화
+     * 여러 서버가 동시에 초기화하더라도 처음 한 번만 반영되도록 SETNX 사용
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param lastSeq 저장된 마지막 순번
+     */
+    public void initSequence(Long chatRoomId, Long lastSeq) {
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(CHAT_ROOM_SEQ_KEY_PREFIX + chatRoomId, String.valueOf(lastSeq));
+        } catch (Exception e) {
+            log.error("[ChatRedisService initSequence() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재연결 시 재전송할 수 있도록 채팅방의 최근 메세지로 저장하고 용량을 넘는 오래된 메세지 제거
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param recentMessageDTO 전송한 메세지
+     */
+    public void saveRecentMessage(Long chatRoomId, ChatMessageResponse.RecentMessageDTO recentMessageDTO) {
+        try {
+            String key = CHAT_ROOM_RECENT_KEY_PREFIX + chatRoomId;
+
+            stringRedisTemplate.opsForZSet().add(key, objectMapper.writeValueAsString(recentMessageDTO), recentMessageDTO.getChatMessage().getSeq());
+            stringRedisTemplate.opsForZSet().removeRange(key, 0, -(RECENT_MESSAGE_CAPACITY + 1));
+            stringRedisTemplate.expire(key, RECENT_MESSAGE_TTL);
+        } catch (Exception e) {
+            log.error("[ChatRedisService saveRecentMessage() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방의 최근 메세지 중 특정 순번 이후의 메세지를 오래된 순으로 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param seq 클라이언트가 마지막으로 수신한 메세지 순번
+     * @return 최근 메세지 목록, 없거나 레디스 장애 발생 시 빈 리스트
+     */
+    public List<ChatMessageResponse.RecentMessageDTO> findRecentMessagesAfter(Long chatRoomId, Long seq) {
+        try {
+            Set<String> recentMessages = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(CHAT_ROOM_RECENT_KEY_PREFIX + chatRoomId, seq + 1, Double.MAX_VALUE);
+
+            if (recentMessages == null) {
+                return List.of();
+            }
+
+            List<ChatMessageResponse.RecentMessageDTO> recentMessageDTOs = new ArrayList<>(recentMessages.size());
+            for (String recentMessage : recentMessages) {
+                recentMessageDTOs.add(objectMapper.readValue(recentMessage, ChatMessageResponse.RecentMessageDTO.class));
+            }
+
+            return recentMessageDTOs;
+        } catch (Exception e) {
+            log.error("[ChatRedisService findRecentMessagesAfter() error]: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 캐시 전체 삭제
+     * 애플리케이션 시작 시 DB 가 새로 생성되므로 이전 실행에서 남은 캐시를 제거하기 위해 사용
+     * 순번 키는 다음 발급 시 저장된 메세지와 버퍼에 남은 메세지의 최대 순번으로 다시 초기화됨
+     */
+    public void clear() {
+        deleteSenders();
+
+        try {
+            Set<String> chatRoomKeys = stringRedisTemplate.keys(CHAT_ROOM_MEMBERS_KEY_PREFIX + "*");
+            Set<String> seqKeys = stringRedisTemplate.keys(CHAT_ROOM_SEQ_KEY_PREFIX + "*");
+            Set<String> recentKeys = stringRedisTemplate.keys(CHAT_ROOM_RECENT_KEY_PREFIX + "*");
+
+            if (chatRoomKeys != null && !chatRoomKeys.isEmpty()) {
+                stringRedisTemplate.delete(chatRoomKeys);
+            }
+            if (seqKeys != null && !seqKeys.isEmpty()) {
+                stringRedisTemplate.delete(seqKeys);
+            }
+            if (recentKeys != null && !recentKeys.isEmpty()) {
+                stringRedisTemplate.delete(recentKeys);
+            }
+        } catch (Exception e) {
+            log.error("[ChatRedisService clear() error]: {}", e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 키 삭제
+    private void deleteAfterCommit(String key) {
+        runAfterCommit(() -> delete(key));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 이후에, 아니면 바로 실행
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+
+        task.run();
+    }
+
+    private void delete(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.error("[ChatRedisService delete() error]: {}", e.getMessage());
+        }
+    }
+}
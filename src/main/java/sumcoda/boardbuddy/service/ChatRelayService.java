@@ -0,0 +1,377 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 서버 간 채팅 메세지 전달을 위한 Redis pub/sub 서비스
+ * 각 서버는 자신에게 연결된 세션이 구독 중인 채팅방의 채널만 구독하고, 마지막 로컬 구독이 끝나면 채널 구독을 해제함
+ * 메세지를 발행한 서버는 로컬 구독자에게 바로 전송하고, 다른 서버는 채널로 전달받아 로컬 구독자에게 전송
+ * 묶음 전송을 사용하면 로컬 구독자에게는 채팅방별로 짧은 시간 동안 모은 메세지를 배열 프레임 하나로 전송
+ **/
+@Slf4j
+@Service
+public class ChatRelayService implements MessageListener {
+
+    // 채팅방 구독 경로 접두사
+    public static final String RECEPTION_DESTINATION_PREFIX = "/api/ws-stomp/reception/";
+
+    // 채팅방 채널 이름 접두사 (channel : 접두사 + 채팅방 Id)
+    private static final String CHAT_ROOM_CHANNEL_PREFIX = "CHAT_ROOM:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    // 채팅방별 이 서버의 구독 수 (key : 채팅방 Id, value : 구독 수)
+    private final Map<Long, Integer> localSubscriptionCounts = new ConcurrentHashMap<>();
+
+    // 세션의 구독별 채팅방 (key : 세션 Id + 구독 Id, value : 채팅방 Id), 구독 해제 프레임에는 경로가 없으므로 보관
+    private final Map<String, Long> subscriptionChatRoomIds = new ConcurrentHashMap<>();
+
+    // 이 서버에 연결된 STOMP 세션 Id 집합
+    private final Set<String> localSessionIds = ConcurrentHashMap.newKeySet();
+
+    // 채팅방 구독자에게 메세지를 분배하는 데 걸린 시간 (outbound 채널 큐에 넣기까지)
+    private final Timer fanOutLatencyTimer;
+
+    // 구독자에게 분배한 채팅 메세지 수와 프레임 수 (묶음 전송 사용 전후의 프레임 감소량 비교용)
+    private final Counter broadcastMessageCounter;
+
+    private final Counter broadcastFrameCounter;
+
+    // 묶음 전송 대기 중인 채팅방별 메세지 (key : 채팅방 Id, value : 수신 순서대로 쌓인 메세지)
+    private final Map<Long, List<Object>> pendingBroadcasts = new ConcurrentHashMap<>();
+
+    // 묶음 전송 예약 전용 스케줄러
+    private final ScheduledExecutorService coalesceScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("chat-coalesce-", 0).daemon(true).factory());
+
+    // 다른 서버에서 전달받은 메세지 수
+    private final Counter relayedMessageCounter;
+
+    // 다른 서버에서 발행된 시각부터 이 서버에서 전송하기까지의 시간 (서버 간 시계 차이가 포함됨)
+    private final Timer relayLatencyTimer;
+
+    // 서버 Id (설정하지 않으면 실행 시마다 새로 생성)
+    @Value("${spring.chat.node-id:}")
+    private String nodeId;
+
+    // Redis 를 통한 서버 간 전달 사용 여부 (단일 서버나 Redis 가 없는 환경에서는 false)
+    @Value("${spring.chat.relay-enabled:true}")
+    private boolean relayEnabled;
+
+    // 묶음 전송 사용 여부, 사용하면 모든 채팅방 메세지가 배열 프레임으로 전송됨
+    @Value("${spring.chat.coalesce.enabled:false}")
+    private boolean coalesceEnabled;
+
+    // 채팅방 메세지를 모아서 보내는 시간 (ms)
+    @Value("${spring.chat.coalesce.window:30}")
+    private long coalesceWindow;
+
+    public ChatRelayService(StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            SimpMessagingTemplate messagingTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("chat.relay.subscribed.rooms", localSubscriptionCounts, Map::size)
+                .description("이 서버가 구독 중인 채팅방 채널 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.sessions.active", localSessionIds, Set::size)
+                .description("이 서버에 연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        // 채팅방별 태그는 카디널리티가 커지므로 전체 구독 수와 가장 많은 채팅방의 구독 수만 노출
+        Gauge.builder("chat.websocket.subscriptions", subscriptionChatRoomIds, Map::size)
+                .description("이 서버의 채팅방 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.subscriptions.max.per.room", localSubscriptionCounts,
+                        counts -> counts.values().stream().mapToInt(Integer::intValue).max().orElse(0))
+                .description("이 서버에서 구독 수가 가장 많은 채팅방의 구독 수")
+                .register(meterRegistry);
+        this.fanOutLatencyTimer = Timer.builder("chat.broadcast.fanout.latency")
+                .description("채팅 메세지를 이 서버의 구독자에게 분배하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.broadcastMessageCounter = Counter.builder("chat.broadcast.messages")
+                .description("이 서버의 구독자에게 분배한 채팅 메세지 수")
+                .register(meterRegistry);
+        this.broadcastFrameCounter = Counter.builder("chat.broadcast.frames")
+                .description("이 서버의 구독자에게 분배한 채팅방 프레임 수 (구독자 수를 곱하기 전)")
+                .register(meterRegistry);
+        Gauge.builder("chat.broadcast.pending.rooms", pendingBroadcasts, Map::size)
+                .description("묶음 전송 대기 중인 채팅방 수")
+                .register(meterRegistry);
+        this.relayedMessageCounter = Counter.builder("chat.relay.received")
+                .description("다른 서버에서 전달받은 채팅 메세지 수")
+                .register(meterRegistry);
+        this.relayLatencyTimer = Timer.builder("chat.relay.latency")
+                .description("다른 서버에서 발행된 채팅 메세지가 이 서버에서 전송되기까지의 시간")
+                .register(meterRegistry);
+    }
+
+    // 생성자 주입 이후 호출
+    @PostConstruct
+    public void init() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+    }
+
+    // 애플리케이션 종료 시 대기 중인 메세지를 전송하고 스케줄러 종료
+    @PreDestroy
+    public void shutdown() {
+        coalesceScheduler.shutdownNow();
+        pendingBroadcasts.keySet().forEach(this::flushPendingBroadcast);
+    }
+
+    /**
+     * 채팅방 구독자에게 메세지 전송
+     * 이 서버의 구독자에게는 바로 전송하고, 다른 서버의 구독자에게는 채팅방 채널로 전달
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param payload 전송할 메세지
+     **/
+    public void broadcast(Long chatRoomId, Object payload) {
+        deliverLocally(chatRoomId, payload);
+
+        if (!relayEnabled) {
+            return;
+        }
+
+        try {
+            Map<String, Object> relayMessage = Map.of(
+                    "nodeId", nodeId,
+                    "chatRoomId", chatRoomId,
+                    "publishedAt", System.currentTimeMillis(),
+                    "payload", payload);
+
+            stringRedisTemplate.convertAndSend(CHAT_ROOM_CHANNEL_PREFIX + chatRoomId, objectMapper.writeValueAsString(relayMessage));
+        } catch (Exception e) {
+            // 다른 서버의 구독자는 재연결 시 놓친 메세지 조회로 복구
+            log.error("[ChatRelayService broadcast() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 채팅방 채널로 발행한 메세지를 수신하여 이 서버의 구독자에게 전송
+     **/
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode relayMessage = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+
+            // 이 서버에서 발행한 메세지는 이미 전송했으므로 무시
+            if (nodeId.equals(relayMessage.get("nodeId").asText())) {
+                return;
+            }
+
+            deliverLocally(relayMessage.get("chatRoomId").asLong(), relayMessage.get("payload"));
+
+            relayedMessageCounter.increment();
+            relayLatencyTimer.record(System.currentTimeMillis() - relayMessage.get("publishedAt").asLong(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.error("[ChatRelayService onMessage() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * STOMP 연결 완료 시 세션 등록
+     **/
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            localSessionIds.add(sessionId);
+        }
+    }
+
+    /**
+     * 채팅방 구독 시 이 서버의 첫 구독이면 채팅방 채널 구독
+     **/
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(RECEPTION_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        Long chatRoomId;
+        try {
+            chatRoomId = Long.valueOf(destination.substring(RECEPTION_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        if (subscriptionChatRoomIds.putIfAbsent(accessor.getSessionId() + ":" + accessor.getSubscriptionId(), chatRoomId) == null) {
+            incrementLocalSubscription(chatRoomId);
+        }
+    }
+
+    /**
+     * 채팅방 구독 해제 시 이 서버의 마지막 구독이면 채팅방 채널 구독 해제
+     **/
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+
+        Long chatRoomId = subscriptionChatRoomIds.remove(accessor.getSessionId() + ":" + accessor.getSubscriptionId());
+        if (chatRoomId != null) {
+            decrementLocalSubscription(chatRoomId);
+        }
+    }
+
+    /**
+     * 연결 종료 시 구독 해제 프레임 없이 끊긴 세션의 구독 정리
+     **/
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        localSessionIds.remove(event.getSessionId());
+
+        String subscriptionKeyPrefix = event.getSessionId() + ":";
+
+        subscriptionChatRoomIds.keySet().removeIf(subscriptionKey -> {
+            if (!subscriptionKey.startsWith(subscriptionKeyPrefix)) {
+                return false;
+            }
+
+            Long chatRoomId = subscriptionChatRoomIds.get(subscriptionKey);
+            if (chatRoomId != null) {
+                decrementLocalSubscription(chatRoomId);
+            }
+            return true;
+        });
+    }
+
+    // 이 서버의 구독자에게 전송, 묶음 전송을 사용하면 채팅방의 첫 메세지 이후 coalesceWindow 동안 모아서 한 번에 전송
+    private void deliverLocally(Long chatRoomId, Object payload) {
+        broadcastMessageCounter.increment();
+
+        if (!coalesceEnabled) {
+            send(chatRoomId, payload);
+            return;
+        }
+
+        boolean[] isFirstPending = new boolean[1];
+        pendingBroadcasts.compute(chatRoomId, (id, pending) -> {
+            if (pending == null) {
+                pending = new ArrayList<>();
+                isFirstPending[0] = true;
+            }
+            pending.add(payload);
+            return pending;
+        });
+
+        if (!isFirstPending[0]) {
+            return;
+        }
+
+        try {
+            coalesceScheduler.schedule(() -> flushPendingBroadcast(chatRoomId), coalesceWindow, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flushPendingBroadcast(chatRoomId);
+        }
+    }
+
+    // 묶음 전송 대기 중인 메세지를 수신 순서대로 하나의 배열 프레임으로 전송
+    private void flushPendingBroadcast(Long chatRoomId) {
+        List<Object> pending = pendingBroadcasts.remove(chatRoomId);
+
+        if (pending != null && !pending.isEmpty()) {
+            send(chatRoomId, pending);
+        }
+    }
+
+    private void send(Long chatRoomId, Object payload) {
+        broadcastFrameCounter.increment();
+        fanOutLatencyTimer.record(() -> messagingTemplate.convertAndSend(RECEPTION_DESTINATION_PREFIX + chatRoomId, payload));
+    }
+
+    // 이 서버의 채팅방 구독 수 증가, 첫 구독이면 채널 구독
+    private void incrementLocalSubscription(Long chatRoomId) {
+        localSubscriptionCounts.compute(chatRoomId, (id, count) -> {
+            if (count == null) {
+                subscribeChannel(id);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    // 이 서버의 채팅방 구독 수 감소, 마지막 구독이면 채널 구독 해제
+    private void decrementLocalSubscription(Long chatRoomId) {
+        localSubscriptionCounts.computeIfPresent(chatRoomId, (id, count) -> {
+            if (count <= 1) {
+                unsubscribeChannel(id);
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    private void subscribeChannel(Long chatRoomId) {
+        if (!relayEnabled) {
+            return;
+        }
+
+        try {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHAT_ROOM_CHANNEL_PREFIX + chatRoomId));
+        } catch (Exception e) {
+            log.error("[ChatRelayService subscribeChannel() error]: {}", e.getMessage());
+        }
+    }
+
+    private void unsubscribeChannel(Long chatRoomId) {
+        if (!relayEnabled) {
+            return;
+        }
+
+        try {
+            redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(CHAT_ROOM_CHANNEL_PREFIX + chatRoomId));
+        } catch (Exception e) {
+            log.error("[ChatRelayService unsubscribeChannel() error]: {}", e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
 import sumcoda.boardbuddy.dto.ChatRoomResponse;
 import sumcoda.boardbuddy.dto.MemberChatRoomResponse;
 import sumcoda.boardbuddy.entity.ChatRoom;
@@ -22,6 +23,7 @@ import sumcoda.boardbuddy.repository.member.MemberRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +38,8 @@ public class ChatRoomService {
 
     private final GatherArticleRepository gatherArticleRepository;
 
+    private final ChatRedisService chatRedisService;
+
     /**
      * 채팅방 생성
      *
@@ -83,6 +87,9 @@ public class ChatRoomService {
         }
         Long chatRoomId = chatRoom.getId();
 
+        // 채팅 메세지 발행 시 사용하는 참여자 캐시 무효화
+        chatRedisService.evictChatRoomMembers(chatRoomId);
+
         String nickname = member.getNickname();
 
         return Pair.of(chatRoomId, nickname);
@@ -115,11 +122,73 @@ public class ChatRoomService {
 
         Long chatRoomId = chatRoomValidateDTO.getId();
 
+        // 채팅 메세지 발행 시 사용하는 참여자 캐시 무효화
+        chatRedisService.evictChatRoomMembers(chatRoomId);
+
         String nickname = memberChatRoomValidateDTO.getNickname();
 
         return Pair.of(chatRoomId, nickname);
     }
 
+    /**
+     * 사용자가 채팅방의 메세지를 특정 순번까지 읽었음을 저장
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param username 사용자 아이디
+     * @param seq 마지막으로 읽은 메세지 순번
+     **/
+    @Transactional
+    public void readChatMessages(Long chatRoomId, String username, Long seq) {
+        MemberChatRoom memberChatRoom = memberChatRoomRepository.findByChatRoomIdAndMemberUsername(chatRoomId, username)
+                .orElseThrow(() -> new ChatRoomAccessDeniedException("해당 채팅방에 입장하지 않은 사용자입니다."));
+
+        // write-behind 사용 시 채팅방의 마지막 순번은 저장이 끝난 메세지까지만 반영되므로 레디스에서 발급된 순번과 비교
+        long lastMessageSeq = Math.max(memberChatRoom.getChatRoom().getLastMessageSeq(),
+                chatRedisService.findSequence(chatRoomId).orElse(0L));
+
+        memberChatRoom.assignLastReadSeq(seq, lastMessageSeq);
+    }
+
+    /**
+     * 사용자의 채팅방 참여 여부 확인 (캐시가 없으면 채팅방 참여자 목록을 DB 에서 조회하여 캐싱)
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param memberId 사용자 Id
+     * @return 참여 여부
+     **/
+    public boolean isChatRoomMember(Long chatRoomId, Long memberId) {
+        return chatRedisService.isChatRoomMember(chatRoomId, memberId)
+                .orElseGet(() -> {
+                    // 조회 도중 입장, 퇴장이 커밋되면 조회 결과를 캐싱하지 않도록 조회 전에 참여자 변경 버전을 읽음
+                    Optional<String> membersVersion = chatRedisService.findChatRoomMembersVersion(chatRoomId);
+
+                    List<Long> memberIds = memberChatRoomRepository.findMemberIdsByChatRoomId(chatRoomId);
+
+                    if (memberIds.isEmpty() && !chatRoomRepository.existsById(chatRoomId)) {
+                        throw new ChatRoomNotFoundException("해당 채팅방이 존재하지 않습니다.");
+                    }
+
+                    membersVersion.ifPresent(version -> chatRedisService.saveChatRoomMembers(chatRoomId, version, memberIds));
+                    return memberIds.contains(memberId);
+                });
+    }
+
+    /**
+     * STOMP 연결 시 사용자 정보 조회
+     * 채팅 메세지 발행 시 바로 사용할 수 있도록 발신자 캐시도 함께 저장
+     *
+     * @param username 사용자 아이디
+     * @return 사용자 Id, 닉네임, 랭킹, 프로필 이미지 URL
+     **/
+    public ChatMessageResponse.SenderDTO getChatMemberByUsername(String username) {
+        ChatMessageResponse.SenderDTO senderDTO = memberRepository.findSenderDTOByUsername(username)
+                .orElseThrow(() -> new MemberNotFoundException("해당 사용자를 찾을 수 없습니다."));
+
+        chatRedisService.saveSender(senderDTO);
+
+        return senderDTO;
+    }
+
     /**
      * 특정 사용자가 참여하고 있는 채팅방 상세 정보 목록 조회
      *
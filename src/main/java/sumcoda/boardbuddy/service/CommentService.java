@@ -10,6 +10,7 @@ import sumcoda.boardbuddy.dto.MemberResponse;
 import sumcoda.boardbuddy.entity.Comment;
 import sumcoda.boardbuddy.entity.GatherArticle;
 import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.enumerate.RankScorePoints;
 import sumcoda.boardbuddy.exception.comment.*;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotFoundException;
 import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
@@ -30,6 +31,8 @@ public class CommentService {
 
     private final MemberRepository memberRepository;
 
+    private final RankingRedisService rankingRedisService;
+
     /**
      * 댓글 작성
      *
@@ -78,6 +81,9 @@ public class CommentService {
 
         // 댓글 저장
         commentRepository.save(comment);
+
+        // 실시간 랭킹 점수 반영
+        rankingRedisService.incrementScore(member.getId(), RankScorePoints.COMMENT_SCORE.getScore());
     }
 
     /**
@@ -187,6 +193,12 @@ public class CommentService {
             commentRepository.deleteAllInBatch(children);
         }
 
+        // 이번 달에 작성된 댓글이면 실시간 랭킹 점수 취소
+        for (Comment child : children) {
+            rankingRedisService.cancelScore(child.getMember().getId(), RankScorePoints.COMMENT_SCORE.getScore(), child.getCreatedAt());
+        }
+        rankingRedisService.cancelScore(comment.getMember().getId(), RankScorePoints.COMMENT_SCORE.getScore(), comment.getCreatedAt());
+
         // 댓글 삭제
         commentRepository.delete(comment);
     }
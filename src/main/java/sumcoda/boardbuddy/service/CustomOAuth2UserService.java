@@ -10,11 +10,13 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import sumcoda.boardbuddy.dto.auth.oauth2.*;
 import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.entity.MemberStats;
 import sumcoda.boardbuddy.enumerate.MemberType;
 import sumcoda.boardbuddy.enumerate.Role;
 import sumcoda.boardbuddy.exception.auth.ClientRegistrationRetrievalException;
 import sumcoda.boardbuddy.exception.auth.SocialUserInfoRetrievalException;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
+import sumcoda.boardbuddy.repository.memberStats.MemberStatsRepository;
 
 import java.security.SecureRandom;
 
@@ -25,6 +27,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
 
+    private final MemberStatsRepository memberStatsRepository;
+
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
 
@@ -88,25 +92,15 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                     null,
                     null,
                     2,
-                    50.0,
-                    0,
-                    0,
-                    0,
-                    0,
-                    0,
-                    0,
-                    0,
-                    0,
-                    0,
                     null,
                     null,
-                    0.0,
                     MemberType.SOCIAL,
                     Role.USER,
                     null
             );
 
             memberRepository.save(member);
+            memberStatsRepository.save(MemberStats.buildMemberStats(member, 50.0, 0, 0, 0, 0));
 
             // 신규 로그인 회원이 아니라면 현재 로그인한 유저 정보를 바탕으로 DB에 업데이트
         } else {
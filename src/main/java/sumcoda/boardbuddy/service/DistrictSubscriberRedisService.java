@@ -0,0 +1,188 @@
+package sumcoda.boardbuddy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sumcoda.boardbuddy.dto.NearPublicDistrictResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DistrictSubscriberRedisService {
+
+    // 행정 구역별 구독자 집합의 키 접두사(key : 접두사 + 시도 시군구 읍면동, value : 반경 안에 해당 행정 구역이 포함된 사용자 id 집합)
+    private static final String DISTRICT_KEY_PREFIX = "DISTRICT_SUBSCRIBERS:";
+
+    // 사용자별 구독 중인 행정 구역 키 집합의 키 접두사(key : 접두사 + 사용자 id, value : 구독 중인 행정 구역 키 집합)
+    private static final String MEMBER_KEY_PREFIX = "MEMBER_DISTRICTS:";
+
+    // 인덱스가 DB 기준으로 모두 만들어졌음을 표시하는 키 (없으면 구독자가 없는 행정 구역과 인덱스 유실을 구분할 수 없으므로 DB 에서 조회)
+    private static final String INDEX_READY_KEY = "DISTRICT_SUBSCRIBERS_READY";
+
+    // 사용자가 구독 중인 행정 구역을 모두 해제하고 새 행정 구역들을 구독하는 스크립트
+    // 해제와 등록 사이에 다른 요청이 끼어들어 일부 행정 구역만 등록된 상태가 보이지 않도록 한 번에 실행
+    // KEYS[1] : 사용자별 구독 중인 행정 구역 키 집합, ARGV[1] : 사용자 id, ARGV[2] 이후 : 구독할 행정 구역 키
+    private static final RedisScript<Long> REPLACE_SUBSCRIPTIONS_SCRIPT = new DefaultRedisScript<>(
+            "for _, districtKey in ipairs(redis.call('SMEMBERS', KEYS[1])) do redis.call('SREM', districtKey, ARGV[1]) end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "for i = 2, #ARGV do " +
+                    "redis.call('SADD', ARGV[i], ARGV[1]) " +
+                    "redis.call('SADD', KEYS[1], ARGV[i]) " +
+                    "end " +
+                    "return #ARGV - 1",
+            Long.class);
+
+    // Redis 의 Set 자료 구조를 문자열로 다루기 위해 StringRedisTemplate 선언
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 사용자의 반경에 포함된 행정 구역들을 구독 대상으로 등록
+     * 기존에 구독 중인 행정 구역은 모두 해제한 후 다시 등록
+     * 트랜잭션 안에서 호출되면 위치 변경이 커밋된 이후에 등록
+     *
+     * @param memberId 사용자 id
+     * @param nearbyLocations 사용자의 반경에 포함된 행정 구역 리스트
+     */
+    public void subscribe(Long memberId, List<NearPublicDistrictResponse.LocationDTO> nearbyLocations) {
+        runAfterCommit(() -> replaceSubscriptions(memberId, nearbyLocations));
+    }
+
+    /**
+     * 사용자의 구독 행정 구역을 바로 교체 (인덱스 재생성 시 사용)
+     *
+     * @param memberId 사용자 id
+     * @param nearbyLocations 사용자의 반경에 포함된 행정 구역 리스트
+     * @return 교체 성공 여부
+     */
+    public boolean replaceSubscriptions(Long memberId, List<NearPublicDistrictResponse.LocationDTO> nearbyLocations) {
+        String member = memberId.toString();
+
+        List<String> args = new ArrayList<>();
+        args.add(member);
+        nearbyLocations.stream()
+                .map(location -> buildDistrictKey(location.getSido(), location.getSgg(), location.getEmd()))
+                .distinct()
+                .forEach(args::add);
+
+        try {
+            stringRedisTemplate.execute(REPLACE_SUBSCRIPTIONS_SCRIPT, List.of(MEMBER_KEY_PREFIX + member), args.toArray());
+            return true;
+        } catch (Exception e) {
+            log.error("[DistrictSubscriberRedisService replaceSubscriptions() error]: {}", e.getMessage());
+            // 인덱스가 DB 와 달라졌으므로 준비 표시를 제거하여 다음 재생성 전까지 DB 에서 조회하도록 함
+            deleteReady();
+            return false;
+        }
+    }
+
+    /**
+     * 사용자가 구독 중인 모든 행정 구역에서 사용자를 제거
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 제거
+     *
+     * @param memberId 사용자 id
+     */
+    public void unsubscribe(Long memberId) {
+        runAfterCommit(() -> replaceSubscriptions(memberId, List.of()));
+    }
+
+    /**
+     * 인덱스를 DB 기준으로 모두 만들었음을 표시
+     * 표시 이후에는 키가 없는 행정 구역을 구독자가 없는 행정 구역으로 보고 DB 에서 조회하지 않음
+     */
+    public void markReady() {
+        try {
+            stringRedisTemplate.opsForValue().set(INDEX_READY_KEY, "1");
+        } catch (Exception e) {
+            log.error("[DistrictSubscriberRedisService markReady() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 해당 행정 구역을 반경 안에 포함하는 사용자 id 집합을 조회
+     *
+     * @param sido 시도
+     * @param sgg 시군구
+     * @param emd 읍면동
+     * @return 사용자 id 집합, 구독자가 없는데 인덱스가 준비되지 않았거나 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<Set<Long>> findSubscriberIds(String sido, String sgg, String emd) {
+        try {
+            Set<String> members = stringRedisTemplate.opsForSet().members(buildDistrictKey(sido, sgg, emd));
+
+            // 키가 없으면 구독자가 없는 행정 구역이거나 인덱스가 유실된 것이므로, 인덱스가 준비된 경우에만 빈 집합으로 봄
+            if (members == null || members.isEmpty()) {
+                return Boolean.TRUE.equals(stringRedisTemplate.hasKey(INDEX_READY_KEY))
+                        ? Optional.of(Set.of())
+                        : Optional.empty();
+            }
+
+            return Optional.of(members.stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet()));
+        } catch (Exception e) {
+            log.error("[DistrictSubscriberRedisService findSubscriberIds() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 인덱스 전체 삭제
+     * 애플리케이션 시작 시 DB 가 새로 생성되므로 이전 실행에서 남은 인덱스를 제거하기 위해 사용
+     */
+    public void clear() {
+        deleteReady();
+
+        try {
+            Set<String> districtKeys = stringRedisTemplate.keys(DISTRICT_KEY_PREFIX + "*");
+            Set<String> memberKeys = stringRedisTemplate.keys(MEMBER_KEY_PREFIX + "*");
+
+            if (districtKeys != null && !districtKeys.isEmpty()) {
+                stringRedisTemplate.delete(districtKeys);
+            }
+            if (memberKeys != null && !memberKeys.isEmpty()) {
+                stringRedisTemplate.delete(memberKeys);
+            }
+        } catch (Exception e) {
+            log.error("[DistrictSubscriberRedisService clear() error]: {}", e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 이후에, 아니면 바로 실행
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+
+        task.run();
+    }
+
+    private void deleteReady() {
+        try {
+            stringRedisTemplate.delete(INDEX_READY_KEY);
+        } catch (Exception e) {
+            log.error("[DistrictSubscriberRedisService deleteReady() error]: {}", e.getMessage());
+        }
+    }
+
+    // 행정 구역 키 생성 메서드
+    private String buildDistrictKey(String sido, String sgg, String emd) {
+        return DISTRICT_KEY_PREFIX + sido + " " + sgg + " " + emd;
+    }
+}
@@ -8,12 +8,14 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sumcoda.boardbuddy.dto.*;
+import sumcoda.boardbuddy.entity.Comment;
 import sumcoda.boardbuddy.entity.GatherArticle;
 import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.entity.MemberGatherArticle;
 import sumcoda.boardbuddy.entity.ParticipationApplication;
 import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
 import sumcoda.boardbuddy.enumerate.ParticipationApplicationStatus;
+import sumcoda.boardbuddy.enumerate.RankScorePoints;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotFoundException;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleAccessDeniedException;
 
@@ -57,6 +59,8 @@ public class GatherArticleService {
 
     private final PublicDistrictRedisService publicDistrictRedisService;
 
+    private final RankingRedisService rankingRedisService;
+
     private static final int PAGE_SIZE = 15;
 
     private static final int GATHER_ARTICLE_MINIMUM_SEARCH_LENGTH = 2;
@@ -104,6 +108,9 @@ public class GatherArticleService {
         // 모임 완료 상태 업데이트 작업 스케줄링
         gatherArticleStatusUpdateSchedulingService.scheduleStatusUpdateJob(gatherArticle.getId(), gatherArticle.getEndDateTime());
 
+        // 실시간 랭킹 점수 반영
+        rankingRedisService.incrementScore(member.getId(), RankScorePoints.GATHER_ARTICLE_SCORE.getScore());
+
         return GatherArticleResponse.CreateDTO.builder().id(gatherArticle.getId()).build();
     }
 
@@ -200,8 +207,17 @@ public class GatherArticleService {
             throw new GatherArticleAccessDeniedException("작성자만 삭제할 수 있습니다.");
         }
 
+        GatherArticle gatherArticle = gatherArticleRepository.findById(GatherArticleIdDTO.getId())
+                .orElseThrow(() -> new GatherArticleNotFoundException("존재하지 않는 모집글입니다."));
+
+        // 이번 달에 작성된 모집글, 함께 삭제되는 댓글이면 실시간 랭킹 점수 취소
+        rankingRedisService.cancelScore(memberIdDTO.getId(), RankScorePoints.GATHER_ARTICLE_SCORE.getScore(), gatherArticle.getCreatedAt());
+        for (Comment comment : gatherArticle.getComments()) {
+            rankingRedisService.cancelScore(comment.getMember().getId(), RankScorePoints.COMMENT_SCORE.getScore(), comment.getCreatedAt());
+        }
+
         // 삭제
-        gatherArticleRepository.deleteById(GatherArticleIdDTO.getId());
+        gatherArticleRepository.delete(gatherArticle);
 
         // 스케줄링 작업 취소
         gatherArticleStatusUpdateSchedulingService.unscheduleStatusUpdateJob(GatherArticleIdDTO.getId());
@@ -0,0 +1,132 @@
+package sumcoda.boardbuddy.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 서버 중 한 서버만 스케줄링 작업을 실행하도록 하는 레디스 잠금 서비스
+ * 잠금 값으로 소유 토큰을 저장하고 토큰이 같을 때만 연장, 해제하므로, 만료된 뒤 다른 서버가 획득한 잠금을 건드리지 않음
+ * 작업 중에는 만료 시간보다 짧은 주기로 잠금을 연장하므로, 작업이 만료 시간보다 오래 걸려도 다른 서버가 같은 작업을 시작하지 않음
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLockRedisService {
+
+    // 잠금을 가진 서버만 만료 시간을 연장하는 스크립트
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    // 잠금을 가진 서버만 해제하는 스크립트
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 작업 중 잠금을 연장하는 스레드
+    private final ScheduledExecutorService lockRenewalScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * 잠금을 획득한 경우에만 작업 실행, 작업이 끝날 때까지 만료 시간의 1/3 주기로 잠금 연장
+     *
+     * @param lockKey 잠금 키
+     * @param lockTtl 잠금 만료 시간 (서버가 비정상 종료되어 연장이 멈추면 이 시간 뒤에 다른 서버가 획득 가능)
+     * @param task 실행할 작업
+     * @return 잠금을 획득하여 작업을 실행했으면 true
+     **/
+    public boolean runWithLock(String lockKey, Duration lockTtl, Runnable task) {
+        Optional<String> lockToken = acquireLock(lockKey, lockTtl);
+        if (lockToken.isEmpty()) {
+            return false;
+        }
+
+        long renewIntervalMillis = Math.max(lockTtl.toMillis() / 3, 1);
+        ScheduledFuture<?> lockRenewal = lockRenewalScheduler.scheduleWithFixedDelay(() -> {
+            if (!renewLock(lockKey, lockToken.get(), lockTtl)) {
+                log.warn("Job lock could not be renewed, another server may run the same job. key: {}", lockKey);
+            }
+        }, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            lockRenewal.cancel(false);
+            releaseLock(lockKey, lockToken.get());
+        }
+    }
+
+    /**
+     * 잠금 획득 (작업이 비정상 종료되더라도 잠금이 남지 않도록 만료 시간 설정)
+     *
+     * @param lockKey 잠금 키
+     * @param lockTtl 잠금 만료 시간
+     * @return 잠금 소유 토큰, 다른 서버가 잠금을 가지고 있거나 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<String> acquireLock(String lockKey, Duration lockTtl) {
+        try {
+            String lockToken = UUID.randomUUID().toString();
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, lockTtl))
+                    ? Optional.of(lockToken)
+                    : Optional.empty();
+        } catch (Exception e) {
+            log.error("[JobLockRedisService acquireLock() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 작업이 끝날 때까지 잠금이 만료되지 않도록 만료 시간 연장
+     *
+     * @param lockKey 잠금 키
+     * @param lockToken 잠금 획득 시 받은 토큰
+     * @param lockTtl 연장할 만료 시간
+     * @return 잠금을 계속 가지고 있으면 true
+     **/
+    public boolean renewLock(String lockKey, String lockToken, Duration lockTtl) {
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(lockKey),
+                    lockToken, String.valueOf(lockTtl.toMillis()));
+            return renewed != null && renewed == 1;
+        } catch (Exception e) {
+            log.error("[JobLockRedisService renewLock() error]: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 해제 (만료 후 다른 서버가 획득한 잠금은 해제하지 않음)
+     *
+     * @param lockKey 잠금 키
+     * @param lockToken 잠금 획득 시 받은 토큰
+     **/
+    public void releaseLock(String lockKey, String lockToken) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockToken);
+        } catch (Exception e) {
+            log.error("[JobLockRedisService releaseLock() error]: {}", e.getMessage());
+        }
+    }
+
+    // 애플리케이션 종료 시 잠금 연장 스레드 종료
+    @PreDestroy
+    public void shutdown() {
+        lockRenewalScheduler.shutdownNow();
+    }
+}
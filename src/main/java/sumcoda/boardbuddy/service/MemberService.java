@@ -10,12 +10,15 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import sumcoda.boardbuddy.dto.*;
 import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.entity.MemberStats;
 import sumcoda.boardbuddy.entity.ProfileImage;
 import sumcoda.boardbuddy.enumerate.MemberType;
 import sumcoda.boardbuddy.enumerate.Role;
 import sumcoda.boardbuddy.exception.member.*;
 import sumcoda.boardbuddy.exception.publicDistrict.PublicDistrictRetrievalException;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
+import sumcoda.boardbuddy.repository.memberStats.MemberStatsRepository;
 import sumcoda.boardbuddy.repository.ProfileImageRepository;
 import sumcoda.boardbuddy.repository.publicDistrict.PublicDistrictRepository;
 import sumcoda.boardbuddy.util.FileStorageUtil;
@@ -24,6 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -33,6 +37,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
 
+    private final MemberStatsRepository memberStatsRepository;
+
     private final PublicDistrictRepository publicDistrictRepository;
 
     private final ProfileImageRepository profileImageRepository;
@@ -41,6 +47,14 @@ public class MemberService {
 
     private final PublicDistrictRedisService publicDistrictRedisService;
 
+    private final DistrictSubscriberRedisService districtSubscriberRedisService;
+
+    private final ChatRedisService chatRedisService;
+
+    private final RankingRedisService rankingRedisService;
+
+    private final MemberStatsService memberStatsService;
+
     // 비밀번호를 암호화 하기 위한 필드
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
@@ -94,7 +108,7 @@ public class MemberService {
     @Transactional
     public void registerMember(MemberRequest.RegisterDTO registerDTO) {
 
-        Long memberId = memberRepository.save(Member.buildMember(
+        Member member = memberRepository.save(Member.buildMember(
                 registerDTO.getUsername(),
                 bCryptPasswordEncoder.encode(registerDTO.getPassword()),
                 registerDTO.getNickname(),
@@ -104,27 +118,21 @@ public class MemberService {
                 registerDTO.getSgg(),
                 registerDTO.getEmd(),
                 2,
-                50.0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
                 null,
                 null,
-                0.0,
                 MemberType.REGULAR,
                 Role.USER,
-                null)).getId();
+                null));
+
+        Long memberId = member.getId();
 
         if (memberId == null) {
             throw new MemberSaveException("서버 문제로 회원가입에 실패하였습니다. 관리자에게 문의하세요.");
         }
 
+        // 버디 지수, 참가 횟수, 리뷰 카운트는 member_stats 에 저장
+        memberStatsRepository.save(MemberStats.buildMemberStats(member, 50.0, 0, 0, 0, 0));
+
         // 회원가입 시 주변 행정 구역 저장
         nearPublicDistrictService.saveNearDistrictByRegisterLocation(
                 NearPublicDistrictRequest.LocationDTO.builder()
@@ -132,6 +140,9 @@ public class MemberService {
                         .sgg(registerDTO.getSgg())
                         .emd(registerDTO.getEmd())
                         .build());
+
+        // 반경 안의 행정 구역 구독자 인덱스에 등록
+        subscribeNearbyDistricts(memberId, registerDTO.getSido(), registerDTO.getSgg(), registerDTO.getEmd(), member.getRadius());
     }
 
     /**
@@ -148,7 +159,7 @@ public class MemberService {
         String sgg = "마포구";
         String emd = "서교동";
 
-        memberRepository.save(Member.buildMember(
+        Member admin = memberRepository.save(Member.buildMember(
                 "admin",
                 bCryptPasswordEncoder.encode("a12345#"),
                 "admin",
@@ -158,23 +169,13 @@ public class MemberService {
                 sgg,
                 emd,
                 2,
-                50.0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
-                0,
                 null,
                 null,
-                0.0,
                 MemberType.REGULAR,
                 Role.USER,
                 null)
         );
+        memberStatsRepository.save(MemberStats.buildMemberStats(admin, 50.0, 0, 0, 0, 0));
 
         // 관리자 계정의 행정 구역 저장
         nearPublicDistrictService.saveNearDistrictByAdminLocation(
@@ -195,7 +196,7 @@ public class MemberService {
         String sgg = "마포구";
         String emd = "서교동";
 
-        memberRepository.save(Member.buildMember(
+        Member user1 = memberRepository.save(Member.buildMember(
                 "user1",
                 bCryptPasswordEncoder.encode("a12345#"),
                 "김근호",
@@ -205,25 +206,15 @@ public class MemberService {
                 sgg,
                 emd,
                 2,
-                60.0,
-                7,
-                0,
-                12,
-                0,
-                5,
-                0,
-                0,
-                0,
-                0,
                 null,
                 1,
-                0.0,
                 MemberType.REGULAR,
                 Role.USER,
                 null)
         );
+        memberStatsRepository.save(MemberStats.buildMemberStats(user1, 60.0, 7, 12, 5, 0));
 
-        memberRepository.save(Member.buildMember(
+        Member user2 = memberRepository.save(Member.buildMember(
                 "user2",
                 bCryptPasswordEncoder.encode("a12345#"),
                 "이다솜",
@@ -233,25 +224,15 @@ public class MemberService {
                 sgg,
                 emd,
                 2,
-                58.0,
-                5,
-                0,
-                10,
-                0,
-                3,
-                0,
-                0,
-                0,
-                0,
                 null,
                 2,
-                0.0,
                 MemberType.REGULAR,
                 Role.USER,
                 null)
         );
+        memberStatsRepository.save(MemberStats.buildMemberStats(user2, 58.0, 5, 10, 3, 0));
 
-        memberRepository.save(Member.buildMember(
+        Member user3 = memberRepository.save(Member.buildMember(
                 "user3",
                 bCryptPasswordEncoder.encode("a12345#"),
                 "최민지",
@@ -261,23 +242,13 @@ public class MemberService {
                 sgg,
                 emd,
                 2,
-                55.0,
-                4,
-                0,
-                5,
-                0,
-                3,
-                0,
-                0,
-                0,
-                0,
                 null,
                 3,
-                0.0,
                 MemberType.REGULAR,
                 Role.USER,
                 null)
         );
+        memberStatsRepository.save(MemberStats.buildMemberStats(user3, 55.0, 4, 5, 3, 0));
 
 
     }
@@ -307,6 +278,9 @@ public class MemberService {
                         .sgg(oAuth2RegisterDTO.getSgg())
                         .emd(oAuth2RegisterDTO.getEmd())
                         .build());
+
+        // 반경 안의 행정 구역 구독자 인덱스에 등록
+        subscribeNearbyDistricts(member.getId(), oAuth2RegisterDTO.getSido(), oAuth2RegisterDTO.getSgg(), oAuth2RegisterDTO.getEmd(), member.getRadius());
     }
 
     /**
@@ -320,6 +294,7 @@ public class MemberService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new MemberRetrievalException("해당 유저를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
+        memberStatsRepository.deleteById(member.getId());
         memberRepository.delete(member);
 
         // 삭제 확인
@@ -327,6 +302,16 @@ public class MemberService {
         if (isExists) {
             throw new MemberDeletionFailureException("회원 탈퇴에 실패했습니다. 관리자에게 문의하세요.");
         }
+
+        // 행정 구역 구독자 인덱스에서 제거
+        districtSubscriberRedisService.unsubscribe(member.getId());
+
+        // 채팅 발신자 캐시에서 제거
+        chatRedisService.evictSender(member.getId());
+
+        // TOP3 랭킹, 뱃지 캐시에서 제거
+        rankingRedisService.evictTopRankings();
+        rankingRedisService.evictBadges(member.getNickname());
     }
 
     /**
@@ -394,13 +379,19 @@ public class MemberService {
         // 멤버의 위치 업데이트
         member.assignLocation(sido, sgg, emd);
 
-        // 위치 설정 시 주변 행정 구역 저장 후 DTO 로 응답
-        return nearPublicDistrictService.saveNearDistrictByUpdateLocation(
+        // 위치 설정 시 주변 행정 구역 저장
+        Map<Integer, List<MemberResponse.LocationDTO>> nearbyLocations = nearPublicDistrictService.saveNearDistrictByUpdateLocation(
                 NearPublicDistrictRequest.LocationDTO.builder()
                         .sido(sido)
                         .sgg(sgg)
                         .emd(emd)
                         .build());
+
+        // 변경된 위치를 기준으로 행정 구역 구독자 인덱스 갱신
+        subscribeNearbyDistricts(member.getId(), sido, sgg, emd, member.getRadius());
+
+        // 주변 행정 구역 정보를 DTO 로 응답
+        return nearbyLocations;
     }
 
     /**
@@ -417,6 +408,9 @@ public class MemberService {
 
         // 멤버의 반경 업데이트
         member.assignRadius(radiusDTO.getRadius());
+
+        // 변경된 반경을 기준으로 행정 구역 구독자 인덱스 갱신
+        subscribeNearbyDistricts(member.getId(), member.getSido(), member.getSgg(), member.getEmd(), member.getRadius());
     }
 
     /**
@@ -431,8 +425,19 @@ public class MemberService {
             throw new MemberNotFoundException("해당 유저를 찾을 수 없습니다.");
         }
 
-        return memberRepository.findMemberProfileByNickname(nickname)
+        MemberResponse.ProfileInfosDTO profileInfosDTO = memberRepository.findMemberProfileByNickname(nickname)
                 .orElseThrow(() -> new MemberRetrievalException("프로필을 조회할 수 없습니다. 관리자에게 문의하세요."));
+
+        // 아직 member_stats 에 반영되지 않은 카운트, 버디 지수를 더해서 응답
+        MemberJdbcRepository.MemberStatsDelta pendingDelta = memberStatsService.findPendingDelta(profileInfosDTO.getId());
+
+        return profileInfosDTO.toBuilder()
+                .buddyScore(profileInfosDTO.getBuddyScore() + pendingDelta.buddyScore())
+                .joinCount(profileInfosDTO.getJoinCount() + (int) pendingDelta.joinCount())
+                .totalExcellentCount(profileInfosDTO.getTotalExcellentCount() + (int) pendingDelta.excellentCount())
+                .totalGoodCount(profileInfosDTO.getTotalGoodCount() + (int) pendingDelta.goodCount())
+                .totalBadCount(profileInfosDTO.getTotalBadCount() + (int) pendingDelta.badCount())
+                .build();
     }
 
     /**
@@ -448,6 +453,13 @@ public class MemberService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new MemberRetrievalException("유저를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
+        // 채팅 메세지 발행 시 사용하는 발신자 캐시 무효화
+        chatRedisService.evictSender(member.getId());
+
+        // TOP3 랭킹에 표시되는 닉네임, 프로필 이미지와 닉네임으로 조회하는 뱃지 캐시 무효화
+        rankingRedisService.evictTopRankings();
+        rankingRedisService.evictBadges(member.getNickname());
+
         // 닉네임이 null이 아니면 업데이트
         if (updateProfileDTO.getNickname() != null) {
             member.assignNickname(updateProfileDTO.getNickname());
@@ -522,4 +534,66 @@ public class MemberService {
             }
         }
     }
+
+    /**
+     * 애플리케이션 시작 시 행정 구역 구독자 인덱스를 DB 기준으로 다시 생성
+     *
+     **/
+    public void rebuildDistrictSubscriberIndex() {
+
+        // 이전 실행에서 남은 인덱스 제거
+        districtSubscriberRedisService.clear();
+
+        // 같은 위치와 반경을 가진 사용자끼리 묶어서 주변 행정 구역 조회를 한 번만 수행
+        Map<List<Object>, List<MemberResponse.IdWithLocationDTO>> membersByLocation = memberRepository.findAllIdWithLocationDTOs().stream()
+                .collect(Collectors.groupingBy(dto -> List.of(dto.getSido(), dto.getSgg(), dto.getEmd(), dto.getRadius())));
+
+        boolean indexed = true;
+        for (List<MemberResponse.IdWithLocationDTO> members : membersByLocation.values()) {
+            MemberResponse.IdWithLocationDTO base = members.get(0);
+
+            List<NearPublicDistrictResponse.LocationDTO> nearbyLocations = nearPublicDistrictService.getNearbyLocationsWithinRadius(
+                    NearPublicDistrictRequest.LocationDTO.builder()
+                            .sido(base.getSido())
+                            .sgg(base.getSgg())
+                            .emd(base.getEmd())
+                            .build(),
+                    base.getRadius());
+
+            for (MemberResponse.IdWithLocationDTO dto : members) {
+                indexed &= districtSubscriberRedisService.replaceSubscriptions(dto.getId(), nearbyLocations);
+            }
+        }
+
+        // 모든 사용자를 등록한 경우에만 인덱스 사용 (일부라도 실패하면 모집글 알림 대상은 DB 에서 조회)
+        if (indexed) {
+            districtSubscriberRedisService.markReady();
+        }
+    }
+
+    /**
+     * 사용자의 위치와 반경을 기준으로 행정 구역 구독자 인덱스를 갱신
+     *
+     * @param memberId 사용자 id
+     * @param sido 시도
+     * @param sgg 시군구
+     * @param emd 읍면동
+     * @param radius 반경
+     **/
+    private void subscribeNearbyDistricts(Long memberId, String sido, String sgg, String emd, Integer radius) {
+        // 위치 정보가 설정되지 않은 소셜 로그인 사용자는 인덱스에 등록하지 않음
+        if (sido == null || sgg == null || emd == null) {
+            return;
+        }
+
+        List<NearPublicDistrictResponse.LocationDTO> nearbyLocations = nearPublicDistrictService.getNearbyLocationsWithinRadius(
+                NearPublicDistrictRequest.LocationDTO.builder()
+                        .sido(sido)
+                        .sgg(sgg)
+                        .emd(emd)
+                        .build(),
+                radius);
+
+        districtSubscriberRedisService.subscribe(memberId, nearbyLocations);
+    }
 }
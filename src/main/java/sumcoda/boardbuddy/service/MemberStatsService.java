@@ -0,0 +1,317 @@
+package sumcoda.boardbuddy.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sumcoda.boardbuddy.enumerate.ReviewType;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 통계 카운트 버퍼 서비스
+ * 카운트 증가는 회원, 필드별 LongAdder 에 모아 두었다가 주기적으로 batch UPDATE 로 member_stats 에 더함
+ * 같은 회원의 카운트가 동시에 증가해도 DB 행 잠금을 기다리지 않음
+ *
+ * 조회 : 아직 반영되지 않은 변화량은 findPendingDelta 로 조회하여 DB 값에 더해서 사용
+ *        누적기에서 꺼내는 것과 반영 중인 변화량에 넣는 것은 누적기 잠금 안에서 함께 하므로, 조회 시 어느 쪽에도 없는 순간이 없음
+ * 내구성 : 서버가 비정상 종료되면 마지막 반영 이후의 변화량(최대 flush-interval 분량)은 유실될 수 있음
+ *          정상 종료 시에는 남은 변화량을 반영한 뒤 종료
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberStatsService {
+
+    // 버디 지수는 소수 둘째 자리까지이므로 100을 곱한 정수로 모음
+    private static final double BUDDY_SCORE_SCALE = 100.0;
+
+    // 변화가 없는 상태로 이 횟수만큼 반영 주기가 지나면 누적기 제거
+    private static final int EVICT_IDLE_FLUSH_COUNT = 60;
+
+    private final MemberJdbcRepository memberJdbcRepository;
+
+    // 회원 Id 별 아직 반영되지 않은 변화량
+    private final Map<Long, MemberStatsAccumulator> accumulators = new ConcurrentHashMap<>();
+
+    // 누적기에서 꺼내 DB 에 반영 중인 변화량 (반영 중에도 조회 결과에 포함되도록 유지)
+    private volatile Map<Long, MemberJdbcRepository.MemberStatsDelta> flushingDeltas = Map.of();
+
+    /**
+     * 받은 리뷰 카운트, 버디 지수 증가
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 증가
+     *
+     * @param memberId 리뷰를 받은 유저 Id
+     * @param reviewType 리뷰 타입
+     **/
+    public void addReview(Long memberId, ReviewType reviewType) {
+        MemberStatsField countField = switch (reviewType) {
+            case EXCELLENT -> MemberStatsField.EXCELLENT_COUNT;
+            case GOOD -> MemberStatsField.GOOD_COUNT;
+            case BAD -> MemberStatsField.BAD_COUNT;
+            case NOSHOW -> MemberStatsField.NO_SHOW_COUNT;
+        };
+        long buddyScore = Math.round(reviewType.getScore() * BUDDY_SCORE_SCALE);
+
+        runAfterCommit(() -> {
+            add(memberId, countField, 1);
+            add(memberId, MemberStatsField.BUDDY_SCORE, buddyScore);
+        });
+    }
+
+    /**
+     * 이번 달 보낸 리뷰 카운트 증가
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 증가
+     *
+     * @param memberId 리뷰를 보낸 유저 Id
+     * @param count 보낸 리뷰 수
+     **/
+    public void addSendReviewCount(Long memberId, int count) {
+        runAfterCommit(() -> add(memberId, MemberStatsField.SEND_REVIEW_COUNT, count));
+    }
+
+    /**
+     * 참가 횟수 증감
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 반영
+     *
+     * @param memberId 유저 Id
+     * @param count 더할 참가 횟수 (음수이면 감소)
+     **/
+    public void addJoinCount(Long memberId, int count) {
+        runAfterCommit(() -> add(memberId, MemberStatsField.JOIN_COUNT, count));
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 변화량 조회
+     *
+     * @param memberId 유저 Id
+     * @return 반영되지 않은 변화량 (없으면 모두 0)
+     **/
+    public MemberJdbcRepository.MemberStatsDelta findPendingDelta(Long memberId) {
+        long[] sums = new long[MemberStatsField.values().length];
+
+        MemberJdbcRepository.MemberStatsDelta flushingDelta;
+
+        MemberStatsAccumulator accumulator = accumulators.get(memberId);
+        if (accumulator == null) {
+            flushingDelta = flushingDeltas.get(memberId);
+        } else {
+            synchronized (accumulator) {
+                for (MemberStatsField field : MemberStatsField.values()) {
+                    sums[field.ordinal()] = accumulator.sum(field);
+                }
+                flushingDelta = flushingDeltas.get(memberId);
+            }
+        }
+
+        MemberJdbcRepository.MemberStatsDelta pendingDelta = toMemberStatsDelta(memberId, sums);
+        return flushingDelta == null ? pendingDelta : merge(pendingDelta, flushingDelta);
+    }
+
+    /**
+     * 모아 둔 변화량을 한 번에 반영 - 기본 1초마다 스케줄링
+     * 반영에 실패한 변화량은 누적기에 되돌려 다음 주기에 다시 반영
+     **/
+    @Scheduled(fixedDelayString = "${spring.member-stats.flush-interval:1000}")
+    public synchronized void flush() {
+        // 꺼내는 즉시 조회 결과에 포함되도록 먼저 공개한 뒤 채움
+        Map<Long, MemberJdbcRepository.MemberStatsDelta> drainedDeltas = new ConcurrentHashMap<>();
+        flushingDeltas = drainedDeltas;
+
+        try {
+            for (Map.Entry<Long, MemberStatsAccumulator> entry : accumulators.entrySet()) {
+                Long memberId = entry.getKey();
+                MemberStatsAccumulator accumulator = entry.getValue();
+
+                long[] sums;
+                synchronized (accumulator) {
+                    sums = accumulator.sumThenReset();
+                    if (!isZero(sums)) {
+                        drainedDeltas.put(memberId, toMemberStatsDelta(memberId, sums));
+                    }
+                }
+
+                if (isZero(sums)) {
+                    if (++accumulator.idleFlushCount >= EVICT_IDLE_FLUSH_COUNT) {
+                        evict(memberId);
+                    }
+                    continue;
+                }
+
+                accumulator.idleFlushCount = 0;
+            }
+
+            if (drainedDeltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                memberJdbcRepository.addMemberStatsDeltas(new ArrayList<>(drainedDeltas.values()));
+            } catch (RuntimeException e) {
+                // 커넥션, 트랜잭션을 얻지 못한 경우 등 반영하지 못한 모든 경우에 되돌림
+                log.error("[MemberStatsService flush() error]: {}", e.getMessage());
+                restore(drainedDeltas);
+            }
+        } finally {
+            flushingDeltas = Map.of();
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 변화량 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 트랜잭션이 롤백되면 반영하지 않도록 커밋된 이후에 실행
+    private void runAfterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+            return;
+        }
+
+        runnable.run();
+    }
+
+    private void add(Long memberId, MemberStatsField field, long amount) {
+        while (true) {
+            MemberStatsAccumulator accumulator = accumulators.computeIfAbsent(memberId, id -> new MemberStatsAccumulator());
+            accumulator.add(field, amount);
+
+            if (!accumulator.evicting) {
+                return;
+            }
+
+            // 제거 중인 누적기에 더한 경우 취소하고, 제거가 끝난 뒤 남아 있거나 새로 만든 누적기에 다시 더함
+            accumulator.add(field, -amount);
+            Thread.onSpinWait();
+        }
+    }
+
+    // 변화가 없는 누적기 제거
+    // 제거 표시 이후에 더해진 값은 add 에서 취소 후 다시 더하므로, 표시 이후에도 0 이면 유실 없이 제거할 수 있음
+    private void evict(Long memberId) {
+        accumulators.computeIfPresent(memberId, (id, accumulator) -> {
+            accumulator.evicting = true;
+            if (accumulator.isZero()) {
+                return null;
+            }
+
+            accumulator.evicting = false;
+            accumulator.idleFlushCount = 0;
+            return accumulator;
+        });
+    }
+
+    // 반영하지 못한 변화량을 누적기에 되돌림
+    // 되돌리는 것과 반영 중인 변화량에서 빼는 것을 누적기 잠금 안에서 함께 하여 조회 시 두 번 더해지지 않도록 함
+    private void restore(Map<Long, MemberJdbcRepository.MemberStatsDelta> drainedDeltas) {
+        for (MemberJdbcRepository.MemberStatsDelta delta : drainedDeltas.values()) {
+            MemberStatsAccumulator accumulator = accumulators.computeIfAbsent(delta.memberId(), id -> new MemberStatsAccumulator());
+
+            synchronized (accumulator) {
+                accumulator.add(MemberStatsField.EXCELLENT_COUNT, delta.excellentCount());
+                accumulator.add(MemberStatsField.GOOD_COUNT, delta.goodCount());
+                accumulator.add(MemberStatsField.BAD_COUNT, delta.badCount());
+                accumulator.add(MemberStatsField.NO_SHOW_COUNT, delta.noShowCount());
+                accumulator.add(MemberStatsField.SEND_REVIEW_COUNT, delta.sendReviewCount());
+                accumulator.add(MemberStatsField.JOIN_COUNT, delta.joinCount());
+                accumulator.add(MemberStatsField.BUDDY_SCORE, Math.round(delta.buddyScore() * BUDDY_SCORE_SCALE));
+                drainedDeltas.remove(delta.memberId());
+            }
+        }
+    }
+
+    private static boolean isZero(long[] sums) {
+        for (long sum : sums) {
+            if (sum != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MemberJdbcRepository.MemberStatsDelta toMemberStatsDelta(Long memberId, long[] sums) {
+        return new MemberJdbcRepository.MemberStatsDelta(
+                memberId,
+                sums[MemberStatsField.EXCELLENT_COUNT.ordinal()],
+                sums[MemberStatsField.GOOD_COUNT.ordinal()],
+                sums[MemberStatsField.BAD_COUNT.ordinal()],
+                sums[MemberStatsField.NO_SHOW_COUNT.ordinal()],
+                sums[MemberStatsField.SEND_REVIEW_COUNT.ordinal()],
+                sums[MemberStatsField.JOIN_COUNT.ordinal()],
+                sums[MemberStatsField.BUDDY_SCORE.ordinal()] / BUDDY_SCORE_SCALE);
+    }
+
+    private static MemberJdbcRepository.MemberStatsDelta merge(MemberJdbcRepository.MemberStatsDelta a, MemberJdbcRepository.MemberStatsDelta b) {
+        return new MemberJdbcRepository.MemberStatsDelta(
+                a.memberId(),
+                a.excellentCount() + b.excellentCount(),
+                a.goodCount() + b.goodCount(),
+                a.badCount() + b.badCount(),
+                a.noShowCount() + b.noShowCount(),
+                a.sendReviewCount() + b.sendReviewCount(),
+                a.joinCount() + b.joinCount(),
+                a.buddyScore() + b.buddyScore());
+    }
+
+    // 누적기 필드 (버디 지수는 BUDDY_SCORE_SCALE 을 곱한 값)
+    private enum MemberStatsField {
+        EXCELLENT_COUNT, GOOD_COUNT, BAD_COUNT, NO_SHOW_COUNT, SEND_REVIEW_COUNT, JOIN_COUNT, BUDDY_SCORE
+    }
+
+    // 회원 한 명의 필드별 변화량
+    private static class MemberStatsAccumulator {
+
+        private final LongAdder[] adders = new LongAdder[MemberStatsField.values().length];
+
+        // 제거 중 표시
+        private volatile boolean evicting;
+
+        // 변화 없이 지난 반영 주기 수 (반영 스레드에서만 사용)
+        private int idleFlushCount;
+
+        private MemberStatsAccumulator() {
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        private void add(MemberStatsField field, long amount) {
+            adders[field.ordinal()].add(amount);
+        }
+
+        private long sum(MemberStatsField field) {
+            return adders[field.ordinal()].sum();
+        }
+
+        private long[] sumThenReset() {
+            long[] sums = new long[adders.length];
+            for (int i = 0; i < adders.length; i++) {
+                sums[i] = adders[i].sumThenReset();
+            }
+            return sums;
+        }
+
+        private boolean isZero() {
+            for (LongAdder adder : adders) {
+                if (adder.sum() != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -321,4 +321,30 @@ public class NearPublicDistrictService {
                                 .LocationDTO(infoDTO.getSido(), infoDTO.getSgg(), infoDTO.getEmd()), Collectors.toList())
                 ));
     }
-}
\ No newline at end of file
+
+    /**
+     * 기준 위치에서 주어진 반경 안에 포함된 행정 구역을 조회하는 메서드
+     * @param baseLocation 기준 위치
+     * @param radius 반경
+     * @return 반경 안에 포함된 행정 구역 리스트
+     */
+    public List<NearPublicDistrictResponse.LocationDTO> getNearbyLocationsWithinRadius(NearPublicDistrictRequest.LocationDTO baseLocation, Integer radius) {
+
+        // 기준 위치 선언
+        String sido = baseLocation.getSido();
+        String sgg = baseLocation.getSgg();
+        String emd = baseLocation.getEmd();
+
+        // redis 에서 조회 - 기준 위치에 해당하는 IdDTO 를 조회
+        PublicDistrictResponse.IdDTO idDTO = publicDistrictRedisService.findIdDTOBySidoAndSggAndEmd(sido, sgg, emd)
+                .orElseGet(() -> {
+                    // mariadb 에서 조회 - 기준 위치에 해당하는 IdDTO 를 조회(redis 장애 발생 시 mariadb 에서 조회)
+                    log.error("[redis findIdDTOBySidoAndSggAndEmd() error]");
+                    return publicDistrictRepository.findIdDTOBySidoAndSggAndEmd(sido, sgg, emd)
+                            .orElseThrow(() -> new PublicDistrictRetrievalException("행정 구역을 찾을 수 없습니다. 관리자에게 문의하세요."));
+                });
+
+        // 반경별 주변 행정 구역은 반경이 작을수록 큰 반경의 부분 집합으로 저장되어 있으므로 해당 반경의 행만 조회
+        return nearPublicDistrictRepository.findLocationDTOsByPublicDistrictIdAndRadius(idDTO.getId(), radius);
+    }
+}
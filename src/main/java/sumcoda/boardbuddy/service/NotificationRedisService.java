@@ -0,0 +1,177 @@
+package sumcoda.boardbuddy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 읽지 않은 알림 개수 캐시 서비스
+ * 개수 대신 읽지 않은 알림 Id 를 사용자별 Sorted Set 에 보관하고, 마지막으로 읽은 알림 Id 를 읽음 기준 멤버의 score 로 함께 저장
+ * 알림 추가와 읽음 처리를 모두 알림 Id 로 비교하는 스크립트로 처리하므로,
+ * 읽음 처리 도중 추가된 알림이 지워지거나 DB 에서 계산한 이전 개수로 덮어써지지 않음
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRedisService {
+
+    // 읽지 않은 알림 Id 키 접두사 (key : 접두사 + username, member : 알림 Id, score : 알림 Id)
+    private static final String UNREAD_IDS_KEY_PREFIX = "NOTIFICATION_UNREAD_IDS:";
+
+    // 마지막으로 읽은 알림 Id 를 score 로 갖는 읽음 기준 멤버 (이 멤버가 있어야 캐시가 초기화된 상태)
+    private static final String READ_MARKER_MEMBER = "READ_MARKER";
+
+    // 마지막 변경 이후 캐시를 보관할 시간 (만료되면 다음 조회 시 DB 에서 다시 계산)
+    private static final Duration UNREAD_IDS_TTL = Duration.ofDays(7);
+
+    // 읽음 기준보다 큰 알림 Id 만 추가
+    // 캐시가 초기화되기 전이어도 추가해두어, DB 에서 계산한 목록과 합쳐질 때 커밋 직후의 알림이 빠지지 않도록 함
+    private static final RedisScript<Long> ADD_UNREAD_ID_SCRIPT = new DefaultRedisScript<>(
+            "local marker = redis.call('ZSCORE', KEYS[1], ARGV[3]) " +
+                    "if marker and tonumber(ARGV[1]) <= tonumber(marker) then return 0 end " +
+                    "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    // 읽음 기준을 기존 값과 주어진 알림 Id 중 큰 값으로 옮기고 기준 이하의 알림 Id 를 제거한 뒤 읽지 않은 알림 개수 반환
+    // ARGV[4] 이후의 알림 Id 는 함께 추가 (캐시가 이미 초기화되어 있으면 추가하지 않음)
+    private static final RedisScript<Long> MOVE_READ_MARKER_SCRIPT = new DefaultRedisScript<>(
+            "local marker = tonumber(ARGV[1]) " +
+                    "local current = redis.call('ZSCORE', KEYS[1], ARGV[3]) " +
+                    "if current and tonumber(current) > marker then marker = tonumber(current) end " +
+                    "if not current then for i = 4, #ARGV do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i]) end end " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', marker) " +
+                    "redis.call('ZADD', KEYS[1], marker, ARGV[3]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return redis.call('ZCARD', KEYS[1]) - 1",
+            Long.class);
+
+    // 캐시가 초기화된 경우에만 읽지 않은 알림 개수 반환 (초기화 전이면 -1)
+    private static final RedisScript<Long> COUNT_UNREAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZSCORE', KEYS[1], ARGV[1]) then return redis.call('ZCARD', KEYS[1]) - 1 else return -1 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 읽지 않은 알림 추가
+     * 트랜잭션 안에서 호출되면 알림 저장이 커밋된 이후에 추가
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param notificationId 저장된 알림 Id
+     */
+    public void addUnreadNotification(String username, Long notificationId) {
+        runAfterCommit(() -> addUnreadId(username, notificationId));
+    }
+
+    // 읽음 기준보다 큰 경우에만 읽지 않은 알림 Id 추가
+    private void addUnreadId(String username, Long notificationId) {
+        try {
+            stringRedisTemplate.execute(ADD_UNREAD_ID_SCRIPT, List.of(UNREAD_IDS_KEY_PREFIX + username),
+                    String.valueOf(notificationId), String.valueOf(UNREAD_IDS_TTL.toMillis()), READ_MARKER_MEMBER);
+        } catch (Exception e) {
+            // 추가에 실패하면 개수가 틀어지지 않도록 키를 제거하여 DB 에서 다시 계산하도록 함
+            log.error("[NotificationRedisService addUnreadNotification() error]: {}", e.getMessage());
+            deleteUnreadIds(username);
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 개수 조회
+     *
+     * @param username 유저 아이디
+     * @return 읽지 않은 알림 개수, 캐시가 초기화되지 않았거나 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<Long> findUnreadCount(String username) {
+        try {
+            Long unreadCount = stringRedisTemplate.execute(COUNT_UNREAD_SCRIPT, List.of(UNREAD_IDS_KEY_PREFIX + username),
+                    READ_MARKER_MEMBER);
+
+            return Optional.ofNullable(unreadCount)
+                    .filter(count -> count >= 0);
+        } catch (Exception e) {
+            log.error("[NotificationRedisService findUnreadCount() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 에서 조회한 읽지 않은 알림 Id 로 캐시 초기화
+     * 조회 도중 추가된 알림은 함께 유지하고, 조회 도중 다른 요청이 이미 초기화했거나 읽음 처리한 경우 그 결과를 유지
+     *
+     * @param username 유저 아이디
+     * @param lastReadNotificationId DB 에 저장된 마지막으로 읽은 알림 Id
+     * @param unreadNotificationIds DB 에서 조회한 읽지 않은 알림 Id 목록
+     * @return 읽지 않은 알림 개수, 레디스 장애 발생 시 빈 Optional
+     */
+    public Optional<Long> saveUnreadNotificationIds(String username, Long lastReadNotificationId, List<Long> unreadNotificationIds) {
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(lastReadNotificationId));
+            args.add(String.valueOf(UNREAD_IDS_TTL.toMillis()));
+            args.add(READ_MARKER_MEMBER);
+            unreadNotificationIds.forEach(notificationId -> args.add(String.valueOf(notificationId)));
+
+            return Optional.ofNullable(stringRedisTemplate.execute(MOVE_READ_MARKER_SCRIPT,
+                    List.of(UNREAD_IDS_KEY_PREFIX + username), args.toArray()));
+        } catch (Exception e) {
+            log.error("[NotificationRedisService saveUnreadNotificationIds() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 주어진 알림 Id 까지 읽음 처리
+     * 트랜잭션 안에서 호출되면 읽음 기준 저장이 커밋된 이후에 처리
+     * 기준 Id 보다 큰 알림(읽음 처리 도중 추가된 알림)은 읽지 않은 알림으로 남음
+     *
+     * @param username 유저 아이디
+     * @param lastReadNotificationId 마지막으로 읽은 알림 Id
+     */
+    public void readUntil(String username, Long lastReadNotificationId) {
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(MOVE_READ_MARKER_SCRIPT, List.of(UNREAD_IDS_KEY_PREFIX + username),
+                        String.valueOf(lastReadNotificationId), String.valueOf(UNREAD_IDS_TTL.toMillis()), READ_MARKER_MEMBER);
+            } catch (Exception e) {
+                log.error("[NotificationRedisService readUntil() error]: {}", e.getMessage());
+                deleteUnreadIds(username);
+            }
+        });
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 이후에, 아니면 바로 실행
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+
+        task.run();
+    }
+
+    // 읽지 않은 알림 Id 키 삭제
+    private void deleteUnreadIds(String username) {
+        try {
+            stringRedisTemplate.delete(UNREAD_IDS_KEY_PREFIX + username);
+        } catch (Exception e) {
+            log.error("[NotificationRedisService deleteUnreadIds() error]: {}", e.getMessage());
+        }
+    }
+}
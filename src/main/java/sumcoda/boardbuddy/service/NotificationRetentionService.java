@@ -0,0 +1,165 @@
+package sumcoda.boardbuddy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sumcoda.boardbuddy.repository.NotificationJdbcRepository;
+import sumcoda.boardbuddy.repository.PartitionJdbcRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 알림 정리 서비스
+ * 파티션을 사용하면 지난 달 파티션을 통째로 제거하고, 남은 행은 chunk 단위로 나누어 삭제
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private static final String TABLE_NAME = "notification";
+
+    private static final String PARTITION_COLUMN_NAME = "created_at";
+
+    // 여러 서버 중 한 서버만 파티션 변경, 알림 정리를 실행하도록 하는 잠금 키
+    private static final String RETENTION_LOCK_KEY = "NOTIFICATION_RETENTION_LOCK";
+
+    // 잠금 만료 시간 (작업 중에는 주기적으로 연장하므로 작업 시간보다 짧아도 됨)
+    private static final Duration RETENTION_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+
+    private final PartitionJdbcRepository partitionJdbcRepository;
+
+    private final JobLockRedisService jobLockRedisService;
+
+    // 알림 보관 기간 (일)
+    @Value("${spring.notification.retention-days:90}")
+    private long retentionDays;
+
+    // 한 번에 삭제할 최대 알림 수
+    @Value("${spring.notification.retention-chunk-size:1000}")
+    private int chunkSize;
+
+    // 월별 파티션 사용 여부 (MariaDB 파티션 테이블은 외래키를 지원하지 않으므로 전환 시 member 외래키 제거)
+    @Value("${spring.notification.partitioning-enabled:false}")
+    private boolean partitioningEnabled;
+
+    // 미리 만들어 둘 다음 달 파티션 수
+    @Value("${spring.notification.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    /**
+     * 애플리케이션 시작 시 알림 테이블을 월별 파티션 테이블로 전환
+     **/
+    @EventListener(ApplicationReadyEvent.class)
+    public void initPartitions() {
+        if (!partitioningEnabled) {
+            return;
+        }
+
+        jobLockRedisService.runWithLock(RETENTION_LOCK_KEY, RETENTION_LOCK_TTL, this::partitionTable);
+    }
+
+    // 파티션이 없으면 알림 테이블을 월별 파티션 테이블로 전환
+    private void partitionTable() {
+        try {
+            if (!partitionJdbcRepository.findPartitionNames(TABLE_NAME).isEmpty()) {
+                return;
+            }
+
+            // 보관 기간 시작 달부터 미리 만들어 둘 달까지 파티션 생성
+            // 첫 파티션에는 그 이전의 알림도 함께 들어가며 다음 정리 때 함께 제거됨
+            YearMonth firstMonth = YearMonth.from(getCutoff());
+            YearMonth lastMonth = YearMonth.now().plusMonths(partitionsAhead);
+
+            notificationJdbcRepository.preparePartitioning();
+            partitionJdbcRepository.partitionByMonth(TABLE_NAME, PARTITION_COLUMN_NAME, getMonthsBetween(firstMonth, lastMonth));
+
+            log.info("Notification table partitioned by month: {} ~ {}", firstMonth, lastMonth);
+        } catch (DataAccessException e) {
+            log.error("[NotificationRetentionService initPartitions() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 알림 정리 - 매일 04시 스케줄링
+     * chunk 마다 별도로 커밋되므로 정리 중에도 알림 저장이 오래 막히지 않음
+     **/
+    @Scheduled(cron = "${spring.notification.retention-cron:0 0 4 * * ?}")
+    public void purgeExpiredNotifications() {
+        // 여러 서버가 같은 행을 동시에 삭제하며 잠금을 기다리지 않도록 한 서버만 실행
+        jobLockRedisService.runWithLock(RETENTION_LOCK_KEY, RETENTION_LOCK_TTL, () -> {
+            LocalDateTime cutoff = getCutoff();
+
+            if (partitioningEnabled) {
+                maintainPartitions(cutoff);
+            }
+
+            // 파티션을 제거하고 남은 (보관 기간 경계 달의) 알림을 나누어 삭제
+            long totalDeletedCount = 0;
+            int deletedCount;
+            do {
+                deletedCount = notificationJdbcRepository.deleteNotificationsCreatedBefore(cutoff, chunkSize);
+                totalDeletedCount += deletedCount;
+            } while (deletedCount == chunkSize);
+
+            log.info("Expired notifications purged: {} (created before {})", totalDeletedCount, cutoff);
+        });
+    }
+
+    // 다음 달 파티션을 미리 추가하고 보관 기간이 모두 지난 달의 파티션 제거
+    private void maintainPartitions(LocalDateTime cutoff) {
+        try {
+            List<YearMonth> partitionMonths = partitionJdbcRepository.findPartitionMonths(TABLE_NAME);
+
+            if (partitionMonths.isEmpty()) {
+                partitionTable();
+                return;
+            }
+
+            YearMonth lastPartitionMonth = partitionMonths.get(partitionMonths.size() - 1);
+            YearMonth lastMonth = YearMonth.now().plusMonths(partitionsAhead);
+
+            if (lastPartitionMonth.isBefore(lastMonth)) {
+                partitionJdbcRepository.addMonthlyPartitions(TABLE_NAME, getMonthsBetween(lastPartitionMonth.plusMonths(1), lastMonth));
+            }
+
+            // 다음 달 1일이 기준 시점 이전인 달은 모든 알림이 보관 기간을 지났으므로 파티션 제거
+            List<YearMonth> expiredMonths = partitionMonths.stream()
+                    .filter(month -> !month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff))
+                    .toList();
+
+            if (!expiredMonths.isEmpty()) {
+                partitionJdbcRepository.dropMonthlyPartitions(TABLE_NAME, expiredMonths);
+                log.info("Expired notification partitions dropped: {}", expiredMonths);
+            }
+        } catch (DataAccessException e) {
+            // 파티션을 변경하지 못한 경우 chunk 삭제로 대신 정리
+            log.error("[NotificationRetentionService maintainPartitions() error]: {}", e.getMessage());
+        }
+    }
+
+    // 보관 기간 기준 시점
+    private LocalDateTime getCutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    // 시작 달부터 마지막 달까지의 목록
+    private List<YearMonth> getMonthsBetween(YearMonth firstMonth, YearMonth lastMonth) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+}
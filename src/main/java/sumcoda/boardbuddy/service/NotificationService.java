@@ -2,6 +2,7 @@ package sumcoda.boardbuddy.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -16,23 +17,24 @@ import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotFoundException
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleRetrievalException;
 import sumcoda.boardbuddy.exception.member.MemberNotFoundException;
 import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
-import sumcoda.boardbuddy.exception.sseEmitter.SseEmitterSendErrorException;
-import sumcoda.boardbuddy.exception.sseEmitter.SseEmitterSubscribeErrorException;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+import sumcoda.boardbuddy.repository.NotificationJdbcRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
 import sumcoda.boardbuddy.repository.comment.CommentRepository;
 import sumcoda.boardbuddy.repository.notification.NotificationRepository;
 import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
 import sumcoda.boardbuddy.repository.memberGatherArticle.MemberGatherArticleRepository;
-import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepository;
 import sumcoda.boardbuddy.util.NotificationMessageUtil;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -40,9 +42,24 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class NotificationService {
 
+    // 알림 목록 한 페이지 크기
+    private static final int PAGE_SIZE = 20;
+
+    // 같은 모집글에서 짧은 시간에 여러 번 발생할 수 있어 하나로 묶는 알림 이벤트
+    private static final Set<EventName> COALESCABLE_EVENT_NAMES = EnumSet.of(
+            EventName.WRITE_COMMENT, EventName.APPLY_PARTICIPATION, EventName.CANCEL_PARTICIPATION);
+
     private final MemberRepository memberRepository;
 
-    private final SseEmitterRepository sseEmitterRepository;
+    private final SseEmitterService sseEmitterService;
+
+    private final SseRedisService sseRedisService;
+
+    private final NotificationRedisService notificationRedisService;
+
+    private final MemberJdbcRepository memberJdbcRepository;
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
 
     private final GatherArticleRepository gatherArticleRepository;
 
@@ -54,44 +71,23 @@ public class NotificationService {
 
     private final NotificationMessageUtil notificationMessageUtil;
 
-    // SSE Emitter와 이벤트 캐시를 위한 저장소
-    private static final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final DistrictSubscriberRedisService districtSubscriberRedisService;
 
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    // 알림을 하나로 묶는 시간 (ms)
+    @Value("${spring.notification.coalesce-window:600000}")
+    private long coalesceWindow;
 
     /**
      * 유저 로그인 시 SSE Emitter 구독 요청 캐치
      *
-//     * @param nickname 알람 구독 요청 사용자 닉네임
+     * @param username 알람 구독 요청 사용자 아이디
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 수신한 이벤트 Id
      **/
-    @Transactional
-    public SseEmitter subscribe(String username) {
-
-//        MemberResponse.UsernameDTO usernameDTO = memberRepository.findUsernameDTOByNickname(nickname)
-//                .orElseThrow(() -> new MemberNotFoundException("존재하지 않는 유저입니다."));
-//
-//        String username = usernameDTO.getUsername();
-
-        // 매 연결마다 고유 Id 부여
-        String emitterId = username + "_" + System.currentTimeMillis();
+    public SseEmitter subscribe(String username, String lastEventId) {
+        SseEmitter emitter = sseEmitterService.subscribe(username, lastEventId);
 
-        // SseEmitter 인스턴스 생성
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-
-
-        // 503 Service Unavailable 방지용 dummy 이벤트 전송
-        try {
-            emitter.send(SseEmitter.event().name("connect"));
-        } catch (IOException e) {
-            throw new SseEmitterSubscribeErrorException("서버 문제로 알림 구독을 실패했습니다. 관리자에게 문의하세요.");
-        }
-
-        emitters.put(username, emitter);
-        log.info("SSE Emitter for user {} added with ID: {}", username, emitterId);
-
-        // 알림 전송 완료, 타임 아웃 시 emitter 삭제 처리
-        emitter.onCompletion(() -> sseEmitterRepository.deleteEmitterById(emitterId));
-        emitter.onTimeout(() -> sseEmitterRepository.deleteEmitterById(emitterId));
+        // 다른 서버에서 발생한 알림도 전달받을 수 있도록 이 서버에 연결되었음을 등록
+        sseRedisService.registerPresence(username);
 
         return emitter;
     }
@@ -115,7 +111,7 @@ public class NotificationService {
                 getNickname(appliedUsername),
                 getTitle(gatherArticleId));
 
-        saveNotification(authorUsername, message, EventName.APPLY_PARTICIPATION);
+        saveNotification(authorUsername, gatherArticleId, message, EventName.APPLY_PARTICIPATION);
     }
 
     /**
@@ -133,7 +129,7 @@ public class NotificationService {
         String message = notificationMessageUtil.formatApproveParticipationMessage(
                 getTitle(gatherArticleId));
 
-        saveNotification(receiverUsername, message, EventName.APPROVE_PARTICIPATION);
+        saveNotification(receiverUsername, gatherArticleId, message, EventName.APPROVE_PARTICIPATION);
     }
 
     /**
@@ -151,7 +147,7 @@ public class NotificationService {
         String message = notificationMessageUtil.formatRejectParticipationMessage(
                 getTitle(gatherArticleId));
 
-        saveNotification(receiverUsername, message, EventName.REJECT_PARTICIPATION);
+        saveNotification(receiverUsername, gatherArticleId, message, EventName.REJECT_PARTICIPATION);
     }
 
     /**
@@ -173,7 +169,7 @@ public class NotificationService {
                 getNickname(canceledUsername),
                 getTitle(gatherArticleId));
 
-        saveNotification(authorUsername, message, EventName.CANCEL_PARTICIPATION);
+        saveNotification(authorUsername, gatherArticleId, message, EventName.CANCEL_PARTICIPATION);
     }
 
     /**
@@ -191,7 +187,7 @@ public class NotificationService {
         List<MemberResponse.UsernameDTO> participants = memberGatherArticleRepository.findParticipantsByGatherArticleId(gatherArticleId);
 
         // 모든 참가자에게 알림 전송
-        participants.forEach(userNameDTO -> saveNotification(userNameDTO.getUsername(), message, EventName.REVIEW_REQUEST));
+        participants.forEach(userNameDTO -> saveNotification(userNameDTO.getUsername(), gatherArticleId, message, EventName.REVIEW_REQUEST));
     }
 
     /**
@@ -218,7 +214,7 @@ public class NotificationService {
                         getNickname(writtenUsername),
                         getTitle(gatherArticleId));
 
-                saveNotification(authorUsername, message, EventName.WRITE_COMMENT);
+                saveNotification(authorUsername, gatherArticleId, message, EventName.WRITE_COMMENT);
             }
 
         } else {
@@ -234,13 +230,14 @@ public class NotificationService {
                         getNickname(writtenUsername),
                         getTitle(gatherArticleId));
 
-                saveNotification(authorUsername, message, EventName.WRITE_COMMENT);
+                saveNotification(authorUsername, gatherArticleId, message, EventName.WRITE_COMMENT);
             }
         }
     }
 
     /**
      * 모집글이 작성되면 해당 모집글 주변에 위치한 사용자에게 알림
+     * 모집글 제목은 한 번만 조회하고, 알림을 받는 사용자의 닉네임은 사용자 조회 시 함께 가져와 알림을 한 번에 저장
      *
      * @param gatherArticleId 해당 모집글 Id
      **/
@@ -254,82 +251,207 @@ public class NotificationService {
         String sgg = locationInfoDTO.getSgg();
         String emd = locationInfoDTO.getEmd();
 
-        List<String> usernamesWithGatherArticleInRange = memberRepository.findUsernamesWithGatherArticleInRange(writtenUsername, sido, sgg, emd);
+        // redis 에서 조회 - 모집글 위치를 반경 안에 포함하는 사용자 id 를 구독자 인덱스에서 조회
+        List<MemberResponse.NotificationReceiverDTO> receiverDTOs = districtSubscriberRedisService.findSubscriberIds(sido, sgg, emd)
+                .map(subscriberIds -> subscriberIds.isEmpty()
+                        ? List.<MemberResponse.NotificationReceiverDTO>of()
+                        : memberRepository.findNotificationReceiverDTOsByIds(subscriberIds).stream()
+                                .filter(receiverDTO -> !receiverDTO.getUsername().equals(writtenUsername))
+                                .toList())
+                .orElseGet(() -> {
+                    // mariadb 에서 조회 - 모든 사용자의 반경을 검사(redis 장애 발생 또는 인덱스가 준비되지 않은 경우 mariadb 에서 조회)
+                    log.warn("District subscriber index unavailable, falling back to database");
+                    return memberRepository.findNotificationReceiverDTOsWithGatherArticleInRange(writtenUsername, sido, sgg, emd);
+                });
+
+        if (receiverDTOs.isEmpty()) {
+            return;
+        }
+
+        String title = getTitle(gatherArticleId);
 
-        for (String username : usernamesWithGatherArticleInRange) {
-            // 리뷰 요청 메시지를 포맷하여 생성
-            String message = notificationMessageUtil.formatWriteGatherArticleMessage(
-                    getNickname(username),
-                    getTitle(gatherArticleId));
+        // 알림을 받는 사용자 Id 별 모집글 작성 알림 메세지 (저장된 알림 Id 와 순서를 맞추기 위해 순서 유지)
+        Map<Long, String> memberMessages = new LinkedHashMap<>();
+        for (MemberResponse.NotificationReceiverDTO receiverDTO : receiverDTOs) {
+            memberMessages.put(receiverDTO.getId(), notificationMessageUtil.formatWriteGatherArticleMessage(receiverDTO.getNickname(), title));
+        }
 
-            log.info(message);
+        List<Long> notificationIds = notificationJdbcRepository.batchInsertNotifications(
+                gatherArticleId, EventName.WRITE_GATHER_ARTICLE, LocalDateTime.now(), memberMessages);
 
-            saveNotification(username, message, EventName.WRITE_GATHER_ARTICLE);
+        log.info("Gather article notifications saved. gatherArticleId: {}, receivers: {}", gatherArticleId, notificationIds.size());
+
+        for (int i = 0; i < receiverDTOs.size(); i++) {
+            MemberResponse.NotificationReceiverDTO receiverDTO = receiverDTOs.get(i);
+
+            // 알림 뱃지에 표시할 읽지 않은 알림 추가
+            notificationRedisService.addUnreadNotification(receiverDTO.getUsername(), notificationIds.get(i));
+
+            sendNotification(receiverDTO.getUsername(), memberMessages.get(receiverDTO.getId()), EventName.WRITE_GATHER_ARTICLE);
         }
     }
 
     /**
-     * 유저의 알림을 조회하여 최신순으로 반환하는 메서드
+     * 유저의 알림을 커서 기반으로 한 페이지씩 조회하여 최신순으로 반환하는 메서드
      *
      * @param username 알림 목록 조회 사용자 아이디
-     * @return 알림 응답 DTO
+     * @param cursor 이전 페이지의 마지막 알림 Id (첫 페이지는 null)
+     * @return 알림 목록 응답 DTO
      **/
-    public List<NotificationResponse.NotificationDTO> getNotifications(String username) {
-        Boolean isMemberExists = memberRepository.existsByUsername(username);
+    public NotificationResponse.NotificationListDTO getNotifications(String username, Long cursor) {
+        NotificationResponse.ReadMarkerDTO readMarkerDTO = getReadMarker(username);
 
-        if (!isMemberExists) {
-            throw new MemberNotFoundException("해당 유저를 찾을 수 없습니다.");
-        }
+        Long lastReadNotificationId = readMarkerDTO.getLastReadNotificationId();
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 개 더 조회
+        List<NotificationResponse.NotificationDTO> notificationDTOs = notificationRepository.findNotificationDTOsByMemberIdAndCursor(
+                readMarkerDTO.getMemberId(), cursor, PAGE_SIZE + 1);
+
+        boolean last = notificationDTOs.size() <= PAGE_SIZE;
+
+        // 읽음 위치를 기준으로 읽음 여부 설정
+        List<NotificationResponse.NotificationDTO> pageDTOs = notificationDTOs.stream()
+                .limit(PAGE_SIZE)
+                .map(notificationDTO -> notificationDTO.toBuilder()
+                        .isRead(notificationDTO.getId() <= lastReadNotificationId)
+                        .build())
+                .toList();
+
+        return NotificationResponse.NotificationListDTO.builder()
+                .notifications(pageDTOs)
+                .last(last)
+                .build();
+    }
 
-        //DB에서 해당 유저의 알림을 최신순으로 조회
-        return notificationRepository.findNotificationByMemberUsername(username);
+    /**
+     * 읽지 않은 알림 개수를 반환하는 메서드
+     * 레디스에 저장된 개수를 우선 사용하고, 없으면 DB 에서 읽지 않은 알림 Id 를 조회하여 레디스에 저장
+     *
+     * @param username 사용자 아이디
+     * @return 읽지 않은 알림 개수 DTO
+     **/
+    public NotificationResponse.UnreadCountDTO getUnreadCount(String username) {
+        Long unreadCount = notificationRedisService.findUnreadCount(username)
+                .orElseGet(() -> {
+                    NotificationResponse.ReadMarkerDTO readMarkerDTO = getReadMarker(username);
+
+                    List<Long> unreadNotificationIds = notificationRepository.findIdsByMemberIdAndIdGreaterThan(
+                            readMarkerDTO.getMemberId(), readMarkerDTO.getLastReadNotificationId());
+
+                    // 조회 도중 추가되거나 읽음 처리된 알림은 레디스에서 알림 Id 로 비교하여 반영
+                    return notificationRedisService.saveUnreadNotificationIds(
+                                    username, readMarkerDTO.getLastReadNotificationId(), unreadNotificationIds)
+                            .orElse((long) unreadNotificationIds.size());
+                });
+
+        return NotificationResponse.UnreadCountDTO.builder()
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    /**
+     * 유저의 모든 알림을 읽음 처리하는 메서드
+     * 조회한 가장 최근 알림 Id 까지만 읽음 처리하므로, 처리 도중 추가된 알림은 읽지 않은 알림으로 남음
+     *
+     * @param username 사용자 아이디
+     **/
+    @Transactional
+    public void readNotifications(String username) {
+        NotificationResponse.ReadMarkerDTO readMarkerDTO = getReadMarker(username);
+
+        Long memberId = readMarkerDTO.getMemberId();
+
+        notificationRepository.findLatestNotificationIdByMemberId(memberId)
+                .ifPresent(latestNotificationId -> {
+                    memberJdbcRepository.updateLastReadNotificationId(memberId, latestNotificationId);
+                    notificationRedisService.readUntil(username, latestNotificationId);
+                });
     }
 
     /**
      * 알림 생성 시 DB에 저장하는 메서드
+     * 묶음 시간 안에 같은 모집글에서 발생한 같은 종류의 읽지 않은 알림이 있으면 새로 저장하지 않고 하나로 묶음
      *
      * @param username 알림을 받는 유저의 아이디
+     * @param gatherArticleId 알림이 발생한 모집글 Id
      * @param message 알림 메세지
      * @param eventName 알림 이벤트 이름
      **/
-    public void saveNotification(String username, String message, EventName eventName) {
+    public void saveNotification(String username, Long gatherArticleId, String message, EventName eventName) {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new MemberRetrievalException("유저를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
-        Notification notification = Notification.buildNotification(message, LocalDateTime.now(), member);
-        notificationRepository.save(notification);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (COALESCABLE_EVENT_NAMES.contains(eventName)) {
+            Optional<String> coalescedMessage = coalesceNotification(member, gatherArticleId, eventName, now);
+
+            // 기존 알림에 묶인 경우 읽지 않은 알림 개수는 그대로 두고 묶인 메세지만 전송
+            if (coalescedMessage.isPresent()) {
+                sendNotification(username, coalescedMessage.get(), eventName);
+                return;
+            }
+        }
+
+        Notification notification = Notification.buildNotification(message, now, gatherArticleId, eventName, member);
+        Long notificationId = notificationRepository.save(notification).getId();
+
+        // 알림 뱃지에 표시할 읽지 않은 알림 추가
+        notificationRedisService.addUnreadNotification(username, notificationId);
 
         sendNotification(username, message, eventName);
     }
 
     /**
-     * 유저가 SSE Emitter에 등록되어 있는지 확인하고 알림을 보내는 메서드
+     * 묶음 시간 안의 읽지 않은 같은 종류의 알림에 이번 이벤트를 묶는 메서드
+     * 묶음 시간은 처음 알림이 저장된 시각부터 계산하므로, 이벤트가 계속 발생해도 묶음 시간이 지나면 새 알림으로 저장
      *
-     * @param username 알림을 받는 유저의 아이디
-     * @param message 알림 메세지
+     * @param member 알림을 받는 유저
+     * @param gatherArticleId 알림이 발생한 모집글 Id
      * @param eventName 알림 이벤트 이름
+     * @param now 알림 발생 시점
+     * @return 묶인 알림 메세지, 묶을 알림이 없으면 빈 Optional
      **/
-    private void sendNotification(String username, String message, EventName eventName) {
-        // 작성자가 SSE 이벤트 수신을 위해 등록되어 있는지 확인
-        if (emitters.containsKey(username)) {
+    private Optional<String> coalesceNotification(Member member, Long gatherArticleId, EventName eventName, LocalDateTime now) {
+        Optional<NotificationResponse.CoalesceTargetDTO> coalesceTargetDTO = notificationRepository.findCoalesceTargetDTO(
+                member.getId(), gatherArticleId, eventName, now.minus(Duration.ofMillis(coalesceWindow)), member.getLastReadNotificationId());
 
-            // 작성자의 SSE Emitter 객체를 가져옴
-            SseEmitter sseEmitterReceiver = emitters.get(username);
+        if (coalesceTargetDTO.isEmpty()) {
+            return Optional.empty();
+        }
 
-            try {
-                // 알림 메세지를 SSE Emitter를 통해 전송
-                sseEmitterReceiver.send(SseEmitter.event().name(String.valueOf(eventName)).data(message));
+        Integer coalescedCount = coalesceTargetDTO.get().getCoalescedCount();
 
-                // 이벤트 캐시에 알림 메세지를 저장
-                String eventCacheId = username + "_" + System.currentTimeMillis();
-                sseEmitterRepository.saveEventCache(eventCacheId, message);
+        String message = notificationMessageUtil.formatCoalescedMessage(eventName, coalescedCount + 1, getTitle(gatherArticleId));
 
-            } catch (IllegalStateException | SseEmitterSendErrorException | IOException e) {
-                // 전송 중 오류 발생 시, 작성자의 SSE Emitter를 제거
-                emitters.remove(username);
-                log.error("알림 전송 에러: {}. emitter 제거.", e.getMessage());
-            }
-        }
+        // 동시에 다른 요청이 먼저 묶었다면 새 알림으로 저장
+        int updatedCount = notificationJdbcRepository.updateCoalescedNotification(
+                coalesceTargetDTO.get().getId(), message, coalescedCount);
+
+        return updatedCount == 1 ? Optional.of(message) : Optional.empty();
+    }
+
+    /**
+     * 유저가 연결된 서버로 알림을 보내는 메서드
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param message 알림 메세지
+     * @param eventName 알림 이벤트 이름
+     **/
+    private void sendNotification(String username, String message, EventName eventName) {
+        // 작성자가 연결된 모든 서버의 SSE Emitter 로 알림 전송
+        sseRedisService.publish(username, message, eventName);
+    }
+
+    /**
+     * 유저 아이디로 조회하여 사용자 Id 와 마지막으로 읽은 알림 Id 를 반환하는 메서드
+     *
+     * @param username 유저 아이디
+     * @return 읽음 위치 DTO
+     **/
+    private NotificationResponse.ReadMarkerDTO getReadMarker(String username) {
+        return memberRepository.findReadMarkerDTOByUsername(username)
+                .orElseThrow(() -> new MemberNotFoundException("해당 유저를 찾을 수 없습니다."));
     }
 
     /**
@@ -0,0 +1,191 @@
+package sumcoda.boardbuddy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.entity.RankingJob;
+import sumcoda.boardbuddy.enumerate.RankingJobStatus;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+import sumcoda.boardbuddy.repository.RankingJobJdbcRepository;
+import sumcoda.boardbuddy.repository.rankingJob.RankingJobRepository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 월간 랭킹 집계 작업의 단계별 트랜잭션 처리
+ * 각 단계는 작업 상태 변경과 같은 트랜잭션에서 커밋되므로, 중간에 종료되어도 커밋된 단계까지는 다시 실행되지 않음
+ *
+ * 작업 생성(월간 카운트 초기화) -> 점수 계산(범위별) -> 랭킹, 뱃지 부여 -> 작업 완료 순으로 진행되며
+ * 지난 달 점수는 리뷰, 모집글, 댓글의 작성 시각으로 집계하므로, 서버마다 아직 반영하지 않은 카운트 변화량이 늦게 반영되어도 지난 달 점수가 달라지지 않음
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RankingJobService {
+
+    private static final DateTimeFormatter RANKING_YEAR_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final RankingJobRepository rankingJobRepository;
+
+    private final RankingJobJdbcRepository rankingJobJdbcRepository;
+
+    private final MemberJdbcRepository memberJdbcRepository;
+
+    private final BadgeImageService badgeImageService;
+
+    private final RankingRedisService rankingRedisService;
+
+    private final ChatRedisService chatRedisService;
+
+    /**
+     * 해당 달의 랭킹 집계 작업 조회
+     *
+     * @param month 집계 대상 연월
+     * @return 랭킹 집계 작업
+     **/
+    public Optional<RankingJob> findRankingJob(YearMonth month) {
+        return rankingJobRepository.findByRankingYearMonth(month.format(RANKING_YEAR_MONTH_FORMATTER));
+    }
+
+    /**
+     * 해당 달의 랭킹 집계 작업이 시작되었지만 끝나지 않았는지 확인
+     *
+     * @param month 집계 대상 연월
+     * @return 진행 중이면 true
+     **/
+    public boolean isInProgress(YearMonth month) {
+        return findRankingJob(month)
+                .map(rankingJob -> rankingJob.getRankingJobStatus() != RankingJobStatus.COMPLETED)
+                .orElse(false);
+    }
+
+    /**
+     * 랭킹 집계 작업 생성
+     * 월간 카운트를 같은 트랜잭션에서 초기화
+     * 같은 달의 작업이 이미 있으면 유니크 제약조건 위반 예외 발생
+     *
+     * @param month 집계 대상 연월
+     * @param useLiveRanking 지난 달 실시간 랭킹 점수 사용 여부
+     * @param maxMemberId 작업 시작 시점의 가장 큰 회원 Id
+     * @param chunkSize 한 번에 점수를 계산할 회원 Id 범위 크기
+     * @return 생성된 랭킹 집계 작업
+     **/
+    @Transactional
+    public RankingJob createRankingJob(YearMonth month, boolean useLiveRanking, long maxMemberId, int chunkSize) {
+        RankingJob rankingJob = rankingJobRepository.save(RankingJob.buildRankingJob(
+                month.format(RANKING_YEAR_MONTH_FORMATTER),
+                RankingJobStatus.SCORING,
+                useLiveRanking,
+                maxMemberId,
+                chunkSize));
+
+        // 후기 카운트, 보낸 리뷰 카운트 초기화 (랭킹 점수는 리뷰 행으로 집계하므로 초기화 이후에 반영되는 지난 달 변화량은 이번 달 카운트에만 남음)
+        memberJdbcRepository.resetMonthlyCounts();
+        return rankingJob;
+    }
+
+    /**
+     * 점수 계산이 완료된 범위의 시작 회원 Id 조회
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     * @return 완료된 범위의 시작 회원 Id 집합
+     **/
+    public Set<Long> findCompletedChunkStartMemberIds(Long rankingJobId) {
+        return new HashSet<>(rankingJobJdbcRepository.findChunkStartMemberIds(rankingJobId));
+    }
+
+    /**
+     * 실시간 랭킹을 사용할 수 없게 된 경우 DB 집계로 점수 계산을 처음부터 다시 시작
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     **/
+    @Transactional
+    public void restartScoringWithoutLiveRanking(Long rankingJobId) {
+        rankingJobJdbcRepository.restartScoringWithoutLiveRanking(rankingJobId);
+    }
+
+    /**
+     * 회원 Id 범위의 랭킹 점수 업데이트
+     * 범위의 점수를 0으로 초기화한 뒤 점수가 있는 회원만 업데이트하므로 같은 범위를 다시 실행해도 결과가 같음
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     * @param fromMemberId 시작 회원 Id (포함)
+     * @param toMemberId 종료 회원 Id (포함)
+     * @param memberIds 점수가 있는 회원 Id 배열
+     * @param scores memberIds 와 같은 순서의 점수 배열
+     * @return 작업이 이미 다음 단계로 넘어가 업데이트하지 않은 경우 false
+     **/
+    @Transactional
+    public boolean saveChunkScores(Long rankingJobId, long fromMemberId, long toMemberId, long[] memberIds, double[] scores) {
+        // 다른 서버가 이미 점수 계산을 끝내고 랭킹을 부여했을 수 있으므로 상태 확인 후 업데이트
+        if (!rankingJobJdbcRepository.lockScoringJob(rankingJobId)) {
+            return false;
+        }
+
+        memberJdbcRepository.resetMemberRankScores(fromMemberId, toMemberId);
+        memberJdbcRepository.updateMemberRankScores(memberIds, scores);
+        rankingJobJdbcRepository.saveChunk(rankingJobId, fromMemberId);
+        return true;
+    }
+
+    /**
+     * 점수 계산 단계 완료
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     **/
+    @Transactional
+    public void completeScoring(Long rankingJobId) {
+        rankingJobJdbcRepository.updateStatus(rankingJobId, RankingJobStatus.SCORING, RankingJobStatus.SCORED);
+    }
+
+    /**
+     * 랭킹 업데이트, 상위 회원 뱃지 부여
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     * @param topMemberIds 점수가 높은 순으로 정렬된 상위 회원 Id 목록
+     * @param month 집계 대상 연월
+     * @return 이번 실행에서 랭킹을 업데이트했으면 true
+     **/
+    @Transactional
+    public boolean assignRanks(Long rankingJobId, List<Long> topMemberIds, YearMonth month) {
+        if (!rankingJobJdbcRepository.updateStatus(rankingJobId, RankingJobStatus.SCORED, RankingJobStatus.RANKED)) {
+            return false;
+        }
+
+        Map<Long, Integer> rankUpdateMap = new HashMap<>();
+        for (int i = 0; i < topMemberIds.size(); i++) {
+            rankUpdateMap.put(topMemberIds.get(i), i + 1);
+        }
+        memberJdbcRepository.clearMemberRanks();
+        memberJdbcRepository.updateMemberRanks(rankUpdateMap);
+
+        // 순위에 따라 상위 회원에게 뱃지 부여
+        badgeImageService.assignBadgesToTopMembersByIds(topMemberIds, month);
+
+        // 커밋된 이후 TOP3 랭킹 캐시 무효화 (뱃지 캐시는 뱃지 부여 시 무효화)
+        rankingRedisService.evictTopRankings();
+
+        // 채팅 메세지에 표시되는 랭킹이 바뀌므로 커밋된 이후 발신자 캐시 무효화
+        chatRedisService.clearSenders();
+        return true;
+    }
+
+    /**
+     * 작업 완료 (랭킹이 커밋된 이후에만 실행)
+     *
+     * @param rankingJobId 랭킹 집계 작업 Id
+     **/
+    @Transactional
+    public void completeRankingJob(Long rankingJobId) {
+        rankingJobJdbcRepository.updateStatus(rankingJobId, RankingJobStatus.RANKED, RankingJobStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,458 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sumcoda.boardbuddy.dto.BadgeImageResponse;
+import sumcoda.boardbuddy.dto.MemberResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 월별 실시간 랭킹 점수를 관리하는 레디스 서비스
+ * 모집글, 댓글 작성, 리뷰를 보낼 때마다 해당 달의 Sorted Set 에 점수를 더하고, 월간 랭킹 집계 시 지난 달 Sorted Set 을 그대로 사용
+ *
+ * 준비 표시 키가 있는 달의 Sorted Set 만 점수를 더함
+ * 점수를 더하지 못한 경우 준비 표시를 제거하여 주기적인 재구성 작업에서 DB 기준으로 다시 만들도록 함
+ *
+ * 한 달에 한 번 바뀌는 TOP3 랭킹, 뱃지 조회 결과도 캐시하며, 랭킹 집계와 프로필 수정 시 무효화
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingRedisService {
+
+    // 월별 랭킹 키 접두사 (key : 접두사 + 연월, member : 회원 id, score : 랭킹 점수)
+    private static final String RANKING_KEY_PREFIX = "RANKING:";
+
+    // 월별 랭킹 준비 표시 키 접두사 (key : 접두사 + 연월)
+    private static final String RANKING_READY_KEY_PREFIX = "RANKING_READY:";
+
+    // 재구성 중 임시 랭킹 키 접미사
+    private static final String REBUILD_KEY_SUFFIX = ":REBUILD";
+
+    // 랭킹 집계, 재구성 작업을 한 서버에서만 실행하도록 하는 잠금 키
+    private static final String RANKING_LOCK_KEY = "RANKING_LOCK";
+
+    // 잠금 만료 시간 (작업 중에는 주기적으로 연장하므로 작업 시간보다 짧아도 됨)
+    private static final Duration RANKING_LOCK_TTL = Duration.ofMinutes(10);
+
+    // TOP3 랭킹 조회 캐시 키 (value : RankingsDTO 목록 JSON)
+    private static final String TOP_RANKINGS_CACHE_KEY = "RANKING_TOP3";
+
+    // 뱃지 조회 캐시 키 접두사 (key : 접두사 + 닉네임, value : BadgeImageInfosDTO 목록 JSON)
+    private static final String BADGES_CACHE_KEY_PREFIX = "BADGES:";
+
+    // 무효화 직전에 DB 에서 읽은 값이 다시 캐시되더라도 오래 남지 않도록 짧게 유지
+    private static final Duration TOP_RANKINGS_CACHE_TTL = Duration.ofMinutes(10);
+
+    private static final Duration BADGES_CACHE_TTL = Duration.ofHours(1);
+
+    private static final DateTimeFormatter YEAR_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 지난 달 랭킹을 다음 달 집계 시까지 유지하기 위한 만료 시간
+    private static final Duration RANKING_TTL = Duration.ofDays(62);
+
+    // 재구성 시 한 번에 추가할 회원 수
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    // 준비 표시가 있을 때만 점수를 더하고, 랭킹 키의 만료 시간을 준비 표시와 맞추는 스크립트
+    private static final RedisScript<String> INCREMENT_IF_READY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return nil end " +
+                    "local score = redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('PEXPIRE', KEYS[1], redis.call('PTTL', KEYS[2])) " +
+                    "return score",
+            String.class);
+
+    // 잠금을 가진 서버만 만료 시간을 연장하는 스크립트
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    // 잠금을 가진 서버만 해제하는 스크립트
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이번 달 랭킹 점수 증가
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 증가
+     *
+     * @param memberId 회원 Id
+     * @param score 더할 점수 (음수이면 감소)
+     **/
+    public void incrementScore(Long memberId, double score) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(memberId, score);
+                }
+            });
+            return;
+        }
+
+        increment(memberId, score);
+    }
+
+    /**
+     * 삭제된 모집글, 댓글의 랭킹 점수 취소
+     * 이번 달에 작성된 경우에만 이번 달 랭킹 점수에서 뺌
+     *
+     * @param memberId 작성자 회원 Id
+     * @param score 작성 시 더했던 점수
+     * @param createdAt 작성 시각
+     **/
+    public void cancelScore(Long memberId, double score, LocalDateTime createdAt) {
+        if (createdAt != null && YearMonth.from(createdAt).equals(YearMonth.now())) {
+            incrementScore(memberId, -score);
+        }
+    }
+
+    private void increment(Long memberId, double score) {
+        YearMonth month = YearMonth.now();
+        try {
+            stringRedisTemplate.execute(INCREMENT_IF_READY_SCRIPT,
+                    List.of(getRankingKey(month), getReadyKey(month)),
+                    String.valueOf(score), String.valueOf(memberId));
+        } catch (Exception e) {
+            // 점수가 틀어진 랭킹을 사용하지 않도록 준비 표시를 제거하여 DB 기준으로 다시 만들도록 함
+            log.error("[RankingRedisService incrementScore() error]: {}", e.getMessage());
+            deleteReady(month);
+        }
+    }
+
+    /**
+     * 해당 달의 랭킹 사용 가능 여부
+     *
+     * @param month 연월
+     * @return 준비 표시가 있으면 true, 없거나 레디스 장애 발생 시 false
+     **/
+    public boolean isReady(YearMonth month) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getReadyKey(month)));
+        } catch (Exception e) {
+            log.error("[RankingRedisService isReady() error]: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 빈 랭킹으로 해당 달의 점수 반영 시작
+     *
+     * @param month 연월
+     **/
+    public void initRanking(YearMonth month) {
+        try {
+            stringRedisTemplate.delete(getRankingKey(month));
+            stringRedisTemplate.opsForValue().set(getReadyKey(month), String.valueOf(System.currentTimeMillis()), RANKING_TTL);
+        } catch (Exception e) {
+            log.error("[RankingRedisService initRanking() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 에서 계산한 점수로 해당 달의 랭킹 재구성
+     * 임시 키에 모두 추가한 뒤 교체하므로 재구성 중에도 기존 랭킹은 그대로 조회됨
+     *
+     * @param month 연월
+     * @param memberIds 회원 Id 배열
+     * @param scores memberIds 와 같은 순서의 점수 배열
+     **/
+    public void replaceRanking(YearMonth month, long[] memberIds, double[] scores) {
+        String rankingKey = getRankingKey(month);
+        String rebuildKey = rankingKey + REBUILD_KEY_SUFFIX;
+        try {
+            stringRedisTemplate.delete(rebuildKey);
+
+            for (int from = 0; from < memberIds.length; from += REBUILD_CHUNK_SIZE) {
+                int to = Math.min(from + REBUILD_CHUNK_SIZE, memberIds.length);
+                Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+                for (int i = from; i < to; i++) {
+                    tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(memberIds[i]), scores[i]));
+                }
+                stringRedisTemplate.opsForZSet().add(rebuildKey, tuples);
+            }
+
+            if (memberIds.length > 0) {
+                stringRedisTemplate.rename(rebuildKey, rankingKey);
+                stringRedisTemplate.expire(rankingKey, RANKING_TTL);
+            } else {
+                stringRedisTemplate.delete(rankingKey);
+            }
+            stringRedisTemplate.opsForValue().set(getReadyKey(month), String.valueOf(System.currentTimeMillis()), RANKING_TTL);
+        } catch (Exception e) {
+            log.error("[RankingRedisService replaceRanking() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 점수가 높은 순으로 랭킹 범위 조회
+     *
+     * @param month 연월
+     * @param start 시작 순위 (0부터 시작)
+     * @param end 종료 순위 (포함)
+     * @return 점수가 높은 순으로 정렬된 회원 Id 별 점수, 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<Map<Long, Double>> findScores(YearMonth month, long start, long end) {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                    .reverseRangeWithScores(getRankingKey(month), start, end);
+
+            Map<Long, Double> scores = new LinkedHashMap<>();
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    scores.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+                }
+            }
+            return Optional.of(scores);
+        } catch (Exception e) {
+            log.error("[RankingRedisService findScores() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 회원의 순위 조회
+     *
+     * @param month 연월
+     * @param memberId 회원 Id
+     * @return 순위 (0부터 시작), 랭킹에 없거나 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<Long> findRank(YearMonth month, Long memberId) {
+        try {
+            return Optional.ofNullable(stringRedisTemplate.opsForZSet().reverseRank(getRankingKey(month), String.valueOf(memberId)));
+        } catch (Exception e) {
+            log.error("[RankingRedisService findRank() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 회원의 점수 조회
+     *
+     * @param month 연월
+     * @param memberId 회원 Id
+     * @return 점수, 랭킹에 없거나 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<Double> findScore(YearMonth month, Long memberId) {
+        try {
+            return Optional.ofNullable(stringRedisTemplate.opsForZSet().score(getRankingKey(month), String.valueOf(memberId)));
+        } catch (Exception e) {
+            log.error("[RankingRedisService findScore() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * TOP3 랭킹 캐시 조회
+     *
+     * @return TOP3 RankingsDTO list, 캐시가 없거나 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<List<MemberResponse.RankingsDTO>> findTopRankings() {
+        return findCachedList(TOP_RANKINGS_CACHE_KEY, MemberResponse.RankingsDTO.class);
+    }
+
+    public void saveTopRankings(List<MemberResponse.RankingsDTO> rankingsDTOs) {
+        saveCachedList(TOP_RANKINGS_CACHE_KEY, rankingsDTOs, TOP_RANKINGS_CACHE_TTL);
+    }
+
+    /**
+     * TOP3 랭킹 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 삭제
+     **/
+    public void evictTopRankings() {
+        deleteAfterCommit(TOP_RANKINGS_CACHE_KEY);
+    }
+
+    /**
+     * 뱃지 캐시 조회
+     *
+     * @param nickname 유저 닉네임
+     * @return 뱃지 목록, 캐시가 없거나 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<List<BadgeImageResponse.BadgeImageInfosDTO>> findBadges(String nickname) {
+        return findCachedList(BADGES_CACHE_KEY_PREFIX + nickname, BadgeImageResponse.BadgeImageInfosDTO.class);
+    }
+
+    public void saveBadges(String nickname, List<BadgeImageResponse.BadgeImageInfosDTO> badgeImageInfosDTOs) {
+        saveCachedList(BADGES_CACHE_KEY_PREFIX + nickname, badgeImageInfosDTOs, BADGES_CACHE_TTL);
+    }
+
+    /**
+     * 뱃지 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 삭제
+     *
+     * @param nickname 유저 닉네임
+     **/
+    public void evictBadges(String nickname) {
+        deleteAfterCommit(BADGES_CACHE_KEY_PREFIX + nickname);
+    }
+
+    /**
+     * 뱃지 캐시 전체 무효화 (뱃지 부여 시)
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 삭제
+     **/
+    public void clearBadges() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteByPattern(BADGES_CACHE_KEY_PREFIX + "*");
+                }
+            });
+            return;
+        }
+
+        deleteByPattern(BADGES_CACHE_KEY_PREFIX + "*");
+    }
+
+    /**
+     * 랭킹 관련 키 전체 삭제
+     * 애플리케이션 시작 시 DB 가 새로 생성되므로 이전 실행에서 남은 랭킹과 캐시를 제거하기 위해 사용
+     **/
+    public void clear() {
+        deleteByPattern(RANKING_KEY_PREFIX + "*");
+        deleteByPattern(RANKING_READY_KEY_PREFIX + "*");
+        deleteByPattern(BADGES_CACHE_KEY_PREFIX + "*");
+        delete(TOP_RANKINGS_CACHE_KEY);
+    }
+
+    /**
+     * 랭킹 집계, 재구성 작업 잠금 획득 (작업이 비정상 종료되더라도 잠금이 남지 않도록 만료 시간 설정)
+     *
+     * @return 잠금 소유 토큰, 다른 서버가 잠금을 가지고 있거나 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<String> acquireLock() {
+        try {
+            String lockToken = UUID.randomUUID().toString();
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(RANKING_LOCK_KEY, lockToken, RANKING_LOCK_TTL))
+                    ? Optional.of(lockToken)
+                    : Optional.empty();
+        } catch (Exception e) {
+            log.error("[RankingRedisService acquireLock() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 작업이 끝날 때까지 잠금이 만료되지 않도록 만료 시간 연장
+     *
+     * @param lockToken 잠금 획득 시 받은 토큰
+     * @return 잠금을 계속 가지고 있으면 true
+     **/
+    public boolean renewLock(String lockToken) {
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(RANKING_LOCK_KEY),
+                    lockToken, String.valueOf(RANKING_LOCK_TTL.toMillis()));
+            return renewed != null && renewed == 1;
+        } catch (Exception e) {
+            log.error("[RankingRedisService renewLock() error]: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 해제 (만료 후 다른 서버가 획득한 잠금은 해제하지 않음)
+     *
+     * @param lockToken 잠금 획득 시 받은 토큰
+     **/
+    public void releaseLock(String lockToken) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RANKING_LOCK_KEY), lockToken);
+        } catch (Exception e) {
+            log.error("[RankingRedisService releaseLock() error]: {}", e.getMessage());
+        }
+    }
+
+    private void deleteReady(YearMonth month) {
+        try {
+            stringRedisTemplate.delete(getReadyKey(month));
+        } catch (Exception e) {
+            log.error("[RankingRedisService deleteReady() error]: {}", e.getMessage());
+        }
+    }
+
+    private <T> Optional<List<T>> findCachedList(String key, Class<T> elementType) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType)));
+        } catch (Exception e) {
+            log.error("[RankingRedisService findCachedList() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void saveCachedList(String key, List<?> values, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(values), ttl);
+        } catch (Exception e) {
+            log.error("[RankingRedisService saveCachedList() error]: {}", e.getMessage());
+        }
+    }
+
+    private void deleteAfterCommit(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(key);
+                }
+            });
+            return;
+        }
+
+        delete(key);
+    }
+
+    private void delete(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.error("[RankingRedisService delete() error]: {}", e.getMessage());
+        }
+    }
+
+    private void deleteByPattern(String pattern) {
+        try {
+            Set<String> keys = stringRedisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.error("[RankingRedisService deleteByPattern() error]: {}", e.getMessage());
+        }
+    }
+
+    private String getRankingKey(YearMonth month) {
+        return RANKING_KEY_PREFIX + month.format(YEAR_MONTH_FORMATTER);
+    }
+
+    private String getReadyKey(YearMonth month) {
+        return RANKING_READY_KEY_PREFIX + month.format(YEAR_MONTH_FORMATTER);
+    }
+}
@@ -1,26 +1,45 @@
 package sumcoda.boardbuddy.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import sumcoda.boardbuddy.dto.MemberResponse;
-import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.entity.RankingJob;
 import sumcoda.boardbuddy.enumerate.RankScorePoints;
+import sumcoda.boardbuddy.enumerate.RankingJobStatus;
+import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
 import sumcoda.boardbuddy.repository.MemberJdbcRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
-import sumcoda.boardbuddy.repository.comment.CommentRepository;
-import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 @Slf4j
@@ -30,97 +49,338 @@ public class RankingService {
 
     private final MemberRepository memberRepository;
 
-    private final GatherArticleRepository gatherArticleRepository;
+    private final MemberJdbcRepository memberJdbcRepository;
 
-    private final CommentRepository commentRepository;
+    private final RankingJobService rankingJobService;
 
-    private final MemberJdbcRepository memberJdbcRepository;
+    private final RankingRedisService rankingRedisService;
 
-    private final BadgeImageService badgeImageService;
+    // 집계, 재구성 작업 중 랭킹 잠금을 연장하는 스레드
+    private final ScheduledExecutorService lockRenewalScheduler = Executors.newSingleThreadScheduledExecutor();
 
     private static final int TOP_RANK_COUNT = 3;
 
+    // 실시간 랭킹 한 번에 조회할 수 있는 최대 회원 수
+    private static final int LIVE_RANKING_MAX_LIMIT = 100;
+
+    // 월간 집계 시 실시간 랭킹을 나누어 읽을 회원 수
+    private static final int RANKING_LOAD_CHUNK_SIZE = 1000;
+
+    // 랭킹 잠금 만료 시간(10분)보다 짧은 잠금 연장 주기
+    private static final Duration LOCK_RENEW_INTERVAL = Duration.ofMinutes(3);
+
+    // 월간 집계 시 한 번에 점수를 계산할 회원 Id 범위 크기
+    @Value("${spring.ranking.chunk-size:10000}")
+    private int chunkSize;
+
+    // 월간 집계 시 동시에 점수를 계산할 범위 수
+    @Value("${spring.ranking.parallelism:4}")
+    private int parallelism;
+
 
     /**
      * 랭킹 조회
+     * 랭킹은 월간 집계 시에만 바뀌므로 캐시를 먼저 조회하고, 없으면 DB 에서 조회한 뒤 캐시
+     *
      * @return TOP3 RankingsDTO list
      */
     public List<MemberResponse.RankingsDTO> getTop3Rankings(){
+        Optional<List<MemberResponse.RankingsDTO>> cachedRankingsDTOs = rankingRedisService.findTopRankings();
+        if (cachedRankingsDTOs.isPresent()) {
+            return cachedRankingsDTOs.get();
+        }
 
-        return memberRepository.findTop3RankingMembers();
+        List<MemberResponse.RankingsDTO> rankingsDTOs = memberRepository.findTop3RankingMembers();
+        rankingRedisService.saveTopRankings(rankingsDTOs);
+        return rankingsDTOs;
+    }
+
+    /**
+     * 실시간 랭킹 조회
+     *
+     * @param limit 조회할 회원 수
+     * @return 이번 달 점수가 높은 순으로 정렬된 LiveRankingDTO list
+     **/
+    public List<MemberResponse.LiveRankingDTO> getLiveRankings(int limit) {
+        int rankingLimit = Math.max(1, Math.min(limit, LIVE_RANKING_MAX_LIMIT));
+
+        Map<Long, Double> scores = rankingRedisService.findScores(YearMonth.now(), 0, rankingLimit - 1)
+                .orElseGet(Map::of);
+
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MemberResponse.RankingMemberDTO> rankingMemberDTOs = memberRepository.findRankingMemberDTOsByIds(scores.keySet()).stream()
+                .collect(Collectors.toMap(MemberResponse.RankingMemberDTO::getId, Function.identity()));
+
+        List<MemberResponse.LiveRankingDTO> liveRankingDTOs = new ArrayList<>(scores.size());
+        int rank = 0;
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            rank++;
+            MemberResponse.RankingMemberDTO rankingMemberDTO = rankingMemberDTOs.get(entry.getKey());
+            // 탈퇴한 회원은 제외
+            if (rankingMemberDTO == null) {
+                continue;
+            }
+            liveRankingDTOs.add(MemberResponse.LiveRankingDTO.builder()
+                    .rank(rank)
+                    .nickname(rankingMemberDTO.getNickname())
+                    .profileImageS3SavedURL(rankingMemberDTO.getProfileImageS3SavedURL())
+                    .rankScore(entry.getValue())
+                    .build());
+        }
+        return liveRankingDTOs;
+    }
+
+    /**
+     * 내 실시간 랭킹 조회
+     *
+     * @param username 로그인 사용자 아이디
+     * @return 이번 달 내 순위와 점수 (점수가 없으면 순위는 null)
+     **/
+    public MemberResponse.MyLiveRankingDTO getMyLiveRanking(String username) {
+        MemberResponse.IdDTO idDTO = memberRepository.findIdDTOByUsername(username)
+                .orElseThrow(() -> new MemberRetrievalException("유효하지 않은 사용자입니다."));
+
+        YearMonth currentMonth = YearMonth.now();
+
+        return MemberResponse.MyLiveRankingDTO.builder()
+                .rank(rankingRedisService.findRank(currentMonth, idDTO.getId()).map(rank -> rank + 1).orElse(null))
+                .rankScore(rankingRedisService.findScore(currentMonth, idDTO.getId()).orElse(0.0))
+                .build();
     }
 
     /**
     * 랭킹 집계 - 매월 1일 00시 스케줄링
+    * 지난 달 집계 작업을 만들고 실행하며, 중간에 종료되면 resumeMonthlyRankings 에서 이어서 실행
     *
     */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Scheduled(cron = "0 0 0 1 * ?") // 매월 1일 00시
     public void calculateMonthlyRankings() {
+        YearMonth lastMonth = getLastMonth();
+
+        if (rankingJobService.findRankingJob(lastMonth).isEmpty()) {
+            try {
+                // 지난 달 점수는 리뷰, 모집글, 댓글의 작성 시각으로 집계하므로 서버마다 반영되지 않은 카운트 변화량을 기다리지 않음
+                rankingJobService.createRankingJob(lastMonth, rankingRedisService.isReady(lastMonth), memberJdbcRepository.findMaxMemberId(), chunkSize);
+
+                // 이번 달 점수는 새 랭킹에 반영 시작
+                rankingRedisService.initRanking(YearMonth.now());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버에서 먼저 작업을 만든 경우 이어서 실행
+                log.info("Ranking job already created. month: {}", lastMonth);
+            }
+        }
+
+        resumeMonthlyRankings();
+    }
 
-        log.info("Ranking calculation started.");
+    /**
+     * 끝나지 않은 지난 달 랭킹 집계 이어서 실행 - 애플리케이션 시작 시, 매시 30분 스케줄링
+     * 점수 계산이 완료된 회원 Id 범위는 건너뛰고, 커밋된 단계는 다시 실행하지 않음
+     **/
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 * * * ?")
+    public void resumeMonthlyRankings() {
+        YearMonth lastMonth = getLastMonth();
 
-        LocalDateTime startOfLastMonth = getStartOfLastMonth();
-        LocalDateTime endOfLastMonth = getEndOfLastMonth();
+        Optional<RankingJob> rankingJob = rankingJobService.findRankingJob(lastMonth)
+                .filter(job -> job.getRankingJobStatus() != RankingJobStatus.COMPLETED);
 
-        List<Member> members = memberRepository.findAll();
+        if (rankingJob.isEmpty()) {
+            return;
+        }
 
-        // 점수 계산
-        Map<Long, Double> memberScores = members.stream()
-                .collect(Collectors.toMap(
-                        Member::getId,
-                        member -> {
-                            // 지난 달 모집글 갯수
-                            long gatherArticleCount = gatherArticleRepository.countGatherArticlesByMember(member, startOfLastMonth, endOfLastMonth);
-                            // 지난 달 댓글 갯수
-                            long commentCount = commentRepository.countCommentsByMember(member, startOfLastMonth, endOfLastMonth);
-                            // 후기 카운트, 리뷰 보낸 횟수 합하여 점수 계산
-                            return calculateRankScore(member, gatherArticleCount, commentCount);
-                        }
-                ));
+        // 여러 서버 중 한 서버만 실행 (잠금 없이 동시에 실행되어도 각 단계는 한 번만 커밋됨)
+        runWithLock(() -> runRankingJob(rankingJob.get(), lastMonth));
+    }
 
-        // 점수 업데이트
-        memberJdbcRepository.updateMemberRankScores(memberScores);
+    private void runRankingJob(RankingJob rankingJob, YearMonth month) {
+        log.info("Ranking calculation started. month: {}, status: {}", month, rankingJob.getRankingJobStatus());
+        long startedAt = System.nanoTime();
 
-        // 점수 별로 정렬
-        List<Member> orderedByScoreMembers = memberRepository.findAllOrderedByRankScore();
+        if (rankingJob.getRankingJobStatus() == RankingJobStatus.SCORING) {
+            try {
+                scoreMembers(rankingJob, month);
+            } catch (ExecutionException e) {
+                log.error("[RankingService scoreMembers() error]: {}", e.getCause().getMessage());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            rankingJobService.completeScoring(rankingJob.getId());
+        }
 
-        // 각 member 들의 랭킹 구하기
-        Map<Long, Integer> rankUpdateMap = new HashMap<>();
-        IntStream.range(0, orderedByScoreMembers.size())
-                .forEach(i -> {
-                    Long memberId = orderedByScoreMembers.get(i).getId();
-                    Integer rank = (i < TOP_RANK_COUNT) ? i + 1 : null;
-                    rankUpdateMap.put(memberId, rank);
-                });
+        // 점수가 가장 높은 TOP3 member 들의 id 구하기
+        if (rankingJob.getRankingJobStatus() != RankingJobStatus.RANKED) {
+            rankingJobService.assignRanks(rankingJob.getId(), findTopMemberIds(TOP_RANK_COUNT), month);
+        }
 
-        // 랭킹 업데이트
-        memberJdbcRepository.updateMemberRanks(rankUpdateMap);
+        // 랭킹이 커밋된 이후 작업 완료
+        rankingJobService.completeRankingJob(rankingJob.getId());
 
-        // 후기 카운트, 보낸 리뷰 카운트 초기화
-        memberJdbcRepository.resetMonthlyCounts();
+        log.info("Ranking calculation finished. month: {}, elapsed: {}ms",
+                month, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
 
-        // TOP3 member들의 id 담기
-        List<Long> top3MemberIds = new ArrayList<>();
+    // 회원 Id 범위별로 나누어 병렬로 점수 계산, 완료된 범위는 건너뜀
+    private void scoreMembers(RankingJob rankingJob, YearMonth month) throws ExecutionException, InterruptedException {
+        MemberScoreMap liveScores = null;
 
-        for (int i = 0; i < Math.min(orderedByScoreMembers.size(), TOP_RANK_COUNT); i++) {
-            top3MemberIds.add(orderedByScoreMembers.get(i).getId());
+        if (rankingJob.getUseLiveRanking()) {
+            Optional<MemberScoreMap> loadedScores = loadRankingScores(month);
+            if (loadedScores.isEmpty()) {
+                log.info("Live ranking unavailable, scoring restarts with aggregate queries. month: {}", month);
+                rankingJobService.restartScoringWithoutLiveRanking(rankingJob.getId());
+            } else {
+                liveScores = loadedScores.get();
+            }
         }
+        Set<Long> completedChunkStartMemberIds = rankingJobService.findCompletedChunkStartMemberIds(rankingJob.getId());
+
+        MemberScoreMap scoreSource = liveScores;
+        long[] sortedLiveMemberIds = liveScores == null ? null : liveScores.toSortedMemberIds();
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.atEndOfMonth().atTime(23, 59, 59);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (long fromMemberId = 1; fromMemberId <= rankingJob.getMaxMemberId(); fromMemberId += rankingJob.getChunkSize()) {
+                if (completedChunkStartMemberIds.contains(fromMemberId)) {
+                    continue;
+                }
+
+                long chunkFromMemberId = fromMemberId;
+                long chunkToMemberId = Math.min(fromMemberId + rankingJob.getChunkSize() - 1, rankingJob.getMaxMemberId());
+
+                futures.add(executorService.submit(() -> {
+                    MemberScoreMap chunkScores = scoreSource != null
+                            ? scoreSource.slice(sortedLiveMemberIds, chunkFromMemberId, chunkToMemberId)
+                            : calculateMemberScores(chunkFromMemberId, chunkToMemberId, start, end);
+
+                    rankingJobService.saveChunkScores(rankingJob.getId(), chunkFromMemberId, chunkToMemberId,
+                            chunkScores.toMemberIds(), chunkScores.toScores());
+                }));
+            }
 
-        // TOP3에게 뱃지 부여
-        badgeImageService.assignBadgesToTopMembersByIds(top3MemberIds, getLastMonth());
+            // 한 범위라도 실패하면 이번 실행을 중단하고 다음 실행에서 남은 범위부터 이어서 계산
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
     }
 
-    // 지난 달 시작일
-    private LocalDateTime getStartOfLastMonth() {
-        YearMonth lastMonth = getLastMonth();
-        return lastMonth.atDay(1).atStartOfDay();
+    // 점수가 0보다 큰 회원 중 점수가 높은 순으로 최대 limit 명의 id 조회 (동점이면 먼저 가입한 회원 우선)
+    private List<Long> findTopMemberIds(int limit) {
+        TopMemberScores topMemberScores = new TopMemberScores(limit);
+        memberJdbcRepository.streamPositiveRankScores(topMemberScores::offer);
+        return topMemberScores.toMemberIds();
     }
 
-    // 지난 달 종료일
-    private LocalDateTime getEndOfLastMonth() {
-        YearMonth lastMonth = getLastMonth();
-        return lastMonth.atEndOfMonth().atTime(23, 59, 59);
+    /**
+     * 실시간 랭킹 재구성 - 애플리케이션 시작 시, 매 10분 스케줄링
+     * 레디스 장애 등으로 이번 달 실시간 랭킹을 사용할 수 없으면 DB 기준으로 다시 만듦
+     **/
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 5/10 * * * ?")
+    public void rebuildLiveRanking() {
+        YearMonth currentMonth = YearMonth.now();
+
+        // 지난 달 집계가 끝나면 새 랭킹이 준비되므로 그때까지 재구성하지 않음
+        if (rankingRedisService.isReady(currentMonth) || rankingJobService.isInProgress(getLastMonth())) {
+            return;
+        }
+
+        runWithLock(() -> {
+            // 잠금을 기다리는 동안 월간 집계가 끝나 새 랭킹이 준비된 경우
+            if (rankingRedisService.isReady(currentMonth)) {
+                return;
+            }
+
+            MemberScoreMap memberScores = calculateMemberScores(1, Long.MAX_VALUE, currentMonth.atDay(1).atStartOfDay(), LocalDateTime.now());
+            rankingRedisService.replaceRanking(currentMonth, memberScores.toMemberIds(), memberScores.toScores());
+
+            log.info("Live ranking rebuilt. scored members: {}", memberScores.size());
+        });
+    }
+
+    // 잠금을 획득한 경우에만 작업을 실행하고, 작업이 잠금 만료 시간보다 오래 걸려도 다른 서버가 잠금을 얻지 않도록 주기적으로 연장
+    private void runWithLock(Runnable task) {
+        Optional<String> lockToken = rankingRedisService.acquireLock();
+        if (lockToken.isEmpty()) {
+            return;
+        }
+
+        ScheduledFuture<?> lockRenewal = lockRenewalScheduler.scheduleWithFixedDelay(() -> {
+            if (!rankingRedisService.renewLock(lockToken.get())) {
+                log.warn("Ranking lock could not be renewed, another server may run the same step.");
+            }
+        }, LOCK_RENEW_INTERVAL.toMillis(), LOCK_RENEW_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            task.run();
+        } finally {
+            lockRenewal.cancel(false);
+            rankingRedisService.releaseLock(lockToken.get());
+        }
+    }
+
+    // 애플리케이션 종료 시 잠금 연장 스레드 종료
+    @PreDestroy
+    public void shutdown() {
+        lockRenewalScheduler.shutdownNow();
+    }
+
+    // 실시간 랭킹의 모든 점수를 순서대로 읽기 (사용할 수 없는 랭킹이거나 읽지 못하면 빈 Optional)
+    private Optional<MemberScoreMap> loadRankingScores(YearMonth month) {
+        if (!rankingRedisService.isReady(month)) {
+            return Optional.empty();
+        }
+
+        MemberScoreMap memberScores = new MemberScoreMap();
+
+        for (long start = 0; ; start += RANKING_LOAD_CHUNK_SIZE) {
+            Optional<Map<Long, Double>> scores = rankingRedisService.findScores(month, start, start + RANKING_LOAD_CHUNK_SIZE - 1);
+
+            if (scores.isEmpty()) {
+                return Optional.empty();
+            }
+
+            scores.get().forEach(memberScores::add);
+
+            if (scores.get().size() < RANKING_LOAD_CHUNK_SIZE) {
+                return Optional.of(memberScores);
+            }
+        }
+    }
+
+    // 회원 Id 범위 안에서 기간 내 받은 리뷰, 보낸 리뷰, 모집글, 댓글 집계 쿼리로 점수 계산
+    private MemberScoreMap calculateMemberScores(long fromMemberId, long toMemberId, LocalDateTime start, LocalDateTime end) {
+        MemberScoreMap memberScores = new MemberScoreMap();
+
+        // 기간 내 받은 리뷰
+        memberJdbcRepository.streamReceivedReviewScores(fromMemberId, toMemberId,
+                RankScorePoints.EXCELLENT_REVIEW_SCORE.getScore(),
+                RankScorePoints.GOOD_REVIEW_SCORE.getScore(),
+                RankScorePoints.BAD_REVIEW_SCORE.getScore(),
+                RankScorePoints.NOSHOW_REVIEW_SCORE.getScore(),
+                start, end, memberScores::add);
+        // 기간 내 보낸 리뷰 갯수
+        memberJdbcRepository.streamSentReviewScores(fromMemberId, toMemberId, RankScorePoints.SEND_REVIEW_SCORE.getScore(), start, end, memberScores::add);
+        // 기간 내 모집글 갯수
+        memberJdbcRepository.streamGatherArticleScores(fromMemberId, toMemberId, RankScorePoints.GATHER_ARTICLE_SCORE.getScore(), start, end, memberScores::add);
+        // 기간 내 댓글 갯수
+        memberJdbcRepository.streamCommentScores(fromMemberId, toMemberId, RankScorePoints.COMMENT_SCORE.getScore(), start, end, memberScores::add);
+
+        return memberScores;
     }
 
     // 지난달 YearMonth 구하기
@@ -128,16 +388,148 @@ public class RankingService {
         return YearMonth.now().minusMonths(1);
     }
 
-    // 점수 계산
-    private double calculateRankScore(Member member, long gatherArticleCount, long commentCount) {
-        double score = 0.0;
-        score += member.getMonthlyExcellentCount() * RankScorePoints.EXCELLENT_REVIEW_SCORE.getScore();
-        score += member.getMonthlyGoodCount() * RankScorePoints.GOOD_REVIEW_SCORE.getScore();
-        score += member.getMonthlyBadCount() * RankScorePoints.BAD_REVIEW_SCORE.getScore();
-        score += member.getMonthlyNoShowCount() * RankScorePoints.NOSHOW_REVIEW_SCORE.getScore();
-        score += member.getMonthlySendReviewCount() * RankScorePoints.SEND_REVIEW_SCORE.getScore();
-        score += gatherArticleCount * RankScorePoints.GATHER_ARTICLE_SCORE.getScore();
-        score += commentCount * RankScorePoints.COMMENT_SCORE.getScore();
-        return score;
+    /**
+     * 회원 id 별 점수를 박싱 없이 담는 open addressing 해시 맵
+     * 수십만 회원의 점수를 Map<Long, Double> 로 담을 때의 객체 생성과 메모리 사용을 줄이기 위해 사용
+     **/
+    static final class MemberScoreMap {
+
+        private static final int INITIAL_CAPACITY = 1 << 10;
+
+        // 비어 있는 슬롯 표시 (회원 id 는 1부터 시작)
+        private static final long EMPTY_KEY = 0L;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        private int size;
+
+        // 회원의 점수에 더하기
+        void add(long memberId, double score) {
+            int slot = findSlot(keys, memberId);
+            if (keys[slot] == EMPTY_KEY) {
+                keys[slot] = memberId;
+                size++;
+                if (size * 2 > keys.length) {
+                    resize();
+                    slot = findSlot(keys, memberId);
+                }
+            }
+            values[slot] += score;
+        }
+
+        int size() {
+            return size;
+        }
+
+        // 점수 일괄 업데이트용 회원 id 배열 (toScores 와 같은 순서)
+        long[] toMemberIds() {
+            long[] memberIds = new long[size];
+            int index = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY_KEY) {
+                    memberIds[index++] = keys[slot];
+                }
+            }
+            return memberIds;
+        }
+
+        // 점수 일괄 업데이트용 점수 배열 (toMemberIds 와 같은 순서)
+        double[] toScores() {
+            double[] scores = new double[size];
+            int index = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY_KEY) {
+                    scores[index++] = values[slot];
+                }
+            }
+            return scores;
+        }
+
+        // 회원의 점수 조회 (없으면 0)
+        double get(long memberId) {
+            int slot = findSlot(keys, memberId);
+            return keys[slot] == EMPTY_KEY ? 0.0 : values[slot];
+        }
+
+        // 회원 Id 오름차순 배열 (slice 에서 범위 검색용)
+        long[] toSortedMemberIds() {
+            long[] memberIds = toMemberIds();
+            Arrays.sort(memberIds);
+            return memberIds;
+        }
+
+        // 회원 Id 범위에 해당하는 점수만 담은 맵
+        MemberScoreMap slice(long[] sortedMemberIds, long fromMemberId, long toMemberId) {
+            MemberScoreMap memberScores = new MemberScoreMap();
+            int index = Arrays.binarySearch(sortedMemberIds, fromMemberId);
+            for (int i = index < 0 ? -index - 1 : index; i < sortedMemberIds.length && sortedMemberIds[i] <= toMemberId; i++) {
+                memberScores.add(sortedMemberIds[i], get(sortedMemberIds[i]));
+            }
+            return memberScores;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new double[oldValues.length * 2];
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] != EMPTY_KEY) {
+                    int newSlot = findSlot(keys, oldKeys[slot]);
+                    keys[newSlot] = oldKeys[slot];
+                    values[newSlot] = oldValues[slot];
+                }
+            }
+        }
+
+        // 선형 탐사로 회원 id 가 있는 슬롯 또는 비어 있는 슬롯 찾기
+        private static int findSlot(long[] keys, long memberId) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(memberId * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != EMPTY_KEY && keys[slot] != memberId) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * 점수가 높은 상위 회원만 남기는 크기 제한 최소 힙
+     * 전체 회원을 정렬하지 않고 한 번 훑으면서 상위 회원을 구함 (동점이면 먼저 가입한 회원 우선)
+     **/
+    static final class TopMemberScores {
+
+        private final int limit;
+
+        private final PriorityQueue<MemberScore> heap;
+
+        TopMemberScores(int limit) {
+            this.limit = limit;
+            // 가장 낮은 순위가 루트에 오도록 정렬
+            this.heap = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(MemberScore::score)
+                    .thenComparing(MemberScore::memberId, Comparator.reverseOrder()));
+        }
+
+        void offer(long memberId, double score) {
+            heap.offer(new MemberScore(memberId, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        // 점수가 높은 순으로 정렬된 회원 Id 목록
+        List<Long> toMemberIds() {
+            List<Long> memberIds = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                memberIds.add(heap.poll().memberId());
+            }
+            Collections.reverse(memberIds);
+            return memberIds;
+        }
+
+        private record MemberScore(long memberId, double score) {
+        }
     }
 }
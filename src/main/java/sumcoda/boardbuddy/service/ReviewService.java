@@ -1,6 +1,7 @@
 package sumcoda.boardbuddy.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sumcoda.boardbuddy.dto.GatherArticleResponse;
@@ -8,21 +9,30 @@ import sumcoda.boardbuddy.dto.ReviewRequest;
 import sumcoda.boardbuddy.dto.ReviewResponse;
 import sumcoda.boardbuddy.entity.GatherArticle;
 import sumcoda.boardbuddy.entity.Member;
-import sumcoda.boardbuddy.entity.MemberGatherArticle;
 import sumcoda.boardbuddy.entity.Review;
 import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
+import sumcoda.boardbuddy.enumerate.RankScorePoints;
 import sumcoda.boardbuddy.enumerate.ReviewType;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotCompletedException;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotFoundException;
 import sumcoda.boardbuddy.exception.memberGatherArticle.MemberNotJoinedGatherArticleException;
 import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
+import sumcoda.boardbuddy.exception.review.InvalidReviewRequestException;
 import sumcoda.boardbuddy.exception.review.ReviewAlreadyExistsException;
+import sumcoda.boardbuddy.repository.MemberGatherArticleJdbcRepository;
+import sumcoda.boardbuddy.repository.ReviewJdbcRepository;
 import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
 import sumcoda.boardbuddy.repository.memberGatherArticle.MemberGatherArticleRepository;
 import sumcoda.boardbuddy.repository.review.ReviewRepository;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,8 +45,16 @@ public class ReviewService {
 
     private final MemberGatherArticleRepository memberGatherArticleRepository;
 
+    private final MemberGatherArticleJdbcRepository memberGatherArticleJdbcRepository;
+
     private final ReviewRepository reviewRepository;
 
+    private final ReviewJdbcRepository reviewJdbcRepository;
+
+    private final RankingRedisService rankingRedisService;
+
+    private final MemberStatsService memberStatsService;
+
     /**
      * 모집글에 참가한 유저 리스트 조회 요청 캐치
      *
@@ -97,101 +115,142 @@ public class ReviewService {
                 reviewer,
                 reviewee,
                 gatherArticle,
+                reviewType,
                 true
         );
 
         reviewRepository.save(review);
 
-        incrementReviewCounts(reviewee, reviewType, gatherArticleId);
-        incrementSendReviewCount(reviewer);
-        updateBuddyScore(reviewee, reviewType);
+        // 리뷰 카운트, 버디 지수는 커밋된 이후 버퍼에 더해 주기적으로 member_stats 에 반영
+        memberStatsService.addReview(reviewee.getId(), reviewType);
+        memberStatsService.addSendReviewCount(reviewer.getId(), 1);
+
+        if (reviewType == ReviewType.NOSHOW) {
+            adjustReceiveNoShowCount(gatherArticle, reviewee);
+        }
+
+        // 실시간 랭킹 점수 반영
+        rankingRedisService.incrementScore(reviewee.getId(), getRankScore(reviewType));
+        rankingRedisService.incrementScore(reviewer.getId(), RankScorePoints.SEND_REVIEW_SCORE.getScore());
     }
 
     /**
-     * 각 리뷰 카운트 증가 메서드
+     * 리뷰 한 번에 보내기 요청 캐치
+     * 모집글 상태와 참가 여부를 한 번만 확인하고, 이미 보낸 리뷰는 한 번의 쿼리로 확인한 뒤
+     * 리뷰는 JDBC batch 로 저장하고 유저별 카운트, 버디 지수 변화량은 버퍼에 더해 주기적으로 반영
      *
-     * @param reviewee 리뷰를 받는 유저
-     * @param reviewType 리뷰 타입
      * @param gatherArticleId 모집글 Id
+     * @param sendAllDTO 리뷰를 받는 유저 닉네임과 리뷰 타입 목록을 담은 dto
+     * @param username 로그인 사용자 아이디
      **/
-    private void incrementReviewCounts(Member reviewee, ReviewType reviewType, Long gatherArticleId) {
-        Integer newMonthlyExcellentCount = reviewee.getMonthlyExcellentCount();
-        Integer newTotalExcellentCount = reviewee.getTotalExcellentCount();
-        Integer newMonthlyGoodCount = reviewee.getMonthlyGoodCount();
-        Integer newTotalGoodCount = reviewee.getTotalGoodCount();
-        Integer newMonthlyBadCount = reviewee.getMonthlyBadCount();
-        Integer newTotalBadCount = reviewee.getTotalBadCount();
-        Integer newMonthlyNoShowCount = reviewee.getMonthlyNoShowCount();
-
-        switch (reviewType) {
-            case EXCELLENT:
-                newMonthlyExcellentCount++;
-                newTotalExcellentCount++;
-                break;
-            case GOOD:
-                newMonthlyGoodCount++;
-                newTotalGoodCount++;
-                break;
-            case BAD:
-                newMonthlyBadCount++;
-                newTotalBadCount++;
-                break;
-            case NOSHOW:
-                newMonthlyNoShowCount++;
-                adjustReceiveNoShowCount(gatherArticleId, reviewee);
-                break;
+    @Transactional
+    public void sendReviews(Long gatherArticleId, ReviewRequest.SendAllDTO sendAllDTO, String username) {
+        List<ReviewRequest.SendDTO> sendDTOs = sendAllDTO.getReviews();
+        if (sendDTOs == null || sendDTOs.isEmpty()) {
+            throw new InvalidReviewRequestException("리뷰를 보낼 유저를 선택해주세요.");
         }
 
-        reviewee.assignReviewCount(newMonthlyExcellentCount, newTotalExcellentCount, newMonthlyGoodCount, newTotalGoodCount, newMonthlyBadCount, newTotalBadCount, newMonthlyNoShowCount);
-    }
+        GatherArticle gatherArticle = gatherArticleRepository.findById(gatherArticleId)
+                .orElseThrow(() -> new GatherArticleNotFoundException("해당 모집글을 찾을 수 없습니다."));
 
-    /**
-     * 리뷰 보낸 횟수 증가 메서드
-     *
-     * @param reviewer 리뷰를 보낸 유저
-     **/
-    private void incrementSendReviewCount(Member reviewer) {
-        Integer newSendReviewCount = reviewer.getMonthlySendReviewCount() + 1;
+        // 해당 모집글의 상태가 completed 인지 확인
+        if (gatherArticle.getGatherArticleStatus() != GatherArticleStatus.COMPLETED) {
+            throw new GatherArticleNotCompletedException("모임이 종료된 모집글만 리뷰를 보낼 수 있습니다.");
+        }
 
-        reviewer.assignSendReviewCount(newSendReviewCount);
-    }
+        // 모집글 관련 유저를 한 번에 조회하여 리뷰를 보내는 유저와 받는 유저 확인
+        List<ReviewResponse.ParticipantDTO> participantDTOs = memberGatherArticleRepository.findReviewParticipantsByGatherArticleId(gatherArticleId);
 
-    /**
-     * 받은 리뷰가 노쇼예요면 해당 유저의 노쇼 카운트를 확인하고 증감하는 메서드
-     *
-     * @param gatherArticleId 모집글 Id
-     * @param reviewee 리뷰를 받은 유저
-     **/
-    private void adjustReceiveNoShowCount(Long gatherArticleId, Member reviewee) {
-        MemberGatherArticle memberGatherArticle = memberGatherArticleRepository.findByGatherArticleIdAndMemberUsername(gatherArticleId, reviewee.getUsername())
+        ReviewResponse.ParticipantDTO reviewerDTO = participantDTOs.stream()
+                .filter(participantDTO -> participantDTO.getUsername().equals(username))
+                .findFirst()
                 .orElseThrow(() -> new MemberNotJoinedGatherArticleException("해당 유저는 해당 모집글에 참여하지 않았습니다."));
 
-        GatherArticle gatherArticle = gatherArticleRepository.findById(gatherArticleId)
-                .orElseThrow(() -> new GatherArticleNotFoundException("해당 모집글을 찾을 수 없습니다."));
+        // 리뷰를 보내는 유저가 해당 모집글에 참가했는지 (Role이 있는지) 확인
+        if (reviewerDTO.getMemberGatherArticleRole() != MemberGatherArticleRole.AUTHOR
+                && reviewerDTO.getMemberGatherArticleRole() != MemberGatherArticleRole.PARTICIPANT) {
+            throw new MemberNotJoinedGatherArticleException("리뷰를 보낼 권한이 없습니다.");
+        }
 
-        memberGatherArticle.assignReceiveNoShowCount(memberGatherArticle.getReceiveNoShowCount() + 1);
+        Map<String, Long> revieweeIdsByNickname = participantDTOs.stream()
+                .filter(participantDTO -> !participantDTO.getId().equals(reviewerDTO.getId()))
+                .collect(Collectors.toMap(ReviewResponse.ParticipantDTO::getNickname, ReviewResponse.ParticipantDTO::getId));
+
+        // 리뷰를 받는 유저 Id 별 리뷰 타입
+        Map<Long, ReviewType> revieweeReviewTypes = new LinkedHashMap<>();
+        for (ReviewRequest.SendDTO sendDTO : sendDTOs) {
+            Long revieweeId = revieweeIdsByNickname.get(sendDTO.getNickname());
+            if (revieweeId == null) {
+                throw new MemberNotJoinedGatherArticleException("리뷰를 받는 유저가 해당 모집글에 참여하지 않았습니다.");
+            }
+            if (sendDTO.getReview() == null) {
+                throw new InvalidReviewRequestException("리뷰 타입을 선택해주세요.");
+            }
+            if (revieweeReviewTypes.put(revieweeId, sendDTO.getReview()) != null) {
+                throw new InvalidReviewRequestException("같은 유저에게 두 번 이상 리뷰를 보낼 수 없습니다.");
+            }
+        }
 
-        // 노쇼예요 횟수가 모집글 참가인원의 절반 이상(본인 제외)이 되면 참가 횟수 -1
-        if (memberGatherArticle.getReceiveNoShowCount() >= (gatherArticle.getCurrentParticipants() - 1) / 2) {
-            reviewee.assignJoinCount(reviewee.getJoinCount() - 1);
-            memberGatherArticle.assignReceiveNoShowCount(-1);
+        // 이미 리뷰를 보냈는지 확인
+        for (Long revieweeId : reviewJdbcRepository.findRevieweeIds(gatherArticleId, reviewerDTO.getId())) {
+            if (revieweeReviewTypes.containsKey(revieweeId)) {
+                throw new ReviewAlreadyExistsException("이미 해당 유저에게 리뷰를 보냈습니다.");
+            }
         }
+
+        try {
+            reviewJdbcRepository.saveReviews(gatherArticleId, reviewerDTO.getId(), revieweeReviewTypes);
+        } catch (DuplicateKeyException e) {
+            // 같은 리뷰를 동시에 보낸 경우
+            throw new ReviewAlreadyExistsException("이미 해당 유저에게 리뷰를 보냈습니다.");
+        }
+
+        // 노쇼예요 횟수가 모집글 참가인원의 절반 이상(본인 제외)이 된 유저는 참가 횟수 -1
+        List<Long> noShowRevieweeIds = revieweeReviewTypes.entrySet().stream()
+                .filter(entry -> entry.getValue() == ReviewType.NOSHOW)
+                .map(Map.Entry::getKey)
+                .toList();
+        Set<Long> joinCountDecrementedIds = new HashSet<>(memberGatherArticleJdbcRepository.incrementReceiveNoShowCounts(
+                gatherArticleId, noShowRevieweeIds, (gatherArticle.getCurrentParticipants() - 1) / 2));
+
+        // 리뷰를 보낸 유저와 받은 유저들의 변화량 반영
+        revieweeReviewTypes.forEach(memberStatsService::addReview);
+        joinCountDecrementedIds.forEach(revieweeId -> memberStatsService.addJoinCount(revieweeId, -1));
+        memberStatsService.addSendReviewCount(reviewerDTO.getId(), revieweeReviewTypes.size());
+
+        // 실시간 랭킹 점수 반영
+        revieweeReviewTypes.forEach((revieweeId, reviewType) -> rankingRedisService.incrementScore(revieweeId, getRankScore(reviewType)));
+        rankingRedisService.incrementScore(reviewerDTO.getId(), RankScorePoints.SEND_REVIEW_SCORE.getScore() * revieweeReviewTypes.size());
     }
 
     /**
-     * 버디지수 업데이트 메서드
+     * 리뷰 타입에 따라 리뷰를 받는 유저가 얻는 랭킹 점수
      *
-     * @param reviewee 리뷰를 받는 유저
      * @param reviewType 리뷰 타입
      **/
-    private void updateBuddyScore(Member reviewee, ReviewType reviewType) {
-        // 리뷰 타입에 따라 얻는 버디 지수
-        double gettingBuddyScore = reviewType.getScore();
+    private double getRankScore(ReviewType reviewType) {
+        return switch (reviewType) {
+            case EXCELLENT -> RankScorePoints.EXCELLENT_REVIEW_SCORE.getScore();
+            case GOOD -> RankScorePoints.GOOD_REVIEW_SCORE.getScore();
+            case BAD -> RankScorePoints.BAD_REVIEW_SCORE.getScore();
+            case NOSHOW -> RankScorePoints.NOSHOW_REVIEW_SCORE.getScore();
+        };
+    }
 
-        // 새로 계산된 버디 지수
-        double newBuddyScore = reviewee.getBuddyScore() + gettingBuddyScore;
+    /**
+     * 받은 리뷰가 노쇼예요면 해당 유저의 노쇼 카운트를 증가시키고, 기준 이상이면 참가 횟수를 감소시키는 메서드
+     *
+     * @param gatherArticle 모집글
+     * @param reviewee 리뷰를 받은 유저
+     **/
+    private void adjustReceiveNoShowCount(GatherArticle gatherArticle, Member reviewee) {
+        if (memberGatherArticleJdbcRepository.incrementReceiveNoShowCount(gatherArticle.getId(), reviewee.getId()) == 0) {
+            throw new MemberNotJoinedGatherArticleException("해당 유저는 해당 모집글에 참여하지 않았습니다.");
+        }
 
-        // 버디 지수 업데이트
-        reviewee.assignBuddyScore(newBuddyScore);
+        // 노쇼예요 횟수가 모집글 참가인원의 절반 이상(본인 제외)이 되면 참가 횟수 -1
+        if (memberGatherArticleJdbcRepository.resetReceiveNoShowCountIfReached(gatherArticle.getId(), reviewee.getId(), (gatherArticle.getCurrentParticipants() - 1) / 2)) {
+            memberStatsService.addJoinCount(reviewee.getId(), -1);
+        }
     }
 }
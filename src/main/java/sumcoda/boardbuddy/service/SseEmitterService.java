@@ -0,0 +1,282 @@
+package sumcoda.boardbuddy.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sumcoda.boardbuddy.dto.NotificationResponse;
+import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.exception.sseEmitter.SseEmitterSubscribeErrorException;
+import sumcoda.boardbuddy.repository.sseEmitter.QueuedSseEmitter;
+import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepository;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class SseEmitterService {
+
+    private final SseEmitterRepository sseEmitterRepository;
+
+    private final SseEventRedisService sseEventRedisService;
+
+    // SSE 전송 전용 executor
+    // 느린 클라이언트의 소켓 쓰기가 다른 전송이나 비즈니스 스레드를 막지 않도록 emitter 별 전송 작업을 가상 스레드에서 실행
+    private final ExecutorService sseDispatchExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-dispatch-", 0).factory());
+
+    // 전송 대기 중인 전체 이벤트 수
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    // 느린 클라이언트로 판단되어 버려진 이벤트 수
+    private final Counter droppedEventCounter;
+
+    // emitter 한 건당 전송 소요 시간
+    private final Timer sendLatencyTimer;
+
+    // SSE 연결 타임아웃
+    @Value("${spring.sse.timeout:3600000}")
+    private long timeout;
+
+    // 연결이 모두 끊긴 사용자의 이벤트 버퍼를 보관할 시간
+    @Value("${spring.sse.idle-timeout:600000}")
+    private long idleTimeout;
+
+    // emitter 별 전송 대기 큐 용량
+    @Value("${spring.sse.queue-capacity:100}")
+    private int queueCapacity;
+
+    public SseEmitterService(SseEmitterRepository sseEmitterRepository, SseEventRedisService sseEventRedisService, MeterRegistry meterRegistry) {
+        this.sseEmitterRepository = sseEmitterRepository;
+        this.sseEventRedisService = sseEventRedisService;
+
+        Gauge.builder("sse.dispatch.queue.depth", queueDepth, AtomicLong::get)
+                .description("전송 대기 중인 SSE 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.emitters.active", sseEmitterRepository, SseEmitterRepository::countAllEmitters)
+                .description("연결된 SSE Emitter 수")
+                .register(meterRegistry);
+        this.droppedEventCounter = Counter.builder("sse.dispatch.dropped")
+                .description("느린 클라이언트로 인해 버려진 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.sendLatencyTimer = Timer.builder("sse.dispatch.send.latency")
+                .description("SSE 이벤트 전송 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * SSE Emitter 를 생성하여 등록하고, Last-Event-ID 이후 놓친 이벤트를 재전송
+     * 한 사용자가 여러 기기(탭)에서 구독하면 emitter 가 각각 등록됨
+     *
+     * @param username 알림 구독 요청 사용자 아이디
+     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 Id
+     * @return 등록된 SSE Emitter
+     **/
+    public SseEmitter subscribe(String username, String lastEventId) {
+
+        // 매 연결마다 고유 Id 부여
+        String emitterId = username + "_" + System.nanoTime();
+
+        // SseEmitter 인스턴스 생성
+        QueuedSseEmitter emitter = new QueuedSseEmitter(timeout, queueCapacity);
+
+        // 알림 전송 완료, 타임 아웃, 에러 시 같은 저장소에서 해당 emitter 만 삭제 처리
+        emitter.onCompletion(() -> removeEmitter(username, emitterId, emitter));
+        emitter.onTimeout(() -> removeEmitter(username, emitterId, emitter));
+        emitter.onError(e -> removeEmitter(username, emitterId, emitter));
+
+        try {
+            // 503 Service Unavailable 방지용 dummy 이벤트 전송
+            // 등록 전에 요청 스레드에서 직접 전송하므로 전송 스레드와 경합하지 않음
+            emitter.send(SseEmitter.event().name("connect"));
+        } catch (IOException | IllegalStateException e) {
+            throw new SseEmitterSubscribeErrorException("서버 문제로 알림 구독을 실패했습니다. 관리자에게 문의하세요.");
+        }
+
+        sseEmitterRepository.save(username, emitterId, emitter);
+        log.info("SSE Emitter for user {} added with ID: {}", username, emitterId);
+
+        // 재연결인 경우 마지막으로 수신한 이벤트 이후의 이벤트를 재전송
+        // 등록 이후에 조회하므로 그 사이에 발생한 이벤트가 누락되지 않음 (중복은 클라이언트가 이벤트 Id 로 제거)
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            findEventsAfter(username, parseEventId(lastEventId))
+                    .forEach(event -> dispatch(username, emitterId, emitter, buildEvent(event)));
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 알림을 이벤트 버퍼에 저장하고 이 서버에 연결된 사용자의 모든 emitter 전송 큐에 추가
+     * 실제 소켓 쓰기는 전용 executor 에서 수행
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param message 알림 메세지
+     * @param eventName 알림 이벤트 이름
+     **/
+    public void send(String username, String message, EventName eventName) {
+        deliver(username, saveEvent(username, message, eventName));
+    }
+
+    /**
+     * 재연결 시 재전송할 수 있도록 이벤트 Id 를 발급하여 이벤트 버퍼에 저장
+     * 서버 간 전달을 사용하면 모든 서버가 함께 사용하는 Redis 버퍼에 저장하고, 레디스 장애 시 이 서버의 버퍼에 저장
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param message 알림 메세지
+     * @param eventName 알림 이벤트 이름
+     * @return 저장된 이벤트
+     **/
+    public NotificationResponse.SseEventDTO saveEvent(String username, String message, EventName eventName) {
+        if (sseEventRedisService.isEnabled()) {
+            return sseEventRedisService.saveEvent(username, String.valueOf(eventName), message)
+                    .orElseGet(() -> sseEmitterRepository.saveEventCache(username, String.valueOf(eventName), message));
+        }
+
+        return sseEmitterRepository.saveEventCache(username, String.valueOf(eventName), message);
+    }
+
+    /**
+     * 이미 저장된 이벤트를 이 서버에 연결된 사용자의 모든 emitter 전송 큐에 추가
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param event 저장된 이벤트
+     **/
+    public void deliver(String username, NotificationResponse.SseEventDTO event) {
+        sseEmitterRepository.findAllEmittersByUsername(username)
+                .forEach((emitterId, emitter) -> dispatch(username, emitterId, emitter, buildEvent(event)));
+    }
+
+    /**
+     * 주기적으로 모든 emitter 에 heartbeat 코멘트를 전송하여 끊긴 연결을 정리하고
+     * 연결이 모두 끊긴 지 오래된 사용자의 이벤트 버퍼를 제거
+     **/
+    @Scheduled(fixedDelayString = "${spring.sse.heartbeat-interval:30000}")
+    public void sendHeartbeat() {
+        Map<String, Map<String, QueuedSseEmitter>> allEmitters = sseEmitterRepository.findAllEmitters();
+
+        allEmitters.forEach((username, emitters) -> emitters.forEach((emitterId, emitter) -> {
+            // 전송 대기 중인 이벤트가 있다면 연결 확인이 되므로 heartbeat 생략
+            if (emitter.isQueueEmpty()) {
+                dispatch(username, emitterId, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+
+        int evictedCount = sseEmitterRepository.deleteIdleEventCaches(idleTimeout);
+
+        if (evictedCount > 0) {
+            log.info("SSE idle event caches evicted: {}", evictedCount);
+        }
+    }
+
+    // 애플리케이션 종료 시 전송 executor 종료
+    @PreDestroy
+    public void shutdown() {
+        sseDispatchExecutor.shutdownNow();
+    }
+
+    // emitter 큐에 이벤트를 넣고 전송 작업을 예약
+    private void dispatch(String username, String emitterId, QueuedSseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        if (!emitter.offer(event)) {
+            // 큐가 가득 찬 느린 클라이언트는 연결을 끊어 재연결 시 Last-Event-ID 로 따라잡도록 함
+            droppedEventCounter.increment();
+            log.warn("SSE 전송 큐 초과로 emitter {} 연결 종료.", emitterId);
+            removeEmitter(username, emitterId, emitter);
+            emitter.complete();
+            return;
+        }
+
+        queueDepth.incrementAndGet();
+        scheduleDrain(username, emitterId, emitter);
+    }
+
+    // emitter 당 하나의 전송 작업만 실행되도록 하여 이벤트 순서를 보장
+    private void scheduleDrain(String username, String emitterId, QueuedSseEmitter emitter) {
+        if (!emitter.tryStartDraining()) {
+            return;
+        }
+
+        try {
+            sseDispatchExecutor.execute(() -> drain(username, emitterId, emitter));
+        } catch (RejectedExecutionException e) {
+            emitter.stopDraining();
+            log.error("SSE 전송 작업 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    // 큐에 쌓인 이벤트를 순서대로 전송
+    private void drain(String username, String emitterId, QueuedSseEmitter emitter) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = emitter.poll()) != null) {
+                queueDepth.decrementAndGet();
+
+                long startedAt = System.nanoTime();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 전송 중 오류 발생 시, 해당 emitter 만 제거
+                    log.error("알림 전송 에러: {}. emitter {} 제거.", e.getMessage(), emitterId);
+                    removeEmitter(username, emitterId, emitter);
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    sendLatencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }
+        } finally {
+            emitter.stopDraining();
+        }
+
+        // 작업 종료 직전에 들어온 이벤트가 있다면 다시 예약
+        if (!emitter.isQueueEmpty()) {
+            scheduleDrain(username, emitterId, emitter);
+        }
+    }
+
+    // 저장소에서 emitter 를 제거하고 전송하지 못한 이벤트를 정리
+    private void removeEmitter(String username, String emitterId, QueuedSseEmitter emitter) {
+        sseEmitterRepository.deleteEmitterById(username, emitterId);
+        queueDepth.addAndGet(-emitter.clearQueue());
+    }
+
+    // 재전송할 이벤트 조회 (Redis 버퍼를 조회하지 못하면 이 서버의 버퍼에서 조회)
+    private List<NotificationResponse.SseEventDTO> findEventsAfter(String username, Long lastEventId) {
+        if (sseEventRedisService.isEnabled()) {
+            return sseEventRedisService.findEventsAfter(username, lastEventId)
+                    .orElseGet(() -> sseEmitterRepository.findAllEventCachesAfter(username, lastEventId));
+        }
+
+        return sseEmitterRepository.findAllEventCachesAfter(username, lastEventId);
+    }
+
+    // 버퍼에 저장된 이벤트로 SSE 이벤트 생성
+    private SseEmitter.SseEventBuilder buildEvent(NotificationResponse.SseEventDTO event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(event.getEventName())
+                .data(event.getMessage());
+    }
+
+    // Last-Event-ID 헤더 값을 이벤트 Id 로 변환 (형식이 맞지 않으면 전체 버퍼 재전송)
+    private Long parseEventId(String lastEventId) {
+        try {
+            return Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
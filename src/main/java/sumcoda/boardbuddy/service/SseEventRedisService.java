@@ -0,0 +1,129 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import sumcoda.boardbuddy.dto.NotificationResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 서버가 함께 사용하는 SSE 이벤트 Id 발급, 재전송 버퍼 서비스
+ * 이벤트 Id 는 Redis INCR 로 발급하여 서버가 달라도 단조 증가하고, 재전송 버퍼는 사용자별 Redis List 에 보관하므로
+ * 다른 서버로 재연결해도 Last-Event-ID 이후의 이벤트를 재전송할 수 있음
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseEventRedisService {
+
+    // 이벤트 Id 시퀀스 키
+    private static final String EVENT_SEQ_KEY = "SSE_EVENT_SEQ";
+
+    // 사용자별 재전송 버퍼 키 접두사 (key : 접두사 + username, value : 이벤트 JSON 목록)
+    private static final String EVENTS_KEY_PREFIX = "SSE_EVENTS:";
+
+    // 다음 이벤트 Id 발급
+    // 키가 없으면 현재 시각으로 초기화하여 서버별 시퀀스(현재 시각으로 초기화)로 발급된 Id 보다 작아지지 않도록 함
+    private static final RedisScript<Long> NEXT_EVENT_ID_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[1]) end " +
+                    "return redis.call('INCR', KEYS[1])",
+            Long.class);
+
+    // 이벤트를 버퍼 끝에 추가하고 용량을 넘는 오래된 이벤트 제거, 마지막 저장 시각부터 idle-timeout 동안 보관
+    private static final RedisScript<Long> PUSH_EVENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('RPUSH', KEYS[1], ARGV[1]) " +
+                    "redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    // Redis 를 통한 서버 간 전달 사용 여부 (false 이면 서버별 재전송 버퍼 사용)
+    @Value("${spring.sse.relay-enabled:true}")
+    private boolean enabled;
+
+    // 사용자별로 보관할 최근 이벤트 개수
+    @Value("${spring.sse.event-cache-size:50}")
+    private int eventCacheSize;
+
+    // 마지막 이벤트 이후 재전송 버퍼를 보관할 시간
+    @Value("${spring.sse.idle-timeout:600000}")
+    private long idleTimeout;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이벤트 Id 를 발급하여 재전송 버퍼에 저장
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param eventName 알림 이벤트 이름
+     * @param message 알림 메세지
+     * @return 저장된 이벤트, 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<NotificationResponse.SseEventDTO> saveEvent(String username, String eventName, String message) {
+        try {
+            Long eventId = stringRedisTemplate.execute(NEXT_EVENT_ID_SCRIPT, List.of(EVENT_SEQ_KEY),
+                    String.valueOf(System.currentTimeMillis()));
+
+            NotificationResponse.SseEventDTO event = NotificationResponse.SseEventDTO.builder()
+                    .id(eventId)
+                    .eventName(eventName)
+                    .message(message)
+                    .build();
+
+            stringRedisTemplate.execute(PUSH_EVENT_SCRIPT, List.of(EVENTS_KEY_PREFIX + username),
+                    objectMapper.writeValueAsString(event), String.valueOf(eventCacheSize), String.valueOf(idleTimeout));
+
+            return Optional.of(event);
+        } catch (Exception e) {
+            log.error("[SseEventRedisService saveEvent() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 재전송 버퍼에서 특정 이벤트 이후의 이벤트를 Id 순으로 조회
+     *
+     * @param username 알림 구독 요청 사용자 아이디
+     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 Id
+     * @return 이후 이벤트 목록, 레디스 장애 발생 시 빈 Optional
+     **/
+    public Optional<List<NotificationResponse.SseEventDTO>> findEventsAfter(String username, Long lastEventId) {
+        try {
+            List<String> cachedEvents = stringRedisTemplate.opsForList().range(EVENTS_KEY_PREFIX + username, 0, -1);
+
+            if (cachedEvents == null) {
+                return Optional.of(List.of());
+            }
+
+            // 여러 서버가 동시에 저장하면 추가 순서와 Id 순서가 다를 수 있으므로 Id 로 정렬
+            List<NotificationResponse.SseEventDTO> events = new ArrayList<>();
+            for (String cachedEvent : cachedEvents) {
+                NotificationResponse.SseEventDTO event = objectMapper.readValue(cachedEvent, NotificationResponse.SseEventDTO.class);
+                if (event.getId() > lastEventId) {
+                    events.add(event);
+                }
+            }
+            events.sort(Comparator.comparing(NotificationResponse.SseEventDTO::getId));
+
+            return Optional.of(events);
+        } catch (Exception e) {
+            log.error("[SseEventRedisService findEventsAfter() error]: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sumcoda.boardbuddy.dto.NotificationResponse;
+import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 여러 서버 간 SSE 알림 전달을 위한 Redis pub/sub 서비스
+ * 사용자가 연결된 서버 목록(presence)을 조회하여 해당 서버의 채널에만 발행하므로 전체 브로드캐스트가 발생하지 않음
+ * 알림은 발행한 서버에서 한 번만 Redis 재전송 버퍼에 저장하고, 같은 이벤트 Id 로 각 서버에 전달
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseRedisService implements MessageListener {
+
+    // 서버별 채널 이름 접두사 (channel : 접두사 + 서버 Id)
+    private static final String NODE_CHANNEL_PREFIX = "SSE_NODE:";
+
+    // 사용자별 연결된 서버 목록 키 접두사 (key : 접두사 + username, member : 서버 Id, score : 마지막 갱신 시각)
+    private static final String PRESENCE_KEY_PREFIX = "SSE_PRESENCE:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final SseEmitterService sseEmitterService;
+
+    private final SseEmitterRepository sseEmitterRepository;
+
+    private final ObjectMapper objectMapper;
+
+    // 서버 Id (설정하지 않으면 실행 시마다 새로 생성)
+    @Value("${spring.sse.node-id:}")
+    private String nodeId;
+
+    // Redis 를 통한 서버 간 전달 사용 여부 (단일 서버나 Redis 가 없는 환경에서는 false)
+    @Value("${spring.sse.relay-enabled:true}")
+    private boolean relayEnabled;
+
+    // presence 유효 시간, heartbeat 주기보다 길게 설정해야 함
+    @Value("${spring.sse.presence-ttl:90000}")
+    private long presenceTtl;
+
+    // 생성자 주입 이후 호출
+    @PostConstruct
+    public void init() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+
+        if (relayEnabled) {
+            // 이 서버로 전달된 알림만 수신하도록 서버 전용 채널 구독
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(NODE_CHANNEL_PREFIX + nodeId));
+            log.info("SSE relay channel subscribed: {}", NODE_CHANNEL_PREFIX + nodeId);
+        }
+    }
+
+    /**
+     * 사용자가 이 서버에 연결되었음을 등록
+     *
+     * @param username 알림 구독 요청 사용자 아이디
+     **/
+    public void registerPresence(String username) {
+        if (!relayEnabled) {
+            return;
+        }
+
+        try {
+            String presenceKey = PRESENCE_KEY_PREFIX + username;
+            stringRedisTemplate.opsForZSet().add(presenceKey, nodeId, System.currentTimeMillis());
+            stringRedisTemplate.expire(presenceKey, Duration.ofMillis(presenceTtl));
+        } catch (Exception e) {
+            log.error("[SseRedisService registerPresence() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 알림을 사용자가 연결된 서버로 전달
+     * 트랜잭션 안에서 호출되면 커밋 이후에 전달
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param message 알림 메세지
+     * @param eventName 알림 이벤트 이름
+     **/
+    public void publish(String username, String message, EventName eventName) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    route(username, message, eventName);
+                }
+            });
+            return;
+        }
+
+        route(username, message, eventName);
+    }
+
+    /**
+     * 다른 서버에서 이 서버의 채널로 발행한 알림을 수신하여 로컬 emitter 로 전송
+     **/
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationResponse.SseMessageDTO sseMessageDTO = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), NotificationResponse.SseMessageDTO.class);
+
+            // 발행한 서버에서 이미 저장한 이벤트이므로 다시 저장하지 않고 전송만 수행
+            sseEmitterService.deliver(sseMessageDTO.getUsername(), NotificationResponse.SseEventDTO.builder()
+                    .id(sseMessageDTO.getId())
+                    .eventName(String.valueOf(sseMessageDTO.getEventName()))
+                    .message(sseMessageDTO.getMessage())
+                    .build());
+        } catch (Exception e) {
+            log.error("[SseRedisService onMessage() error]: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 서버에 연결된 사용자들의 presence 를 주기적으로 갱신하고 만료된 서버 정보를 정리
+     **/
+    @Scheduled(fixedDelayString = "${spring.sse.heartbeat-interval:30000}")
+    public void refreshPresence() {
+        if (!relayEnabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        try {
+            for (String username : sseEmitterRepository.findAllEmitters().keySet()) {
+                String presenceKey = PRESENCE_KEY_PREFIX + username;
+                stringRedisTemplate.opsForZSet().add(presenceKey, nodeId, now);
+                stringRedisTemplate.opsForZSet().removeRangeByScore(presenceKey, 0, now - presenceTtl);
+                stringRedisTemplate.expire(presenceKey, Duration.ofMillis(presenceTtl));
+            }
+        } catch (Exception e) {
+            log.error("[SseRedisService refreshPresence() error]: {}", e.getMessage());
+        }
+    }
+
+    // 사용자가 연결된 서버를 조회하여 이 서버면 바로 전송하고, 다른 서버면 해당 서버 채널로 발행
+    private void route(String username, String message, EventName eventName) {
+        if (!relayEnabled) {
+            sseEmitterService.send(username, message, eventName);
+            return;
+        }
+
+        Set<String> nodeIds;
+        try {
+            nodeIds = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(PRESENCE_KEY_PREFIX + username, System.currentTimeMillis() - presenceTtl, Double.MAX_VALUE);
+        } catch (Exception e) {
+            // redis 장애 발생 시 이 서버에 연결된 emitter 로만 전송
+            log.error("[SseRedisService route() error]: {}", e.getMessage());
+            sseEmitterService.send(username, message, eventName);
+            return;
+        }
+
+        // 재연결 시 어느 서버에서든 재전송할 수 있도록 먼저 저장 (연결된 서버가 없으면 저장만 수행)
+        NotificationResponse.SseEventDTO event = sseEmitterService.saveEvent(username, message, eventName);
+
+        if (nodeIds == null) {
+            return;
+        }
+
+        for (String targetNodeId : nodeIds) {
+            if (targetNodeId.equals(nodeId)) {
+                sseEmitterService.deliver(username, event);
+                continue;
+            }
+
+            try {
+                stringRedisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + targetNodeId, serializeSseMessageDTO(
+                        NotificationResponse.SseMessageDTO.builder()
+                                .id(event.getId())
+                                .username(username)
+                                .eventName(eventName)
+                                .message(message)
+                                .build()));
+            } catch (Exception e) {
+                log.error("[SseRedisService convertAndSend() error]: {}", e.getMessage());
+            }
+        }
+    }
+
+    // DTO 를 JSON 으로 직렬화하는 메서드
+    private String serializeSseMessageDTO(NotificationResponse.SseMessageDTO sseMessageDTO) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(sseMessageDTO);
+    }
+}
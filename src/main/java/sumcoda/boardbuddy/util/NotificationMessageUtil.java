@@ -1,6 +1,7 @@
 package sumcoda.boardbuddy.util;
 
 import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.enumerate.EventName;
 
 @Component
 public class NotificationMessageUtil {
@@ -36,6 +37,16 @@ public class NotificationMessageUtil {
         return String.format("%s님의 주변에 '%s' 모집글이 작성되었습니다.", nickname, formatTitle(gatherArticleTitle));
     }
 
+    // 묶음 시간 안에 같은 모집글에서 여러 번 발생한 알림을 하나로 묶은 메세지
+    public String formatCoalescedMessage(EventName eventName, int count, String gatherArticleTitle) {
+        return switch (eventName) {
+            case WRITE_COMMENT -> String.format("'%s'에 새 댓글이 %d개 달렸습니다.", formatTitle(gatherArticleTitle), count);
+            case APPLY_PARTICIPATION -> String.format("'%s'에 참가 신청이 %d건 들어왔습니다.", formatTitle(gatherArticleTitle), count);
+            case CANCEL_PARTICIPATION -> String.format("'%s'의 참가 신청 취소가 %d건 있습니다.", formatTitle(gatherArticleTitle), count);
+            default -> throw new IllegalArgumentException("묶을 수 없는 알림 이벤트입니다: " + eventName);
+        };
+    }
+
     private String formatTitle(String title) {
         return title.length() > 9 ? title.substring(0, 9) + "..." : title;
     }
@@ -0,0 +1,104 @@
+package sumcoda.boardbuddy.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import sumcoda.boardbuddy.controller.BadgeImageController;
+import sumcoda.boardbuddy.controller.RankingController;
+import sumcoda.boardbuddy.dto.BadgeImageResponse;
+import sumcoda.boardbuddy.dto.MemberResponse;
+import sumcoda.boardbuddy.interceptor.AuthenticationInterceptor;
+import sumcoda.boardbuddy.service.BadgeImageService;
+import sumcoda.boardbuddy.service.RankingService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * TOP3 랭킹, 뱃지 조회 응답에 강한 ETag 와 Cache-Control 이 붙고, 같은 ETag 로 다시 요청하면 본문 없이 304 로 응답하는지 확인
+ **/
+class WebMvcConfigTest {
+
+    private RankingService rankingService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = mock(RankingService.class);
+        BadgeImageService badgeImageService = mock(BadgeImageService.class);
+
+        when(rankingService.getTop3Rankings()).thenReturn(List.of(MemberResponse.RankingsDTO.builder().nickname("닉네임").build()));
+        when(badgeImageService.getBadges("닉네임")).thenReturn(List.of(BadgeImageResponse.BadgeImageInfosDTO.builder()
+                .badgeImageS3SavedURL("badge.png")
+                .build()));
+
+        FilterRegistrationBean<ShallowEtagHeaderFilter> filterRegistrationBean =
+                new WebMvcConfig(mock(AuthenticationInterceptor.class)).shallowEtagHeaderFilter();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new RankingController(rankingService), new BadgeImageController(badgeImageService))
+                .addFilter(filterRegistrationBean.getFilter(), filterRegistrationBean.getUrlPatterns().toArray(String[]::new))
+                .build();
+    }
+
+    @Test
+    void rankingsAreRevalidatedWithStrongEtag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/rankings"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(eTag).startsWith("\"");
+
+        mockMvc.perform(get("/api/rankings").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void changedRankingsAreSentAgain() throws Exception {
+        String eTag = mockMvc.perform(get("/api/rankings"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 월간 랭킹 집계로 TOP3 가 바뀜
+        when(rankingService.getTop3Rankings()).thenReturn(List.of(MemberResponse.RankingsDTO.builder().nickname("새 닉네임").build()));
+
+        String changedETag = mockMvc.perform(get("/api/rankings").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(changedETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void badgesAreRevalidatedWithPrivateCacheControl() throws Exception {
+        String eTag = mockMvc.perform(get("/api/badges/닉네임"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(eTag).startsWith("\"");
+
+        mockMvc.perform(get("/api/badges/닉네임").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void liveRankingsHaveNoEtag() throws Exception {
+        mockMvc.perform(get("/api/rankings/live"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
@@ -0,0 +1,111 @@
+package sumcoda.boardbuddy.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+import sumcoda.boardbuddy.interceptor.StompAuthenticationInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * STOMP 채널 스레드 풀이 설정한 크기로 만들어지고 큐가 가득 차면 작업을 버리지 않고 호출한 스레드에서 실행하며,
+ * 세션별 전송 제한과 대기 작업 수 메트릭이 등록되는지 확인
+ **/
+class WebsocketConfigTest {
+
+    private AnnotationConfigWebApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                "spring.chat.websocket.send-buffer-size-limit", "1024",
+                "spring.chat.websocket.send-time-limit", "2000",
+                "spring.chat.websocket.outbound.core-pool-size", "1",
+                "spring.chat.websocket.outbound.max-pool-size", "1",
+                "spring.chat.websocket.outbound.queue-capacity", "1")));
+        context.addBeanFactoryPostProcessor(beanFactory ->
+                beanFactory.registerSingleton("stompAuthenticationInterceptor", mock(StompAuthenticationInterceptor.class)));
+        context.register(WebsocketConfig.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void fullOutboundQueueRunsTaskOnCallerThread() throws Exception {
+        ThreadPoolTaskExecutor executor = context.getBean("clientOutboundChannelExecutor", ThreadPoolTaskExecutor.class);
+        assertThat(executor.getCorePoolSize()).isEqualTo(1);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(1);
+        assertThat(executor.getQueueCapacity()).isEqualTo(1);
+        assertThat(executor.getThreadPoolExecutor().getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+
+        // 하나뿐인 스레드와 큐를 모두 채움
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { });
+
+        AtomicReference<Thread> executedThread = new AtomicReference<>();
+        executor.execute(() -> executedThread.set(Thread.currentThread()));
+        release.countDown();
+
+        assertThat(executedThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void inboundExecutorAlsoRunsRejectedTaskOnCallerThread() {
+        ThreadPoolTaskExecutor executor = context.getBean("clientInboundChannelExecutor", ThreadPoolTaskExecutor.class);
+
+        assertThat(executor.getThreadPoolExecutor().getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+    }
+
+    @Test
+    void perSessionSendLimitsAreApplied() {
+        SubProtocolWebSocketHandler handler = context.getBean(SubProtocolWebSocketHandler.class);
+
+        assertThat(handler.getSendBufferSizeLimit()).isEqualTo(1024);
+        assertThat(handler.getSendTimeLimit()).isEqualTo(2000);
+    }
+
+    @Test
+    void channelQueueDepthGaugesAreRegistered() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        context.getBean("websocketChannelMetrics", MeterBinder.class).bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("chat.websocket.channel.queue.depth").tag("channel", "inbound").gauge().value()).isZero();
+        assertThat(meterRegistry.get("chat.websocket.channel.queue.depth").tag("channel", "outbound").gauge().value()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
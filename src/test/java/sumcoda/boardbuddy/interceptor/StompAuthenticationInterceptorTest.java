@@ -0,0 +1,93 @@
+package sumcoda.boardbuddy.interceptor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import sumcoda.boardbuddy.exception.ChatRoomAccessDeniedException;
+import sumcoda.boardbuddy.exception.auth.AuthenticationMissingException;
+import sumcoda.boardbuddy.service.ChatRoomService;
+import sumcoda.boardbuddy.util.AuthUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅방 구독 시 CONNECT 에서 저장한 사용자 Id 로 참여 여부를 확인하여 참여하지 않은 채팅방 구독을 거부하는지 확인
+ **/
+class StompAuthenticationInterceptorTest {
+
+    private static final Long MEMBER_ID = 10L;
+
+    private ChatRoomService chatRoomService;
+
+    private StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @BeforeEach
+    void setUp() {
+        chatRoomService = mock(ChatRoomService.class);
+        stompAuthenticationInterceptor = new StompAuthenticationInterceptor(mock(AuthUtil.class), chatRoomService);
+    }
+
+    @Test
+    void memberCanSubscribeToJoinedChatRoom() {
+        when(chatRoomService.isChatRoomMember(1L, MEMBER_ID)).thenReturn(true);
+
+        Message<?> message = subscribe("/api/ws-stomp/reception/1", Map.of(StompAuthenticationInterceptor.MEMBER_ID_ATTRIBUTE, MEMBER_ID));
+
+        assertThat(stompAuthenticationInterceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    void subscribingToChatRoomNotJoinedIsDenied() {
+        when(chatRoomService.isChatRoomMember(2L, MEMBER_ID)).thenReturn(false);
+
+        Message<?> message = subscribe("/api/ws-stomp/reception/2", Map.of(StompAuthenticationInterceptor.MEMBER_ID_ATTRIBUTE, MEMBER_ID));
+
+        assertThatThrownBy(() -> stompAuthenticationInterceptor.preSend(message, channel))
+                .isInstanceOf(ChatRoomAccessDeniedException.class);
+    }
+
+    @Test
+    void subscribingWithoutConnectedMemberOrWithInvalidRoomIsDenied() {
+        assertThatThrownBy(() -> stompAuthenticationInterceptor.preSend(subscribe("/api/ws-stomp/reception/1", Map.of()), channel))
+                .isInstanceOf(AuthenticationMissingException.class);
+
+        assertThatThrownBy(() -> stompAuthenticationInterceptor.preSend(
+                subscribe("/api/ws-stomp/reception/abc", Map.of(StompAuthenticationInterceptor.MEMBER_ID_ATTRIBUTE, MEMBER_ID)), channel))
+                .isInstanceOf(ChatRoomAccessDeniedException.class);
+
+        verify(chatRoomService, never()).isChatRoomMember(any(), any());
+    }
+
+    @Test
+    void otherDestinationsAreNotChecked() {
+        Message<?> message = subscribe("/user/queue/errors", Map.of());
+
+        assertThat(stompAuthenticationInterceptor.preSend(message, channel)).isSameAs(message);
+        verify(chatRoomService, never()).isChatRoomMember(any(), any());
+    }
+
+    private static Message<byte[]> subscribe(String destination, Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(new HashMap<>(sessionAttributes));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
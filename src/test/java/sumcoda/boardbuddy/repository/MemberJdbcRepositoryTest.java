@@ -0,0 +1,87 @@
+package sumcoda.boardbuddy.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import sumcoda.boardbuddy.enumerate.RankScorePoints;
+import sumcoda.boardbuddy.enumerate.ReviewType;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 지난 달 받은 리뷰, 보낸 리뷰 점수를 월간 카운트가 아닌 리뷰 행의 저장 시각으로 집계하는지 확인
+ **/
+class MemberJdbcRepositoryTest {
+
+    private static final YearMonth LAST_MONTH = YearMonth.of(2024, 7);
+
+    private static final LocalDateTime START = LAST_MONTH.atDay(1).atStartOfDay();
+
+    private static final LocalDateTime END = LAST_MONTH.atEndOfMonth().atTime(23, 59, 59);
+
+    private JdbcTemplate jdbcTemplate;
+
+    private MemberJdbcRepository memberJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:member-jdbc;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE review (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, has_reviewed BOOLEAN, review_type VARCHAR(255) NOT NULL, " +
+                "reviewer_id BIGINT, reviewee_id BIGINT, gather_article_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+
+        memberJdbcRepository = new MemberJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE review");
+    }
+
+    @Test
+    void reviewScoresAreAggregatedByCreatedAt() {
+        // 지난 달 리뷰
+        saveReview(1L, 2L, ReviewType.EXCELLENT, START);
+        saveReview(1L, 3L, ReviewType.NOSHOW, END);
+        saveReview(3L, 2L, ReviewType.GOOD, START.plusDays(10));
+        saveReview(4L, 2L, ReviewType.BAD, START.plusDays(20));
+        // 지난 달 이전, 이후 리뷰 (집계되지 않아야 함)
+        saveReview(1L, 2L, ReviewType.EXCELLENT, START.minusSeconds(1));
+        saveReview(1L, 2L, ReviewType.EXCELLENT, END.plusSeconds(1));
+        // 회원 Id 범위 밖의 리뷰
+        saveReview(1L, 10L, ReviewType.EXCELLENT, START);
+
+        Map<Long, Double> receivedScores = new HashMap<>();
+        memberJdbcRepository.streamReceivedReviewScores(1, 5,
+                RankScorePoints.EXCELLENT_REVIEW_SCORE.getScore(),
+                RankScorePoints.GOOD_REVIEW_SCORE.getScore(),
+                RankScorePoints.BAD_REVIEW_SCORE.getScore(),
+                RankScorePoints.NOSHOW_REVIEW_SCORE.getScore(),
+                START, END, receivedScores::put);
+
+        assertThat(receivedScores).containsOnlyKeys(2L, 3L);
+        assertThat(receivedScores.get(2L)).isCloseTo(5.0 + 3.0 - 1.0, within(1e-9));
+        assertThat(receivedScores.get(3L)).isCloseTo(-3.0, within(1e-9));
+
+        Map<Long, Double> sentScores = new HashMap<>();
+        memberJdbcRepository.streamSentReviewScores(1, 5, RankScorePoints.SEND_REVIEW_SCORE.getScore(), START, END, sentScores::put);
+
+        // 회원 Id 범위는 보낸 회원 기준
+        assertThat(sentScores).containsOnly(Map.entry(1L, 2.0 * 3), Map.entry(3L, 2.0), Map.entry(4L, 2.0));
+    }
+
+    private void saveReview(Long reviewerId, Long revieweeId, ReviewType reviewType, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO review (has_reviewed, review_type, reviewer_id, reviewee_id, gather_article_id, created_at, updated_at) " +
+                "VALUES (TRUE, ?, ?, ?, 1, ?, ?)", reviewType.name(), reviewerId, revieweeId, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,67 @@
+package sumcoda.boardbuddy.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import sumcoda.boardbuddy.enumerate.EventName;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 유저의 알림을 한 번에 저장하고, 생성된 알림 Id 를 저장 순서대로 반환하는지 확인
+ **/
+class NotificationJdbcRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 7, 1, 12, 0);
+
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:notification-jdbc;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE notification (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, message VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL, " +
+                "gather_article_id BIGINT, event_name VARCHAR(255), coalesced_count INT NOT NULL, member_id BIGINT)");
+
+        notificationJdbcRepository = new NotificationJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE notification");
+    }
+
+    @Test
+    void notificationsAreInsertedInBatchWithGeneratedIds() {
+        Map<Long, String> memberMessages = new LinkedHashMap<>();
+        memberMessages.put(30L, "message 30");
+        memberMessages.put(10L, "message 10");
+        memberMessages.put(20L, "message 20");
+
+        List<Long> notificationIds = notificationJdbcRepository.batchInsertNotifications(
+                7L, EventName.WRITE_GATHER_ARTICLE, CREATED_AT, memberMessages);
+
+        assertThat(notificationIds).hasSize(3);
+        for (int i = 0; i < notificationIds.size(); i++) {
+            Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM notification WHERE id = ?", notificationIds.get(i));
+            Long memberId = List.copyOf(memberMessages.keySet()).get(i);
+
+            assertThat(((Number) row.get("member_id")).longValue()).isEqualTo(memberId);
+            assertThat(row.get("message")).isEqualTo(memberMessages.get(memberId));
+            assertThat(((Number) row.get("gather_article_id")).longValue()).isEqualTo(7L);
+            assertThat(row.get("event_name")).isEqualTo("WRITE_GATHER_ARTICLE");
+            assertThat(row.get("coalesced_count")).isEqualTo(1);
+        }
+    }
+}
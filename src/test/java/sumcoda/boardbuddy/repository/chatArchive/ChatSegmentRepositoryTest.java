@@ -0,0 +1,123 @@
+package sumcoda.boardbuddy.repository.chatArchive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.MessageType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세그먼트 블록 기록, 희소 인덱스 조회, 순번 커서 페이지 조회가 맞물리고, 기록 도중 종료되어 남은 불완전한 블록, 인덱스 항목은 무시되는지 확인
+ **/
+class ChatSegmentRepositoryTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 7, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private ChatSegmentRepository chatSegmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        chatSegmentRepository = new ChatSegmentRepository();
+        ReflectionTestUtils.setField(chatSegmentRepository, "directory", directory.toString());
+    }
+
+    @Test
+    void appendedBlocksAreReadBack() throws Exception {
+        assertThat(chatSegmentRepository.findLastArchivedSeq(CHAT_ROOM_ID)).isZero();
+        assertThat(chatSegmentRepository.findLastBlockMessages(CHAT_ROOM_ID)).isEmpty();
+
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, messages(1, 4));
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, List.of(
+                message(5, MessageType.TALK, "닉네임", 3),
+                message(6, MessageType.ENTER, null, null)));
+
+        assertThat(chatSegmentRepository.findLastArchivedSeq(CHAT_ROOM_ID)).isEqualTo(6L);
+
+        // 발신자 정보가 없는 입장 메세지와 랭킹이 있는 메세지 모두 그대로 복원
+        List<ChatMessageResponse.ArchiveMessageDTO> lastBlock = chatSegmentRepository.findLastBlockMessages(CHAT_ROOM_ID);
+        assertThat(lastBlock).extracting(ChatMessageResponse.ArchiveMessageDTO::getSeq).containsExactly(5L, 6L);
+        assertThat(lastBlock.get(0).getId()).isEqualTo(105L);
+        assertThat(lastBlock.get(0).getNickname()).isEqualTo("닉네임");
+        assertThat(lastBlock.get(0).getRank()).isEqualTo(3);
+        assertThat(lastBlock.get(0).getCreatedAt()).isEqualTo(BASE_TIME.plusMinutes(5));
+        assertThat(lastBlock.get(1).getMessageType()).isEqualTo(MessageType.ENTER);
+        assertThat(lastBlock.get(1).getNickname()).isNull();
+        assertThat(lastBlock.get(1).getRank()).isNull();
+    }
+
+    @Test
+    void messagesArePagedBySeqCursorAcrossBlocks() throws Exception {
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, messages(1, 4));
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, messages(5, 8));
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, messages(9, 10));
+
+        assertThat(seqs(chatSegmentRepository.findMessagesBefore(CHAT_ROOM_ID, null, BASE_TIME, 3))).containsExactly(10L, 9L, 8L);
+        // 블록 경계를 넘는 페이지
+        assertThat(seqs(chatSegmentRepository.findMessagesBefore(CHAT_ROOM_ID, 8L, BASE_TIME, 3))).containsExactly(7L, 6L, 5L);
+        assertThat(seqs(chatSegmentRepository.findMessagesBefore(CHAT_ROOM_ID, 5L, BASE_TIME, 3))).containsExactly(4L, 3L, 2L);
+        assertThat(seqs(chatSegmentRepository.findMessagesBefore(CHAT_ROOM_ID, 2L, BASE_TIME, 3))).containsExactly(1L);
+        assertThat(chatSegmentRepository.findMessagesBefore(CHAT_ROOM_ID, 1L, BASE_TIME, 3)).isEmpty();
+
+        // 입장 시각 이전의 메세지는 조회하지 않음 (순번 n 의 메세지는 BASE_TIME + n 분에 작성)
+        assertThat(seqs(chatSegmentRepository.findMessagesBefore(CHAT_ROOM_ID, 9L, BASE_TIME.plusMinutes(5), 10)))
+                .containsExactly(8L, 7L, 6L);
+    }
+
+    @Test
+    void incompleteWritesAreIgnoredAndOverwritten() throws Exception {
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, messages(1, 4));
+
+        // 블록을 기록하다 종료된 경우 (세그먼트 끝의 불완전한 블록, 인덱스 끝의 불완전한 항목)
+        Files.write(directory.resolve("room-1.seg"), new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+        Files.write(directory.resolve("room-1.idx"), new byte[]{9, 9, 9, 9, 9, 9, 9, 9, 9, 9}, StandardOpenOption.APPEND);
+
+        assertThat(chatSegmentRepository.findLastArchivedSeq(CHAT_ROOM_ID)).isEqualTo(4L);
+        assertThat(seqs(chatSegmentRepository.findLastBlockMessages(CHAT_ROOM_ID))).containsExactly(1L, 2L, 3L, 4L);
+
+        // 다음 블록은 불완전한 블록 뒤에 기록되고 불완전한 인덱스 항목을 덮어씀
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, messages(5, 6));
+
+        assertThat(Files.size(directory.resolve("room-1.idx")) % 28).isZero();
+        assertThat(chatSegmentRepository.findLastArchivedSeq(CHAT_ROOM_ID)).isEqualTo(6L);
+        assertThat(seqs(chatSegmentRepository.findMessagesBefore(CHAT_ROOM_ID, null, BASE_TIME, 10)))
+                .containsExactly(6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    private static List<ChatMessageResponse.ArchiveMessageDTO> messages(long fromSeq, long toSeq) {
+        return LongStream.rangeClosed(fromSeq, toSeq)
+                .mapToObj(seq -> message(seq, MessageType.TALK, "user" + seq, null))
+                .toList();
+    }
+
+    // 메세지 Id 는 순번 + 100, 작성 시각은 BASE_TIME + 순번 분
+    private static ChatMessageResponse.ArchiveMessageDTO message(long seq, MessageType messageType, String nickname, Integer rank) {
+        return ChatMessageResponse.ArchiveMessageDTO.builder()
+                .id(seq + 100)
+                .seq(seq)
+                .content("message " + seq)
+                .nickname(nickname)
+                .rank(rank)
+                .messageType(messageType)
+                .createdAt(BASE_TIME.plusMinutes(seq))
+                .build();
+    }
+
+    private static List<Long> seqs(List<ChatMessageResponse.ArchiveMessageDTO> archiveMessageDTOs) {
+        return archiveMessageDTOs.stream().map(ChatMessageResponse.ArchiveMessageDTO::getSeq).toList();
+    }
+}
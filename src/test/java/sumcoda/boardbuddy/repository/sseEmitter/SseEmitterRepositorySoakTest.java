@@ -0,0 +1,142 @@
+package sumcoda.boardbuddy.repository.sseEmitter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.dto.NotificationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연결, 이벤트 저장, 연결 종료가 반복되는 동안 유휴 연결 정리가 함께 실행되어도
+ * 메모리(연결, 이벤트 버퍼)가 일정하게 유지되고 저장된 이벤트가 유실되지 않는지 확인
+ **/
+class SseEmitterRepositorySoakTest {
+
+    private static final int EVENT_CACHE_SIZE = 50;
+
+    private static final int USER_COUNT = 500;
+
+    private static final int THREAD_COUNT = 16;
+
+    private static final int ITERATIONS_PER_THREAD = 20_000;
+
+    private SseEmitterRepositoryImpl sseEmitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        sseEmitterRepository = new SseEmitterRepositoryImpl();
+        ReflectionTestUtils.setField(sseEmitterRepository, "eventCacheSize", EVENT_CACHE_SIZE);
+    }
+
+    @Test
+    void memoryStaysFlatUnderChurn() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+        AtomicBoolean churning = new AtomicBoolean(true);
+        AtomicInteger oversizedBufferCount = new AtomicInteger();
+
+        // 연결이 끊긴 버퍼를 계속 정리
+        Future<?> evictor = executor.submit(() -> {
+            while (churning.get()) {
+                sseEmitterRepository.deleteIdleEventCaches(0);
+            }
+        });
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ITERATIONS_PER_THREAD; i++) {
+                    String username = "user" + random.nextInt(USER_COUNT);
+                    String emitterId = username + "_" + Thread.currentThread().threadId() + "_" + i;
+
+                    sseEmitterRepository.save(username, emitterId, new QueuedSseEmitter(60_000L, 10));
+                    sseEmitterRepository.saveEventCache(username, "notification", "message " + i);
+                    sseEmitterRepository.saveEventCache(username, "notification", "message " + i);
+
+                    if (sseEmitterRepository.findAllEventCachesAfter(username, 0L).size() > EVENT_CACHE_SIZE) {
+                        oversizedBufferCount.incrementAndGet();
+                    }
+
+                    sseEmitterRepository.deleteEmitterById(username, emitterId);
+                }
+            }));
+        }
+
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        churning.set(false);
+        evictor.get();
+        executor.shutdown();
+
+        assertThat(oversizedBufferCount.get()).isZero();
+        assertThat(sseEmitterRepository.countAllEmitters()).isZero();
+        assertThat(connections()).hasSizeLessThanOrEqualTo(USER_COUNT);
+
+        // 연결이 모두 끊긴 사용자의 버퍼는 정리 후 남지 않음
+        sseEmitterRepository.deleteIdleEventCaches(-60_000);
+        assertThat(connections()).isEmpty();
+    }
+
+    @Test
+    void savedEventIsNotLostToIdleEviction() throws Exception {
+        long idleMillis = 60_000;
+
+        for (int user = 0; user < USER_COUNT; user++) {
+            sseEmitterRepository.saveEventCache("user" + user, "notification", "old");
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean saving = new AtomicBoolean(true);
+        Future<?> evictor = executor.submit(() -> {
+            while (saving.get()) {
+                sseEmitterRepository.deleteIdleEventCaches(idleMillis);
+            }
+        });
+
+        // 정리 대상이 된 버퍼에 저장한 이벤트는 바로 조회되어야 함 (정리되는 버퍼에 저장되어 유실되지 않음)
+        int lostEventCount = 0;
+        for (int i = 0; i < ITERATIONS_PER_THREAD * 10; i++) {
+            String username = "user" + (i % USER_COUNT);
+            markIdle(username);
+
+            NotificationResponse.SseEventDTO event = sseEmitterRepository.saveEventCache(username, "notification", "new " + i);
+
+            List<NotificationResponse.SseEventDTO> events = sseEmitterRepository.findAllEventCachesAfter(username, event.getId() - 1);
+            if (events.stream().noneMatch(cached -> cached.getId().equals(event.getId()))) {
+                lostEventCount++;
+            }
+        }
+
+        saving.set(false);
+        evictor.get();
+        executor.shutdown();
+
+        assertThat(lostEventCount).isZero();
+    }
+
+    // 마지막 활동 시각을 과거로 바꿔 유휴 연결 정리 대상으로 만듦
+    private void markIdle(String username) {
+        Object connection = connections().get(username);
+
+        if (connection != null) {
+            ReflectionTestUtils.setField(connection, "lastActiveAt", 0L);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> connections() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(sseEmitterRepository, "connections");
+    }
+}
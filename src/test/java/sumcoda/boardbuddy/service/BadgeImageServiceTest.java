@@ -0,0 +1,122 @@
+package sumcoda.boardbuddy.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.enumerate.BadgeTier;
+import sumcoda.boardbuddy.exception.member.MemberNotFoundException;
+import sumcoda.boardbuddy.repository.BadgeImageJdbcRepository;
+import sumcoda.boardbuddy.repository.badgeImage.BadgeImageRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+
+import java.net.URI;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 순위에 따라 뱃지 등급이 정해지고, 등급별 이미지 URL 을 한 번만 만들어 한 번에 저장하는지 확인
+ **/
+class BadgeImageServiceTest {
+
+    private static final String BUCKET_NAME = "bucket";
+
+    private static final YearMonth LAST_MONTH = YearMonth.of(2024, 7);
+
+    private MemberRepository memberRepository;
+
+    private BadgeImageJdbcRepository badgeImageJdbcRepository;
+
+    private RankingRedisService rankingRedisService;
+
+    private AmazonS3Client amazonS3Client;
+
+    private BadgeImageService badgeImageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        memberRepository = mock(MemberRepository.class);
+        badgeImageJdbcRepository = mock(BadgeImageJdbcRepository.class);
+        rankingRedisService = mock(RankingRedisService.class);
+        amazonS3Client = mock(AmazonS3Client.class);
+
+        when(amazonS3Client.getUrl(eq(BUCKET_NAME), anyString()))
+                .thenAnswer(invocation -> URI.create("https://" + BUCKET_NAME + ".s3.amazonaws.com/" + invocation.getArgument(1)).toURL());
+
+        badgeImageService = new BadgeImageService(mock(BadgeImageRepository.class), memberRepository, badgeImageJdbcRepository,
+                rankingRedisService, amazonS3Client);
+        ReflectionTestUtils.setField(badgeImageService, "bucketName", BUCKET_NAME);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void badgeTierFollowsRank() {
+        // 1 ~ 101위 회원 (회원 Id 가 곧 순위)
+        List<Long> rankedMemberIds = LongStream.rangeClosed(1, 101).boxed().toList();
+        when(memberRepository.findExistingMemberIdsByIds(anyCollection())).thenReturn(rankedMemberIds.subList(0, 100));
+
+        badgeImageService.assignBadgesToTopMembersByIds(rankedMemberIds, LAST_MONTH);
+
+        ArgumentCaptor<Map<Long, BadgeTier>> memberBadgeTiersCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<BadgeTier, String>> badgeImageNamesCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<BadgeTier, String>> badgeImageURLsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(badgeImageJdbcRepository).saveBadgeImages(memberBadgeTiersCaptor.capture(), badgeImageNamesCaptor.capture(),
+                badgeImageURLsCaptor.capture(), eq("2024.07"));
+
+        // 100위 밖의 회원은 뱃지를 받지 않음
+        Map<Long, BadgeTier> memberBadgeTiers = memberBadgeTiersCaptor.getValue();
+        assertThat(memberBadgeTiers).hasSize(100);
+        assertThat(memberBadgeTiers.get(1L)).isEqualTo(BadgeTier.TOP3);
+        assertThat(memberBadgeTiers.get(3L)).isEqualTo(BadgeTier.TOP3);
+        assertThat(memberBadgeTiers.get(4L)).isEqualTo(BadgeTier.TOP10);
+        assertThat(memberBadgeTiers.get(10L)).isEqualTo(BadgeTier.TOP10);
+        assertThat(memberBadgeTiers.get(11L)).isEqualTo(BadgeTier.TOP100);
+        assertThat(memberBadgeTiers.get(100L)).isEqualTo(BadgeTier.TOP100);
+        assertThat(memberBadgeTiers).doesNotContainKey(101L);
+
+        assertThat(badgeImageNamesCaptor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                BadgeTier.TOP3, "202407_badge.png",
+                BadgeTier.TOP10, "202407_top10_badge.png",
+                BadgeTier.TOP100, "202407_top100_badge.png"));
+        assertThat(badgeImageURLsCaptor.getValue().get(BadgeTier.TOP10)).endsWith("/202407_top10_badge.png");
+
+        verify(rankingRedisService).clearBadges();
+    }
+
+    @Test
+    void badgeImageURLIsBuiltOncePerImage() {
+        when(memberRepository.findExistingMemberIdsByIds(anyCollection())).thenReturn(List.of(1L, 2L));
+
+        badgeImageService.assignBadgesToTopMembersByIds(List.of(1L, 2L), LAST_MONTH);
+        badgeImageService.assignBadgesToTopMembersByIds(List.of(1L, 2L), LAST_MONTH);
+
+        verify(amazonS3Client, times(1)).getUrl(BUCKET_NAME, "202407_badge.png");
+    }
+
+    @Test
+    void missingMemberFailsBeforeSaving() {
+        when(memberRepository.findExistingMemberIdsByIds(anyCollection())).thenReturn(List.of(1L));
+
+        assertThatThrownBy(() -> badgeImageService.assignBadgesToTopMembersByIds(List.of(1L, 2L), LAST_MONTH))
+                .isInstanceOf(MemberNotFoundException.class);
+
+        verify(badgeImageJdbcRepository, never()).saveBadgeImages(anyMap(), anyMap(), anyMap(), any());
+        verify(rankingRedisService, never()).clearBadges();
+    }
+}
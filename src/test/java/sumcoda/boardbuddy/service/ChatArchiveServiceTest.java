@@ -0,0 +1,121 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+import sumcoda.boardbuddy.repository.chatArchive.ChatSegmentRepository;
+import sumcoda.boardbuddy.repository.chatMessage.ChatMessageRepository;
+import sumcoda.boardbuddy.repository.chatRoom.ChatRoomRepository;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 보관 작업이 잠금 안에서 실행되고, 세그먼트에 기록한 뒤 테이블에서 삭제하지 못한 블록을 다음 실행에서 먼저 삭제하는지 확인
+ **/
+class ChatArchiveServiceTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private static final int BLOCK_SIZE = 2;
+
+    @TempDir
+    Path directory;
+
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private ChatSegmentRepository chatSegmentRepository;
+
+    private JobLockRedisService jobLockRedisService;
+
+    private ChatArchiveService chatArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        chatMessageJdbcRepository = mock(ChatMessageJdbcRepository.class);
+        jobLockRedisService = mock(JobLockRedisService.class);
+
+        chatSegmentRepository = new ChatSegmentRepository();
+        ReflectionTestUtils.setField(chatSegmentRepository, "directory", directory.toString());
+
+        chatArchiveService = new ChatArchiveService(chatRoomRepository, chatMessageRepository, chatMessageJdbcRepository,
+                chatSegmentRepository, jobLockRedisService);
+        ReflectionTestUtils.setField(chatArchiveService, "enabled", true);
+        ReflectionTestUtils.setField(chatArchiveService, "retentionDays", 30L);
+        ReflectionTestUtils.setField(chatArchiveService, "blockSize", BLOCK_SIZE);
+
+        when(chatRoomRepository.findChatRoomIdsByGatherArticleStatus(GatherArticleStatus.COMPLETED)).thenReturn(List.of(CHAT_ROOM_ID));
+        when(chatMessageRepository.findArchiveMessagesByChatRoomId(eq(CHAT_ROOM_ID), any(), any(), anyInt())).thenReturn(List.of());
+
+        // 잠금을 획득한 것처럼 작업을 바로 실행
+        when(jobLockRedisService.runWithLock(eq("CHAT_ARCHIVE_LOCK"), any(Duration.class), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+
+    @Test
+    void blockWrittenButNotDeletedIsDeletedFirst() throws Exception {
+        // 이전 실행에서 세그먼트에 기록한 뒤 테이블에서 삭제하기 전에 종료됨
+        chatSegmentRepository.appendBlock(CHAT_ROOM_ID, messages(1, 2));
+        when(chatMessageRepository.findArchiveMessagesByChatRoomId(eq(CHAT_ROOM_ID), eq(2L), any(), eq(BLOCK_SIZE)))
+                .thenReturn(messages(3, 4))
+                .thenReturn(List.of());
+
+        chatArchiveService.archiveCompletedChatRooms();
+
+        // 남은 블록의 메세지를 먼저 삭제한 뒤, 마지막 보관 순번 이후부터 이어서 보관
+        var inOrder = inOrder(chatMessageJdbcRepository, chatMessageRepository);
+        inOrder.verify(chatMessageJdbcRepository).deleteChatMessagesByIds(eq(CHAT_ROOM_ID), eq(List.of(101L, 102L)), any());
+        inOrder.verify(chatMessageRepository).findArchiveMessagesByChatRoomId(eq(CHAT_ROOM_ID), eq(2L), any(), eq(BLOCK_SIZE));
+        inOrder.verify(chatMessageJdbcRepository).deleteChatMessagesByIds(eq(CHAT_ROOM_ID), eq(List.of(103L, 104L)), any());
+
+        assertThat(chatSegmentRepository.findLastArchivedSeq(CHAT_ROOM_ID)).isEqualTo(4L);
+    }
+
+    @Test
+    void archiveIsSkippedWithoutLock() {
+        when(jobLockRedisService.runWithLock(eq("CHAT_ARCHIVE_LOCK"), any(Duration.class), any())).thenReturn(false);
+
+        chatArchiveService.archiveCompletedChatRooms();
+
+        verify(chatMessageRepository, never()).findArchiveMessagesByChatRoomId(any(), any(), any(), anyInt());
+        verify(chatMessageJdbcRepository, never()).deleteChatMessagesByIds(any(), any(), any());
+    }
+
+    // 메세지 Id 는 순번 + 100
+    private static List<ChatMessageResponse.ArchiveMessageDTO> messages(long fromSeq, long toSeq) {
+        return LongStream.rangeClosed(fromSeq, toSeq)
+                .mapToObj(seq -> ChatMessageResponse.ArchiveMessageDTO.builder()
+                        .id(seq + 100)
+                        .seq(seq)
+                        .content("message " + seq)
+                        .nickname("user" + seq)
+                        .messageType(MessageType.TALK)
+                        .createdAt(LocalDateTime.now().minusDays(60).plusMinutes(seq))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,181 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageBufferServiceTest {
+
+    private static final String STREAM_KEY = "CHAT_MESSAGE_BUFFER";
+
+    private static final String DEAD_LETTER_STREAM_KEY = "CHAT_MESSAGE_DEAD_LETTER";
+
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private ChatMessageBufferService chatMessageBufferService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(stringRedisTemplate.opsForStream()).thenReturn((StreamOperations) streamOperations);
+
+        chatMessageJdbcRepository = mock(ChatMessageJdbcRepository.class);
+
+        chatMessageBufferService = new ChatMessageBufferService(stringRedisTemplate, chatMessageJdbcRepository);
+        ReflectionTestUtils.setField(chatMessageBufferService, "enabled", true);
+        ReflectionTestUtils.setField(chatMessageBufferService, "batchSize", 500);
+    }
+
+    @Test
+    void constraintViolationsAreRetriedOneByOneAndDeadLettered() {
+        givenBufferedRecords(record("1-0", 1L, "saved"), record("2-0", 2L, "redelivered"), record("3-0", 3L, "collided"), record("4-0", 4L, "too long"));
+
+        doThrow(new DuplicateKeyException("batch")).when(chatMessageJdbcRepository).batchInsertChatMessages(anyList());
+        when(chatMessageJdbcRepository.insertChatMessage(argThat(message -> message != null && message.getSeq() == 2L)))
+                .thenThrow(new DuplicateKeyException("uk_chat_message_chat_room_id_seq"));
+        when(chatMessageJdbcRepository.insertChatMessage(argThat(message -> message != null && message.getSeq() == 3L)))
+                .thenThrow(new DuplicateKeyException("uk_chat_message_chat_room_id_seq"));
+        when(chatMessageJdbcRepository.insertChatMessage(argThat(message -> message != null && message.getSeq() == 4L)))
+                .thenThrow(new DataIntegrityViolationException("Data too long for column 'content'"));
+        // seq 2 는 이미 저장된 같은 메세지, seq 3 은 순번이 겹친 다른 메세지
+        when(chatMessageJdbcRepository.existsSameChatMessage(argThat(message -> message != null && message.getSeq() == 2L))).thenReturn(true);
+
+        chatMessageBufferService.flush();
+
+        verify(chatMessageJdbcRepository, times(4)).insertChatMessage(any());
+
+        ArgumentCaptor<MapRecord<String, String, String>> deadLetterCaptor = deadLetterCaptor();
+        verify(streamOperations, times(2)).add(deadLetterCaptor.capture());
+        assertThat(deadLetterCaptor.getAllValues())
+                .allSatisfy(deadLetter -> assertThat(deadLetter.getStream()).isEqualTo(DEAD_LETTER_STREAM_KEY))
+                .extracting(deadLetter -> deadLetter.getValue().get("seq"))
+                .containsExactly("3", "4");
+        assertThat(deadLetterCaptor.getAllValues().get(0).getValue().get("reason")).startsWith("duplicate seq");
+
+        // 저장했거나 dead letter 로 옮긴 메세지는 모두 버퍼에서 제거
+        verify(streamOperations).acknowledge(eq(STREAM_KEY), anyString(), any(RecordId[].class));
+        verify(streamOperations).delete(eq(STREAM_KEY), any(RecordId[].class));
+    }
+
+    @Test
+    void databaseFailureLeavesMessagesPending() {
+        givenBufferedRecords(record("1-0", 1L, "hello"));
+
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(chatMessageJdbcRepository).batchInsertChatMessages(anyList());
+
+        chatMessageBufferService.flush();
+
+        verify(chatMessageJdbcRepository, never()).insertChatMessage(any());
+        verify(streamOperations, never()).add(any(MapRecord.class));
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+    }
+
+    @Test
+    void deadLetterFailureLeavesMessagesPending() {
+        givenBufferedRecords(record("1-0", 1L, "collided"));
+
+        doThrow(new DuplicateKeyException("batch")).when(chatMessageJdbcRepository).batchInsertChatMessages(anyList());
+        when(chatMessageJdbcRepository.insertChatMessage(any())).thenThrow(new DuplicateKeyException("uk_chat_message_chat_room_id_seq"));
+        when(streamOperations.add(any(MapRecord.class))).thenThrow(new IllegalStateException("redis down"));
+
+        chatMessageBufferService.flush();
+
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+    }
+
+    @Test
+    void lastBufferedSeqIsFoundAcrossPages() {
+        ReflectionTestUtils.setField(chatMessageBufferService, "batchSize", 2);
+
+        // 다음 페이지는 이전 페이지의 마지막 레코드부터 조회
+        when(streamOperations.range(eq(STREAM_KEY), eq(Range.unbounded()), any(Limit.class)))
+                .thenReturn(List.of(record("1-0", 1L, 5L, "a"), record("2-0", 2L, 9L, "b"), record("3-0", 1L, 6L, "c")));
+        when(streamOperations.range(eq(STREAM_KEY), eq(Range.rightUnbounded(Range.Bound.inclusive("3-0"))), any(Limit.class)))
+                .thenReturn(List.of(record("3-0", 1L, 6L, "c"), record("4-0", 1L, 7L, "d")));
+
+        // 다른 채팅방의 순번은 무시
+        assertThat(chatMessageBufferService.findLastBufferedSeq(1L)).isEqualTo(7L);
+    }
+
+    @Test
+    void lastBufferedSeqIsZeroOnRedisFailure() {
+        when(streamOperations.range(eq(STREAM_KEY), any(), any(Limit.class))).thenThrow(new IllegalStateException("redis down"));
+
+        assertThat(chatMessageBufferService.findLastBufferedSeq(1L)).isZero();
+    }
+
+    @SafeVarargs
+    private void givenBufferedRecords(MapRecord<String, Object, Object>... records) {
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(records));
+    }
+
+    private MapRecord<String, Object, Object> record(String recordId, long seq, String content) {
+        return record(recordId, 1L, seq, content);
+    }
+
+    private MapRecord<String, Object, Object> record(String recordId, long chatRoomId, long seq, String content) {
+        ChatMessageResponse.BufferedMessageDTO bufferedMessageDTO = ChatMessageResponse.BufferedMessageDTO.builder()
+                .chatRoomId(chatRoomId)
+                .seq(seq)
+                .content(content)
+                .messageType(MessageType.TALK)
+                .memberId(1L)
+                .sentAt(LocalDateTime.of(2024, 7, 1, 12, 0))
+                .build();
+
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("chatRoomId", String.valueOf(bufferedMessageDTO.getChatRoomId()));
+        fields.put("seq", String.valueOf(bufferedMessageDTO.getSeq()));
+        fields.put("content", bufferedMessageDTO.getContent());
+        fields.put("messageType", bufferedMessageDTO.getMessageType().name());
+        fields.put("memberId", String.valueOf(bufferedMessageDTO.getMemberId()));
+        fields.put("sentAt", bufferedMessageDTO.getSentAt().toString());
+
+        return StreamRecords.newRecord().in(STREAM_KEY).withId(RecordId.of(recordId)).ofMap(fields);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<MapRecord<String, String, String>> deadLetterCaptor() {
+        return ArgumentCaptor.forClass((Class) MapRecord.class);
+    }
+}
@@ -0,0 +1,101 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+import sumcoda.boardbuddy.repository.PartitionJdbcRepository;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파티션 전환, 추가, 제거가 잠금을 획득한 서버에서만 실행되고, 비어 있는 지난 달 파티션만 제거되는지 확인
+ **/
+class ChatMessagePartitionServiceTest {
+
+    private static final String TABLE_NAME = "chat_message";
+
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private PartitionJdbcRepository partitionJdbcRepository;
+
+    private JobLockRedisService jobLockRedisService;
+
+    private ChatMessagePartitionService chatMessagePartitionService;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageJdbcRepository = mock(ChatMessageJdbcRepository.class);
+        partitionJdbcRepository = mock(PartitionJdbcRepository.class);
+        jobLockRedisService = mock(JobLockRedisService.class);
+
+        chatMessagePartitionService = new ChatMessagePartitionService(chatMessageJdbcRepository, partitionJdbcRepository, jobLockRedisService);
+        ReflectionTestUtils.setField(chatMessagePartitionService, "partitioningEnabled", true);
+        ReflectionTestUtils.setField(chatMessagePartitionService, "partitionsAhead", 3);
+
+        // 잠금을 획득한 것처럼 작업을 바로 실행
+        when(jobLockRedisService.runWithLock(eq("CHAT_PARTITION_LOCK"), any(Duration.class), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+
+    @Test
+    void partitionsAreNotChangedWithoutLock() {
+        when(jobLockRedisService.runWithLock(eq("CHAT_PARTITION_LOCK"), any(Duration.class), any())).thenReturn(false);
+
+        chatMessagePartitionService.initPartitions();
+        chatMessagePartitionService.maintainPartitions();
+
+        verifyNoInteractions(partitionJdbcRepository, chatMessageJdbcRepository);
+    }
+
+    @Test
+    void tableIsPartitionedOnceFromOldestMessageMonth() {
+        YearMonth currentMonth = YearMonth.now();
+        when(partitionJdbcRepository.findPartitionNames(TABLE_NAME)).thenReturn(List.of());
+        when(chatMessageJdbcRepository.findOldestCreatedAt()).thenReturn(Optional.of(currentMonth.minusMonths(1).atDay(15).atStartOfDay()));
+
+        chatMessagePartitionService.initPartitions();
+
+        verify(chatMessageJdbcRepository).preparePartitioning();
+        verify(partitionJdbcRepository).partitionByMonth(TABLE_NAME, "created_at", List.of(
+                currentMonth.minusMonths(1), currentMonth, currentMonth.plusMonths(1), currentMonth.plusMonths(2), currentMonth.plusMonths(3)));
+
+        // 이미 전환된 테이블은 다시 전환하지 않음
+        when(partitionJdbcRepository.findPartitionNames(TABLE_NAME)).thenReturn(List.of("p" + currentMonth));
+        chatMessagePartitionService.initPartitions();
+
+        verify(chatMessageJdbcRepository).preparePartitioning();
+    }
+
+    @Test
+    void futurePartitionsAreAddedAndOnlyEmptyPastPartitionsAreDropped() {
+        YearMonth currentMonth = YearMonth.now();
+        when(partitionJdbcRepository.findPartitionMonths(TABLE_NAME)).thenReturn(List.of(
+                currentMonth.minusMonths(2), currentMonth.minusMonths(1), currentMonth, currentMonth.plusMonths(1)));
+        when(partitionJdbcRepository.isMonthlyPartitionEmpty(TABLE_NAME, currentMonth.minusMonths(2))).thenReturn(true);
+        when(partitionJdbcRepository.isMonthlyPartitionEmpty(TABLE_NAME, currentMonth.minusMonths(1))).thenReturn(false);
+
+        chatMessagePartitionService.maintainPartitions();
+
+        verify(partitionJdbcRepository).addMonthlyPartitions(TABLE_NAME, List.of(currentMonth.plusMonths(2), currentMonth.plusMonths(3)));
+        verify(partitionJdbcRepository).dropMonthlyPartitions(TABLE_NAME, List.of(currentMonth.minusMonths(2)));
+        // 이번 달 파티션은 비어 있어도 제거하지 않음
+        verify(partitionJdbcRepository, never()).isMonthlyPartitionEmpty(TABLE_NAME, currentMonth);
+        verify(partitionJdbcRepository, never()).partitionByMonth(anyString(), anyString(), anyList());
+    }
+}
@@ -0,0 +1,192 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sumcoda.boardbuddy.dto.ChatMessageRequest;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+import sumcoda.boardbuddy.repository.chatMessage.ChatMessageRepository;
+import sumcoda.boardbuddy.repository.chatRoom.ChatRoomRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+import sumcoda.boardbuddy.repository.memberChatRoom.MemberChatRoomRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 순번 키가 삭제된 뒤 다시 초기화할 때 버퍼에 남은 메세지의 순번을 다시 발급하지 않고,
+ * 재연결 시 최근 메세지 버퍼에 빠진 순번이 있으면 DB 에서 보충하며,
+ * 메세지 내역을 순번 커서로 한 페이지씩 조회하고 테이블에서 채우지 못한 부분은 보관된 메세지로 이어서 채우는지 확인
+ **/
+class ChatMessageServiceTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private static final Long MEMBER_ID = 10L;
+
+    private static final String USERNAME = "user";
+
+    private static final LocalDateTime JOINED_AT = LocalDateTime.of(2024, 7, 1, 12, 0);
+
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatRoomRepository chatRoomRepository;
+
+    private MemberChatRoomRepository memberChatRoomRepository;
+
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private ChatRedisService chatRedisService;
+
+    private ChatRoomService chatRoomService;
+
+    private ChatMessageBufferService chatMessageBufferService;
+
+    private ChatArchiveService chatArchiveService;
+
+    private ChatMessageService chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        memberChatRoomRepository = mock(MemberChatRoomRepository.class);
+        chatMessageJdbcRepository = mock(ChatMessageJdbcRepository.class);
+        chatRedisService = mock(ChatRedisService.class);
+        chatRoomService = mock(ChatRoomService.class);
+        chatMessageBufferService = mock(ChatMessageBufferService.class);
+        chatArchiveService = mock(ChatArchiveService.class);
+
+        chatMessageService = new ChatMessageService(chatMessageRepository, chatRoomRepository, mock(MemberRepository.class),
+                memberChatRoomRepository, mock(ChatRelayService.class), chatMessageJdbcRepository, chatRedisService, chatRoomService,
+                chatMessageBufferService, chatArchiveService);
+    }
+
+    @Test
+    void sequenceIsReseededAboveMessagesStillInBuffer() {
+        when(chatRedisService.findSender(MEMBER_ID)).thenReturn(Optional.of(ChatMessageResponse.SenderDTO.builder()
+                .id(MEMBER_ID)
+                .nickname("닉네임")
+                .build()));
+        when(chatRoomService.isChatRoomMember(CHAT_ROOM_ID, MEMBER_ID)).thenReturn(true);
+        when(chatMessageBufferService.append(any())).thenReturn(true);
+
+        // 레디스 재시작으로 순번 키가 없고, 순번 4 ~ 7 의 메세지는 버퍼에서 아직 저장되지 않음
+        when(chatRedisService.incrementSequence(CHAT_ROOM_ID))
+                .thenReturn(Optional.of(-1L))
+                .thenReturn(Optional.of(8L));
+        when(chatMessageRepository.findMaxSeqByChatRoomId(CHAT_ROOM_ID)).thenReturn(3L);
+        when(chatMessageJdbcRepository.findLastMessageSeq(CHAT_ROOM_ID)).thenReturn(3L);
+        when(chatMessageBufferService.findLastBufferedSeq(CHAT_ROOM_ID)).thenReturn(7L);
+
+        chatMessageService.publishMessage(CHAT_ROOM_ID, MEMBER_ID, ChatMessageRequest.PublishDTO.builder().content("안녕하세요").build());
+
+        verify(chatRedisService).initSequence(CHAT_ROOM_ID, 7L);
+        verify(chatMessageBufferService).append(argThat(message -> message != null && message.getSeq() == 8L));
+    }
+
+    @Test
+    void replayUsesBufferOnlyWhenSeqsAreContiguous() {
+        when(memberChatRoomRepository.findJoinedAtByChatRoomIdAndUsername(CHAT_ROOM_ID, USERNAME)).thenReturn(Optional.of(JOINED_AT));
+        when(chatRedisService.findRecentMessagesAfter(CHAT_ROOM_ID, 5L)).thenReturn(recentMessages(6, 7, 8));
+
+        ChatMessageResponse.ChatMessageReplayDTO replayDTO = chatMessageService.replayMessagesSince(CHAT_ROOM_ID, USERNAME, 5L);
+
+        assertThat(replayDTO.getChatMessages()).extracting(ChatMessageResponse.ChatMessageInfoDTO::getSeq).containsExactly(6L, 7L, 8L);
+        verify(chatMessageRepository, never()).findMessagesByChatRoomIdAndSeqAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void replayFillsGapInBufferFromDatabase() {
+        when(memberChatRoomRepository.findJoinedAtByChatRoomIdAndUsername(CHAT_ROOM_ID, USERNAME)).thenReturn(Optional.of(JOINED_AT));
+        // 첫 메세지는 이어지지만 순번 7 이 버퍼에서 빠짐
+        when(chatRedisService.findRecentMessagesAfter(CHAT_ROOM_ID, 5L)).thenReturn(recentMessages(6, 8));
+        when(chatMessageRepository.findMessagesByChatRoomIdAndSeqAfter(eq(CHAT_ROOM_ID), eq(JOINED_AT), eq(5L), anyInt()))
+                .thenReturn(List.of(message(6), message(7), message(8)));
+
+        ChatMessageResponse.ChatMessageReplayDTO replayDTO = chatMessageService.replayMessagesSince(CHAT_ROOM_ID, USERNAME, 5L);
+
+        assertThat(replayDTO.getChatMessages()).extracting(ChatMessageResponse.ChatMessageInfoDTO::getSeq).containsExactly(6L, 7L, 8L);
+        assertThat(replayDTO.getLast()).isTrue();
+    }
+
+    @Test
+    void firstPageIsServedFromTableWithoutArchive() {
+        givenChatRoomMember();
+        when(chatArchiveService.isEnabled()).thenReturn(true);
+        // 다음 페이지 존재 여부 확인용 한 개를 포함하여 최신순으로 51개
+        when(chatMessageRepository.findMessagesAfterMemberJoinedByChatRoomIdAndUsernameAndCursor(CHAT_ROOM_ID, USERNAME, null, 51))
+                .thenReturn(messagesDescending(100, 50));
+
+        ChatMessageResponse.ChatMessageListDTO page = chatMessageService.findMessagesAfterMemberJoinedByChatRoomIdAndUsername(CHAT_ROOM_ID, USERNAME, null);
+
+        // 오래된 순으로 50개, 다음 커서는 페이지의 가장 오래된 순번
+        assertThat(page.getChatMessages()).extracting(ChatMessageResponse.ChatMessageInfoDTO::getSeq)
+                .containsExactlyElementsOf(LongStream.rangeClosed(51, 100).boxed().toList());
+        assertThat(page.getNextCursor()).isEqualTo(51L);
+        assertThat(page.getLast()).isFalse();
+        verify(chatArchiveService, never()).findArchivedMessages(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void pageIsFilledFromArchiveAfterTableRunsOut() {
+        givenChatRoomMember();
+        when(chatArchiveService.isEnabled()).thenReturn(true);
+        when(memberChatRoomRepository.findJoinedAtByChatRoomIdAndUsername(CHAT_ROOM_ID, USERNAME)).thenReturn(Optional.of(JOINED_AT));
+        // 테이블에는 순번 41 ~ 50 만 남아 있고 이전 메세지는 보관됨
+        when(chatMessageRepository.findMessagesAfterMemberJoinedByChatRoomIdAndUsernameAndCursor(CHAT_ROOM_ID, USERNAME, 51L, 51))
+                .thenReturn(messagesDescending(50, 41));
+        when(chatArchiveService.findArchivedMessages(CHAT_ROOM_ID, JOINED_AT, 41L, 41)).thenReturn(messagesDescending(40, 1));
+
+        ChatMessageResponse.ChatMessageListDTO page = chatMessageService.findMessagesAfterMemberJoinedByChatRoomIdAndUsername(CHAT_ROOM_ID, USERNAME, 51L);
+
+        assertThat(page.getChatMessages()).extracting(ChatMessageResponse.ChatMessageInfoDTO::getSeq)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 50).boxed().toList());
+        assertThat(page.getNextCursor()).isEqualTo(1L);
+        assertThat(page.getLast()).isTrue();
+    }
+
+    private void givenChatRoomMember() {
+        when(chatRoomRepository.existsById(CHAT_ROOM_ID)).thenReturn(true);
+        when(memberChatRoomRepository.existsByChatRoomIdAndMemberUsername(CHAT_ROOM_ID, USERNAME)).thenReturn(true);
+    }
+
+    private static List<ChatMessageResponse.ChatMessageInfoDTO> messagesDescending(long fromSeq, long toSeq) {
+        return LongStream.iterate(fromSeq, seq -> seq >= toSeq, seq -> seq - 1)
+                .mapToObj(ChatMessageServiceTest::message)
+                .toList();
+    }
+
+    private static List<ChatMessageResponse.RecentMessageDTO> recentMessages(long... seqs) {
+        return LongStream.of(seqs)
+                .mapToObj(seq -> ChatMessageResponse.RecentMessageDTO.builder()
+                        .createdAt(JOINED_AT.plusMinutes(seq))
+                        .chatMessage(message(seq))
+                        .build())
+                .toList();
+    }
+
+    private static ChatMessageResponse.ChatMessageInfoDTO message(long seq) {
+        return ChatMessageResponse.ChatMessageInfoDTO.builder()
+                .seq(seq)
+                .content("message " + seq)
+                .nickname("닉네임")
+                .messageType(MessageType.TALK)
+                .sentAt(JOINED_AT.plusMinutes(seq))
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방 참여자 캐시가 입장, 퇴장 전에 조회한 참여자 목록으로 다시 채워지지 않는지 확인
+ **/
+class ChatRedisServiceTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private ChatRedisService chatRedisService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        chatRedisService = new ChatRedisService(new StringRedisTemplate(connectionFactory), new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void membersReadBeforeJoinAreNotCached() {
+        // 참여자 목록을 조회한 뒤 저장하기 전에 새 참여자의 입장이 커밋됨
+        String version = chatRedisService.findChatRoomMembersVersion(CHAT_ROOM_ID).orElseThrow();
+        chatRedisService.evictChatRoomMembers(CHAT_ROOM_ID);
+        chatRedisService.saveChatRoomMembers(CHAT_ROOM_ID, version, List.of(1L, 2L));
+
+        // 오래된 목록은 캐싱되지 않으므로 다음 확인 시 DB 에서 다시 조회
+        assertThat(chatRedisService.isChatRoomMember(CHAT_ROOM_ID, 3L)).isEmpty();
+
+        String currentVersion = chatRedisService.findChatRoomMembersVersion(CHAT_ROOM_ID).orElseThrow();
+        chatRedisService.saveChatRoomMembers(CHAT_ROOM_ID, currentVersion, List.of(1L, 2L, 3L));
+
+        assertThat(chatRedisService.isChatRoomMember(CHAT_ROOM_ID, 3L)).contains(true);
+    }
+
+    @Test
+    void leaveEvictsCachedMembers() {
+        String version = chatRedisService.findChatRoomMembersVersion(CHAT_ROOM_ID).orElseThrow();
+        chatRedisService.saveChatRoomMembers(CHAT_ROOM_ID, version, List.of(1L, 2L));
+        assertThat(chatRedisService.isChatRoomMember(CHAT_ROOM_ID, 2L)).contains(true);
+
+        chatRedisService.evictChatRoomMembers(CHAT_ROOM_ID);
+
+        assertThat(chatRedisService.isChatRoomMember(CHAT_ROOM_ID, 2L)).isEmpty();
+    }
+}
@@ -0,0 +1,179 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.dto.ChatMessageResponse;
+import sumcoda.boardbuddy.enumerate.MessageType;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 묶음 전송 사용 전후로 같은 발행 부하에서 구독자에게 전송되는 프레임 수(frames/sec)와 프로세스 CPU 사용 시간 비교
+ * 단순 브로커, outbound 채널 스레드 풀, STOMP 프레임 인코딩까지 실제 구성 요소를 사용하고 웹소켓 전송만 제외
+ * 수십 초가 걸리므로 BENCHMARK=true 환경 변수가 있을 때만 실행
+ * 예: BENCHMARK=true ./gradlew test --tests '*ChatRelayCoalescingBenchmarkTest'
+ **/
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ChatRelayCoalescingBenchmarkTest {
+
+    private static final int ROOM_COUNT = 20;
+
+    private static final int SUBSCRIBERS_PER_ROOM = 100;
+
+    // 전체 채팅방의 초당 발행 메세지 수 (채팅방당 초당 50개)
+    private static final int MESSAGES_PER_SECOND = 1_000;
+
+    private static final int DURATION_SECONDS = 10;
+
+    private static final long COALESCE_WINDOW = 30;
+
+    private final com.sun.management.OperatingSystemMXBean operatingSystemMXBean =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    @Test
+    void coalescingReducesFramesAndCpuUnderSameLoad() throws Exception {
+        // JIT 컴파일 영향을 줄이기 위해 두 방식 모두 한 번씩 먼저 실행
+        run(false, 2);
+        run(true, 2);
+
+        Result before = run(false, DURATION_SECONDS);
+        Result after = run(true, DURATION_SECONDS);
+
+        System.out.printf("Chat broadcast coalescing benchmark. rooms: %d, subscribers/room: %d, messages/sec: %d, duration: %ds, window: %dms%n",
+                ROOM_COUNT, SUBSCRIBERS_PER_ROOM, MESSAGES_PER_SECOND, DURATION_SECONDS, COALESCE_WINDOW);
+        System.out.println("  before " + before);
+        System.out.println("  after  " + after);
+
+        assertThat(after.frames).isLessThan(before.frames);
+    }
+
+    private Result run(boolean coalesceEnabled, int durationSeconds) throws Exception {
+        ExecutorService outboundExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel(outboundExecutor);
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        // 구독자 세션으로 보내는 STOMP 프레임 인코딩 (웹소켓 전송 직전까지)
+        StompEncoder stompEncoder = new StompEncoder();
+        AtomicLong frames = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        clientOutboundChannel.subscribe(message -> {
+            SimpMessageHeaderAccessor simpAccessor = SimpMessageHeaderAccessor.wrap(message);
+            if (simpAccessor.getMessageType() != SimpMessageType.MESSAGE) {
+                return;
+            }
+            StompHeaderAccessor stompAccessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+            stompAccessor.setDestination(simpAccessor.getDestination());
+            stompAccessor.setSubscriptionId(simpAccessor.getSubscriptionId());
+            stompAccessor.setMessageId(String.valueOf(frames.incrementAndGet()));
+            bytes.addAndGet(stompEncoder.encode(stompAccessor.getMessageHeaders(), (byte[]) message.getPayload()).length);
+        });
+
+        SimpleBrokerMessageHandler brokerMessageHandler = new SimpleBrokerMessageHandler(
+                clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/api/ws-stomp/reception"));
+        brokerMessageHandler.start();
+
+        for (long chatRoomId = 1; chatRoomId <= ROOM_COUNT; chatRoomId++) {
+            for (int subscriber = 0; subscriber < SUBSCRIBERS_PER_ROOM; subscriber++) {
+                String sessionId = "session-" + chatRoomId + "-" + subscriber;
+
+                SimpMessageHeaderAccessor connectAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+                connectAccessor.setSessionId(sessionId);
+                connectAccessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+                brokerMessageHandler.handleMessage(MessageBuilder.createMessage(new byte[0], connectAccessor.getMessageHeaders()));
+
+                SimpMessageHeaderAccessor subscribeAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+                subscribeAccessor.setSessionId(sessionId);
+                subscribeAccessor.setSubscriptionId("sub-0");
+                subscribeAccessor.setDestination(ChatRelayService.RECEPTION_DESTINATION_PREFIX + chatRoomId);
+                brokerMessageHandler.handleMessage(MessageBuilder.createMessage(new byte[0], subscribeAccessor.getMessageHeaders()));
+            }
+        }
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        MappingJackson2MessageConverter messageConverter = new MappingJackson2MessageConverter();
+        messageConverter.setObjectMapper(objectMapper);
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(messageConverter);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ChatRelayService chatRelayService = new ChatRelayService(mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), messagingTemplate, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(chatRelayService, "nodeId", "benchmark");
+        ReflectionTestUtils.setField(chatRelayService, "relayEnabled", false);
+        ReflectionTestUtils.setField(chatRelayService, "coalesceEnabled", coalesceEnabled);
+        ReflectionTestUtils.setField(chatRelayService, "coalesceWindow", COALESCE_WINDOW);
+
+        int messageCount = MESSAGES_PER_SECOND * durationSeconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / MESSAGES_PER_SECOND;
+
+        long startCpuNanos = operatingSystemMXBean.getProcessCpuTime();
+        long startNanos = System.nanoTime();
+
+        // 일정한 간격으로 채팅방을 돌아가며 발행
+        for (int i = 0; i < messageCount; i++) {
+            LockSupport.parkNanos(startNanos + i * intervalNanos - System.nanoTime());
+            chatRelayService.broadcast((long) (i % ROOM_COUNT) + 1, ChatMessageResponse.ChatMessageInfoDTO.builder()
+                    .seq((long) i + 1)
+                    .content("benchmark message " + i)
+                    .nickname("user" + (i % SUBSCRIBERS_PER_ROOM))
+                    .rank(i % 3 + 1)
+                    .messageType(MessageType.TALK)
+                    .sentAt(LocalDateTime.now())
+                    .build());
+        }
+
+        // 마지막 묶음이 전송되고 outbound 채널이 모두 처리할 때까지 대기
+        Thread.sleep(COALESCE_WINDOW * 3);
+        chatRelayService.shutdown();
+        outboundExecutor.shutdown();
+        assertThat(outboundExecutor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long cpuNanos = operatingSystemMXBean.getProcessCpuTime() - startCpuNanos;
+        brokerMessageHandler.stop();
+
+        double broadcastFrames = meterRegistry.counter("chat.broadcast.frames").count();
+        assertThat(meterRegistry.counter("chat.broadcast.messages").count()).isEqualTo(messageCount);
+        assertThat(frames.get()).isEqualTo((long) broadcastFrames * SUBSCRIBERS_PER_ROOM);
+
+        return new Result(messageCount, frames.get(), bytes.get(), elapsedNanos, cpuNanos);
+    }
+
+    private record Result(long messages, long frames, long bytes, long elapsedNanos, long cpuNanos) {
+
+        @Override
+        public String toString() {
+            double elapsedSeconds = elapsedNanos / 1e9;
+            return String.format("messages: %d, frames: %d (%.0f frames/sec), bytes: %d, elapsed: %.2fs, cpu: %dms (%.1f%% of one core, %.2fms per 1000 messages)",
+                    messages, frames, frames / elapsedSeconds, bytes, elapsedSeconds, TimeUnit.NANOSECONDS.toMillis(cpuNanos),
+                    cpuNanos / (elapsedNanos / 100.0), TimeUnit.NANOSECONDS.toMicros(cpuNanos) / (messages / 1000.0) / 1000.0);
+        }
+    }
+}
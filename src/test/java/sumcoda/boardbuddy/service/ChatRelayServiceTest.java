@@ -0,0 +1,143 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 이 서버의 첫 채팅방 구독에서만 채널을 구독하고 마지막 구독이 끝나면 채널 구독을 해제하며,
+ * 채널로 전달받은 메세지 중 이 서버에서 발행한 메세지는 다시 전송하지 않는지 확인
+ **/
+class ChatRelayServiceTest {
+
+    private static final String NODE_ID = "node-a";
+
+    private static final ChannelTopic CHAT_ROOM_TOPIC = new ChannelTopic("CHAT_ROOM:1");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SimpMessagingTemplate messagingTemplate;
+
+    private ChatRelayService chatRelayService;
+
+    @BeforeEach
+    void setUp() {
+        redisMessageListenerContainer = mock(RedisMessageListenerContainer.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+
+        chatRelayService = new ChatRelayService(mock(StringRedisTemplate.class), redisMessageListenerContainer, messagingTemplate,
+                objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(chatRelayService, "nodeId", NODE_ID);
+        ReflectionTestUtils.setField(chatRelayService, "relayEnabled", true);
+        ReflectionTestUtils.setField(chatRelayService, "coalesceEnabled", false);
+    }
+
+    @Test
+    void channelIsSubscribedOnceForFirstLocalSubscription() {
+        chatRelayService.handleSubscribe(subscribeEvent("session-1", "sub-0", 1L));
+        chatRelayService.handleSubscribe(subscribeEvent("session-2", "sub-0", 1L));
+        // 같은 구독 프레임이 다시 전달되어도 구독 수는 늘지 않음
+        chatRelayService.handleSubscribe(subscribeEvent("session-2", "sub-0", 1L));
+
+        verify(redisMessageListenerContainer, times(1)).addMessageListener(chatRelayService, CHAT_ROOM_TOPIC);
+    }
+
+    @Test
+    void channelIsUnsubscribedAfterLastUnsubscribe() {
+        chatRelayService.handleSubscribe(subscribeEvent("session-1", "sub-0", 1L));
+        chatRelayService.handleSubscribe(subscribeEvent("session-2", "sub-0", 1L));
+
+        chatRelayService.handleUnsubscribe(unsubscribeEvent("session-1", "sub-0"));
+        verify(redisMessageListenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        chatRelayService.handleUnsubscribe(unsubscribeEvent("session-2", "sub-0"));
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(chatRelayService, CHAT_ROOM_TOPIC);
+    }
+
+    @Test
+    void channelIsUnsubscribedWhenLastSessionDisconnects() {
+        chatRelayService.handleSubscribe(subscribeEvent("session-1", "sub-0", 1L));
+        chatRelayService.handleSubscribe(subscribeEvent("session-1", "sub-1", 1L));
+
+        // 구독 해제 프레임 없이 연결이 끊긴 세션의 구독도 모두 정리
+        chatRelayService.handleDisconnect(new SessionDisconnectEvent(this, disconnectMessage("session-1"), "session-1", CloseStatus.NORMAL));
+
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(chatRelayService, CHAT_ROOM_TOPIC);
+    }
+
+    @Test
+    void relayedMessageFromOwnNodeIsSkipped() throws Exception {
+        chatRelayService.onMessage(relayMessage(NODE_ID), null);
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void relayedMessageFromOtherNodeIsDeliveredLocally() throws Exception {
+        chatRelayService.onMessage(relayMessage("node-b"), null);
+
+        verify(messagingTemplate).convertAndSend(eq(ChatRelayService.RECEPTION_DESTINATION_PREFIX + 1), any(Object.class));
+    }
+
+    private DefaultMessage relayMessage(String nodeId) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "nodeId", nodeId,
+                "chatRoomId", 1L,
+                "publishedAt", System.currentTimeMillis(),
+                "payload", Map.of("seq", 1, "content", "안녕하세요")));
+
+        return new DefaultMessage(CHAT_ROOM_TOPIC.getTopic().getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, Long chatRoomId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(ChatRelayService.RECEPTION_DESTINATION_PREFIX + chatRoomId);
+
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionUnsubscribeEvent unsubscribeEvent(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+
+        return new SessionUnsubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private static Message<byte[]> disconnectMessage(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        accessor.setSessionId(sessionId);
+
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,81 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.entity.ChatRoom;
+import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.entity.MemberChatRoom;
+import sumcoda.boardbuddy.enumerate.MemberChatRoomRole;
+import sumcoda.boardbuddy.repository.chatRoom.ChatRoomRepository;
+import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+import sumcoda.boardbuddy.repository.memberChatRoom.MemberChatRoomRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅방 읽음 처리 시 읽은 순번을 채팅방에서 발급된 마지막 순번까지만 저장하고, 이미 읽은 위치보다 뒤로 되돌리지 않는지 확인
+ **/
+class ChatRoomServiceTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private static final String USERNAME = "user";
+
+    private ChatRedisService chatRedisService;
+
+    private MemberChatRoom memberChatRoom;
+
+    private ChatRoomService chatRoomService;
+
+    @BeforeEach
+    void setUp() {
+        MemberChatRoomRepository memberChatRoomRepository = mock(MemberChatRoomRepository.class);
+        chatRedisService = mock(ChatRedisService.class);
+
+        chatRoomService = new ChatRoomService(mock(ChatRoomRepository.class), memberChatRoomRepository, mock(MemberRepository.class),
+                mock(GatherArticleRepository.class), chatRedisService);
+
+        // 저장이 끝난 마지막 메세지 순번이 10 인 채팅방에 입장 (입장 이전 메세지는 읽은 것으로 처리)
+        ChatRoom chatRoom = ChatRoom.buildChatRoom(null);
+        ReflectionTestUtils.setField(chatRoom, "lastMessageSeq", 10L);
+        memberChatRoom = MemberChatRoom.buildMemberChatRoom(LocalDateTime.now(), MemberChatRoomRole.PARTICIPANT, mock(Member.class), chatRoom);
+
+        when(memberChatRoomRepository.findByChatRoomIdAndMemberUsername(CHAT_ROOM_ID, USERNAME)).thenReturn(Optional.of(memberChatRoom));
+    }
+
+    @Test
+    void readSeqIsClampedToLastIssuedSeq() {
+        // write-behind 로 아직 저장되지 않은 메세지까지 레디스에서 순번 15 까지 발급됨
+        when(chatRedisService.findSequence(CHAT_ROOM_ID)).thenReturn(Optional.of(15L));
+
+        chatRoomService.readChatMessages(CHAT_ROOM_ID, USERNAME, 99L);
+
+        assertThat(memberChatRoom.getLastReadSeq()).isEqualTo(15L);
+    }
+
+    @Test
+    void readSeqIsClampedToSavedLastSeqWithoutRedis() {
+        when(chatRedisService.findSequence(CHAT_ROOM_ID)).thenReturn(Optional.empty());
+
+        chatRoomService.readChatMessages(CHAT_ROOM_ID, USERNAME, 99L);
+
+        assertThat(memberChatRoom.getLastReadSeq()).isEqualTo(10L);
+    }
+
+    @Test
+    void readSeqIsNotMovedBackwards() {
+        when(chatRedisService.findSequence(CHAT_ROOM_ID)).thenReturn(Optional.of(15L));
+
+        chatRoomService.readChatMessages(CHAT_ROOM_ID, USERNAME, 13L);
+        chatRoomService.readChatMessages(CHAT_ROOM_ID, USERNAME, 12L);
+
+        assertThat(memberChatRoom.getLastReadSeq()).isEqualTo(13L);
+    }
+}
@@ -0,0 +1,92 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+import sumcoda.boardbuddy.dto.NearPublicDistrictResponse;
+
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 행정 구역 구독자 인덱스가 유실된 경우 DB 조회로 넘어가고, 구독 교체 시 이전 행정 구역이 남지 않는지 확인
+ **/
+class DistrictSubscriberRedisServiceTest {
+
+    private static final NearPublicDistrictResponse.LocationDTO SINSA = location("서울특별시", "강남구", "신사동");
+
+    private static final NearPublicDistrictResponse.LocationDTO NONHYEON = location("서울특별시", "강남구", "논현동");
+
+    private static final NearPublicDistrictResponse.LocationDTO YEOKSAM = location("서울특별시", "강남구", "역삼동");
+
+    private RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private DistrictSubscriberRedisService districtSubscriberRedisService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        districtSubscriberRedisService = new DistrictSubscriberRedisService(new StringRedisTemplate(connectionFactory));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void missingDistrictFallsBackUntilIndexIsReady() {
+        // 인덱스가 만들어지기 전(또는 유실된 경우)에는 키가 없으면 DB 에서 조회하도록 빈 Optional
+        assertThat(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "신사동")).isEmpty();
+
+        districtSubscriberRedisService.markReady();
+
+        assertThat(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "신사동")).contains(Set.of());
+    }
+
+    @Test
+    void subscriptionsAreReplaced() {
+        districtSubscriberRedisService.markReady();
+
+        districtSubscriberRedisService.subscribe(1L, List.of(SINSA, NONHYEON));
+        districtSubscriberRedisService.subscribe(2L, List.of(NONHYEON));
+        districtSubscriberRedisService.subscribe(1L, List.of(NONHYEON, YEOKSAM));
+
+        assertThat(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "신사동").orElseThrow()).isEmpty();
+        assertThat(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "논현동").orElseThrow()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "역삼동").orElseThrow()).containsExactly(1L);
+
+        districtSubscriberRedisService.unsubscribe(1L);
+
+        assertThat(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "논현동").orElseThrow()).containsExactly(2L);
+        assertThat(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "역삼동").orElseThrow()).isEmpty();
+    }
+
+    private static NearPublicDistrictResponse.LocationDTO location(String sido, String sgg, String emd) {
+        return NearPublicDistrictResponse.LocationDTO.builder()
+                .sido(sido)
+                .sgg(sgg)
+                .emd(emd)
+                .build();
+    }
+}
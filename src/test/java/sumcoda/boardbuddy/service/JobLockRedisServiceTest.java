@@ -0,0 +1,108 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄링 작업 잠금이 소유 토큰이 같을 때만 연장, 해제되고, 작업이 만료 시간보다 오래 걸려도 다른 서버에 넘어가지 않는지 확인
+ **/
+class JobLockRedisServiceTest {
+
+    private static final String LOCK_KEY = "TEST_JOB_LOCK";
+
+    private RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+
+    private JobLockRedisService jobLockRedisService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        jobLockRedisService = new JobLockRedisService(stringRedisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jobLockRedisService.shutdown();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void expiredLockTakenByAnotherServerIsNotReleased() throws Exception {
+        String expiredToken = jobLockRedisService.acquireLock(LOCK_KEY, Duration.ofMillis(100)).orElseThrow();
+        Thread.sleep(300);
+
+        // 만료된 뒤 다른 서버가 획득한 잠금
+        String currentToken = jobLockRedisService.acquireLock(LOCK_KEY, Duration.ofMinutes(1)).orElseThrow();
+
+        assertThat(jobLockRedisService.renewLock(LOCK_KEY, expiredToken, Duration.ofMinutes(1))).isFalse();
+        jobLockRedisService.releaseLock(LOCK_KEY, expiredToken);
+
+        assertThat(stringRedisTemplate.opsForValue().get(LOCK_KEY)).isEqualTo(currentToken);
+
+        jobLockRedisService.releaseLock(LOCK_KEY, currentToken);
+        assertThat(stringRedisTemplate.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void lockIsRenewedUntilLongTaskFinishes() {
+        AtomicBoolean acquiredByOtherServer = new AtomicBoolean();
+
+        // 만료 시간의 몇 배가 걸리는 작업 도중 다른 서버가 잠금 획득 시도
+        boolean ran = jobLockRedisService.runWithLock(LOCK_KEY, Duration.ofMillis(300), () -> {
+            for (int i = 0; i < 10; i++) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                Optional<String> otherToken = jobLockRedisService.acquireLock(LOCK_KEY, Duration.ofMinutes(1));
+                if (otherToken.isPresent()) {
+                    acquiredByOtherServer.set(true);
+                }
+            }
+        });
+
+        assertThat(ran).isTrue();
+        assertThat(acquiredByOtherServer).isFalse();
+        // 작업이 끝나면 잠금 해제
+        assertThat(stringRedisTemplate.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void taskIsSkippedWhileAnotherServerHoldsLock() {
+        jobLockRedisService.acquireLock(LOCK_KEY, Duration.ofMinutes(1)).orElseThrow();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertThat(jobLockRedisService.runWithLock(LOCK_KEY, Duration.ofMinutes(1), () -> ran.set(true))).isFalse();
+        assertThat(ran).isFalse();
+    }
+}
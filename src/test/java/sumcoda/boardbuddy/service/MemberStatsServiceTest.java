@@ -0,0 +1,107 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.CannotCreateTransactionException;
+import sumcoda.boardbuddy.enumerate.ReviewType;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MemberStatsServiceTest {
+
+    private static final long MEMBER_ID = 1L;
+
+    private MemberJdbcRepository memberJdbcRepository;
+
+    private MemberStatsService memberStatsService;
+
+    @BeforeEach
+    void setUp() {
+        memberJdbcRepository = mock(MemberJdbcRepository.class);
+        memberStatsService = new MemberStatsService(memberJdbcRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deltasAreRestoredWhenTransactionCannotBeCreated() {
+        memberStatsService.addReview(MEMBER_ID, ReviewType.EXCELLENT);
+        memberStatsService.addReview(MEMBER_ID, ReviewType.GOOD);
+
+        doThrow(new CannotCreateTransactionException("connection pool exhausted"))
+                .doNothing()
+                .when(memberJdbcRepository).addMemberStatsDeltas(anyList());
+
+        memberStatsService.flush();
+
+        // 반영하지 못한 변화량은 누적기로 되돌아가 조회 결과에 그대로 포함됨
+        MemberJdbcRepository.MemberStatsDelta pendingDelta = memberStatsService.findPendingDelta(MEMBER_ID);
+        assertThat(pendingDelta.excellentCount()).isEqualTo(1);
+        assertThat(pendingDelta.goodCount()).isEqualTo(1);
+        assertThat(pendingDelta.buddyScore()).isCloseTo(0.40, within(1e-9));
+
+        memberStatsService.flush();
+
+        ArgumentCaptor<List<MemberJdbcRepository.MemberStatsDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memberJdbcRepository, times(2)).addMemberStatsDeltas(captor.capture());
+
+        MemberJdbcRepository.MemberStatsDelta retriedDelta = captor.getAllValues().get(1).get(0);
+        assertThat(retriedDelta.excellentCount()).isEqualTo(1);
+        assertThat(retriedDelta.goodCount()).isEqualTo(1);
+        assertThat(retriedDelta.buddyScore()).isCloseTo(0.40, within(1e-9));
+
+        assertThat(memberStatsService.findPendingDelta(MEMBER_ID).excellentCount()).isZero();
+    }
+
+    @Test
+    void pendingDeltaIsVisibleWhileFlushing() {
+        memberStatsService.addReview(MEMBER_ID, ReviewType.EXCELLENT);
+        memberStatsService.addJoinCount(MEMBER_ID, 1);
+
+        // 반영 중(DB 커밋 전)에 조회해도 꺼낸 변화량이 포함되어야 함
+        List<MemberJdbcRepository.MemberStatsDelta> deltasSeenDuringFlush = new ArrayList<>();
+        doAnswer(invocation -> {
+            deltasSeenDuringFlush.add(memberStatsService.findPendingDelta(MEMBER_ID));
+            return null;
+        }).when(memberJdbcRepository).addMemberStatsDeltas(anyList());
+
+        memberStatsService.flush();
+
+        assertThat(deltasSeenDuringFlush).hasSize(1);
+        assertThat(deltasSeenDuringFlush.get(0).excellentCount()).isEqualTo(1);
+        assertThat(deltasSeenDuringFlush.get(0).joinCount()).isEqualTo(1);
+
+        // 반영이 끝나면 DB 값에 포함되므로 더 이상 더하지 않음
+        assertThat(memberStatsService.findPendingDelta(MEMBER_ID).excellentCount()).isZero();
+        assertThat(memberStatsService.findPendingDelta(MEMBER_ID).joinCount()).isZero();
+    }
+
+    @Test
+    void failedFlushIsNotCountedTwice() {
+        memberStatsService.addSendReviewCount(MEMBER_ID, 3);
+
+        doThrow(new CannotCreateTransactionException("connection pool exhausted"))
+                .when(memberJdbcRepository).addMemberStatsDeltas(anyList());
+
+        memberStatsService.flush();
+
+        assertThat(memberStatsService.findPendingDelta(MEMBER_ID).sendReviewCount()).isEqualTo(3);
+
+        doNothing().when(memberJdbcRepository).addMemberStatsDeltas(anyList());
+        memberStatsService.addSendReviewCount(MEMBER_ID, 2);
+
+        assertThat(memberStatsService.findPendingDelta(MEMBER_ID).sendReviewCount()).isEqualTo(5);
+    }
+}
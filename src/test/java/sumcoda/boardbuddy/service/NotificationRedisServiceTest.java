@@ -0,0 +1,84 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽지 않은 알림 개수 캐시가 읽음 처리, 캐시 초기화와 동시에 추가된 알림을 잃지 않는지 확인
+ **/
+class NotificationRedisServiceTest {
+
+    private static final String USERNAME = "user";
+
+    private RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private NotificationRedisService notificationRedisService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        notificationRedisService = new NotificationRedisService(new StringRedisTemplate(connectionFactory));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void notificationAddedDuringReadStaysUnread() {
+        notificationRedisService.saveUnreadNotificationIds(USERNAME, 0L, List.of(1L, 2L));
+
+        // 읽음 처리에서 가장 최근 알림 Id(2)를 조회한 뒤, 반영 전에 새 알림이 추가됨
+        notificationRedisService.addUnreadNotification(USERNAME, 3L);
+        notificationRedisService.readUntil(USERNAME, 2L);
+
+        assertThat(notificationRedisService.findUnreadCount(USERNAME)).contains(1L);
+    }
+
+    @Test
+    void staleCountFromDatabaseDoesNotOverwriteRead() {
+        // DB 에서 읽지 않은 알림을 조회한 뒤, 저장 전에 다른 요청이 모두 읽음 처리함
+        notificationRedisService.readUntil(USERNAME, 5L);
+
+        assertThat(notificationRedisService.saveUnreadNotificationIds(USERNAME, 0L, List.of(1L, 2L, 3L, 4L, 5L))).contains(0L);
+        assertThat(notificationRedisService.findUnreadCount(USERNAME)).contains(0L);
+    }
+
+    @Test
+    void notificationAddedBeforeInitializationIsKept() {
+        assertThat(notificationRedisService.findUnreadCount(USERNAME)).isEmpty();
+
+        // DB 조회 이후에 커밋된 알림은 조회 결과에 없어도 개수에 포함됨
+        notificationRedisService.addUnreadNotification(USERNAME, 6L);
+
+        assertThat(notificationRedisService.saveUnreadNotificationIds(USERNAME, 3L, List.of(4L, 5L))).contains(3L);
+
+        // 읽음 기준 이하의 알림은 추가되지 않음
+        notificationRedisService.addUnreadNotification(USERNAME, 2L);
+        assertThat(notificationRedisService.findUnreadCount(USERNAME)).contains(3L);
+    }
+}
@@ -0,0 +1,88 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.repository.NotificationJdbcRepository;
+import sumcoda.boardbuddy.repository.PartitionJdbcRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 정리가 잠금을 획득한 서버에서만 실행되고, 보관 기간이 모두 지난 파티션을 제거한 뒤 남은 알림을 chunk 단위로 삭제하는지 확인
+ **/
+class NotificationRetentionServiceTest {
+
+    private static final String TABLE_NAME = "notification";
+
+    private static final int CHUNK_SIZE = 2;
+
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    private PartitionJdbcRepository partitionJdbcRepository;
+
+    private JobLockRedisService jobLockRedisService;
+
+    private NotificationRetentionService notificationRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+        partitionJdbcRepository = mock(PartitionJdbcRepository.class);
+        jobLockRedisService = mock(JobLockRedisService.class);
+
+        notificationRetentionService = new NotificationRetentionService(notificationJdbcRepository, partitionJdbcRepository, jobLockRedisService);
+        ReflectionTestUtils.setField(notificationRetentionService, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(notificationRetentionService, "partitioningEnabled", true);
+        ReflectionTestUtils.setField(notificationRetentionService, "partitionsAhead", 1);
+
+        // 잠금을 획득한 것처럼 작업을 바로 실행
+        when(jobLockRedisService.runWithLock(eq("NOTIFICATION_RETENTION_LOCK"), any(Duration.class), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+
+    @Test
+    void purgeIsSkippedWithoutLock() {
+        when(jobLockRedisService.runWithLock(eq("NOTIFICATION_RETENTION_LOCK"), any(Duration.class), any())).thenReturn(false);
+
+        notificationRetentionService.purgeExpiredNotifications();
+
+        verifyNoInteractions(notificationJdbcRepository, partitionJdbcRepository);
+    }
+
+    @Test
+    void expiredPartitionsAreDroppedAndRemainingRowsDeletedInChunks() {
+        YearMonth currentMonth = YearMonth.now();
+        // 보관 기준 시점이 3달 전 달 15일이 되도록 보관 기간 설정 (4달 전 달은 모두 지남, 3달 전 달은 경계 달)
+        ReflectionTestUtils.setField(notificationRetentionService, "retentionDays",
+                ChronoUnit.DAYS.between(currentMonth.minusMonths(3).atDay(15), LocalDate.now()));
+        when(partitionJdbcRepository.findPartitionMonths(TABLE_NAME)).thenReturn(List.of(
+                currentMonth.minusMonths(4), currentMonth.minusMonths(3), currentMonth, currentMonth.plusMonths(1)));
+        when(notificationJdbcRepository.deleteNotificationsCreatedBefore(any(LocalDateTime.class), anyInt()))
+                .thenReturn(CHUNK_SIZE)
+                .thenReturn(CHUNK_SIZE)
+                .thenReturn(1);
+
+        notificationRetentionService.purgeExpiredNotifications();
+
+        verify(partitionJdbcRepository).dropMonthlyPartitions(TABLE_NAME, List.of(currentMonth.minusMonths(4)));
+        // 마지막 chunk 가 chunk 크기보다 작으면 삭제 종료
+        verify(notificationJdbcRepository, times(3)).deleteNotificationsCreatedBefore(any(LocalDateTime.class), eq(CHUNK_SIZE));
+    }
+}
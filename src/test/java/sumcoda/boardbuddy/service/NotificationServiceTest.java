@@ -0,0 +1,120 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sumcoda.boardbuddy.dto.GatherArticleResponse;
+import sumcoda.boardbuddy.dto.MemberResponse;
+import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+import sumcoda.boardbuddy.repository.NotificationJdbcRepository;
+import sumcoda.boardbuddy.repository.comment.CommentRepository;
+import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+import sumcoda.boardbuddy.repository.memberGatherArticle.MemberGatherArticleRepository;
+import sumcoda.boardbuddy.repository.notification.NotificationRepository;
+import sumcoda.boardbuddy.util.NotificationMessageUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모집글 작성 알림이 모집글 제목을 한 번만 조회하고, 수신자별 조회 없이 알림을 한 번에 저장하는지 확인
+ **/
+class NotificationServiceTest {
+
+    private static final Long GATHER_ARTICLE_ID = 7L;
+
+    private static final String WRITTEN_USERNAME = "writer";
+
+    private MemberRepository memberRepository;
+
+    private SseRedisService sseRedisService;
+
+    private NotificationRedisService notificationRedisService;
+
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    private GatherArticleRepository gatherArticleRepository;
+
+    private DistrictSubscriberRedisService districtSubscriberRedisService;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        sseRedisService = mock(SseRedisService.class);
+        notificationRedisService = mock(NotificationRedisService.class);
+        notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+        gatherArticleRepository = mock(GatherArticleRepository.class);
+        districtSubscriberRedisService = mock(DistrictSubscriberRedisService.class);
+
+        notificationService = new NotificationService(memberRepository, mock(SseEmitterService.class), sseRedisService,
+                notificationRedisService, mock(MemberJdbcRepository.class), notificationJdbcRepository, gatherArticleRepository,
+                mock(MemberGatherArticleRepository.class), mock(NotificationRepository.class), mock(CommentRepository.class),
+                new NotificationMessageUtil(), districtSubscriberRedisService);
+
+        when(gatherArticleRepository.findLocationInfoDTOById(GATHER_ARTICLE_ID)).thenReturn(Optional.of(
+                GatherArticleResponse.LocationInfoDTO.builder().sido("서울특별시").sgg("강남구").emd("역삼동").build()));
+        when(gatherArticleRepository.findTitleDTOById(GATHER_ARTICLE_ID)).thenReturn(Optional.of(
+                GatherArticleResponse.TitleDTO.builder().title("보드게임").build()));
+    }
+
+    @Test
+    void gatherArticleNotificationsAreSavedInOneBatch() {
+        when(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "역삼동")).thenReturn(Optional.of(Set.of(1L, 2L, 3L)));
+        when(memberRepository.findNotificationReceiverDTOsByIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(
+                receiver(1L, WRITTEN_USERNAME, "작성자"),
+                receiver(2L, "user2", "닉네임2"),
+                receiver(3L, "user3", "닉네임3")));
+        when(notificationJdbcRepository.batchInsertNotifications(eq(GATHER_ARTICLE_ID), eq(EventName.WRITE_GATHER_ARTICLE), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(101L, 102L));
+
+        notificationService.notifyGatherArticle(GATHER_ARTICLE_ID, WRITTEN_USERNAME);
+
+        // 작성자를 제외한 수신자의 닉네임으로 메세지 생성
+        verify(notificationJdbcRepository).batchInsertNotifications(eq(GATHER_ARTICLE_ID), eq(EventName.WRITE_GATHER_ARTICLE), any(LocalDateTime.class), eq(Map.of(
+                2L, "닉네임2님의 주변에 '보드게임' 모집글이 작성되었습니다.",
+                3L, "닉네임3님의 주변에 '보드게임' 모집글이 작성되었습니다.")));
+        verify(gatherArticleRepository, times(1)).findTitleDTOById(GATHER_ARTICLE_ID);
+        verify(memberRepository, never()).findByUsername(anyString());
+        verify(memberRepository, never()).findNicknameDTOByUsername(anyString());
+
+        verify(notificationRedisService).addUnreadNotification("user2", 101L);
+        verify(notificationRedisService).addUnreadNotification("user3", 102L);
+        verify(sseRedisService).publish("user2", "닉네임2님의 주변에 '보드게임' 모집글이 작성되었습니다.", EventName.WRITE_GATHER_ARTICLE);
+        verify(sseRedisService).publish("user3", "닉네임3님의 주변에 '보드게임' 모집글이 작성되었습니다.", EventName.WRITE_GATHER_ARTICLE);
+    }
+
+    @Test
+    void nothingIsSavedWithoutReceivers() {
+        when(districtSubscriberRedisService.findSubscriberIds("서울특별시", "강남구", "역삼동")).thenReturn(Optional.empty());
+        when(memberRepository.findNotificationReceiverDTOsWithGatherArticleInRange(WRITTEN_USERNAME, "서울특별시", "강남구", "역삼동"))
+                .thenReturn(List.of());
+
+        notificationService.notifyGatherArticle(GATHER_ARTICLE_ID, WRITTEN_USERNAME);
+
+        verify(notificationJdbcRepository, never()).batchInsertNotifications(any(), any(), any(), any());
+        verify(gatherArticleRepository, never()).findTitleDTOById(any());
+    }
+
+    private static MemberResponse.NotificationReceiverDTO receiver(Long id, String username, String nickname) {
+        return MemberResponse.NotificationReceiverDTO.builder()
+                .id(id)
+                .username(username)
+                .nickname(nickname)
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.entity.RankingJob;
+import sumcoda.boardbuddy.enumerate.RankingJobStatus;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 100만 명 규모에서 월간 랭킹 점수 계산(기간 내 집계 쿼리 + 회원 점수 맵)과 상위 회원 선정에 걸리는 시간 측정
+ * 데이터 적재에 수 분이 걸리므로 BENCHMARK=true 환경 변수가 있을 때만 실행
+ * 예: BENCHMARK=true ./gradlew test --tests '*RankingAggregateBenchmarkTest'
+ **/
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class RankingAggregateBenchmarkTest {
+
+    private static final long MEMBER_COUNT = 1_000_000;
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    private static final Long RANKING_JOB_ID = 1L;
+
+    private static final YearMonth LAST_MONTH = YearMonth.now().minusMonths(1);
+
+    @TempDir
+    Path tempDir;
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:file:" + tempDir.resolve("ranking") + ";MODE=MariaDB", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE member_stats (member_id BIGINT PRIMARY KEY, rank_score DOUBLE NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE review (id BIGINT AUTO_INCREMENT PRIMARY KEY, review_type VARCHAR(16) NOT NULL, " +
+                "reviewer_id BIGINT NOT NULL, reviewee_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE comment (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE gather_article (id BIGINT PRIMARY KEY, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE member_gather_article (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT NOT NULL, " +
+                "gather_article_id BIGINT NOT NULL, member_gather_article_role VARCHAR(16) NOT NULL)");
+
+        // 지난 달 시작 시각부터 두 달에 걸쳐 고르게 분포 (절반 정도만 지난 달에 해당)
+        Timestamp start = Timestamp.valueOf(LAST_MONTH.atDay(1).atStartOfDay());
+        String createdAt = "DATEADD(SECOND, MOD(X * 7919, 5184000), CAST(? AS TIMESTAMP))";
+
+        jdbcTemplate.update("INSERT INTO member_stats SELECT X, 0.0 FROM SYSTEM_RANGE(1, ?)", MEMBER_COUNT);
+        // 회원마다 리뷰 2건 받기, 댓글 2건 작성, 10명 중 1명은 모집글 1건 작성
+        jdbcTemplate.update("INSERT INTO review (review_type, reviewer_id, reviewee_id, created_at) " +
+                "SELECT CASE MOD(X, 4) WHEN 0 THEN 'EXCELLENT' WHEN 1 THEN 'GOOD' WHEN 2 THEN 'BAD' ELSE 'NOSHOW' END, " +
+                "MOD(X * 31, " + MEMBER_COUNT + ") + 1, MOD(X, " + MEMBER_COUNT + ") + 1, " + createdAt + " FROM SYSTEM_RANGE(1, ?)",
+                start, MEMBER_COUNT * 2);
+        jdbcTemplate.update("INSERT INTO comment (member_id, created_at) SELECT MOD(X, " + MEMBER_COUNT + ") + 1, " + createdAt + " FROM SYSTEM_RANGE(1, ?)",
+                start, MEMBER_COUNT * 2);
+        jdbcTemplate.update("INSERT INTO gather_article SELECT X, " + createdAt + " FROM SYSTEM_RANGE(1, ?)", start, MEMBER_COUNT / 10);
+        jdbcTemplate.update("INSERT INTO member_gather_article (member_id, gather_article_id, member_gather_article_role) " +
+                "SELECT X * 10, X, 'AUTHOR' FROM SYSTEM_RANGE(1, ?)", MEMBER_COUNT / 10);
+
+        // 엔티티에 정의된 집계용 인덱스 (member_gather_article.member_id 는 외래 키 인덱스)
+        jdbcTemplate.execute("CREATE INDEX idx_review_reviewee_id_created_at ON review (reviewee_id, created_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_review_reviewer_id_created_at ON review (reviewer_id, created_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_comment_member_id_created_at ON comment (member_id, created_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_gather_article_created_at ON gather_article (created_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_member_gather_article_member_id ON member_gather_article (member_id)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void scoreOneMillionMembers() {
+        MemberJdbcRepository memberJdbcRepository = new MemberJdbcRepository(jdbcTemplate);
+        RankingJobService rankingJobService = mock(RankingJobService.class);
+        RankingRedisService rankingRedisService = mock(RankingRedisService.class);
+
+        RankingJob rankingJob = RankingJob.buildRankingJob(LAST_MONTH.toString(), RankingJobStatus.SCORING, false, MEMBER_COUNT, CHUNK_SIZE);
+        ReflectionTestUtils.setField(rankingJob, "id", RANKING_JOB_ID);
+        when(rankingJobService.findRankingJob(LAST_MONTH)).thenReturn(Optional.of(rankingJob));
+        when(rankingJobService.findCompletedChunkStartMemberIds(RANKING_JOB_ID)).thenReturn(Set.of());
+        when(rankingRedisService.acquireLock()).thenReturn(Optional.of("token"));
+
+        // 범위별 점수 저장 대신 점수가 있는 회원 수만 세고, 상위 회원 선정이 전체 회원을 읽도록 rank_score 는 미리 채워 둠
+        AtomicLong scoredMemberCount = new AtomicLong();
+        doAnswer(invocation -> {
+            scoredMemberCount.addAndGet(((long[]) invocation.getArgument(3)).length);
+            return true;
+        }).when(rankingJobService).saveChunkScores(eq(RANKING_JOB_ID), anyLong(), anyLong(), any(), any());
+        jdbcTemplate.update("UPDATE member_stats SET rank_score = MOD(member_id * 7919, 100003) / 10.0");
+
+        RankingService rankingService = new RankingService(mock(MemberRepository.class), memberJdbcRepository, rankingJobService, rankingRedisService);
+        ReflectionTestUtils.setField(rankingService, "parallelism", 1);
+
+        long startedAt = System.nanoTime();
+        rankingService.resumeMonthlyRankings();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        rankingService.shutdown();
+
+        System.out.printf("Ranking aggregate benchmark. members: %d, scored members: %d, elapsed: %dms%n",
+                MEMBER_COUNT, scoredMemberCount.get(), elapsedMillis);
+
+        assertThat(scoredMemberCount.get()).isPositive();
+        verify(rankingJobService).assignRanks(eq(RANKING_JOB_ID), (List<Long>) any(), eq(LAST_MONTH));
+    }
+}
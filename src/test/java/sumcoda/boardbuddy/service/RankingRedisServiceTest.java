@@ -0,0 +1,106 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 준비 표시가 있는 달의 랭킹에만 점수를 더하고, 실시간 랭킹에서 점수가 높은 순으로 순위와 점수를 조회하는지 확인
+ **/
+class RankingRedisServiceTest {
+
+    private static final YearMonth CURRENT_MONTH = YearMonth.now();
+
+    private static final String RANKING_KEY = "RANKING:" + CURRENT_MONTH.format(DateTimeFormatter.ofPattern("yyyyMM"));
+
+    private RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RankingRedisService rankingRedisService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        rankingRedisService = new RankingRedisService(stringRedisTemplate, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void scoreIsIncrementedOnlyAfterRankingIsReady() {
+        // 준비 표시가 없으면 DB 기준 재구성 전이므로 점수를 더하지 않음
+        rankingRedisService.incrementScore(1L, 5.0);
+
+        assertThat(rankingRedisService.isReady(CURRENT_MONTH)).isFalse();
+        assertThat(stringRedisTemplate.hasKey(RANKING_KEY)).isFalse();
+
+        rankingRedisService.initRanking(CURRENT_MONTH);
+        rankingRedisService.incrementScore(1L, 5.0);
+        rankingRedisService.incrementScore(1L, 0.5);
+
+        assertThat(rankingRedisService.findScore(CURRENT_MONTH, 1L)).contains(5.5);
+        // 랭킹 키의 만료 시간을 준비 표시와 맞춤
+        assertThat(stringRedisTemplate.getExpire(RANKING_KEY, TimeUnit.DAYS)).isBetween(61L, 62L);
+    }
+
+    @Test
+    void liveRankIsLookedUpByScoreDescending() {
+        rankingRedisService.initRanking(CURRENT_MONTH);
+        rankingRedisService.incrementScore(1L, 1.0);
+        rankingRedisService.incrementScore(2L, 3.0);
+        rankingRedisService.incrementScore(3L, 2.0);
+        // 삭제된 글의 점수 취소로 순위가 바뀜
+        rankingRedisService.incrementScore(2L, -2.5);
+
+        assertThat(rankingRedisService.findScores(CURRENT_MONTH, 0, 1)).hasValueSatisfying(scores ->
+                assertThat(scores).containsExactly(Map.entry(3L, 2.0), Map.entry(1L, 1.0)));
+        assertThat(rankingRedisService.findRank(CURRENT_MONTH, 3L)).contains(0L);
+        assertThat(rankingRedisService.findRank(CURRENT_MONTH, 2L)).contains(2L);
+        assertThat(rankingRedisService.findScore(CURRENT_MONTH, 2L)).contains(0.5);
+
+        // 점수가 없는 회원은 순위가 없음
+        assertThat(rankingRedisService.findRank(CURRENT_MONTH, 4L)).isEmpty();
+        assertThat(rankingRedisService.findScore(CURRENT_MONTH, 4L)).isEmpty();
+    }
+
+    @Test
+    void scoresAreIncrementedOnRebuiltRanking() {
+        rankingRedisService.replaceRanking(CURRENT_MONTH, new long[]{1L, 2L}, new double[]{4.0, 3.0});
+
+        rankingRedisService.incrementScore(2L, 2.0);
+
+        assertThat(rankingRedisService.findRank(CURRENT_MONTH, 2L)).contains(0L);
+        assertThat(rankingRedisService.findScore(CURRENT_MONTH, 2L)).contains(5.0);
+    }
+}
@@ -0,0 +1,205 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.dto.MemberResponse;
+import sumcoda.boardbuddy.entity.RankingJob;
+import sumcoda.boardbuddy.enumerate.RankingJobStatus;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 점수 맵, 상위 회원 힙이 점수를 정확히 모으고, 중단된 월간 집계를 이어서 실행할 때 완료된 범위는 건너뛰며,
+ * 실시간 랭킹 조회 시 순위를 1부터 매기는지 확인
+ **/
+class RankingServiceTest {
+
+    private static final Long RANKING_JOB_ID = 7L;
+
+    private static final YearMonth LAST_MONTH = YearMonth.now().minusMonths(1);
+
+    private MemberRepository memberRepository;
+
+    private MemberJdbcRepository memberJdbcRepository;
+
+    private RankingJobService rankingJobService;
+
+    private RankingRedisService rankingRedisService;
+
+    private RankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        memberJdbcRepository = mock(MemberJdbcRepository.class);
+        rankingJobService = mock(RankingJobService.class);
+        rankingRedisService = mock(RankingRedisService.class);
+
+        rankingService = new RankingService(memberRepository, memberJdbcRepository, rankingJobService, rankingRedisService);
+        ReflectionTestUtils.setField(rankingService, "parallelism", 2);
+
+        when(rankingRedisService.acquireLock()).thenReturn(Optional.of("token"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rankingService.shutdown();
+    }
+
+    @Test
+    void memberScoreMapKeepsScoresAcrossResize() {
+        RankingService.MemberScoreMap memberScores = new RankingService.MemberScoreMap();
+
+        // 초기 용량(1,024)을 여러 번 넘기도록 추가하고, 같은 회원에게 한 번 더 더하기
+        for (long memberId = 1; memberId <= 10_000; memberId++) {
+            memberScores.add(memberId, memberId);
+        }
+        for (long memberId = 1; memberId <= 10_000; memberId += 2) {
+            memberScores.add(memberId, 0.5);
+        }
+
+        assertThat(memberScores.size()).isEqualTo(10_000);
+        assertThat(memberScores.get(1)).isCloseTo(1.5, within(1e-9));
+        assertThat(memberScores.get(2)).isCloseTo(2.0, within(1e-9));
+        assertThat(memberScores.get(9_999)).isCloseTo(9_999.5, within(1e-9));
+        assertThat(memberScores.get(10_001)).isZero();
+
+        // 회원 Id 배열과 점수 배열은 같은 순서
+        long[] memberIds = memberScores.toMemberIds();
+        double[] scores = memberScores.toScores();
+        assertThat(memberIds).hasSize(10_000);
+        for (int i = 0; i < memberIds.length; i++) {
+            assertThat(scores[i]).isCloseTo(memberScores.get(memberIds[i]), within(1e-9));
+        }
+    }
+
+    @Test
+    void memberScoreMapSliceKeepsOnlyRange() {
+        RankingService.MemberScoreMap memberScores = new RankingService.MemberScoreMap();
+        memberScores.add(3, 1.0);
+        memberScores.add(10, 2.0);
+        memberScores.add(11, 3.0);
+        memberScores.add(25, 4.0);
+        long[] sortedMemberIds = memberScores.toSortedMemberIds();
+
+        assertThat(sortedMemberIds).containsExactly(3, 10, 11, 25);
+
+        RankingService.MemberScoreMap slice = memberScores.slice(sortedMemberIds, 10, 20);
+        assertThat(slice.size()).isEqualTo(2);
+        assertThat(slice.get(10)).isEqualTo(2.0);
+        assertThat(slice.get(11)).isEqualTo(3.0);
+
+        // 범위 경계가 회원 Id 사이에 있거나 범위에 회원이 없는 경우
+        assertThat(memberScores.slice(sortedMemberIds, 4, 9).size()).isZero();
+        assertThat(memberScores.slice(sortedMemberIds, 12, 100).toMemberIds()).containsExactly(25);
+    }
+
+    @Test
+    void topMemberScoresPrefersLowerMemberIdOnTie() {
+        RankingService.TopMemberScores topMemberScores = new RankingService.TopMemberScores(3);
+        topMemberScores.offer(5, 10.0);
+        topMemberScores.offer(1, 3.0);
+        topMemberScores.offer(4, 7.0);
+        topMemberScores.offer(2, 7.0);
+        topMemberScores.offer(3, 7.0);
+        topMemberScores.offer(6, 1.0);
+
+        // 7점 동점 세 명 중 먼저 가입한 두 명만 남음
+        assertThat(topMemberScores.toMemberIds()).containsExactly(5L, 2L, 3L);
+    }
+
+    @Test
+    void resumeSkipsCompletedChunks() {
+        // 1 ~ 25번 회원을 10명씩 나눈 범위 중 앞의 두 범위는 이미 완료
+        givenScoringJob(false);
+        when(rankingJobService.findCompletedChunkStartMemberIds(RANKING_JOB_ID)).thenReturn(Set.of(1L, 11L));
+
+        rankingService.resumeMonthlyRankings();
+
+        verify(memberJdbcRepository, never()).streamCommentScores(eq(1L), anyLong(), eq(0.5), any(), any(), any());
+        verify(memberJdbcRepository, never()).streamCommentScores(eq(11L), anyLong(), eq(0.5), any(), any(), any());
+        verify(memberJdbcRepository).streamCommentScores(eq(21L), eq(25L), eq(0.5), any(), any(), any());
+
+        verify(rankingJobService, never()).saveChunkScores(eq(RANKING_JOB_ID), eq(1L), anyLong(), any(), any());
+        verify(rankingJobService, never()).saveChunkScores(eq(RANKING_JOB_ID), eq(11L), anyLong(), any(), any());
+        verify(rankingJobService).saveChunkScores(eq(RANKING_JOB_ID), eq(21L), eq(25L), aryEq(new long[0]), aryEq(new double[0]));
+
+        verify(rankingJobService).completeScoring(RANKING_JOB_ID);
+        verify(rankingJobService).completeRankingJob(RANKING_JOB_ID);
+        verify(rankingRedisService).releaseLock("token");
+    }
+
+    @Test
+    void resumeSlicesLiveRankingForRemainingChunks() {
+        givenScoringJob(true);
+        when(rankingRedisService.isReady(LAST_MONTH)).thenReturn(true);
+        when(rankingRedisService.findScores(LAST_MONTH, 0, 999)).thenReturn(Optional.of(Map.of(5L, 1.0, 15L, 2.0, 23L, 3.0)));
+        when(rankingJobService.findCompletedChunkStartMemberIds(RANKING_JOB_ID)).thenReturn(Set.of(1L));
+
+        rankingService.resumeMonthlyRankings();
+
+        // 실시간 랭킹 점수를 사용하므로 집계 쿼리는 실행하지 않음
+        verify(memberJdbcRepository, never()).streamCommentScores(anyLong(), anyLong(), eq(0.5), any(), any(), any());
+
+        verify(rankingJobService, never()).saveChunkScores(eq(RANKING_JOB_ID), eq(1L), anyLong(), any(), any());
+        verify(rankingJobService).saveChunkScores(eq(RANKING_JOB_ID), eq(11L), eq(20L), aryEq(new long[]{15L}), aryEq(new double[]{2.0}));
+        verify(rankingJobService).saveChunkScores(eq(RANKING_JOB_ID), eq(21L), eq(25L), aryEq(new long[]{23L}), aryEq(new double[]{3.0}));
+    }
+
+    @Test
+    void liveRankingsAreRankedFromOneAndSkipWithdrawnMembers() {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        scores.put(3L, 9.0);
+        scores.put(1L, 7.5);
+        scores.put(2L, 4.0);
+        when(rankingRedisService.findScores(YearMonth.now(), 0, 2)).thenReturn(Optional.of(scores));
+        // 회원 1 은 탈퇴
+        when(memberRepository.findRankingMemberDTOsByIds(scores.keySet())).thenReturn(List.of(
+                MemberResponse.RankingMemberDTO.builder().id(3L).nickname("닉네임3").build(),
+                MemberResponse.RankingMemberDTO.builder().id(2L).nickname("닉네임2").build()));
+
+        List<MemberResponse.LiveRankingDTO> liveRankingDTOs = rankingService.getLiveRankings(3);
+
+        assertThat(liveRankingDTOs).extracting(MemberResponse.LiveRankingDTO::getRank).containsExactly(1, 3);
+        assertThat(liveRankingDTOs).extracting(MemberResponse.LiveRankingDTO::getNickname).containsExactly("닉네임3", "닉네임2");
+    }
+
+    @Test
+    void myLiveRankingIsRankedFromOne() {
+        YearMonth currentMonth = YearMonth.now();
+        when(memberRepository.findIdDTOByUsername("user")).thenReturn(Optional.of(MemberResponse.IdDTO.builder().id(2L).build()));
+        when(rankingRedisService.findRank(currentMonth, 2L)).thenReturn(Optional.of(0L));
+        when(rankingRedisService.findScore(currentMonth, 2L)).thenReturn(Optional.of(4.0));
+
+        MemberResponse.MyLiveRankingDTO myLiveRankingDTO = rankingService.getMyLiveRanking("user");
+
+        assertThat(myLiveRankingDTO.getRank()).isEqualTo(1L);
+        assertThat(myLiveRankingDTO.getRankScore()).isEqualTo(4.0);
+    }
+
+    private void givenScoringJob(boolean useLiveRanking) {
+        RankingJob rankingJob = RankingJob.buildRankingJob(LAST_MONTH.toString(), RankingJobStatus.SCORING, useLiveRanking, 25L, 10);
+        ReflectionTestUtils.setField(rankingJob, "id", RANKING_JOB_ID);
+        when(rankingJobService.findRankingJob(LAST_MONTH)).thenReturn(Optional.of(rankingJob));
+    }
+}
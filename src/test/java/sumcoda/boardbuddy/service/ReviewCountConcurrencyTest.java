@@ -0,0 +1,159 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import sumcoda.boardbuddy.enumerate.ReviewType;
+import sumcoda.boardbuddy.repository.MemberJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 리뷰 1,000건을 동시에 보냈을 때 리뷰 카운트, 보낸 리뷰 카운트, 버디 지수가 정확히 누적되는지 확인
+ * 두 서버의 버퍼가 같은 member_stats 행에 동시에 반영하는 상황을 서비스 인스턴스 두 개로 재현
+ **/
+class ReviewCountConcurrencyTest {
+
+    private static final int REVIEW_COUNT = 1_000;
+
+    private static final int THREAD_COUNT = 32;
+
+    private static final long REVIEWEE_COUNT = 5;
+
+    private static final long REVIEWER_COUNT = 5;
+
+    private static final ReviewType[] REVIEW_TYPES = ReviewType.values();
+
+    private JdbcTemplate jdbcTemplate;
+
+    private List<MemberStatsService> memberStatsServices;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:review-count;MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE member_stats (" +
+                "member_id BIGINT PRIMARY KEY, buddy_score DOUBLE NOT NULL, join_count INT NOT NULL, " +
+                "monthly_excellent_count INT NOT NULL, total_excellent_count INT NOT NULL, " +
+                "monthly_good_count INT NOT NULL, total_good_count INT NOT NULL, " +
+                "monthly_bad_count INT NOT NULL, total_bad_count INT NOT NULL, " +
+                "monthly_no_show_count INT NOT NULL, monthly_send_review_count INT NOT NULL, rank_score DOUBLE NOT NULL)");
+        for (long memberId = 1; memberId <= REVIEWEE_COUNT + REVIEWER_COUNT; memberId++) {
+            jdbcTemplate.update("INSERT INTO member_stats VALUES (?, 50.0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0.0)", memberId);
+        }
+
+        MemberJdbcRepository memberJdbcRepository = new MemberJdbcRepository(jdbcTemplate);
+        memberStatsServices = List.of(new MemberStatsService(memberJdbcRepository), new MemberStatsService(memberJdbcRepository));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE member_stats");
+    }
+
+    @Test
+    void concurrentReviewsAreCountedExactly() throws Exception {
+        ExecutorService reviewExecutor = Executors.newFixedThreadPool(THREAD_COUNT);
+        ExecutorService flushExecutor = Executors.newFixedThreadPool(memberStatsServices.size());
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicBoolean reviewing = new AtomicBoolean(true);
+
+        // 리뷰를 보내는 동안 서버마다 계속 반영
+        List<Future<?>> flushFutures = new ArrayList<>();
+        for (MemberStatsService memberStatsService : memberStatsServices) {
+            flushFutures.add(flushExecutor.submit(() -> {
+                while (reviewing.get()) {
+                    memberStatsService.flush();
+                }
+            }));
+        }
+
+        List<Future<?>> reviewFutures = new ArrayList<>();
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            int review = i;
+            reviewFutures.add(reviewExecutor.submit(() -> {
+                startLatch.await();
+                MemberStatsService memberStatsService = memberStatsServices.get(review % memberStatsServices.size());
+                memberStatsService.addReview(revieweeId(review), REVIEW_TYPES[review % REVIEW_TYPES.length]);
+                memberStatsService.addSendReviewCount(reviewerId(review), 1);
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> reviewFuture : reviewFutures) {
+            reviewFuture.get(30, TimeUnit.SECONDS);
+        }
+        reviewing.set(false);
+        for (Future<?> flushFuture : flushFutures) {
+            flushFuture.get(30, TimeUnit.SECONDS);
+        }
+        reviewExecutor.shutdown();
+        flushExecutor.shutdown();
+
+        memberStatsServices.forEach(MemberStatsService::flush);
+
+        for (long memberId = 1; memberId <= REVIEWEE_COUNT; memberId++) {
+            Map<String, Object> stats = findMemberStats(memberId);
+            int[] expectedCounts = new int[REVIEW_TYPES.length];
+            double expectedBuddyScore = 50.0;
+            for (int review = 0; review < REVIEW_COUNT; review++) {
+                if (revieweeId(review) == memberId) {
+                    ReviewType reviewType = REVIEW_TYPES[review % REVIEW_TYPES.length];
+                    expectedCounts[reviewType.ordinal()]++;
+                    expectedBuddyScore += reviewType.getScore();
+                }
+            }
+
+            assertThat(((Number) stats.get("MONTHLY_EXCELLENT_COUNT")).intValue()).isEqualTo(expectedCounts[ReviewType.EXCELLENT.ordinal()]);
+            assertThat(((Number) stats.get("TOTAL_EXCELLENT_COUNT")).intValue()).isEqualTo(expectedCounts[ReviewType.EXCELLENT.ordinal()]);
+            assertThat(((Number) stats.get("MONTHLY_GOOD_COUNT")).intValue()).isEqualTo(expectedCounts[ReviewType.GOOD.ordinal()]);
+            assertThat(((Number) stats.get("TOTAL_GOOD_COUNT")).intValue()).isEqualTo(expectedCounts[ReviewType.GOOD.ordinal()]);
+            assertThat(((Number) stats.get("MONTHLY_BAD_COUNT")).intValue()).isEqualTo(expectedCounts[ReviewType.BAD.ordinal()]);
+            assertThat(((Number) stats.get("TOTAL_BAD_COUNT")).intValue()).isEqualTo(expectedCounts[ReviewType.BAD.ordinal()]);
+            assertThat(((Number) stats.get("MONTHLY_NO_SHOW_COUNT")).intValue()).isEqualTo(expectedCounts[ReviewType.NOSHOW.ordinal()]);
+            assertThat(((Number) stats.get("BUDDY_SCORE")).doubleValue()).isCloseTo(expectedBuddyScore, within(1e-6));
+        }
+
+        int totalSendReviewCount = 0;
+        for (long memberId = REVIEWEE_COUNT + 1; memberId <= REVIEWEE_COUNT + REVIEWER_COUNT; memberId++) {
+            int sendReviewCount = ((Number) findMemberStats(memberId).get("MONTHLY_SEND_REVIEW_COUNT")).intValue();
+            assertThat(sendReviewCount).isEqualTo(REVIEW_COUNT / REVIEWER_COUNT);
+            totalSendReviewCount += sendReviewCount;
+        }
+        assertThat(totalSendReviewCount).isEqualTo(REVIEW_COUNT);
+
+        // 모두 반영된 뒤에는 반영되지 않은 변화량이 남아 있지 않음
+        for (MemberStatsService memberStatsService : memberStatsServices) {
+            MemberJdbcRepository.MemberStatsDelta pendingDelta = memberStatsService.findPendingDelta(1L);
+            assertThat(pendingDelta.excellentCount() + pendingDelta.goodCount() + pendingDelta.badCount() + pendingDelta.noShowCount()).isZero();
+        }
+    }
+
+    private long revieweeId(int review) {
+        return review % REVIEWEE_COUNT + 1;
+    }
+
+    private long reviewerId(int review) {
+        return REVIEWEE_COUNT + review / (REVIEW_COUNT / REVIEWER_COUNT) + 1;
+    }
+
+    private Map<String, Object> findMemberStats(long memberId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM member_stats WHERE member_id = ?", memberId);
+    }
+}
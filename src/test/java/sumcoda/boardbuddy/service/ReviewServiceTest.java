@@ -0,0 +1,196 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import sumcoda.boardbuddy.dto.ReviewRequest;
+import sumcoda.boardbuddy.dto.ReviewResponse;
+import sumcoda.boardbuddy.entity.GatherArticle;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
+import sumcoda.boardbuddy.enumerate.ReviewType;
+import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotCompletedException;
+import sumcoda.boardbuddy.exception.memberGatherArticle.MemberNotJoinedGatherArticleException;
+import sumcoda.boardbuddy.exception.review.InvalidReviewRequestException;
+import sumcoda.boardbuddy.exception.review.ReviewAlreadyExistsException;
+import sumcoda.boardbuddy.repository.MemberGatherArticleJdbcRepository;
+import sumcoda.boardbuddy.repository.ReviewJdbcRepository;
+import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+import sumcoda.boardbuddy.repository.memberGatherArticle.MemberGatherArticleRepository;
+import sumcoda.boardbuddy.repository.review.ReviewRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리뷰를 한 번에 보낼 때 참가 여부와 중복을 확인한 뒤 한 번에 저장하고, 유저별 카운트와 랭킹 점수를 반영하는지 확인
+ **/
+class ReviewServiceTest {
+
+    private static final Long GATHER_ARTICLE_ID = 10L;
+
+    private static final String USERNAME = "reviewer";
+
+    private static final Long REVIEWER_ID = 1L;
+
+    private GatherArticleRepository gatherArticleRepository;
+
+    private MemberGatherArticleRepository memberGatherArticleRepository;
+
+    private MemberGatherArticleJdbcRepository memberGatherArticleJdbcRepository;
+
+    private ReviewJdbcRepository reviewJdbcRepository;
+
+    private RankingRedisService rankingRedisService;
+
+    private MemberStatsService memberStatsService;
+
+    private GatherArticle gatherArticle;
+
+    private ReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        gatherArticleRepository = mock(GatherArticleRepository.class);
+        memberGatherArticleRepository = mock(MemberGatherArticleRepository.class);
+        memberGatherArticleJdbcRepository = mock(MemberGatherArticleJdbcRepository.class);
+        reviewJdbcRepository = mock(ReviewJdbcRepository.class);
+        rankingRedisService = mock(RankingRedisService.class);
+        memberStatsService = mock(MemberStatsService.class);
+
+        reviewService = new ReviewService(gatherArticleRepository, mock(MemberRepository.class), memberGatherArticleRepository,
+                memberGatherArticleJdbcRepository, mock(ReviewRepository.class), reviewJdbcRepository, rankingRedisService, memberStatsService);
+
+        // 작성자 포함 5명이 참가하여 종료된 모임
+        gatherArticle = mock(GatherArticle.class);
+        when(gatherArticle.getGatherArticleStatus()).thenReturn(GatherArticleStatus.COMPLETED);
+        when(gatherArticle.getCurrentParticipants()).thenReturn(5);
+        when(gatherArticleRepository.findById(GATHER_ARTICLE_ID)).thenReturn(Optional.of(gatherArticle));
+
+        when(memberGatherArticleRepository.findReviewParticipantsByGatherArticleId(GATHER_ARTICLE_ID)).thenReturn(List.of(
+                participant(REVIEWER_ID, USERNAME, "리뷰어", MemberGatherArticleRole.PARTICIPANT),
+                participant(2L, "author", "작성자", MemberGatherArticleRole.AUTHOR),
+                participant(3L, "participant", "참가자", MemberGatherArticleRole.PARTICIPANT),
+                participant(4L, "noShow", "노쇼", MemberGatherArticleRole.PARTICIPANT)));
+
+        when(reviewJdbcRepository.findRevieweeIds(GATHER_ARTICLE_ID, REVIEWER_ID)).thenReturn(List.of());
+    }
+
+    @Test
+    void reviewsAreSavedAtOnceAndStatsAreBuffered() {
+        // 노쇼예요 횟수가 기준에 도달하여 참가 횟수가 감소하는 유저
+        when(memberGatherArticleJdbcRepository.incrementReceiveNoShowCounts(GATHER_ARTICLE_ID, List.of(4L), 2)).thenReturn(List.of(4L));
+
+        reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(
+                send("작성자", ReviewType.EXCELLENT),
+                send("참가자", ReviewType.GOOD),
+                send("노쇼", ReviewType.NOSHOW)), USERNAME);
+
+        verify(reviewJdbcRepository).saveReviews(GATHER_ARTICLE_ID, REVIEWER_ID,
+                Map.of(2L, ReviewType.EXCELLENT, 3L, ReviewType.GOOD, 4L, ReviewType.NOSHOW));
+
+        verify(memberStatsService).addReview(2L, ReviewType.EXCELLENT);
+        verify(memberStatsService).addReview(3L, ReviewType.GOOD);
+        verify(memberStatsService).addReview(4L, ReviewType.NOSHOW);
+        verify(memberStatsService).addJoinCount(4L, -1);
+        verify(memberStatsService).addSendReviewCount(REVIEWER_ID, 3);
+
+        verify(rankingRedisService).incrementScore(2L, 5.0);
+        verify(rankingRedisService).incrementScore(3L, 3.0);
+        verify(rankingRedisService).incrementScore(4L, -3.0);
+        verify(rankingRedisService).incrementScore(REVIEWER_ID, 6.0);
+    }
+
+    @Test
+    void invalidRequestsAreRejectedBeforeSaving() {
+        // 참가하지 않은 유저에게 보내는 리뷰
+        assertThatThrownBy(() -> reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(send("모르는 유저", ReviewType.GOOD)), USERNAME))
+                .isInstanceOf(MemberNotJoinedGatherArticleException.class);
+
+        // 자기 자신에게 보내는 리뷰
+        assertThatThrownBy(() -> reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(send("리뷰어", ReviewType.GOOD)), USERNAME))
+                .isInstanceOf(MemberNotJoinedGatherArticleException.class);
+
+        // 같은 유저에게 두 번 보내는 리뷰
+        assertThatThrownBy(() -> reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(
+                send("참가자", ReviewType.GOOD),
+                send("참가자", ReviewType.BAD)), USERNAME))
+                .isInstanceOf(InvalidReviewRequestException.class);
+
+        // 모집글에 참가하지 않은 유저가 보내는 리뷰
+        assertThatThrownBy(() -> reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(send("참가자", ReviewType.GOOD)), "stranger"))
+                .isInstanceOf(MemberNotJoinedGatherArticleException.class);
+
+        verify(reviewJdbcRepository, never()).saveReviews(any(), any(), anyMap());
+        verifyNoInteractions(memberStatsService, rankingRedisService);
+    }
+
+    @Test
+    void reviewsAreRejectedUntilGatherArticleIsCompleted() {
+        when(gatherArticle.getGatherArticleStatus()).thenReturn(GatherArticleStatus.CLOSED);
+
+        assertThatThrownBy(() -> reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(send("참가자", ReviewType.GOOD)), USERNAME))
+                .isInstanceOf(GatherArticleNotCompletedException.class);
+
+        verify(reviewJdbcRepository, never()).saveReviews(any(), any(), anyMap());
+    }
+
+    @Test
+    void alreadySentReviewIsRejected() {
+        when(reviewJdbcRepository.findRevieweeIds(GATHER_ARTICLE_ID, REVIEWER_ID)).thenReturn(List.of(3L));
+
+        assertThatThrownBy(() -> reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(
+                send("작성자", ReviewType.EXCELLENT),
+                send("참가자", ReviewType.GOOD)), USERNAME))
+                .isInstanceOf(ReviewAlreadyExistsException.class);
+
+        verify(reviewJdbcRepository, never()).saveReviews(any(), any(), anyMap());
+        verifyNoInteractions(memberStatsService, rankingRedisService);
+    }
+
+    @Test
+    void concurrentlySentReviewIsRejected() {
+        // 확인 이후 같은 리뷰가 먼저 저장되어 유니크 제약에 걸린 경우
+        doThrow(new DuplicateKeyException("uk_review_gather_article_id_reviewer_id_reviewee_id"))
+                .when(reviewJdbcRepository).saveReviews(GATHER_ARTICLE_ID, REVIEWER_ID, Map.of(3L, ReviewType.GOOD));
+
+        assertThatThrownBy(() -> reviewService.sendReviews(GATHER_ARTICLE_ID, sendAll(send("참가자", ReviewType.GOOD)), USERNAME))
+                .isInstanceOf(ReviewAlreadyExistsException.class);
+
+        verifyNoInteractions(memberStatsService, rankingRedisService);
+    }
+
+    private static ReviewResponse.ParticipantDTO participant(Long id, String username, String nickname, MemberGatherArticleRole role) {
+        return ReviewResponse.ParticipantDTO.builder()
+                .id(id)
+                .username(username)
+                .nickname(nickname)
+                .memberGatherArticleRole(role)
+                .build();
+    }
+
+    private static ReviewRequest.SendDTO send(String nickname, ReviewType reviewType) {
+        return ReviewRequest.SendDTO.builder()
+                .nickname(nickname)
+                .review(reviewType)
+                .build();
+    }
+
+    private static ReviewRequest.SendAllDTO sendAll(ReviewRequest.SendDTO... sendDTOs) {
+        return ReviewRequest.SendAllDTO.builder()
+                .reviews(List.of(sendDTOs))
+                .build();
+    }
+}
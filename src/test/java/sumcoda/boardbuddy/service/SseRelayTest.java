@@ -0,0 +1,205 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+import sumcoda.boardbuddy.dto.NotificationResponse;
+import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepositoryImpl;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 Redis 대체 서버 하나를 두 서버(노드)가 함께 사용하는 상황에서
+ * 알림이 사용자가 연결된 서버로만 전달되고, 이벤트 Id 와 재전송 버퍼를 서버 간에 공유하는지 확인
+ **/
+class SseRelayTest {
+
+    private static final String USERNAME = "user";
+
+    private static final int EVENT_CACHE_SIZE = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate stringRedisTemplate;
+
+    private SseNode nodeA;
+
+    private SseNode nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        nodeA = new SseNode("node-a");
+        nodeB = new SseNode("node-b");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.stop();
+        nodeB.stop();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void notificationIsRelayedOnlyToTheNodeHoldingTheConnection() throws Exception {
+        nodeB.sseEmitterService.subscribe(USERNAME, null);
+        nodeB.sseRedisService.registerPresence(USERNAME);
+
+        nodeA.sseRedisService.publish(USERNAME, "hello", EventName.WRITE_COMMENT);
+
+        verify(nodeB.sseEmitterService, timeout(5000)).deliver(eq(USERNAME), argThat(event -> "hello".equals(event.getMessage())));
+        verify(nodeA.sseEmitterService, never()).deliver(any(), any());
+
+        // 발행한 서버에서 한 번만 저장하고, 전달받은 서버는 같은 이벤트 Id 로 전송
+        List<NotificationResponse.SseEventDTO> events = nodeB.sseEventRedisService.findEventsAfter(USERNAME, 0L).orElseThrow();
+        assertThat(events).hasSize(1);
+        verify(nodeB.sseEmitterService).deliver(eq(USERNAME), argThat(event -> event.getId().equals(events.get(0).getId())));
+    }
+
+    @Test
+    void missedEventsAreReplayedFromAnotherNode() {
+        // 연결이 없는 동안 서버 A 에서 발생한 알림
+        List<Long> eventIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            eventIds.add(nodeA.sseEmitterService.saveEvent(USERNAME, "message " + i, EventName.WRITE_COMMENT).getId());
+        }
+
+        // 서버 B 로 재연결하면 마지막으로 받은 이벤트 이후의 알림을 재전송
+        List<NotificationResponse.SseEventDTO> replayedEvents = nodeB.sseEventRedisService.findEventsAfter(USERNAME, eventIds.get(0)).orElseThrow();
+
+        assertThat(replayedEvents).extracting(NotificationResponse.SseEventDTO::getId).containsExactly(eventIds.get(1), eventIds.get(2));
+        assertThat(replayedEvents).extracting(NotificationResponse.SseEventDTO::getMessage).containsExactly("message 1", "message 2");
+    }
+
+    @Test
+    void eventIdsAreUniqueAndBufferIsBoundedAcrossNodes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            SseNode node = i % 2 == 0 ? nodeA : nodeB;
+            int index = i;
+            futures.add(executor.submit(() -> node.sseEmitterService.saveEvent(USERNAME, "message " + index, EventName.WRITE_COMMENT).getId()));
+        }
+
+        Set<Long> eventIds = new HashSet<>();
+        for (Future<Long> future : futures) {
+            eventIds.add(future.get());
+        }
+        executor.shutdown();
+
+        assertThat(eventIds).hasSize(400);
+
+        List<NotificationResponse.SseEventDTO> bufferedEvents = nodeA.sseEventRedisService.findEventsAfter(USERNAME, 0L).orElseThrow();
+        assertThat(bufferedEvents).hasSize(EVENT_CACHE_SIZE);
+        assertThat(bufferedEvents).extracting(NotificationResponse.SseEventDTO::getId).isSorted();
+    }
+
+    // 서버 전용 채널 구독이 완료될 때까지 대기
+    @SuppressWarnings("unchecked")
+    private void awaitSubscribed(String channel) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Long subscriberCount = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+                RedisClusterAsyncCommands<byte[], byte[]> commands = (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+                try {
+                    return commands.pubsubNumsub(channel.getBytes(StandardCharsets.UTF_8)).get().values().stream().mapToLong(Long::longValue).sum();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            if (subscriberCount != null && subscriberCount > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("channel not subscribed: " + channel);
+    }
+
+    // 한 서버의 SSE 관련 빈 구성
+    private class SseNode {
+
+        private final RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
+
+        private final SseEventRedisService sseEventRedisService;
+
+        private final SseEmitterService sseEmitterService;
+
+        private final SseRedisService sseRedisService;
+
+        private SseNode(String nodeId) throws InterruptedException {
+            redisMessageListenerContainer.setConnectionFactory(connectionFactory);
+            redisMessageListenerContainer.afterPropertiesSet();
+            redisMessageListenerContainer.start();
+
+            SseEmitterRepositoryImpl sseEmitterRepository = new SseEmitterRepositoryImpl();
+            ReflectionTestUtils.setField(sseEmitterRepository, "eventCacheSize", EVENT_CACHE_SIZE);
+
+            sseEventRedisService = new SseEventRedisService(stringRedisTemplate, objectMapper);
+            ReflectionTestUtils.setField(sseEventRedisService, "enabled", true);
+            ReflectionTestUtils.setField(sseEventRedisService, "eventCacheSize", EVENT_CACHE_SIZE);
+            ReflectionTestUtils.setField(sseEventRedisService, "idleTimeout", 600_000L);
+
+            sseEmitterService = spy(new SseEmitterService(sseEmitterRepository, sseEventRedisService, new SimpleMeterRegistry()));
+            ReflectionTestUtils.setField(sseEmitterService, "timeout", 60_000L);
+            ReflectionTestUtils.setField(sseEmitterService, "queueCapacity", 100);
+
+            sseRedisService = new SseRedisService(stringRedisTemplate, redisMessageListenerContainer, sseEmitterService, sseEmitterRepository, objectMapper);
+            ReflectionTestUtils.setField(sseRedisService, "nodeId", nodeId);
+            ReflectionTestUtils.setField(sseRedisService, "relayEnabled", true);
+            ReflectionTestUtils.setField(sseRedisService, "presenceTtl", 90_000L);
+            sseRedisService.init();
+
+            awaitSubscribed("SSE_NODE:" + nodeId);
+        }
+
+        private void stop() throws Exception {
+            sseEmitterService.shutdown();
+            redisMessageListenerContainer.destroy();
+        }
+    }
+}